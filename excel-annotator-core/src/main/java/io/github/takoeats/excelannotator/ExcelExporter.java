@@ -3,6 +3,8 @@ package io.github.takoeats.excelannotator;
 
 import io.github.takoeats.excelannotator.exception.ErrorCode;
 import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataRegistry;
+import io.github.takoeats.excelannotator.internal.MetadataRegistryStatistics;
 import io.github.takoeats.excelannotator.internal.builder.BuilderFactory;
 import io.github.takoeats.excelannotator.internal.builder.CsvBuilder;
 import io.github.takoeats.excelannotator.internal.builder.ExcelBuilder;
@@ -13,6 +15,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -89,6 +92,27 @@ public final class ExcelExporter {
         return BuilderFactory.createCsvBuilder(response);
     }
 
+    /**
+     * Fluent API 진입점: CSV 파일을 HttpServletResponse로 다운로드 (Accept-Encoding 협상)
+     * <p>{@code gzip(..)}을 설정하면 요청의 Accept-Encoding이 gzip을 허용할 때만
+     * {@code Content-Encoding: gzip}으로 압축하여 전송합니다.</p>
+     *
+     * <h3>사용 예시</h3>
+     * <pre>{@code
+     * ExcelExporter.csv(request, response)
+     *     .fileName("orders.csv")
+     *     .gzip(GzipOptions.DEFAULT)
+     *     .write(orderStream);
+     * }</pre>
+     *
+     * @param request  Accept-Encoding을 확인할 HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @return CSV 빌더 인스턴스
+     */
+    public static CsvBuilder csv(HttpServletRequest request, HttpServletResponse response) {
+        return BuilderFactory.createCsvBuilder(request, response);
+    }
+
     /**
      * Fluent API 진입점: CSV 파일을 OutputStream에 작성
      *
@@ -108,6 +132,32 @@ public final class ExcelExporter {
         return BuilderFactory.createCsvBuilder(outputStream);
     }
 
+    /**
+     * DTO 메타데이터 사전 생성
+     * <p>애플리케이션 기동 시 호출하면 첫 다운로드에서 발생하는 어노테이션 분석 비용을 제거하고,
+     * 잘못된 어노테이션 구성을 기동 시점에 발견할 수 있습니다.</p>
+     *
+     * <h3>사용 예시</h3>
+     * <pre>{@code
+     * ExcelExporter.warmUp(CustomerDTO.class, OrderDTO.class);
+     * }</pre>
+     *
+     * @param classes 사전 분석할 DTO 클래스
+     * @throws ExcelExporterException DTO 어노테이션 구성이 잘못된 경우
+     */
+    public static void warmUp(Class<?>... classes) {
+        ExcelMetadataRegistry.warmUp(classes);
+    }
+
+    /**
+     * 메타데이터 레지스트리 통계 조회
+     *
+     * @return 캐시 히트/미스 횟수, 누적 메타데이터 생성 시간, 등록된 클래스 수
+     */
+    public static MetadataRegistryStatistics metadataStatistics() {
+        return ExcelMetadataRegistry.getStatistics();
+    }
+
 
     /**
      * 어노테이션 기반 Excel 파일 다운로드 (단순 버전, 기본 파일명)
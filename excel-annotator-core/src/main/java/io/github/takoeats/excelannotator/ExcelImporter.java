@@ -0,0 +1,88 @@
+package io.github.takoeats.excelannotator;
+
+import io.github.takoeats.excelannotator.internal.builder.BuilderFactory;
+import io.github.takoeats.excelannotator.internal.builder.CsvReaderBuilder;
+import io.github.takoeats.excelannotator.internal.builder.ExcelReaderBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 가져오기 Static Utility 클래스
+ * <p>내보내기에 사용한 {@code @ExcelSheet}, {@code @ExcelColumn} DTO로 파일을 다시 읽어 들입니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExcelImporter {
+
+    /**
+     * Fluent API 진입점: InputStream의 CSV를 DTO로 읽기
+     *
+     * <h3>사용 예시</h3>
+     * <pre>{@code
+     * try (Stream<OrderDTO> orders = ExcelImporter.csv(multipartFile.getInputStream())
+     *         .read(OrderDTO.class)) {
+     *     orders.forEach(orderService::save);
+     * }
+     * }</pre>
+     *
+     * @param inputStream UTF-8 CSV 입력 스트림 (반환된 Stream을 닫으면 함께 닫힘)
+     * @return CSV 읽기 빌더 인스턴스
+     */
+    public static CsvReaderBuilder csv(InputStream inputStream) {
+        return BuilderFactory.createCsvReaderBuilder(inputStream);
+    }
+
+    /**
+     * Fluent API 진입점: 로컬 CSV 파일을 DTO로 읽기 (메모리 매핑 병렬 읽기 지원)
+     *
+     * <h3>사용 예시</h3>
+     * <pre>{@code
+     * List<OrderDTO> orders = ExcelImporter.csv(Paths.get("orders.csv"))
+     *     .parallel(ParallelReadOptions.DEFAULT)
+     *     .readAll(OrderDTO.class);
+     * }</pre>
+     *
+     * @param path UTF-8 CSV 파일 경로
+     * @return CSV 읽기 빌더 인스턴스
+     */
+    public static CsvReaderBuilder csv(Path path) {
+        return BuilderFactory.createCsvReaderBuilder(path);
+    }
+
+    /**
+     * Fluent API 진입점: InputStream의 XLSX를 DTO로 읽기 (SAX 스트리밍, 행 수와 무관한 메모리)
+     *
+     * <h3>사용 예시</h3>
+     * <pre>{@code
+     * try (Stream<OrderDTO> orders = ExcelImporter.excel(multipartFile.getInputStream())
+     *         .read(OrderDTO.class)) {
+     *     orders.forEach(orderService::reconcile);
+     * }
+     * }</pre>
+     *
+     * @param inputStream XLSX 입력 스트림 (임시 파일로 복사한 뒤 닫힘)
+     * @return XLSX 읽기 빌더 인스턴스
+     */
+    public static ExcelReaderBuilder excel(InputStream inputStream) {
+        return BuilderFactory.createExcelReaderBuilder(inputStream);
+    }
+
+    /**
+     * Fluent API 진입점: 로컬 XLSX 파일을 DTO로 읽기 (SAX 스트리밍, 행 수와 무관한 메모리)
+     *
+     * <h3>사용 예시</h3>
+     * <pre>{@code
+     * List<OrderDTO> orders = ExcelImporter.excel(Paths.get("orders.xlsx"))
+     *     .sheet("주문")
+     *     .readAll(OrderDTO.class);
+     * }</pre>
+     *
+     * @param path XLSX 파일 경로
+     * @return XLSX 읽기 빌더 인스턴스
+     */
+    public static ExcelReaderBuilder excel(Path path) {
+        return BuilderFactory.createExcelReaderBuilder(path);
+    }
+}
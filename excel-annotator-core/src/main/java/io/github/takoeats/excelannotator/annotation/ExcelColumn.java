@@ -126,6 +126,23 @@ public @interface ExcelColumn {
      */
     Masking masking() default Masking.NONE;
 
+    /**
+     * 공유 문자열(Shared Strings) 테이블 사용 여부
+     * <p>true이면 이 컬럼의 문자열 값을 인라인 문자열 대신 워크북 공유 문자열 테이블의 인덱스로 기록합니다.
+     * 상태, 코드, 지역명처럼 반복되는 값이 많은 저카디널리티 컬럼에서 파일 크기가 크게 줄어듭니다.</p>
+     * <p>컬럼의 고유 값 수가 임계값을 넘으면 이후 새로운 값은 인라인 문자열로 기록됩니다.
+     * 임계값과 전체 사전 크기는 {@code ExcelBuilder.sharedStrings(SharedStringsOptions)}로 조정합니다.</p>
+     *
+     * <h3>사용 예시</h3>
+     * <pre>{@code
+     * @ExcelColumn(header = "상태", sharedString = true)
+     * private String status;
+     * }</pre>
+     *
+     * @return 공유 문자열 테이블 사용 여부
+     */
+    boolean sharedString() default false;
+
     /**
      * 병합 헤더명 (2행 헤더 생성 시 최상단 행에 표시될 그룹 헤더)
      * <p>같은 mergeHeader 값을 가진 컬럼들이 하나의 병합된 헤더로 표시됩니다.</p>
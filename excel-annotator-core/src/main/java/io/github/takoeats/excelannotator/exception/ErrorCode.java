@@ -49,6 +49,20 @@ public enum ErrorCode {
 
     MERGE_HEADER_ORDER_GAP("E022", "병합 헤더 그룹 내 order 값 사이에 다른 컬럼이 존재합니다. 병합 그룹의 order는 연속적이어야 합니다."),
 
+    INVALID_WRITE_OPTION("E023", "유효하지 않은 내보내기 옵션입니다."),
+
+    TEMP_STORAGE_QUOTA_EXCEEDED("E024", "임시 저장소 사용량이 한도를 초과했습니다."),
+
+    EXPORT_CANCELLED("E025", "내보내기가 취소되었습니다."),
+
+    EXPORT_REJECTED("E026", "동시 내보내기 한도를 초과하여 요청이 거부되었습니다."),
+
+    INVALID_READ_OPTION("E027", "유효하지 않은 가져오기 옵션입니다."),
+
+    ROW_READ_ERROR("E028", "행 읽기 중 오류가 발생했습니다."),
+
+    HEADER_MISMATCH("E029", "헤더가 DTO 컬럼과 일치하지 않습니다."),
+
     @Deprecated
     EMPTY_SHEET_DATA("E012-deprecated", "멀티 시트 데이터가 비어있습니다. EMPTY_DATA 사용 권장"),
 
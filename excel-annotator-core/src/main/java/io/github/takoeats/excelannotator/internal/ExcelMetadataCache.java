@@ -2,31 +2,25 @@ package io.github.takoeats.excelannotator.internal;
 
 import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
+/**
+ * 단일 시트 메타데이터 캐시
+ * <p>{@link ExcelMetadataRegistry}에 위임합니다.</p>
+ */
 public final class ExcelMetadataCache {
 
-    private static final Map<Class<?>, ExcelMetadata<?>> METADATA_CACHE =
-            new ConcurrentHashMap<>();
-
     private ExcelMetadataCache() {
         throw new AssertionError("Utility class cannot be instantiated");
     }
 
-    @SuppressWarnings("unchecked")
     public static <T> ExcelMetadata<T> getMetadata(Class<T> clazz) {
-        return (ExcelMetadata<T>) METADATA_CACHE.computeIfAbsent(
-                clazz,
-                ExcelMetadataFactory::extractExcelMetadata
-        );
+        return ExcelMetadataRegistry.getMetadata(clazz);
     }
 
     public static void clearCache() {
-        METADATA_CACHE.clear();
+        ExcelMetadataRegistry.clear();
     }
 
     public static int getCacheSize() {
-        return METADATA_CACHE.size();
+        return ExcelMetadataRegistry.size();
     }
 }
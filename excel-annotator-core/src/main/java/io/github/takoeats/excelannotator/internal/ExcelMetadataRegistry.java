@@ -0,0 +1,187 @@
+package io.github.takoeats.excelannotator.internal;
+
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.internal.metadata.SheetInfo;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * DTO 클래스별 메타데이터 레지스트리
+ * <p>단일 시트 메타데이터, 컬럼별 멀티 시트 메타데이터, SheetInfo를 클래스당 한 번만 생성하여 모든 출력 경로(Excel, CSV, 병합 시트)가 공유합니다.</p>
+ * <p>ClassValue에 저장하므로 재배포된 ClassLoader의 클래스를 붙잡지 않습니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExcelMetadataRegistry {
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder BUILD_NANOS = new LongAdder();
+    private static final Set<Class<?>> REGISTERED_CLASSES =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private static volatile ClassValue<ClassMetadata> entries = newEntries();
+
+    @SuppressWarnings("unchecked")
+    public static <T> ExcelMetadata<T> getMetadata(Class<T> clazz) {
+        if (clazz == null) {
+            return ExcelMetadataFactory.extractExcelMetadata(null);
+        }
+        ClassMetadata entry = entries.get(clazz);
+        return (ExcelMetadata<T>) entry.single(() -> ExcelMetadataFactory.extractExcelMetadata(clazz));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Map<String, ExcelMetadata<T>> getMultiSheetMetadata(Class<T> clazz) {
+        if (clazz == null) {
+            return ExcelMetadataFactory.extractMultiSheetMetadata(null);
+        }
+        ClassMetadata entry = entries.get(clazz);
+        return (Map<String, ExcelMetadata<T>>) (Map<?, ?>) entry.multiSheet(() -> Collections.unmodifiableMap(
+                new LinkedHashMap<>(ExcelMetadataFactory.extractMultiSheetMetadata(clazz))));
+    }
+
+    public static SheetInfo getSheetInfo(Class<?> clazz) {
+        if (clazz == null) {
+            return ExcelMetadataFactory.extractSheetInfo(null);
+        }
+        return entries.get(clazz).sheetInfo(() -> ExcelMetadataFactory.extractSheetInfo(clazz));
+    }
+
+    /**
+     * 출력 시 사용될 메타데이터를 미리 생성
+     * <p>컬럼이 여러 시트로 나뉘는 DTO는 멀티 시트 메타데이터만, 그 외에는 단일 시트 메타데이터까지 생성합니다.</p>
+     *
+     * @throws io.github.takoeats.excelannotator.exception.ExcelExporterException DTO 어노테이션 구성이 잘못된 경우
+     */
+    public static void warmUp(Class<?>... classes) {
+        if (classes == null) {
+            return;
+        }
+        for (Class<?> clazz : classes) {
+            if (clazz == null) {
+                continue;
+            }
+            getSheetInfo(clazz);
+            if (getMultiSheetMetadata(clazz).size() <= 1) {
+                getMetadata(clazz);
+            }
+        }
+    }
+
+    public static MetadataRegistryStatistics getStatistics() {
+        return new MetadataRegistryStatistics(
+                HITS.sum(),
+                MISSES.sum(),
+                BUILD_NANOS.sum(),
+                size()
+        );
+    }
+
+    public static int size() {
+        return REGISTERED_CLASSES.size();
+    }
+
+    /**
+     * 등록된 모든 메타데이터와 통계를 초기화
+     */
+    public static void clear() {
+        entries = newEntries();
+        REGISTERED_CLASSES.clear();
+        HITS.reset();
+        MISSES.reset();
+        BUILD_NANOS.reset();
+    }
+
+    private static ClassValue<ClassMetadata> newEntries() {
+        return new ClassValue<ClassMetadata>() {
+            @Override
+            protected ClassMetadata computeValue(Class<?> type) {
+                return new ClassMetadata(type);
+            }
+        };
+    }
+
+    /**
+     * 클래스 하나에 대한 메타데이터 묶음
+     * <p>각 항목은 처음 요청될 때 생성되며, 생성에 실패하면 저장하지 않아 다음 요청에서 동일한 예외가 다시 발생합니다.</p>
+     */
+    private static final class ClassMetadata {
+
+        private final Class<?> type;
+        private volatile ExcelMetadata<?> single;
+        private volatile Map<String, ? extends ExcelMetadata<?>> multiSheet;
+        private volatile SheetInfo sheetInfo;
+
+        private ClassMetadata(Class<?> type) {
+            this.type = type;
+        }
+
+        ExcelMetadata<?> single(Supplier<ExcelMetadata<?>> builder) {
+            ExcelMetadata<?> value = single;
+            if (value != null) {
+                HITS.increment();
+                return value;
+            }
+            synchronized (this) {
+                if (single == null) {
+                    single = build(builder);
+                } else {
+                    HITS.increment();
+                }
+                return single;
+            }
+        }
+
+        Map<String, ? extends ExcelMetadata<?>> multiSheet(Supplier<Map<String, ? extends ExcelMetadata<?>>> builder) {
+            Map<String, ? extends ExcelMetadata<?>> value = multiSheet;
+            if (value != null) {
+                HITS.increment();
+                return value;
+            }
+            synchronized (this) {
+                if (multiSheet == null) {
+                    multiSheet = build(builder);
+                } else {
+                    HITS.increment();
+                }
+                return multiSheet;
+            }
+        }
+
+        SheetInfo sheetInfo(Supplier<SheetInfo> builder) {
+            SheetInfo value = sheetInfo;
+            if (value != null) {
+                HITS.increment();
+                return value;
+            }
+            synchronized (this) {
+                if (sheetInfo == null) {
+                    sheetInfo = build(builder);
+                } else {
+                    HITS.increment();
+                }
+                return sheetInfo;
+            }
+        }
+
+        private <V> V build(Supplier<V> builder) {
+            MISSES.increment();
+            long start = System.nanoTime();
+            try {
+                V value = builder.get();
+                REGISTERED_CLASSES.add(type);
+                return value;
+            } finally {
+                BUILD_NANOS.add(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.takoeats.excelannotator.internal;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 메타데이터 레지스트리 통계 스냅샷
+ */
+@Getter
+@ToString
+public final class MetadataRegistryStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long totalBuildTimeNanos;
+    private final int registeredClassCount;
+
+    public MetadataRegistryStatistics(long hitCount, long missCount, long totalBuildTimeNanos,
+                                      int registeredClassCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.totalBuildTimeNanos = totalBuildTimeNanos;
+        this.registeredClassCount = registeredClassCount;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+}
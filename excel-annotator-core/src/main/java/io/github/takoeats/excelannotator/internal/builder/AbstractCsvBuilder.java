@@ -1,10 +1,69 @@
 package io.github.takoeats.excelannotator.internal.builder;
 
+import io.github.takoeats.excelannotator.internal.writer.CsvWriteOptions;
+import io.github.takoeats.excelannotator.internal.writer.CsvWriter;
+import io.github.takoeats.excelannotator.internal.writer.CsvZipWriter;
+import io.github.takoeats.excelannotator.internal.writer.ExportCancellation;
+import io.github.takoeats.excelannotator.internal.writer.csv.CsvQuoting;
+import io.github.takoeats.excelannotator.internal.writer.csv.GzipOptions;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 abstract class AbstractCsvBuilder {
 
     protected static final String DEFAULT_FILE_NAME = "download";
+
+    private CsvWriteOptions writeOptions = CsvWriteOptions.DEFAULT;
+
+    protected void applyQuoting(CsvQuoting quoting) {
+        this.writeOptions = writeOptions.toBuilder()
+                .quoting(quoting != null ? quoting : CsvQuoting.ALWAYS)
+                .build();
+    }
+
+    protected void applyGzip(GzipOptions options) {
+        this.writeOptions = writeOptions.toBuilder()
+                .gzip(options)
+                .build();
+    }
+
+    protected boolean isGzipRequested() {
+        return writeOptions.getGzip() != null;
+    }
+
+    /**
+     * @param cancellation 호출 1회의 취소 신호 (null이면 취소하지 않음)
+     */
+    protected CsvWriter createWriter(ExportCancellation cancellation) {
+        return createWriter(isGzipRequested(), cancellation);
+    }
+
+    /**
+     * @param gzip         false이면 gzip 옵션이 설정되어 있어도 압축하지 않음 (Accept-Encoding 협상 실패)
+     * @param cancellation 호출 1회의 취소 신호 (null이면 취소하지 않음)
+     */
+    protected CsvWriter createWriter(boolean gzip, ExportCancellation cancellation) {
+        CsvWriteOptions options = gzip ? writeOptions : writeOptions.toBuilder().gzip(null).build();
+        return new CsvWriter(options, cancellation);
+    }
+
+    protected CsvZipWriter createZipWriter(ExportCancellation cancellation) {
+        return new CsvZipWriter(writeOptions, cancellation);
+    }
+
+    /**
+     * 동기 write를 Executor에서 실행 (반환된 Future를 취소하면 행 단위로 중단)
+     * <p>취소 신호는 호출마다 새로 만들어 write에만 넘기므로 빌더를 재사용해도 다른 호출에 섞이지 않습니다.</p>
+     */
+    protected CompletableFuture<String> submitAsync(Executor executor,
+                                                    Function<ExportCancellation, String> write,
+                                                    AutoCloseable source) {
+        ExportCancellation cancellation = new ExportCancellation();
+        return AsyncExport.submit(executor, cancellation, () -> write.apply(cancellation), source);
+    }
 }
@@ -3,14 +3,29 @@ package io.github.takoeats.excelannotator.internal.builder;
 import io.github.takoeats.excelannotator.ExcelExporter;
 import io.github.takoeats.excelannotator.exception.ErrorCode;
 import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.ExcelExportReport;
+import io.github.takoeats.excelannotator.internal.writer.ExcelWriteOptions;
+import io.github.takoeats.excelannotator.internal.writer.ExcelWriter;
+import io.github.takoeats.excelannotator.internal.writer.ExportCancellation;
+import io.github.takoeats.excelannotator.internal.writer.RowPreparationOptions;
+import io.github.takoeats.excelannotator.internal.writer.WriteEngine;
+import io.github.takoeats.excelannotator.internal.writer.prefetch.PrefetchOptions;
+import io.github.takoeats.excelannotator.internal.writer.reactive.Publishers;
+import io.github.takoeats.excelannotator.internal.writer.schedule.ExportScheduler;
+import io.github.takoeats.excelannotator.internal.writer.workbook.CompressionOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.SXSSFWorkbookBuilder;
+import io.github.takoeats.excelannotator.internal.writer.workbook.SharedStringsOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.TempStorageOptions;
+import io.github.takoeats.excelannotator.internal.writer.width.WidthProfileOptions;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -20,6 +35,97 @@ abstract class AbstractExcelBuilder {
 
     protected static final String DEFAULT_FILE_NAME = "download";
     protected static final int MAX_ROWS_FOR_LIST_API = 1000000;
+    protected static final int DEFAULT_PUBLISHER_BATCH_SIZE = SXSSFWorkbookBuilder.SHEET_BUFFER_LIMIT;
+
+    private ExcelWriteOptions writeOptions = ExcelWriteOptions.DEFAULT;
+    private Consumer<ExcelExportReport> reportListener;
+    private ExportScheduler scheduler;
+
+    protected void applySharedStrings(SharedStringsOptions options) {
+        this.writeOptions = writeOptions.toBuilder()
+                .sharedStrings(options != null ? options : SharedStringsOptions.ANNOTATED_COLUMNS)
+                .build();
+    }
+
+    protected void applyTempStorage(TempStorageOptions options) {
+        this.writeOptions = writeOptions.toBuilder()
+                .tempStorage(options != null ? options : TempStorageOptions.DEFAULT)
+                .build();
+    }
+
+    protected void applyHeapBudget(long heapBudgetBytes) {
+        if (heapBudgetBytes < 0) {
+            throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                    "heapBudgetBytes는 0 이상이어야 합니다: " + heapBudgetBytes);
+        }
+        this.writeOptions = writeOptions.toBuilder()
+                .heapBudgetBytes(heapBudgetBytes)
+                .build();
+    }
+
+    protected void applyCompression(CompressionOptions options) {
+        this.writeOptions = writeOptions.toBuilder()
+                .compression(options != null ? options : CompressionOptions.DEFAULT)
+                .build();
+    }
+
+    protected void applyWidthProfiles(WidthProfileOptions options) {
+        this.writeOptions = writeOptions.toBuilder()
+                .widthProfiles(options != null ? options : WidthProfileOptions.DISABLED)
+                .build();
+    }
+
+    protected void applyParallelSheets(Executor executor) {
+        this.writeOptions = writeOptions.toBuilder()
+                .sheetExecutor(executor)
+                .build();
+    }
+
+    protected void applyPrefetch(PrefetchOptions options) {
+        this.writeOptions = writeOptions.toBuilder()
+                .prefetch(options != null ? options : PrefetchOptions.DISABLED)
+                .build();
+    }
+
+    protected void applyRowPreparation(RowPreparationOptions options) {
+        this.writeOptions = writeOptions.toBuilder()
+                .rowPreparation(options != null ? options : RowPreparationOptions.DISABLED)
+                .build();
+    }
+
+    protected void applyEngine(WriteEngine engine) {
+        this.writeOptions = writeOptions.toBuilder()
+                .engine(engine != null ? engine : WriteEngine.SXSSF)
+                .build();
+    }
+
+    protected void applyScheduler(ExportScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    protected void applyReportListener(Consumer<ExcelExportReport> listener) {
+        this.reportListener = listener;
+    }
+
+    /**
+     * @param cancellation 호출 1회의 취소 신호 (null이면 취소하지 않음)
+     */
+    protected ExcelWriter createWriter(ExportCancellation cancellation) {
+        return new ExcelWriter(writeOptions, cancellation);
+    }
+
+    /**
+     * 동기 write를 Executor에서 실행 (반환된 Future를 취소하면 행 단위로 중단)
+     * <p>취소 신호는 호출마다 새로 만들어 write에만 넘기므로 빌더를 재사용해도 다른 호출에 섞이지 않습니다.
+     * executor가 null이고 scheduler가 설정되어 있으면 {@link ExportScheduler#getExecutor()}에서 실행합니다.</p>
+     */
+    protected CompletableFuture<String> submitAsync(Executor executor,
+                                                    Function<ExportCancellation, String> write,
+                                                    AutoCloseable source) {
+        ExportCancellation cancellation = new ExportCancellation();
+        Executor target = executor == null && scheduler != null ? scheduler.getExecutor() : executor;
+        return AsyncExport.submit(target, cancellation, () -> write.apply(cancellation), source);
+    }
 
     protected <T> void validateData(List<T> data) {
         if (data == null || data.isEmpty()) {
@@ -59,6 +165,15 @@ abstract class AbstractExcelBuilder {
                 ));
     }
 
+    /**
+     * Publisher를 구독한 Stream으로 동기 write를 실행 (끝나면 구독이 남아 있을 경우 취소)
+     */
+    protected String writePublisherStream(Object publisher, int batchSize, Function<Stream<Object>, String> write) {
+        try (Stream<Object> rows = Publishers.toStream(publisher, batchSize)) {
+            return write.apply(rows);
+        }
+    }
+
     protected <Q, R, E> List<E> transformData(Q queryParams,
                                               ExcelExporter.ExcelDataProvider<Q, R> dataProvider,
                                               Function<R, E> converter) {
@@ -68,10 +183,9 @@ abstract class AbstractExcelBuilder {
                 .collect(Collectors.toList());
     }
 
-    protected void writeWorkbookAndHandleErrors(OutputStream outputStream,
-                                                WorkbookSupplier workbookSupplier) {
-        try (SXSSFWorkbook wb = workbookSupplier.get()) {
-            wb.write(outputStream);
+    protected void exportAndHandleErrors(ExportAction exportAction) {
+        try {
+            publishReport(scheduler != null ? exportAdmitted(exportAction) : exportAction.export());
         } catch (ExcelExporterException ex) {
             throw ex;
         } catch (IOException ioEx) {
@@ -85,8 +199,20 @@ abstract class AbstractExcelBuilder {
         }
     }
 
+    private ExcelExportReport exportAdmitted(ExportAction exportAction) throws IOException {
+        try (ExportScheduler.Permit ignored = scheduler.admit(writeOptions)) {
+            return exportAction.export();
+        }
+    }
+
+    private void publishReport(ExcelExportReport report) {
+        if (reportListener != null) {
+            reportListener.accept(report);
+        }
+    }
+
     @FunctionalInterface
-    protected interface WorkbookSupplier {
-        SXSSFWorkbook get() throws ExcelExporterException;
+    protected interface ExportAction {
+        ExcelExportReport export() throws IOException;
     }
 }
@@ -0,0 +1,119 @@
+package io.github.takoeats.excelannotator.internal.builder;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.ExportCancellation;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * writeAsync 공통 실행기
+ * <p>내보내기를 호출자가 지정한 Executor에서 실행하고 결과 파일명을 CompletableFuture로 반환합니다.
+ * 반환된 Future를 취소하면 {@link ExportCancellation}이 켜져 다음 행을 꺼내기 전에 내보내기가 중단되고,
+ * 작업이 끝난 뒤 소스 Stream을 닫습니다. 실행 중인 스레드는 인터럽트하지 않습니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class AsyncExport {
+
+    /**
+     * @param executor     내보내기를 실행할 Executor
+     * @param cancellation 작업이 확인할 취소 신호
+     * @param task         동기 write 호출
+     * @param source       취소 시 닫을 소스 (없으면 null)
+     */
+    static CompletableFuture<String> submit(Executor executor,
+                                            ExportCancellation cancellation,
+                                            Supplier<String> task,
+                                            AutoCloseable source) {
+        if (executor == null) {
+            throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION, "executor는 null일 수 없습니다.");
+        }
+
+        ExportFuture future = new ExportFuture(cancellation);
+        try {
+            executor.execute(() -> run(future, cancellation, task, source));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(
+                    new ExcelExporterException(ErrorCode.EXPORT_REJECTED, "Executor가 내보내기 작업을 거부했습니다.", e));
+        }
+        return future;
+    }
+
+    private static void run(ExportFuture future,
+                            ExportCancellation cancellation,
+                            Supplier<String> task,
+                            AutoCloseable source) {
+        try {
+            if (!future.isDone()) {
+                future.complete(task.get());
+            }
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        } finally {
+            if (cancellation.isCancelled()) {
+                closeQuietly(source);
+            }
+        }
+    }
+
+    /**
+     * HttpServletResponse로 내보내는 빌더의 writeAsync 거부
+     * <p>컨트롤러가 반환되면 컨테이너가 응답을 커밋하고 재사용하므로, AsyncContext 없이 다른 스레드에서 응답 스트림에
+     * 쓰면 다운로드가 잘리거나 재사용된 응답에 쓰게 됩니다.</p>
+     */
+    static ExcelExporterException responseNotSupported() {
+        return new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                "HttpServletResponse로 내보낼 때는 writeAsync를 사용할 수 없습니다. write를 사용하거나 OutputStream 빌더를 사용하세요.");
+    }
+
+    /**
+     * Map 값 중 Stream을 모두 닫는 소스
+     */
+    static AutoCloseable streamsOf(Map<String, ?> sheetData) {
+        return () -> {
+            if (sheetData == null) {
+                return;
+            }
+            for (Object value : sheetData.values()) {
+                if (value instanceof Stream) {
+                    ((Stream<?>) value).close();
+                }
+            }
+        };
+    }
+
+    private static void closeQuietly(AutoCloseable source) {
+        if (source == null) {
+            return;
+        }
+        try {
+            source.close();
+        } catch (Exception ignored) {
+            // 취소된 내보내기의 소스 정리 실패는 결과에 영향을 주지 않음
+        }
+    }
+
+    /**
+     * 취소 시 내보내기 작업에 취소 신호를 전달하는 Future
+     */
+    private static final class ExportFuture extends CompletableFuture<String> {
+        private final ExportCancellation cancellation;
+
+        ExportFuture(ExportCancellation cancellation) {
+            this.cancellation = cancellation;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            cancellation.cancel();
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+}
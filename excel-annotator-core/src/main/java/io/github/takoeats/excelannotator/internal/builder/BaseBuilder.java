@@ -1,6 +1,8 @@
 package io.github.takoeats.excelannotator.internal.builder;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 /**
@@ -34,4 +36,36 @@ public interface BaseBuilder {
      * @return the final processed filename
      */
     <T> String write(Stream<T> dataStream);
+
+    /**
+     * Writes file from a List of data on the given executor
+     * <p>Cancelling the returned future stops the export before the next row is read. Only builders writing to an
+     * {@code OutputStream} support this; a servlet response is committed once the request handler returns, so
+     * response-bound builders reject it.</p>
+     *
+     * @param data     the data list to export
+     * @param executor executor running the export
+     * @param <T>      the DTO type annotated with @ExcelSheet and @ExcelColumn
+     * @return future of the final processed filename
+     * @throws io.github.takoeats.excelannotator.exception.ExcelExporterException {@code INVALID_WRITE_OPTION} on
+     *                                                                            builders bound to an
+     *                                                                            {@code HttpServletResponse}
+     */
+    <T> CompletableFuture<String> writeAsync(List<T> data, Executor executor);
+
+    /**
+     * Writes file from a Stream of data on the given executor
+     * <p>Cancelling the returned future stops pulling rows from the stream before the next row, discards
+     * temporary files, and closes the stream once the export task has stopped. {@code OutputStream} builders
+     * only, as for {@link #writeAsync(List, Executor)}.</p>
+     *
+     * @param dataStream the data stream to export
+     * @param executor   executor running the export
+     * @param <T>        the DTO type annotated with @ExcelSheet and @ExcelColumn
+     * @return future of the final processed filename
+     * @throws io.github.takoeats.excelannotator.exception.ExcelExporterException {@code INVALID_WRITE_OPTION} on
+     *                                                                            builders bound to an
+     *                                                                            {@code HttpServletResponse}
+     */
+    <T> CompletableFuture<String> writeAsync(Stream<T> dataStream, Executor executor);
 }
@@ -3,8 +3,11 @@ package io.github.takoeats.excelannotator.internal.builder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class BuilderFactory {
@@ -21,8 +24,28 @@ public final class BuilderFactory {
         return new ResponseCsvBuilderImpl(response);
     }
 
+    public static CsvBuilder createCsvBuilder(HttpServletRequest request, HttpServletResponse response) {
+        return new ResponseCsvBuilderImpl(request, response);
+    }
+
     public static CsvBuilder createCsvBuilder(OutputStream outputStream) {
         return new StreamCsvBuilderImpl(outputStream);
     }
 
+    public static CsvReaderBuilder createCsvReaderBuilder(InputStream inputStream) {
+        return new CsvReaderBuilderImpl(inputStream);
+    }
+
+    public static CsvReaderBuilder createCsvReaderBuilder(Path path) {
+        return new CsvReaderBuilderImpl(path);
+    }
+
+    public static ExcelReaderBuilder createExcelReaderBuilder(InputStream inputStream) {
+        return new ExcelReaderBuilderImpl(inputStream);
+    }
+
+    public static ExcelReaderBuilder createExcelReaderBuilder(Path path) {
+        return new ExcelReaderBuilderImpl(path);
+    }
+
 }
@@ -1,11 +1,74 @@
 package io.github.takoeats.excelannotator.internal.builder;
 
+import io.github.takoeats.excelannotator.internal.writer.csv.CsvQuoting;
+import io.github.takoeats.excelannotator.internal.writer.csv.GzipOptions;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * CSV-specific builder interface
- * <p>Currently identical to BaseBuilder but allows for CSV-specific extensions in the future.</p>
+ * <p>Adds CSV-specific options on top of BaseBuilder.</p>
  */
 public interface CsvBuilder extends BaseBuilder {
 
     @Override
     CsvBuilder fileName(String fileName);
+
+    /**
+     * Sets how fields are quoted.
+     * <p>{@link CsvQuoting#ALWAYS} (default) wraps every field in double quotes.
+     * {@link CsvQuoting#MINIMAL} follows RFC 4180 and quotes only fields containing
+     * a comma, double quote, CR or LF, which produces smaller files.</p>
+     *
+     * @param quoting quoting mode (null restores the default)
+     * @return this builder for method chaining
+     */
+    CsvBuilder quoting(CsvQuoting quoting);
+
+    /**
+     * Compresses the CSV with gzip while it is written, without buffering the whole file.
+     * <p>For an {@code OutputStream} target (or a response without a request to negotiate with)
+     * the result is a {@code .csv.gz} file. For {@code csv(request, response)} the request's
+     * {@code Accept-Encoding} header is negotiated: if gzip is accepted the response is sent with
+     * {@code Content-Encoding: gzip} and the file name stays {@code .csv}, otherwise plain CSV is sent.</p>
+     *
+     * @param options gzip level and buffer size (null disables compression)
+     * @return this builder for method chaining
+     */
+    CsvBuilder gzip(GzipOptions options);
+
+    /**
+     * Writes several datasets as one ZIP of CSV files
+     * <p>Sheets are resolved exactly as for a multi-sheet Excel export: each Map value (List or Stream) goes to
+     * the {@code @ExcelSheet} name of its DTO, datasets sharing a sheet name are merged into one entry, and
+     * entries follow {@code @ExcelSheet(order)}. Each entry is named after its sheet with a {@code .csv}
+     * extension. Entries are streamed one after another with no temp files, while a few following entries are
+     * already encoded on this export's own threads into bounded buffers. Encoding waits for the output once the
+     * buffers are full, so a slow download only slows its own export. On failure the ZIP is left without a
+     * central directory instead of being finished. The result file name ends with {@code .zip}; the gzip
+     * option is not applied to ZIP entries.</p>
+     *
+     * @param sheetData map of sheet identifier to data (List or Stream)
+     * @return the final processed filename
+     * @throws io.github.takoeats.excelannotator.exception.ExcelExporterException if map values are not List or
+     *                                                                            Stream
+     */
+    String write(Map<String, ?> sheetData);
+
+    /**
+     * Writes several datasets as one ZIP of CSV files on the given executor
+     * <p>Cancelling the returned future stops every entry before its next row and closes the Stream values
+     * once the export task has stopped. {@code OutputStream} builders only, as for
+     * {@link #writeAsync(List, Executor)}.</p>
+     *
+     * @param sheetData map of sheet identifier to data (List or Stream)
+     * @param executor  executor running the export
+     * @return future of the final processed filename
+     * @throws io.github.takoeats.excelannotator.exception.ExcelExporterException {@code INVALID_WRITE_OPTION} on
+     *                                                                            builders bound to an
+     *                                                                            {@code HttpServletResponse}
+     */
+    CompletableFuture<String> writeAsync(Map<String, ?> sheetData, Executor executor);
 }
@@ -0,0 +1,56 @@
+package io.github.takoeats.excelannotator.internal.builder;
+
+import io.github.takoeats.excelannotator.internal.reader.ColumnMatch;
+import io.github.takoeats.excelannotator.internal.reader.ParallelReadOptions;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * CSV import builder interface
+ * <p>Reads CSV files back into DTOs annotated with @ExcelSheet and @ExcelColumn, using the same column metadata
+ * (headers, field names, formats) as the export.</p>
+ */
+public interface CsvReaderBuilder {
+
+    /**
+     * Sets how file columns are bound to DTO columns.
+     * <p>{@link ColumnMatch#HEADER} (default) matches the header row against {@code @ExcelColumn.header};
+     * {@link ColumnMatch#ORDER} binds columns by {@code @ExcelColumn.order} position.</p>
+     *
+     * @param columnMatch column matching mode (null restores the default)
+     * @return this builder for method chaining
+     */
+    CsvReaderBuilder columnMatch(ColumnMatch columnMatch);
+
+    /**
+     * Reads a local file by memory-mapping it and parsing chunks split at record boundaries in parallel
+     * <p>Only available for {@code ExcelImporter.csv(Path)}. The file must be UTF-8 encoded.</p>
+     *
+     * @param options pool, chunk size, in-flight limit and ordering (null reads sequentially)
+     * @return this builder for method chaining
+     */
+    CsvReaderBuilder parallel(ParallelReadOptions options);
+
+    /**
+     * Reads rows lazily as a Stream
+     * <p>Rows are parsed while the Stream is consumed. Close the Stream (try-with-resources) to release the input,
+     * including an {@code InputStream} given to the builder.</p>
+     *
+     * @param type DTO class annotated with @ExcelSheet and @ExcelColumn
+     * @param <T>  DTO type
+     * @return Stream of DTOs in file order (completion order for unordered parallel reads)
+     * @throws io.github.takoeats.excelannotator.exception.ExcelExporterException if a header is missing or a value
+     *                                                                            cannot be converted
+     */
+    <T> Stream<T> read(Class<T> type);
+
+    /**
+     * Reads every row into a List and closes the input
+     *
+     * @param type DTO class annotated with @ExcelSheet and @ExcelColumn
+     * @param <T>  DTO type
+     * @return list of DTOs
+     */
+    <T> List<T> readAll(Class<T> type);
+}
@@ -0,0 +1,86 @@
+package io.github.takoeats.excelannotator.internal.builder;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.reader.ColumnMatch;
+import io.github.takoeats.excelannotator.internal.reader.CsvRowIterator;
+import io.github.takoeats.excelannotator.internal.reader.MappedCsvReader;
+import io.github.takoeats.excelannotator.internal.reader.ParallelReadOptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+class CsvReaderBuilderImpl implements CsvReaderBuilder {
+
+    private final InputStream inputStream;
+    private final Path path;
+    private ColumnMatch columnMatch = ColumnMatch.HEADER;
+    private ParallelReadOptions parallel;
+
+    CsvReaderBuilderImpl(InputStream inputStream) {
+        this.inputStream = inputStream;
+        this.path = null;
+    }
+
+    CsvReaderBuilderImpl(Path path) {
+        this.inputStream = null;
+        this.path = path;
+    }
+
+    @Override
+    public CsvReaderBuilder columnMatch(ColumnMatch columnMatch) {
+        this.columnMatch = columnMatch != null ? columnMatch : ColumnMatch.HEADER;
+        return this;
+    }
+
+    @Override
+    public CsvReaderBuilder parallel(ParallelReadOptions options) {
+        this.parallel = options;
+        return this;
+    }
+
+    @Override
+    public <T> Stream<T> read(Class<T> type) {
+        if (parallel != null) {
+            if (path == null) {
+                throw new ExcelExporterException(ErrorCode.INVALID_READ_OPTION,
+                        "병렬 읽기는 파일 경로(ExcelImporter.csv(Path))에서만 사용할 수 있습니다.");
+            }
+            MappedCsvReader<T> reader = new MappedCsvReader<>(path, type, columnMatch, parallel);
+            int characteristics = parallel.isOrdered() ? Spliterator.ORDERED | Spliterator.NONNULL : Spliterator.NONNULL;
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(reader, characteristics), false)
+                    .onClose(reader::close);
+        }
+
+        CsvRowIterator<T> iterator = new CsvRowIterator<>(openInput(), type, columnMatch);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    public <T> List<T> readAll(Class<T> type) {
+        try (Stream<T> rows = read(type)) {
+            return rows.collect(Collectors.toList());
+        }
+    }
+
+    private InputStream openInput() {
+        if (inputStream != null) {
+            return inputStream;
+        }
+        try {
+            return Files.newInputStream(path);
+        } catch (IOException e) {
+            throw new ExcelExporterException(ErrorCode.IO_ERROR, "CSV 파일 열기 실패: " + path, e);
+        }
+    }
+}
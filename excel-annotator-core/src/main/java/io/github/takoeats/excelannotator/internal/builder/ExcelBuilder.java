@@ -1,8 +1,20 @@
 package io.github.takoeats.excelannotator.internal.builder;
 
 import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.internal.writer.ExcelExportReport;
+import io.github.takoeats.excelannotator.internal.writer.RowPreparationOptions;
+import io.github.takoeats.excelannotator.internal.writer.WriteEngine;
+import io.github.takoeats.excelannotator.internal.writer.prefetch.PrefetchOptions;
+import io.github.takoeats.excelannotator.internal.writer.schedule.ExportScheduler;
+import io.github.takoeats.excelannotator.internal.writer.workbook.CompressionOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.SharedStringsOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.TempStorageOptions;
+import io.github.takoeats.excelannotator.internal.writer.width.WidthProfileOptions;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -14,6 +26,131 @@ public interface ExcelBuilder extends BaseBuilder {
     @Override
     ExcelBuilder fileName(String fileName);
 
+    /**
+     * Writes every string column through the workbook shared-strings table with default limits
+     * <p>Without this call only columns declared with {@code @ExcelColumn(sharedString = true)} are indexed.</p>
+     *
+     * @return this builder for method chaining
+     */
+    ExcelBuilder sharedStrings();
+
+    /**
+     * Configures the shared-strings dictionary (scope, total entry bound, per-column cardinality threshold)
+     * <p>Values beyond the bounds fall back to inline strings.</p>
+     *
+     * @param options shared-strings options
+     * @return this builder for method chaining
+     */
+    ExcelBuilder sharedStrings(SharedStringsOptions options);
+
+    /**
+     * Configures where SXSSF keeps spilled sheet XML: gzip compression, temp directory,
+     * an in-memory tier below a per-sheet threshold and a per-export temp-bytes quota
+     * <p>Exceeding the quota fails the export with {@code TEMP_STORAGE_QUOTA_EXCEEDED}.
+     * Ignored by {@link WriteEngine#DIRECT}, which uses no temp files.</p>
+     *
+     * @param options temp storage options (null restores POI defaults)
+     * @return this builder for method chaining
+     */
+    ExcelBuilder tempStorage(TempStorageOptions options);
+
+    /**
+     * Sizes the SXSSF row window from a heap budget instead of the fixed 500-row window
+     * <p>Bytes per row are estimated from the column types and refined from the first written rows;
+     * the resulting window, flush batch and auto-width sampling are reported through {@link #onReport}.
+     * Ignored by {@link WriteEngine#DIRECT}.</p>
+     *
+     * @param heapBudgetBytes heap budget in bytes for buffered rows (0 restores the fixed window)
+     * @return this builder for method chaining
+     */
+    ExcelBuilder heapBudget(long heapBudgetBytes);
+
+    /**
+     * Configures ZIP compression of the XLSX package: deflate level (0 stores uncompressed deflate blocks)
+     * and parallel deflation of each part in chunks on a worker pool
+     * <p>Lower levels and parallel deflation trade a slightly larger file for shorter write time.
+     * Parallel deflation does not support parts or packages larger than 4GB (Zip64).</p>
+     *
+     * @param options compression options (null restores the default level, single-threaded)
+     * @return this builder for method chaining
+     */
+    ExcelBuilder compression(CompressionOptions options);
+
+    /**
+     * Reuses column widths learned from previous exports of the same DTO class and sheet name
+     * <p>While a stored profile is within its refresh interval, auto-width columns get the learned widths
+     * at sheet creation and only the first rows are measured to detect drift. Missing, expired or drifted
+     * profiles are re-measured over all rows and written back to the store.</p>
+     *
+     * @param options width profile options (null disables profiles)
+     * @return this builder for method chaining
+     */
+    ExcelBuilder widthProfiles(WidthProfileOptions options);
+
+    /**
+     * Writes each sheet of a multi-sheet export on its own worker thread
+     * <p>Applies to row-based sheets from {@code write(Map)} with the SXSSF engine. Rows of each sheet are
+     * serialized by one task on the given executor while styles and sheet creation are shared safely;
+     * workbook-level parts are assembled after all sheets finish, in the original sheet order.
+     * The executor is not shut down by the exporter.</p>
+     *
+     * @param executor executor running one task per sheet (null writes sheets sequentially)
+     * @return this builder for method chaining
+     */
+    ExcelBuilder parallelSheets(Executor executor);
+
+    /**
+     * Reads a single {@code Stream} source ahead on a producer thread
+     * <p>The producer drains the source into a bounded buffer of {@code depth} batches while the calling
+     * thread writes rows, so cursor fetch latency overlaps with cell and XML work. A full buffer blocks the
+     * producer. Producer exceptions are rethrown on the writing thread, and a source that was not fully
+     * read (failure or cancellation) is closed. {@code Map} sources are not prefetched.</p>
+     *
+     * @param options prefetch options (null disables prefetching)
+     * @return this builder for method chaining
+     */
+    ExcelBuilder prefetch(PrefetchOptions options);
+
+    /**
+     * Prepares rows on a ForkJoinPool and hands them to the single POI writer in original order
+     * <p>Field extraction, masking and conditional style evaluation run on worker threads in batches;
+     * the writing thread only sets prepared values and styles on cells. Applies to row-based sheets with
+     * both engines. Extractors and condition classes must be safe to call from multiple threads.</p>
+     *
+     * @param options row preparation options (null prepares rows on the writing thread)
+     * @return this builder for method chaining
+     */
+    ExcelBuilder rowPreparation(RowPreparationOptions options);
+
+    /**
+     * Runs the export under the admission control of a shared scheduler
+     * <p>The export waits in the scheduler's queue until the number of running exports and their estimated heap
+     * and temp-disk usage fit the scheduler's budgets. Waiting longer than the queue timeout fails with
+     * {@code EXPORT_REJECTED}. {@code write} runs on the calling thread; {@code writeAsync} with a null executor
+     * runs on the scheduler's {@link ExportScheduler#getExecutor() executor} (virtual threads on Java 21+).</p>
+     *
+     * @param scheduler shared export scheduler (null runs the export immediately)
+     * @return this builder for method chaining
+     */
+    ExcelBuilder scheduler(ExportScheduler scheduler);
+
+    /**
+     * Selects the workbook output engine
+     * <p>{@link WriteEngine#DIRECT} streams sheet XML straight into the response without SXSSF temp files.</p>
+     *
+     * @param engine output engine (null restores the default SXSSF engine)
+     * @return this builder for method chaining
+     */
+    ExcelBuilder engine(WriteEngine engine);
+
+    /**
+     * Registers a listener that receives the export report after the workbook has been written
+     *
+     * @param listener report listener
+     * @return this builder for method chaining
+     */
+    ExcelBuilder onReport(Consumer<ExcelExportReport> listener);
+
     /**
      * Writes multi-sheet Excel from a Map
      * <p>Map values MUST be either {@code List<?>} or {@code Stream<?>}.</p>
@@ -24,6 +161,46 @@ public interface ExcelBuilder extends BaseBuilder {
      */
     String write(Map<String, ?> sheetData);
 
+    /**
+     * Writes multi-sheet Excel from a Map on the given executor
+     * <p>Cancelling the returned future stops every sheet before its next row and closes the Stream values
+     * once the export task has stopped. {@code OutputStream} builders only, as for
+     * {@link #writeAsync(List, Executor)}.</p>
+     *
+     * @param sheetData map of sheet identifier to data (List or Stream)
+     * @param executor  executor running the export (null uses the scheduler's executor when one is set)
+     * @return future of the final processed filename
+     * @throws io.github.takoeats.excelannotator.exception.ExcelExporterException {@code INVALID_WRITE_OPTION} on
+     *                                                                            builders bound to an
+     *                                                                            {@code HttpServletResponse}
+     */
+    CompletableFuture<String> writeAsync(Map<String, ?> sheetData, Executor executor);
+
+    /**
+     * Writes Excel from a {@code java.util.concurrent.Flow.Publisher} or Reactive Streams
+     * {@code org.reactivestreams.Publisher}, requesting rows in batches of the SXSSF row window (500)
+     *
+     * @param publisher publisher of DTOs annotated with @ExcelSheet and @ExcelColumn
+     * @return the final processed filename
+     * @see #writePublisher(Object, int)
+     */
+    String writePublisher(Object publisher);
+
+    /**
+     * Writes Excel from a {@code java.util.concurrent.Flow.Publisher} or Reactive Streams
+     * {@code org.reactivestreams.Publisher} with demand-driven backpressure
+     * <p>The exporter requests {@code batchSize} rows up front and requests more only as the writer consumes
+     * them, so at most {@code batchSize} rows are buffered regardless of the publisher's speed. A publisher error
+     * fails the export with an {@code ExcelExporterException}; a failed or finished export cancels the
+     * subscription if it is still active. The publisher type is detected at runtime, so neither API is a
+     * compile-time dependency.</p>
+     *
+     * @param publisher publisher of DTOs annotated with @ExcelSheet and @ExcelColumn
+     * @param batchSize number of rows requested at once (upper bound of buffered rows)
+     * @return the final processed filename
+     */
+    String writePublisher(Object publisher, int batchSize);
+
     /**
      * Writes Excel with data provider and converter pattern
      *
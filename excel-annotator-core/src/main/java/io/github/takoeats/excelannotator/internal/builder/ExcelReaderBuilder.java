@@ -0,0 +1,59 @@
+package io.github.takoeats.excelannotator.internal.builder;
+
+import io.github.takoeats.excelannotator.internal.reader.ColumnMatch;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * XLSX import builder interface
+ * <p>Streams worksheets with the POI event API and binds rows to DTOs annotated with @ExcelSheet and @ExcelColumn,
+ * using the same column metadata (headers, field names, formats) as the export. Memory use does not grow with the
+ * number of rows.</p>
+ */
+public interface ExcelReaderBuilder {
+
+    /**
+     * Sets how sheet columns are bound to DTO columns.
+     * <p>{@link ColumnMatch#HEADER} (default) matches the header row against {@code @ExcelColumn.header};
+     * {@link ColumnMatch#ORDER} binds columns by {@code @ExcelColumn.order} position.</p>
+     *
+     * @param columnMatch column matching mode (null restores the default)
+     * @return this builder for method chaining
+     */
+    ExcelReaderBuilder columnMatch(ColumnMatch columnMatch);
+
+    /**
+     * Reads only the sheet with the given name
+     * <p>By default the sheet named after the DTO's @ExcelSheet is read together with the sheets the exporter
+     * created when the row limit was exceeded (name2, name3, ...), falling back to the first sheet.</p>
+     *
+     * @param sheetName sheet name (null restores the default)
+     * @return this builder for method chaining
+     */
+    ExcelReaderBuilder sheet(String sheetName);
+
+    /**
+     * Reads rows lazily as a Stream
+     * <p>A background thread parses the sheet ahead of the consumer into a small fixed buffer. Close the Stream
+     * (try-with-resources) to stop parsing and release the file, including an {@code InputStream} given to the
+     * builder.</p>
+     *
+     * @param type DTO class annotated with @ExcelSheet and @ExcelColumn
+     * @param <T>  DTO type
+     * @return Stream of DTOs in sheet order
+     * @throws io.github.takoeats.excelannotator.exception.ExcelExporterException if the file is not a valid XLSX,
+     *                                                                            a header is missing or a value
+     *                                                                            cannot be converted
+     */
+    <T> Stream<T> read(Class<T> type);
+
+    /**
+     * Reads every row into a List and closes the input
+     *
+     * @param type DTO class annotated with @ExcelSheet and @ExcelColumn
+     * @param <T>  DTO type
+     * @return list of DTOs
+     */
+    <T> List<T> readAll(Class<T> type);
+}
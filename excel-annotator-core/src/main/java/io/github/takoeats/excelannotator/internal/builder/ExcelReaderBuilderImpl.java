@@ -0,0 +1,105 @@
+package io.github.takoeats.excelannotator.internal.builder;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.reader.ColumnMatch;
+import io.github.takoeats.excelannotator.internal.reader.XlsxRowIterator;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+class ExcelReaderBuilderImpl implements ExcelReaderBuilder {
+
+    private final InputStream inputStream;
+    private final Path path;
+    private ColumnMatch columnMatch = ColumnMatch.HEADER;
+    private String sheetName;
+
+    ExcelReaderBuilderImpl(InputStream inputStream) {
+        this.inputStream = inputStream;
+        this.path = null;
+    }
+
+    ExcelReaderBuilderImpl(Path path) {
+        this.inputStream = null;
+        this.path = path;
+    }
+
+    @Override
+    public ExcelReaderBuilder columnMatch(ColumnMatch columnMatch) {
+        this.columnMatch = columnMatch != null ? columnMatch : ColumnMatch.HEADER;
+        return this;
+    }
+
+    @Override
+    public ExcelReaderBuilder sheet(String sheetName) {
+        this.sheetName = sheetName;
+        return this;
+    }
+
+    @Override
+    public <T> Stream<T> read(Class<T> type) {
+        Path file = path != null ? path : copyToTempFile();
+        Path tempFile = path != null ? null : file;
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(file.toFile(), PackageAccess.READ);
+        } catch (InvalidFormatException | RuntimeException e) {
+            deleteQuietly(tempFile);
+            throw new ExcelExporterException(ErrorCode.IO_ERROR, "XLSX 파일 열기 실패", e);
+        }
+
+        XlsxRowIterator<T> iterator = new XlsxRowIterator<>(pkg, () -> {
+            pkg.revert();
+            deleteQuietly(tempFile);
+        }, type, columnMatch, sheetName);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    public <T> List<T> readAll(Class<T> type) {
+        try (Stream<T> rows = read(type)) {
+            return rows.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * InputStream으로 연 패키지는 ZIP 항목을 모두 메모리에 풀기 때문에 임시 파일로 복사해서 염 (Stream을 닫을 때 삭제)
+     */
+    private Path copyToTempFile() {
+        Path tempFile = null;
+        try (InputStream input = inputStream) {
+            tempFile = Files.createTempFile("excel-import-", ".xlsx");
+            Files.copy(input, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return tempFile;
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw new ExcelExporterException(ErrorCode.IO_ERROR, "XLSX 입력 임시 파일 복사 실패", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            file.toFile().deleteOnExit();
+        }
+    }
+}
@@ -5,56 +5,122 @@ import io.github.takoeats.excelannotator.exception.ExcelExporterException;
 import io.github.takoeats.excelannotator.internal.util.FileNameProcessor;
 import io.github.takoeats.excelannotator.internal.util.ResponseHeaderHandler;
 import io.github.takoeats.excelannotator.internal.writer.CsvWriter;
-import lombok.RequiredArgsConstructor;
+import io.github.takoeats.excelannotator.internal.writer.csv.CsvQuoting;
+import io.github.takoeats.excelannotator.internal.writer.csv.GzipOptions;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
-@RequiredArgsConstructor
 class ResponseCsvBuilderImpl extends AbstractCsvBuilder implements CsvBuilder {
 
     private static final String CSV = ".csv";
+    private static final String CSV_GZ = ".csv.gz";
+    private static final String ZIP = ".zip";
 
+    private final HttpServletRequest request;
     private final HttpServletResponse response;
     private String fileName = DEFAULT_FILE_NAME;
 
+    ResponseCsvBuilderImpl(HttpServletResponse response) {
+        this(null, response);
+    }
+
+    /**
+     * @param request Accept-Encoding 협상에 사용할 요청 (null이면 협상하지 않음)
+     */
+    ResponseCsvBuilderImpl(HttpServletRequest request, HttpServletResponse response) {
+        this.request = request;
+        this.response = response;
+    }
+
     @Override
     public CsvBuilder fileName(String fileName) {
         this.fileName = fileName;
         return this;
     }
 
+    @Override
+    public CsvBuilder quoting(CsvQuoting quoting) {
+        applyQuoting(quoting);
+        return this;
+    }
+
+    @Override
+    public CsvBuilder gzip(GzipOptions options) {
+        applyGzip(options);
+        return this;
+    }
+
     @Override
     public <T> String write(List<T> data) {
-        return executeWrite(outputStream -> {
-            CsvWriter writer = new CsvWriter();
-            writer.write(outputStream, data);
-        });
+        return executeWrite((writer, outputStream) -> writer.write(outputStream, data));
     }
 
     @Override
     public <T> String write(Stream<T> dataStream) {
-        return executeWrite(outputStream -> {
-            CsvWriter writer = new CsvWriter();
-            writer.write(outputStream, dataStream);
-        });
+        return executeWrite((writer, outputStream) -> writer.write(outputStream, dataStream));
+    }
+
+    @Override
+    public <T> CompletableFuture<String> writeAsync(List<T> data, Executor executor) {
+        throw AsyncExport.responseNotSupported();
+    }
+
+    @Override
+    public <T> CompletableFuture<String> writeAsync(Stream<T> dataStream, Executor executor) {
+        throw AsyncExport.responseNotSupported();
     }
 
-    private String executeWrite(OutputStreamWriter writer) {
+    @Override
+    public CompletableFuture<String> writeAsync(Map<String, ?> sheetData, Executor executor) {
+        throw AsyncExport.responseNotSupported();
+    }
+
+    @Override
+    public String write(Map<String, ?> sheetData) {
+        try {
+            String sanitized = FileNameProcessor.sanitizeFileName(fileName);
+            String processed = FileNameProcessor.processFileName(sanitized, ZIP);
+            String encoded = FileNameProcessor.urlEncodeRFC5987(processed);
+
+            ResponseHeaderHandler.setResponseHeaders(response,
+                    "application/zip",
+                    "download.zip",
+                    encoded);
+
+            createZipWriter(null).write(response.getOutputStream(), sheetData);
+            return processed;
+        } catch (IOException ioEx) {
+            throw new ExcelExporterException(ErrorCode.IO_ERROR, ioEx);
+        }
+    }
+
+    /**
+     * gzip 옵션이 있으면 요청이 있을 때는 Content-Encoding으로 협상하고, 요청이 없으면 .csv.gz 파일로 내려보냄
+     */
+    private String executeWrite(CsvResponseWriter writer) {
         try {
+            boolean gzipFile = isGzipRequested() && request == null;
+            boolean gzipEncoding = isGzipRequested() && request != null
+                    && ResponseHeaderHandler.negotiateGzip(request, response);
+
             String sanitized = FileNameProcessor.sanitizeFileName(fileName);
-            String processed = FileNameProcessor.processFileName(sanitized, CSV);
+            String processed = FileNameProcessor.processFileName(sanitized, gzipFile ? CSV_GZ : CSV);
             String encoded = FileNameProcessor.urlEncodeRFC5987(processed);
 
             ResponseHeaderHandler.setResponseHeaders(response,
-                    "text/csv; charset=UTF-8",
-                    "download.csv",
+                    gzipFile ? "application/gzip" : "text/csv; charset=UTF-8",
+                    gzipFile ? "download.csv.gz" : "download.csv",
                     encoded);
 
-            writer.write(response.getOutputStream());
+            writer.write(createWriter(gzipFile || gzipEncoding, null), response.getOutputStream());
             return processed;
         } catch (IOException ioEx) {
             throw new ExcelExporterException(ErrorCode.IO_ERROR, ioEx);
@@ -62,7 +128,7 @@ class ResponseCsvBuilderImpl extends AbstractCsvBuilder implements CsvBuilder {
     }
 
     @FunctionalInterface
-    private interface OutputStreamWriter {
-        void write(OutputStream outputStream) throws IOException;
+    private interface CsvResponseWriter {
+        void write(CsvWriter writer, OutputStream outputStream) throws IOException;
     }
 }
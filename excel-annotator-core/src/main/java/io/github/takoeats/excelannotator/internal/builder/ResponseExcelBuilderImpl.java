@@ -5,7 +5,16 @@ import io.github.takoeats.excelannotator.exception.ErrorCode;
 import io.github.takoeats.excelannotator.exception.ExcelExporterException;
 import io.github.takoeats.excelannotator.internal.util.FileNameProcessor;
 import io.github.takoeats.excelannotator.internal.util.ResponseHeaderHandler;
+import io.github.takoeats.excelannotator.internal.writer.ExcelExportReport;
 import io.github.takoeats.excelannotator.internal.writer.ExcelWriter;
+import io.github.takoeats.excelannotator.internal.writer.RowPreparationOptions;
+import io.github.takoeats.excelannotator.internal.writer.WriteEngine;
+import io.github.takoeats.excelannotator.internal.writer.prefetch.PrefetchOptions;
+import io.github.takoeats.excelannotator.internal.writer.schedule.ExportScheduler;
+import io.github.takoeats.excelannotator.internal.writer.workbook.CompressionOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.SharedStringsOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.TempStorageOptions;
+import io.github.takoeats.excelannotator.internal.writer.width.WidthProfileOptions;
 import lombok.RequiredArgsConstructor;
 
 import javax.servlet.http.HttpServletResponse;
@@ -13,6 +22,9 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -30,33 +42,129 @@ class ResponseExcelBuilderImpl extends AbstractExcelBuilder implements ExcelBuil
         return this;
     }
 
+    @Override
+    public ExcelBuilder sharedStrings() {
+        return sharedStrings(SharedStringsOptions.ALL_COLUMNS);
+    }
+
+    @Override
+    public ExcelBuilder sharedStrings(SharedStringsOptions options) {
+        applySharedStrings(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder tempStorage(TempStorageOptions options) {
+        applyTempStorage(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder heapBudget(long heapBudgetBytes) {
+        applyHeapBudget(heapBudgetBytes);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder compression(CompressionOptions options) {
+        applyCompression(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder widthProfiles(WidthProfileOptions options) {
+        applyWidthProfiles(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder parallelSheets(Executor executor) {
+        applyParallelSheets(executor);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder prefetch(PrefetchOptions options) {
+        applyPrefetch(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder rowPreparation(RowPreparationOptions options) {
+        applyRowPreparation(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder scheduler(ExportScheduler scheduler) {
+        applyScheduler(scheduler);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder engine(WriteEngine engine) {
+        applyEngine(engine);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder onReport(Consumer<ExcelExportReport> listener) {
+        applyReportListener(listener);
+        return this;
+    }
+
     @Override
     public <T> String write(List<T> data) {
         validateData(data);
         return executeWrite(outputStream -> {
-            ExcelWriter writer = new ExcelWriter();
-            writeWorkbookAndHandleErrors(outputStream, () -> writer.write(data));
+            ExcelWriter writer = createWriter(null);
+            exportAndHandleErrors(() -> writer.export(data, outputStream));
         });
     }
 
     @Override
     public <T> String write(Stream<T> dataStream) {
         return executeWrite(outputStream -> {
-            ExcelWriter writer = new ExcelWriter();
-            writeWorkbookAndHandleErrors(outputStream, () -> writer.write(dataStream));
+            ExcelWriter writer = createWriter(null);
+            exportAndHandleErrors(() -> writer.export(dataStream, outputStream));
         });
     }
 
+    @Override
+    public <T> CompletableFuture<String> writeAsync(List<T> data, Executor executor) {
+        throw AsyncExport.responseNotSupported();
+    }
+
+    @Override
+    public <T> CompletableFuture<String> writeAsync(Stream<T> dataStream, Executor executor) {
+        throw AsyncExport.responseNotSupported();
+    }
+
     @Override
     public String write(Map<String, ?> sheetData) {
         validateMapData(sheetData);
         Map<String, Stream<?>> streamMap = convertMapToStreams(sheetData);
         return executeWrite(outputStream -> {
-            ExcelWriter writer = new ExcelWriter();
-            writeWorkbookAndHandleErrors(outputStream, () -> writer.writeWithStreams(streamMap));
+            ExcelWriter writer = createWriter(null);
+            exportAndHandleErrors(() -> writer.exportStreams(streamMap, outputStream));
         });
     }
 
+    @Override
+    public CompletableFuture<String> writeAsync(Map<String, ?> sheetData, Executor executor) {
+        throw AsyncExport.responseNotSupported();
+    }
+
+    @Override
+    public String writePublisher(Object publisher) {
+        return writePublisher(publisher, DEFAULT_PUBLISHER_BATCH_SIZE);
+    }
+
+    @Override
+    public String writePublisher(Object publisher, int batchSize) {
+        return writePublisherStream(publisher, batchSize, this::write);
+    }
+
     @Override
     public <Q, R, E> String write(Q queryParams,
                                   ExcelExporter.ExcelDataProvider<Q, R> dataProvider,
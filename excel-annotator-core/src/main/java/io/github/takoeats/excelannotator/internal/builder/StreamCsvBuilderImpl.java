@@ -2,16 +2,24 @@ package io.github.takoeats.excelannotator.internal.builder;
 
 import io.github.takoeats.excelannotator.internal.util.FileNameProcessor;
 import io.github.takoeats.excelannotator.internal.writer.CsvWriter;
+import io.github.takoeats.excelannotator.internal.writer.ExportCancellation;
+import io.github.takoeats.excelannotator.internal.writer.csv.CsvQuoting;
+import io.github.takoeats.excelannotator.internal.writer.csv.GzipOptions;
 import lombok.RequiredArgsConstructor;
 
 import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 class StreamCsvBuilderImpl extends AbstractCsvBuilder implements CsvBuilder {
 
     private static final String CSV = ".csv";
+    private static final String CSV_GZ = ".csv.gz";
+    private static final String ZIP = ".zip";
 
     private final OutputStream outputStream;
     private String fileName = DEFAULT_FILE_NAME;
@@ -22,22 +30,72 @@ class StreamCsvBuilderImpl extends AbstractCsvBuilder implements CsvBuilder {
         return this;
     }
 
+    @Override
+    public CsvBuilder quoting(CsvQuoting quoting) {
+        applyQuoting(quoting);
+        return this;
+    }
+
+    @Override
+    public CsvBuilder gzip(GzipOptions options) {
+        applyGzip(options);
+        return this;
+    }
+
     @Override
     public <T> String write(List<T> data) {
-        CsvWriter writer = new CsvWriter();
-        writer.write(outputStream, data);
-        return getProcessedFileName();
+        return write(data, null);
     }
 
     @Override
     public <T> String write(Stream<T> dataStream) {
-        CsvWriter writer = new CsvWriter();
+        return write(dataStream, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<String> writeAsync(List<T> data, Executor executor) {
+        return submitAsync(executor, cancellation -> write(data, cancellation), null);
+    }
+
+    @Override
+    public <T> CompletableFuture<String> writeAsync(Stream<T> dataStream, Executor executor) {
+        return submitAsync(executor, cancellation -> write(dataStream, cancellation), dataStream);
+    }
+
+    @Override
+    public String write(Map<String, ?> sheetData) {
+        return write(sheetData, null);
+    }
+
+    @Override
+    public CompletableFuture<String> writeAsync(Map<String, ?> sheetData, Executor executor) {
+        return submitAsync(executor, cancellation -> write(sheetData, cancellation),
+                AsyncExport.streamsOf(sheetData));
+    }
+
+    private <T> String write(List<T> data, ExportCancellation cancellation) {
+        CsvWriter writer = createWriter(cancellation);
+        writer.write(outputStream, data);
+        return getProcessedFileName();
+    }
+
+    private <T> String write(Stream<T> dataStream, ExportCancellation cancellation) {
+        CsvWriter writer = createWriter(cancellation);
         writer.write(outputStream, dataStream);
         return getProcessedFileName();
     }
 
+    private String write(Map<String, ?> sheetData, ExportCancellation cancellation) {
+        createZipWriter(cancellation).write(outputStream, sheetData);
+        return getProcessedFileName(ZIP);
+    }
+
     private String getProcessedFileName() {
+        return getProcessedFileName(isGzipRequested() ? CSV_GZ : CSV);
+    }
+
+    private String getProcessedFileName(String extension) {
         String sanitized = FileNameProcessor.sanitizeFileName(fileName);
-        return FileNameProcessor.processFileName(sanitized, CSV);
+        return FileNameProcessor.processFileName(sanitized, extension);
     }
 }
@@ -2,12 +2,25 @@ package io.github.takoeats.excelannotator.internal.builder;
 
 import io.github.takoeats.excelannotator.ExcelExporter;
 import io.github.takoeats.excelannotator.internal.util.FileNameProcessor;
+import io.github.takoeats.excelannotator.internal.writer.ExcelExportReport;
 import io.github.takoeats.excelannotator.internal.writer.ExcelWriter;
+import io.github.takoeats.excelannotator.internal.writer.ExportCancellation;
+import io.github.takoeats.excelannotator.internal.writer.RowPreparationOptions;
+import io.github.takoeats.excelannotator.internal.writer.WriteEngine;
+import io.github.takoeats.excelannotator.internal.writer.prefetch.PrefetchOptions;
+import io.github.takoeats.excelannotator.internal.writer.schedule.ExportScheduler;
+import io.github.takoeats.excelannotator.internal.writer.workbook.CompressionOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.SharedStringsOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.TempStorageOptions;
+import io.github.takoeats.excelannotator.internal.writer.width.WidthProfileOptions;
 import lombok.RequiredArgsConstructor;
 
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -25,30 +38,139 @@ class StreamExcelBuilderImpl extends AbstractExcelBuilder implements ExcelBuilde
         return this;
     }
 
+    @Override
+    public ExcelBuilder sharedStrings() {
+        return sharedStrings(SharedStringsOptions.ALL_COLUMNS);
+    }
+
+    @Override
+    public ExcelBuilder sharedStrings(SharedStringsOptions options) {
+        applySharedStrings(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder tempStorage(TempStorageOptions options) {
+        applyTempStorage(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder heapBudget(long heapBudgetBytes) {
+        applyHeapBudget(heapBudgetBytes);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder compression(CompressionOptions options) {
+        applyCompression(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder widthProfiles(WidthProfileOptions options) {
+        applyWidthProfiles(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder parallelSheets(Executor executor) {
+        applyParallelSheets(executor);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder prefetch(PrefetchOptions options) {
+        applyPrefetch(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder rowPreparation(RowPreparationOptions options) {
+        applyRowPreparation(options);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder scheduler(ExportScheduler scheduler) {
+        applyScheduler(scheduler);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder engine(WriteEngine engine) {
+        applyEngine(engine);
+        return this;
+    }
+
+    @Override
+    public ExcelBuilder onReport(Consumer<ExcelExportReport> listener) {
+        applyReportListener(listener);
+        return this;
+    }
+
     @Override
     public <T> String write(List<T> data) {
-        validateData(data);
-        ExcelWriter writer = new ExcelWriter();
-        writeWorkbookAndHandleErrors(outputStream, () -> writer.write(data));
-        return getProcessedFileName();
+        return write(data, null);
     }
 
     @Override
     public <T> String write(Stream<T> dataStream) {
-        ExcelWriter writer = new ExcelWriter();
-        writeWorkbookAndHandleErrors(outputStream, () -> writer.write(dataStream));
-        return getProcessedFileName();
+        return write(dataStream, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<String> writeAsync(List<T> data, Executor executor) {
+        return submitAsync(executor, cancellation -> write(data, cancellation), null);
+    }
+
+    @Override
+    public <T> CompletableFuture<String> writeAsync(Stream<T> dataStream, Executor executor) {
+        return submitAsync(executor, cancellation -> write(dataStream, cancellation), dataStream);
     }
 
     @Override
     public String write(Map<String, ?> sheetData) {
+        return write(sheetData, null);
+    }
+
+    @Override
+    public CompletableFuture<String> writeAsync(Map<String, ?> sheetData, Executor executor) {
+        return submitAsync(executor, cancellation -> write(sheetData, cancellation),
+                AsyncExport.streamsOf(sheetData));
+    }
+
+    private <T> String write(List<T> data, ExportCancellation cancellation) {
+        validateData(data);
+        ExcelWriter writer = createWriter(cancellation);
+        exportAndHandleErrors(() -> writer.export(data, outputStream));
+        return getProcessedFileName();
+    }
+
+    private <T> String write(Stream<T> dataStream, ExportCancellation cancellation) {
+        ExcelWriter writer = createWriter(cancellation);
+        exportAndHandleErrors(() -> writer.export(dataStream, outputStream));
+        return getProcessedFileName();
+    }
+
+    private String write(Map<String, ?> sheetData, ExportCancellation cancellation) {
         validateMapData(sheetData);
         Map<String, Stream<?>> streamMap = convertMapToStreams(sheetData);
-        ExcelWriter writer = new ExcelWriter();
-        writeWorkbookAndHandleErrors(outputStream, () -> writer.writeWithStreams(streamMap));
+        ExcelWriter writer = createWriter(cancellation);
+        exportAndHandleErrors(() -> writer.exportStreams(streamMap, outputStream));
         return getProcessedFileName();
     }
 
+    @Override
+    public String writePublisher(Object publisher) {
+        return writePublisher(publisher, DEFAULT_PUBLISHER_BATCH_SIZE);
+    }
+
+    @Override
+    public String writePublisher(Object publisher, int batchSize) {
+        return writePublisherStream(publisher, batchSize, this::write);
+    }
+
     @Override
     public <Q, R, E> String write(Q queryParams,
                                   ExcelExporter.ExcelDataProvider<Q, R> dataProvider,
@@ -8,6 +8,9 @@ import lombok.Getter;
 import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 @Getter
 public final class ColumnInfo {
@@ -23,6 +26,13 @@ public final class ColumnInfo {
     private final Masking masking;
     private final String mergeHeader;
     private final CustomExcelCellStyle mergeHeaderStyle;
+    private final boolean sharedString;
+    private final String fieldName;
+    private final Class<?> fieldType;
+    private final Function<Object, Object> accessor;
+    private final Class<?> accessorType;
+    private final ToDoubleFunction<Object> doubleAccessor;
+    private final ToLongFunction<Object> longAccessor;
 
     private ColumnInfo(Builder builder) {
         this.header = builder.header;
@@ -39,12 +49,27 @@ public final class ColumnInfo {
         this.masking = builder.masking != null ? builder.masking : Masking.NONE;
         this.mergeHeader = builder.mergeHeader != null ? builder.mergeHeader : "";
         this.mergeHeaderStyle = builder.mergeHeaderStyle;
+        this.sharedString = builder.sharedString;
+        this.fieldName = builder.field != null ? builder.field.getName() : builder.fieldName;
+        this.fieldType = builder.field != null ? builder.field.getType() : builder.fieldType;
+        this.accessor = builder.accessor;
+        this.accessorType = builder.accessorType;
+        this.doubleAccessor = builder.doubleAccessor;
+        this.longAccessor = builder.longAccessor;
     }
 
     public boolean hasMergeHeader() {
         return mergeHeader != null && !mergeHeader.isEmpty();
     }
 
+    /**
+     * 컴파일 시점에 생성된 Getter 접근자 보유 여부
+     * <p>true이면 {@link #getAccessor()}가 리플렉션 대신 사용되며, {@link #getField()}는 null일 수 있습니다.</p>
+     */
+    public boolean hasAccessor() {
+        return accessor != null;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -62,6 +87,13 @@ public final class ColumnInfo {
         private Masking masking = Masking.NONE;
         private String mergeHeader = "";
         private CustomExcelCellStyle mergeHeaderStyle = null;
+        private boolean sharedString = false;
+        private String fieldName = null;
+        private Class<?> fieldType = null;
+        private Function<Object, Object> accessor = null;
+        private Class<?> accessorType = null;
+        private ToDoubleFunction<Object> doubleAccessor = null;
+        private ToLongFunction<Object> longAccessor = null;
 
         private Builder() {
         }
@@ -126,6 +158,37 @@ public final class ColumnInfo {
             return this;
         }
 
+        public Builder sharedString(boolean sharedString) {
+            this.sharedString = sharedString;
+            return this;
+        }
+
+        public Builder fieldName(String fieldName) {
+            this.fieldName = fieldName;
+            return this;
+        }
+
+        public Builder fieldType(Class<?> fieldType) {
+            this.fieldType = fieldType;
+            return this;
+        }
+
+        public Builder accessor(Function<Object, Object> accessor, Class<?> accessorType) {
+            this.accessor = accessor;
+            this.accessorType = accessorType;
+            return this;
+        }
+
+        public Builder doubleAccessor(ToDoubleFunction<Object> doubleAccessor) {
+            this.doubleAccessor = doubleAccessor;
+            return this;
+        }
+
+        public Builder longAccessor(ToLongFunction<Object> longAccessor) {
+            this.longAccessor = longAccessor;
+            return this;
+        }
+
         public ColumnInfo build() {
             return new ColumnInfo(this);
         }
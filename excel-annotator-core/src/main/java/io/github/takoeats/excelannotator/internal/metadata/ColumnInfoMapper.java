@@ -4,8 +4,10 @@ import io.github.takoeats.excelannotator.internal.metadata.extractor.FieldValueE
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -28,4 +30,12 @@ final class ColumnInfoMapper {
                 .map(FieldValueExtractorFactory::<T>createExtractor)
                 .collect(Collectors.toList());
     }
+
+    static <T> List<ToDoubleFunction<T>> mapToDoubleExtractors(List<ColumnInfo> columnInfos) {
+        List<ToDoubleFunction<T>> doubleExtractors = new ArrayList<>(columnInfos.size());
+        for (ColumnInfo columnInfo : columnInfos) {
+            doubleExtractors.add(FieldValueExtractorFactory.<T>createDoubleExtractor(columnInfo));
+        }
+        return doubleExtractors;
+    }
 }
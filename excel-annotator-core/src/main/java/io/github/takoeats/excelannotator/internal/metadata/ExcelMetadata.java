@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
 @Getter
@@ -17,9 +18,17 @@ import java.util.stream.Collectors;
 public final class ExcelMetadata<T> implements SheetMetadata, ColumnMetadata, HeaderMetadata, StyleMetadata, DataExtractionMetadata<T> {
     private final List<String> headers;
     private final List<Function<T, Object>> extractors;
+    /**
+     * 숫자형 primitive 컬럼을 박싱 없이 읽는 추출기 (해당 없는 컬럼은 null 항목, 목록 자체가 null일 수 있음)
+     */
+    private final List<ToDoubleFunction<T>> doubleExtractors;
     private final List<Integer> columnWidths;
     private final SheetInfo sheetInfo;
     private final List<ColumnInfo> columnInfos;
+    /**
+     * 메타데이터를 추출한 DTO 클래스 (병합 컬럼 등 클래스가 없으면 null)
+     */
+    private final Class<?> dataType;
 
     public String getSheetName() {
         return sheetInfo.getName();
@@ -52,7 +61,21 @@ public final class ExcelMetadata<T> implements SheetMetadata, ColumnMetadata, He
 
     public String getFieldNameAt(int index) {
         if (columnInfos != null && index >= 0 && index < columnInfos.size()) {
-            return columnInfos.get(index).getField().getName();
+            return columnInfos.get(index).getFieldName();
+        }
+        return null;
+    }
+
+    public Class<?> getFieldTypeAt(int index) {
+        if (columnInfos != null && index >= 0 && index < columnInfos.size()) {
+            return columnInfos.get(index).getFieldType();
+        }
+        return null;
+    }
+
+    public ToDoubleFunction<T> getDoubleExtractorAt(int index) {
+        if (doubleExtractors != null && index >= 0 && index < doubleExtractors.size()) {
+            return doubleExtractors.get(index);
         }
         return null;
     }
@@ -94,6 +117,13 @@ public final class ExcelMetadata<T> implements SheetMetadata, ColumnMetadata, He
         return Masking.NONE;
     }
 
+    public boolean isSharedStringAt(int index) {
+        if (columnInfos != null && index >= 0 && index < columnInfos.size()) {
+            return columnInfos.get(index).isSharedString();
+        }
+        return false;
+    }
+
     public boolean hasAnyMergeHeader() {
         if (columnInfos == null || columnInfos.isEmpty()) {
             return false;
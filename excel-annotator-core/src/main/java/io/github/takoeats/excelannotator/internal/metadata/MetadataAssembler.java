@@ -30,8 +30,10 @@ public final class MetadataAssembler {
                 .columnInfos(columnInfos)
                 .headers(headers)
                 .extractors(extractors)
+                .doubleExtractors(ColumnInfoMapper.<T>mapToDoubleExtractors(columnInfos))
                 .columnWidths(columnWidths)
                 .sheetInfo(sheetInfo)
+                .dataType(clazz)
                 .build();
     }
 
@@ -51,9 +51,11 @@ public final class MultiSheetMetadataBuilder {
             ExcelMetadata<T> metadata = ExcelMetadata.<T>builder()
                     .headers(headers)
                     .extractors(extractors)
+                    .doubleExtractors(ColumnInfoMapper.<T>mapToDoubleExtractors(sheetColumns))
                     .columnWidths(columnWidths)
                     .sheetInfo(sheetInfo)
                     .columnInfos(sheetColumns)
+                    .dataType(clazz)
                     .build();
 
             result.put(sheetName, metadata);
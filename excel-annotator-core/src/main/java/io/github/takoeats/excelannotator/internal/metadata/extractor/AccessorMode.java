@@ -0,0 +1,18 @@
+package io.github.takoeats.excelannotator.internal.metadata.extractor;
+
+/**
+ * 컬럼 값 추출기(Getter 접근자) 생성 방식
+ */
+public enum AccessorMode {
+
+    /**
+     * LambdaMetafactory로 Getter를 직접 호출하는 Function 구현체를 생성
+     * <p>JIT가 Getter 호출을 인라인할 수 있으며, 생성할 수 없는 경우 METHOD_HANDLE로 대체됩니다.</p>
+     */
+    LAMBDA_METAFACTORY,
+
+    /**
+     * MethodHandle.invoke 기반 추출 (기존 방식)
+     */
+    METHOD_HANDLE
+}
@@ -5,6 +5,9 @@ import io.github.takoeats.excelannotator.exception.ErrorCode;
 import io.github.takoeats.excelannotator.exception.ExcelExporterException;
 import io.github.takoeats.excelannotator.internal.metadata.ColumnInfo;
 import io.github.takoeats.excelannotator.internal.metadata.SheetInfo;
+import io.github.takoeats.excelannotator.internal.metadata.generated.GeneratedColumn;
+import io.github.takoeats.excelannotator.internal.metadata.generated.GeneratedExcelMetadata;
+import io.github.takoeats.excelannotator.internal.metadata.generated.GeneratedMetadataLocator;
 import io.github.takoeats.excelannotator.internal.metadata.style.ColumnStyleResolver;
 import io.github.takoeats.excelannotator.internal.metadata.style.ConditionalStyleParser;
 import io.github.takoeats.excelannotator.internal.metadata.validator.MergeHeaderValidator;
@@ -29,14 +32,94 @@ public final class ColumnInfoExtractor {
         }
 
         SheetInfo sheetInfo = SheetInfoExtractor.extract(clazz);
-        Field[] fields = clazz.getDeclaredFields();
+        GeneratedExcelMetadata<?> generated = GeneratedMetadataLocator.find(clazz);
 
-        List<ColumnInfo> columnInfos = extractColumns(fields, sheetInfo);
+        List<ColumnInfo> columnInfos = generated != null
+                ? extractGeneratedColumns(generated, sheetInfo)
+                : extractColumns(clazz.getDeclaredFields(), sheetInfo);
         validateAndSort(columnInfos, clazz);
 
         return columnInfos;
     }
 
+    private static List<ColumnInfo> extractGeneratedColumns(GeneratedExcelMetadata<?> generated, SheetInfo sheetInfo) {
+        List<ColumnInfo> columnInfos = new ArrayList<>();
+        int autoOrder = 1;
+
+        for (GeneratedColumn<?> column : generated.getColumns()) {
+            if (!column.isAnnotated() && !sheetInfo.isAutoColumn()) {
+                continue;
+            }
+            if (column.isAnnotated()) {
+                columnInfos.add(processGeneratedColumn(column, sheetInfo));
+            } else {
+                columnInfos.add(processGeneratedColumnWithAutoColumn(column, sheetInfo, autoOrder));
+            }
+            autoOrder++;
+        }
+
+        return columnInfos;
+    }
+
+    private static ColumnInfo processGeneratedColumn(GeneratedColumn<?> column, SheetInfo sheetInfo) {
+        CustomExcelCellStyle headerStyle = ColumnStyleResolver.resolveHeaderStyle(column.getHeaderStyle(), sheetInfo);
+        CustomExcelCellStyle columnStyle =
+                ColumnStyleResolver.resolveColumnStyle(column.getColumnStyle(), column.getFieldType(), sheetInfo);
+        CustomExcelCellStyle mergeHeaderStyle =
+                ColumnStyleResolver.resolveHeaderStyle(column.getMergeHeaderStyle(), sheetInfo);
+        int width = ColumnStyleResolver.calculateWidth(column.getWidth(), columnStyle);
+        List<StyleRule> conditionalStyleRules = new ArrayList<>(column.getConditionalStyleRules());
+        Collections.sort(conditionalStyleRules);
+
+        return generatedColumnBuilder(column)
+                .header(column.getHeader())
+                .order(column.getOrder())
+                .width(width)
+                .format(column.getFormat())
+                .headerStyle(headerStyle)
+                .columnStyle(columnStyle)
+                .conditionalStyleRules(conditionalStyleRules)
+                .sheetName(column.getSheetName())
+                .masking(column.getMasking())
+                .mergeHeader(column.getMergeHeader())
+                .mergeHeaderStyle(mergeHeaderStyle)
+                .sharedString(column.isSharedString())
+                .build();
+    }
+
+    private static ColumnInfo processGeneratedColumnWithAutoColumn(
+            GeneratedColumn<?> column, SheetInfo sheetInfo, int autoOrder) {
+        CustomExcelCellStyle headerStyle = ColumnStyleResolver.resolveHeaderStyleFromSheetInfo(sheetInfo);
+        CustomExcelCellStyle columnStyle =
+                ColumnStyleResolver.resolveColumnStyleFromFieldType(column.getFieldType(), sheetInfo);
+        int width = ColumnStyleResolver.calculateWidthFromStyle(columnStyle);
+
+        return generatedColumnBuilder(column)
+                .header(column.getFieldName())
+                .order(autoOrder)
+                .width(width)
+                .format("")
+                .headerStyle(headerStyle)
+                .columnStyle(columnStyle)
+                .conditionalStyleRules(Collections.emptyList())
+                .sheetName("")
+                .masking(Masking.NONE)
+                .mergeHeader("")
+                .mergeHeaderStyle(headerStyle)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ColumnInfo.Builder generatedColumnBuilder(GeneratedColumn<?> column) {
+        GeneratedColumn<Object> typed = (GeneratedColumn<Object>) column;
+        return ColumnInfo.builder()
+                .fieldName(typed.getFieldName())
+                .fieldType(typed.getFieldType())
+                .accessor(typed.getAccessor(), typed.getValueType())
+                .doubleAccessor(typed.getDoubleAccessor())
+                .longAccessor(typed.getLongAccessor());
+    }
+
     private static List<ColumnInfo> extractColumns(Field[] fields, SheetInfo sheetInfo) {
         return sheetInfo.isAutoColumn()
                 ? extractColumnsWithAutoMode(fields, sheetInfo)
@@ -107,6 +190,7 @@ public final class ColumnInfoExtractor {
                     .masking(excelColumn.masking())
                     .mergeHeader(excelColumn.mergeHeader())
                     .mergeHeaderStyle(mergeHeaderStyle)
+                    .sharedString(excelColumn.sharedString())
                     .build();
         }
         return null;
@@ -9,30 +9,85 @@ import lombok.NoArgsConstructor;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class FieldValueExtractorFactory {
 
     public static <T> Function<T, Object> createExtractor(ColumnInfo columnInfo) {
-        MethodHandle methodHandle = extractAndCreateMethodHandle(columnInfo);
+        return createExtractor(columnInfo, AccessorMode.LAMBDA_METAFACTORY);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Function<T, Object> createExtractor(ColumnInfo columnInfo, AccessorMode accessorMode) {
+        if (columnInfo.hasAccessor()) {
+            return wrapAccessor((Function<T, Object>) columnInfo.getAccessor(),
+                    isNormalizedType(columnInfo.getAccessorType()), columnInfo.getFieldName());
+        }
+
+        Method getter = findGetter(columnInfo);
         String fieldName = columnInfo.getField().getName();
 
-        if (methodHandle == null) {
+        if (!validateGetterMethod(getter, fieldName)) {
             return obj -> null;
         }
 
+        if (accessorMode == AccessorMode.LAMBDA_METAFACTORY) {
+            Function<T, Object> accessor = LambdaAccessorFactory.createFunction(getter);
+            if (accessor != null) {
+                return wrapAccessor(accessor, isNormalizedType(getter.getReturnType()), fieldName);
+            }
+        }
+
+        MethodHandle methodHandle = createMethodHandle(getter, fieldName);
         return obj -> invokeGetter(methodHandle, obj, fieldName);
     }
 
-    private static MethodHandle extractAndCreateMethodHandle(ColumnInfo columnInfo) {
+    /**
+     * 숫자형 primitive Getter에 대해 박싱 없이 double 값을 읽는 추출기 생성
+     * <p>대상 객체가 null이 아님을 호출자가 보장해야 합니다.</p>
+     *
+     * @return Getter가 숫자형 primitive가 아니거나 람다를 생성할 수 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ToDoubleFunction<T> createDoubleExtractor(ColumnInfo columnInfo) {
+        if (columnInfo.hasAccessor()) {
+            return wrapDoubleAccessor((ToDoubleFunction<T>) columnInfo.getDoubleAccessor(), columnInfo.getFieldName());
+        }
+
+        Method getter = findGetter(columnInfo);
+        return wrapDoubleAccessor(LambdaAccessorFactory.createToDoubleFunction(getter),
+                columnInfo.getField().getName());
+    }
+
+    /**
+     * 정수형 primitive Getter에 대해 박싱 없이 long 값을 읽는 추출기 생성
+     * <p>대상 객체가 null이 아님을 호출자가 보장해야 합니다.</p>
+     *
+     * @return Getter가 정수형 primitive가 아니거나 람다를 생성할 수 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ToLongFunction<T> createLongExtractor(ColumnInfo columnInfo) {
+        if (columnInfo.hasAccessor()) {
+            return wrapLongAccessor((ToLongFunction<T>) columnInfo.getLongAccessor(), columnInfo.getFieldName());
+        }
+
+        Method getter = findGetter(columnInfo);
+        return wrapLongAccessor(LambdaAccessorFactory.createToLongFunction(getter),
+                columnInfo.getField().getName());
+    }
+
+    private static Method findGetter(ColumnInfo columnInfo) {
         String fieldName = columnInfo.getField().getName();
         String getterName = buildGetterName(fieldName);
         Class<?> declaringClass = columnInfo.getField().getDeclaringClass();
 
-        Method getter;
         try {
-            getter = declaringClass.getMethod(getterName);
+            return declaringClass.getMethod(getterName);
         } catch (NoSuchMethodException e) {
             throw new ExcelExporterException(
                     ErrorCode.FIELD_ACCESS_FAILED,
@@ -40,11 +95,9 @@ public final class FieldValueExtractorFactory {
                     e
             );
         }
+    }
 
-        if (!validateGetterMethod(getter, fieldName)) {
-            return null;
-        }
-
+    private static MethodHandle createMethodHandle(Method getter, String fieldName) {
         try {
             getter.setAccessible(true);
             MethodHandles.Lookup lookup = MethodHandles.lookup();
@@ -58,25 +111,81 @@ public final class FieldValueExtractorFactory {
         }
     }
 
+    private static <T> Function<T, Object> wrapAccessor(Function<T, Object> accessor,
+                                                        boolean normalizedType,
+                                                        String fieldName) {
+        if (normalizedType) {
+            return obj -> {
+                if (obj == null) {
+                    return null;
+                }
+                try {
+                    return accessor.apply(obj);
+                } catch (Exception e) {
+                    throw fieldValueExtractionFailed(fieldName, e);
+                }
+            };
+        }
+
+        return obj -> {
+            if (obj == null) {
+                return null;
+            }
+            try {
+                return normalizeValue(accessor.apply(obj));
+            } catch (Exception e) {
+                throw fieldValueExtractionFailed(fieldName, e);
+            }
+        };
+    }
+
+    private static <T> ToDoubleFunction<T> wrapDoubleAccessor(ToDoubleFunction<T> accessor, String fieldName) {
+        if (accessor == null) {
+            return null;
+        }
+        return obj -> {
+            try {
+                return accessor.applyAsDouble(obj);
+            } catch (Exception e) {
+                throw fieldValueExtractionFailed(fieldName, e);
+            }
+        };
+    }
+
+    private static <T> ToLongFunction<T> wrapLongAccessor(ToLongFunction<T> accessor, String fieldName) {
+        if (accessor == null) {
+            return null;
+        }
+        return obj -> {
+            try {
+                return accessor.applyAsLong(obj);
+            } catch (Exception e) {
+                throw fieldValueExtractionFailed(fieldName, e);
+            }
+        };
+    }
+
     private static Object invokeGetter(MethodHandle methodHandle, Object obj, String fieldName) {
         if (obj == null) {
             return null;
         }
 
         try {
-            return extractFieldValue(methodHandle, obj);
+            return normalizeValue(methodHandle.invoke(obj));
         } catch (Throwable e) {
-            throw new ExcelExporterException(
-                    ErrorCode.FIELD_ACCESS_FAILED,
-                    "필드 값 추출 실패: " + fieldName,
-                    e
-            );
+            throw fieldValueExtractionFailed(fieldName, e);
         }
     }
 
-    private static Object extractFieldValue(MethodHandle methodHandle, Object obj)
-            throws Throwable {
-        Object value = methodHandle.invoke(obj);
+    private static ExcelExporterException fieldValueExtractionFailed(String fieldName, Throwable cause) {
+        return new ExcelExporterException(
+                ErrorCode.FIELD_ACCESS_FAILED,
+                "필드 값 추출 실패: " + fieldName,
+                cause
+        );
+    }
+
+    private static Object normalizeValue(Object value) {
         if (value == null) {
             return null;
         }
@@ -90,6 +199,19 @@ public final class FieldValueExtractorFactory {
         return value.toString();
     }
 
+    /**
+     * 반환 타입만으로 normalizeValue 결과가 원본 값과 같음을 보장할 수 있는지 판단
+     * <p>해당 타입은 셀마다 타입 분류를 다시 수행하지 않습니다.</p>
+     */
+    private static boolean isNormalizedType(Class<?> returnType) {
+        return (returnType.isPrimitive() && returnType != char.class)
+                || Number.class.isAssignableFrom(returnType)
+                || returnType == String.class
+                || returnType == Boolean.class
+                || returnType == LocalDate.class
+                || returnType == LocalDateTime.class;
+    }
+
     private static String buildGetterName(String fieldName) {
         if (fieldName == null || fieldName.isEmpty()) {
             throw new ExcelExporterException(ErrorCode.INVALID_FIELD_NAME);
@@ -0,0 +1,132 @@
+package io.github.takoeats.excelannotator.internal.metadata.extractor;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * LambdaMetafactory 기반 Getter 접근자 생성기
+ * <p>Getter를 직접 호출하는 Function / ToDoubleFunction / ToLongFunction 구현체를 메타데이터 생성 시점에 만듭니다.</p>
+ * <p>생성된 람다 클래스는 이 클래스의 ClassLoader에 정의되므로, 대상 클래스와 반환 타입이
+ * public이고 이 ClassLoader에서 보이는 경우에만 생성합니다. 그 외에는 null을 반환합니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class LambdaAccessorFactory {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final ClassLoader OWN_LOADER = LambdaAccessorFactory.class.getClassLoader();
+
+    static boolean canSpin(Method getter) {
+        Class<?> declaringClass = getter.getDeclaringClass();
+        return Modifier.isPublic(getter.getModifiers())
+                && !Modifier.isStatic(getter.getModifiers())
+                && isAccessibleType(declaringClass)
+                && isAccessibleType(getter.getReturnType());
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Function<T, Object> createFunction(Method getter) {
+        if (!canSpin(getter)) {
+            return null;
+        }
+
+        try {
+            MethodHandle implementation = LOOKUP.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    implementation,
+                    implementation.type().wrap()
+            );
+            return (Function<T, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ToDoubleFunction<T> createToDoubleFunction(Method getter) {
+        if (!canSpin(getter) || !isWideningToDouble(getter.getReturnType())) {
+            return null;
+        }
+
+        try {
+            MethodHandle implementation = LOOKUP.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    "applyAsDouble",
+                    MethodType.methodType(ToDoubleFunction.class),
+                    MethodType.methodType(double.class, Object.class),
+                    implementation,
+                    MethodType.methodType(double.class, getter.getDeclaringClass())
+            );
+            return (ToDoubleFunction<T>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ToLongFunction<T> createToLongFunction(Method getter) {
+        if (!canSpin(getter) || !isWideningToLong(getter.getReturnType())) {
+            return null;
+        }
+
+        try {
+            MethodHandle implementation = LOOKUP.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(
+                    LOOKUP,
+                    "applyAsLong",
+                    MethodType.methodType(ToLongFunction.class),
+                    MethodType.methodType(long.class, Object.class),
+                    implementation,
+                    MethodType.methodType(long.class, getter.getDeclaringClass())
+            );
+            return (ToLongFunction<T>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    static boolean isWideningToDouble(Class<?> type) {
+        return type == double.class || type == float.class || isWideningToLong(type);
+    }
+
+    static boolean isWideningToLong(Class<?> type) {
+        return type == long.class || type == int.class
+                || type == short.class || type == byte.class;
+    }
+
+    private static boolean isAccessibleType(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (type.isArray()) {
+            return isAccessibleType(type.getComponentType());
+        }
+        return Modifier.isPublic(type.getModifiers()) && isVisibleFromOwnLoader(type);
+    }
+
+    private static boolean isVisibleFromOwnLoader(Class<?> type) {
+        if (type.getClassLoader() == null || type.getClassLoader() == OWN_LOADER) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, OWN_LOADER) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import io.github.takoeats.excelannotator.annotation.ExcelSheet;
 import io.github.takoeats.excelannotator.exception.ErrorCode;
 import io.github.takoeats.excelannotator.exception.ExcelExporterException;
 import io.github.takoeats.excelannotator.internal.metadata.SheetInfo;
+import io.github.takoeats.excelannotator.internal.metadata.generated.GeneratedExcelMetadata;
+import io.github.takoeats.excelannotator.internal.metadata.generated.GeneratedMetadataLocator;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -12,6 +14,11 @@ public final class SheetInfoExtractor {
 
 
     public static SheetInfo extract(Class<?> clazz) {
+        GeneratedExcelMetadata<?> generated = GeneratedMetadataLocator.find(clazz);
+        if (generated != null) {
+            return generated.getSheetInfo();
+        }
+
         ExcelSheet excelSheet = clazz.getAnnotation(ExcelSheet.class);
         if (excelSheet != null) {
             return SheetInfo.builder()
@@ -0,0 +1,50 @@
+package io.github.takoeats.excelannotator.internal.metadata.generated;
+
+import io.github.takoeats.excelannotator.masking.Masking;
+import io.github.takoeats.excelannotator.style.CustomExcelCellStyle;
+import io.github.takoeats.excelannotator.style.internal.rule.StyleRule;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 컴파일 시점에 생성된 필드 하나의 컬럼 정의
+ * <p>{@code @ExcelColumn} 속성값과 Getter를 직접 호출하는 접근자, 미리 구성된 조건부 스타일 규칙을 담습니다.</p>
+ *
+ * @param <T> DTO 타입
+ */
+@Getter
+@Builder
+public final class GeneratedColumn<T> {
+
+    private final String fieldName;
+    private final Class<?> fieldType;
+    private final Class<?> valueType;
+    private final Function<T, Object> accessor;
+    private final ToDoubleFunction<T> doubleAccessor;
+    private final ToLongFunction<T> longAccessor;
+
+    /**
+     * 필드에 {@code @ExcelColumn}이 선언되었는지 여부 (false이면 autoColumn 대상 필드)
+     * <p>exclude = true인 필드는 생성되지 않습니다.</p>
+     */
+    private final boolean annotated;
+    private final String header;
+    private final int order;
+    private final int width;
+    private final String format;
+    private final String sheetName;
+    private final Class<? extends CustomExcelCellStyle> headerStyle;
+    private final Class<? extends CustomExcelCellStyle> columnStyle;
+    private final Class<? extends CustomExcelCellStyle> mergeHeaderStyle;
+    private final Masking masking;
+    private final String mergeHeader;
+    private final boolean sharedString;
+    @Builder.Default
+    private final List<StyleRule> conditionalStyleRules = Collections.emptyList();
+}
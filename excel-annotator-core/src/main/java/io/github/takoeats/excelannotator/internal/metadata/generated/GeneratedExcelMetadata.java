@@ -0,0 +1,28 @@
+package io.github.takoeats.excelannotator.internal.metadata.generated;
+
+import io.github.takoeats.excelannotator.internal.metadata.SheetInfo;
+
+import java.util.List;
+
+/**
+ * 컴파일 시점에 생성된 DTO 메타데이터
+ * <p>excel-annotator-processor가 {@code @ExcelSheet} DTO마다 {@code <DTO 이름>_ExcelMetadata} 클래스를 생성하며,
+ * 런타임은 해당 클래스가 존재하면 어노테이션 분석 대신 이를 사용합니다.</p>
+ * <p>중첩 클래스는 바깥 클래스 이름과 '_'로 연결됩니다. (예: {@code Outer.Inner} → {@code Outer_Inner_ExcelMetadata})</p>
+ *
+ * @param <T> DTO 타입
+ */
+public interface GeneratedExcelMetadata<T> {
+
+    String CLASS_NAME_SUFFIX = "_ExcelMetadata";
+
+    Class<T> getType();
+
+    SheetInfo getSheetInfo();
+
+    /**
+     * 필드 선언 순서대로 나열된 컬럼 정의
+     * <p>autoColumn 모드에서는 {@code @ExcelColumn}이 없는 필드도 포함됩니다.</p>
+     */
+    List<GeneratedColumn<T>> getColumns();
+}
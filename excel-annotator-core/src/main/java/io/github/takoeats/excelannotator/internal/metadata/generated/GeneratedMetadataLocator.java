@@ -0,0 +1,64 @@
+package io.github.takoeats.excelannotator.internal.metadata.generated;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 생성된 메타데이터 클래스 탐색기
+ * <p>DTO와 같은 ClassLoader에서 {@code <DTO 이름>_ExcelMetadata} 클래스를 찾고, 없으면 null을 반환하여 리플렉션 분석으로 대체되도록 합니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GeneratedMetadataLocator {
+
+    private static final ClassValue<GeneratedExcelMetadata<?>> LOCATED = new ClassValue<GeneratedExcelMetadata<?>>() {
+        @Override
+        protected GeneratedExcelMetadata<?> computeValue(Class<?> type) {
+            return locate(type);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public static <T> GeneratedExcelMetadata<T> find(Class<T> clazz) {
+        if (clazz == null) {
+            return null;
+        }
+        return (GeneratedExcelMetadata<T>) LOCATED.get(clazz);
+    }
+
+    static String generatedClassName(Class<?> clazz) {
+        String name = clazz.getName();
+        int packageEnd = name.lastIndexOf('.');
+        String packagePrefix = packageEnd < 0 ? "" : name.substring(0, packageEnd + 1);
+        return packagePrefix + name.substring(packageEnd + 1).replace('$', '_')
+                + GeneratedExcelMetadata.CLASS_NAME_SUFFIX;
+    }
+
+    private static GeneratedExcelMetadata<?> locate(Class<?> clazz) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        if (classLoader == null || clazz.isArray() || clazz.isPrimitive()) {
+            return null;
+        }
+
+        Class<?> generatedClass;
+        try {
+            generatedClass = Class.forName(generatedClassName(clazz), false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+
+        if (!GeneratedExcelMetadata.class.isAssignableFrom(generatedClass)) {
+            return null;
+        }
+
+        try {
+            GeneratedExcelMetadata<?> generated =
+                    (GeneratedExcelMetadata<?>) generatedClass.getDeclaredConstructor().newInstance();
+            return generated.getType() == clazz ? generated : null;
+        } catch (ReflectiveOperationException e) {
+            throw new ExcelExporterException(ErrorCode.METADATA_EXTRACTION_FAILED,
+                    "생성된 메타데이터 클래스를 초기화할 수 없습니다: " + generatedClass.getName(), e);
+        }
+    }
+}
@@ -23,23 +23,31 @@ public final class ColumnStyleResolver {
         return getCustomExcelCellStyle(sheetInfo, styleClass);
     }
 
+    public static CustomExcelCellStyle resolveHeaderStyle(
+            Class<? extends CustomExcelCellStyle> styleClass, SheetInfo sheetInfo) {
+        return getCustomExcelCellStyle(sheetInfo, styleClass);
+    }
+
     public static CustomExcelCellStyle resolveColumnStyle(ExcelColumn excelColumn, Field field, SheetInfo sheetInfo) {
-        Class<? extends CustomExcelCellStyle> styleClass = excelColumn.columnStyle();
+        return resolveColumnStyle(excelColumn.columnStyle(), field.getType(), sheetInfo);
+    }
 
+    public static CustomExcelCellStyle resolveColumnStyle(
+            Class<? extends CustomExcelCellStyle> styleClass, Class<?> fieldType, SheetInfo sheetInfo) {
         if (!styleClass.equals(DefaultColumnStyle.class)) {
             return StyleCache.getStyleInstance(styleClass);
         }
 
-        return getCustomExcelCellStyle(field, sheetInfo);
+        return getCustomExcelCellStyle(fieldType, sheetInfo);
     }
 
-    private static CustomExcelCellStyle getCustomExcelCellStyle(Field field, SheetInfo sheetInfo) {
+    private static CustomExcelCellStyle getCustomExcelCellStyle(Class<?> fieldType, SheetInfo sheetInfo) {
         if (sheetInfo.getDefaultColumnStyle() != null &&
                 !sheetInfo.getDefaultColumnStyle().equals(DefaultColumnStyle.class)) {
             return StyleCache.getStyleInstance(sheetInfo.getDefaultColumnStyle());
         }
 
-        if (FieldTypeClassifier.isNumericType(field.getType())) {
+        if (FieldTypeClassifier.isNumericType(fieldType)) {
             return StyleCache.getStyleInstance(DefaultNumberStyle.class);
         }
 
@@ -47,8 +55,12 @@ public final class ColumnStyleResolver {
     }
 
     public static int calculateWidth(ExcelColumn excelColumn, CustomExcelCellStyle columnStyle) {
-        if (excelColumn.width() != 0) {
-            return excelColumn.width();
+        return calculateWidth(excelColumn.width(), columnStyle);
+    }
+
+    public static int calculateWidth(int width, CustomExcelCellStyle columnStyle) {
+        if (width != 0) {
+            return width;
         }
 
         return calculateWidthFromStyle(columnStyle);
@@ -64,7 +76,11 @@ public final class ColumnStyleResolver {
     }
 
     public static CustomExcelCellStyle resolveColumnStyleFromFieldType(Field field, SheetInfo sheetInfo) {
-        return getCustomExcelCellStyle(field, sheetInfo);
+        return getCustomExcelCellStyle(field.getType(), sheetInfo);
+    }
+
+    public static CustomExcelCellStyle resolveColumnStyleFromFieldType(Class<?> fieldType, SheetInfo sheetInfo) {
+        return getCustomExcelCellStyle(fieldType, sheetInfo);
     }
 
     public static int calculateWidthFromStyle(CustomExcelCellStyle columnStyle) {
@@ -0,0 +1,19 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+/**
+ * 파일 컬럼을 DTO 컬럼에 연결하는 방식
+ */
+public enum ColumnMatch {
+
+    /**
+     * 헤더 행의 텍스트를 {@code @ExcelColumn.header}와 비교하여 연결 (기본값)
+     * <p>파일의 컬럼 순서가 달라도 되고, DTO에 없는 컬럼은 무시합니다. DTO 컬럼의 헤더가 파일에 없으면 실패합니다.
+     * 헤더가 없는 시트({@code @ExcelSheet(hasHeader = false)})는 ORDER로 동작합니다.</p>
+     */
+    HEADER,
+
+    /**
+     * {@code @ExcelColumn.order} 순서대로 파일의 앞 컬럼부터 연결 (헤더 행이 있으면 건너뜀)
+     */
+    ORDER
+}
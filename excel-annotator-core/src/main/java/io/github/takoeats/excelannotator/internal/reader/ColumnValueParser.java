@@ -0,0 +1,15 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+/**
+ * 필드 문자 구간을 DTO 필드 타입 값으로 변환
+ * <p>구현체는 상태가 없어 여러 스레드에서 공유할 수 있습니다. 변환할 수 없는 텍스트는
+ * IllegalArgumentException 또는 DateTimeException을 던집니다.</p>
+ */
+@FunctionalInterface
+public interface ColumnValueParser {
+
+    /**
+     * @param length 0보다 큼 (빈 필드는 호출하지 않음)
+     */
+    Object parse(char[] chars, int start, int length);
+}
@@ -0,0 +1,244 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.csv.CsvValueFormatter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * DTO 필드 타입별 {@link ColumnValueParser} 생성기
+ * <p>컬럼에 CSV 표시 형식이 있으면 {@link CsvValueFormatter#parse(String)}로 형식을 되돌리고(예: {@code ₩5,000,000},
+ * {@code 2024년 03월 05일}), 없거나 맞지 않으면 기본 규칙으로 변환합니다.</p>
+ * <ul>
+ *     <li>정수: 부호와 숫자만 있으면 String 없이 char에서 직접 변환, 그 외에는 천 단위 구분·통화 기호·괄호 음수·%를
+ *     허용하는 10진수로 변환 후 정확한 값만 허용</li>
+ *     <li>실수, BigDecimal, BigInteger: 같은 10진수 규칙</li>
+ *     <li>boolean: true/false, Y/N, 1/0 (대소문자 무시)</li>
+ *     <li>날짜·시각: ISO-8601 ({@code 2024-03-05}, {@code 2024-03-05T14:07:09}, 공백 구분 허용),
+ *     LocalTime은 날짜가 붙은 값의 시각 부분도 허용</li>
+ *     <li>enum: 상수 이름</li>
+ * </ul>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnValueParsers {
+
+    private static final int MAX_FAST_DIGITS = 18;
+
+    /**
+     * @param type      DTO 필드 타입
+     * @param csvFormat 컬럼의 CSV 표시 형식 (없으면 null)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static ColumnValueParser forType(Class<?> type, String csvFormat) {
+        CsvValueFormatter formatter = CsvValueFormatter.of(csvFormat);
+
+        if (type == String.class || type == Object.class || type == CharSequence.class) {
+            return String::new;
+        }
+        if (type == int.class || type == Integer.class) {
+            return (chars, start, length) -> Math.toIntExact(integral(chars, start, length, formatter));
+        }
+        if (type == long.class || type == Long.class) {
+            return (chars, start, length) -> integral(chars, start, length, formatter);
+        }
+        if (type == short.class || type == Short.class) {
+            return (chars, start, length) -> shortValue(integral(chars, start, length, formatter));
+        }
+        if (type == byte.class || type == Byte.class) {
+            return (chars, start, length) -> byteValue(integral(chars, start, length, formatter));
+        }
+        if (type == double.class || type == Double.class) {
+            return (chars, start, length) -> floating(chars, start, length, formatter);
+        }
+        if (type == float.class || type == Float.class) {
+            return (chars, start, length) -> (float) floating(chars, start, length, formatter);
+        }
+        if (type == BigDecimal.class) {
+            return (chars, start, length) -> decimal(chars, start, length, formatter);
+        }
+        if (type == BigInteger.class) {
+            return (chars, start, length) -> decimal(chars, start, length, formatter).toBigIntegerExact();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return ColumnValueParsers::bool;
+        }
+        if (type == char.class || type == Character.class) {
+            return ColumnValueParsers::character;
+        }
+        if (type == LocalDateTime.class) {
+            return (chars, start, length) -> dateTime(chars, start, length, formatter);
+        }
+        if (type == LocalDate.class) {
+            return (chars, start, length) -> dateTime(chars, start, length, formatter).toLocalDate();
+        }
+        if (type == LocalTime.class) {
+            return (chars, start, length) -> formatter != null || !isTimeOnly(chars, start, length)
+                    ? dateTime(chars, start, length, formatter).toLocalTime()
+                    : LocalTime.parse(new String(chars, start, length).trim());
+        }
+        if (type == Timestamp.class) {
+            return (chars, start, length) -> Timestamp.valueOf(dateTime(chars, start, length, formatter));
+        }
+        if (type == Date.class) {
+            return (chars, start, length) -> Date.from(
+                    dateTime(chars, start, length, formatter).atZone(ZoneId.systemDefault()).toInstant());
+        }
+        if (type.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+            return (chars, start, length) -> Enum.valueOf(enumType, new String(chars, start, length).trim());
+        }
+        throw new ExcelExporterException(ErrorCode.FIELD_ACCESS_FAILED, "가져올 수 없는 필드 타입: " + type.getName());
+    }
+
+    private static long integral(char[] chars, int start, int length, CsvValueFormatter formatter) {
+        if (formatter == null && length <= MAX_FAST_DIGITS) {
+            int i = start;
+            int end = start + length;
+            boolean negative = chars[i] == '-';
+            if (negative || chars[i] == '+') {
+                i++;
+            }
+            long value = 0;
+            boolean digits = i < end;
+            for (; i < end; i++) {
+                int digit = chars[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    digits = false;
+                    break;
+                }
+                value = value * 10 + digit;
+            }
+            if (digits) {
+                return negative ? -value : value;
+            }
+        }
+        return decimal(chars, start, length, formatter).longValueExact();
+    }
+
+    private static double floating(char[] chars, int start, int length, CsvValueFormatter formatter) {
+        if (formatter == null) {
+            try {
+                return Double.parseDouble(new String(chars, start, length));
+            } catch (NumberFormatException e) {
+                // 천 단위 구분이나 기호가 있는 값은 10진수 규칙으로 재시도
+            }
+        }
+        return decimal(chars, start, length, formatter).doubleValue();
+    }
+
+    /**
+     * 형식으로 되돌리고, 안 되면 구분 기호를 걷어낸 10진수로 변환
+     */
+    private static BigDecimal decimal(char[] chars, int start, int length, CsvValueFormatter formatter) {
+        String text = new String(chars, start, length);
+        if (formatter != null) {
+            Object parsed = formatter.parse(text);
+            if (parsed instanceof BigDecimal) {
+                return (BigDecimal) parsed;
+            }
+        }
+        return lenientDecimal(text);
+    }
+
+    /**
+     * 괄호 음수, 끝의 {@code %}, 천 단위 구분(쉼표·작은따옴표·공백), 통화 기호만 걷어내고 10진수로 변환
+     * (그 밖의 문자가 있으면 NumberFormatException)
+     */
+    private static BigDecimal lenientDecimal(String text) {
+        String trimmed = text.trim();
+        boolean negative = trimmed.length() > 1 && trimmed.startsWith("(") && trimmed.endsWith(")");
+        if (negative) {
+            trimmed = trimmed.substring(1, trimmed.length() - 1).trim();
+        }
+        boolean percent = trimmed.endsWith("%");
+        if (percent) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1).trim();
+        }
+        StringBuilder digits = new StringBuilder(trimmed.length());
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '.' || c == '-' || c == '+' || c == 'E' || c == 'e') {
+                digits.append(c);
+            } else if (c != ',' && c != '\'' && !Character.isSpaceChar(c)
+                    && Character.getType(c) != Character.CURRENCY_SYMBOL) {
+                throw new NumberFormatException("숫자가 아닌 값: " + text);
+            }
+        }
+        if (digits.length() == 0) {
+            throw new NumberFormatException("숫자가 아닌 값: " + text);
+        }
+        BigDecimal value = new BigDecimal(digits.toString());
+        if (negative) {
+            value = value.negate();
+        }
+        return percent ? value.movePointLeft(2) : value;
+    }
+
+    private static short shortValue(long value) {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new ArithmeticException("short 범위 초과: " + value);
+        }
+        return (short) value;
+    }
+
+    private static byte byteValue(long value) {
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            throw new ArithmeticException("byte 범위 초과: " + value);
+        }
+        return (byte) value;
+    }
+
+    private static Object bool(char[] chars, int start, int length) {
+        String text = new String(chars, start, length).trim();
+        if ("true".equalsIgnoreCase(text) || "Y".equalsIgnoreCase(text) || "1".equals(text)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(text) || "N".equalsIgnoreCase(text) || "0".equals(text)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("boolean이 아닌 값: " + text);
+    }
+
+    private static Object character(char[] chars, int start, int length) {
+        if (length != 1) {
+            throw new IllegalArgumentException("문자 하나가 아닌 값: " + new String(chars, start, length));
+        }
+        return chars[start];
+    }
+
+    /**
+     * 날짜 부분 없이 시각만 있는 값인지 ({@code 14:07:09})
+     */
+    private static boolean isTimeOnly(char[] chars, int start, int length) {
+        for (int i = start; i < start + length; i++) {
+            if (chars[i] == '-' || chars[i] == 'T') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LocalDateTime dateTime(char[] chars, int start, int length, CsvValueFormatter formatter) {
+        String text = new String(chars, start, length).trim();
+        if (formatter != null) {
+            Object parsed = formatter.parse(text);
+            if (parsed instanceof LocalDateTime) {
+                return (LocalDateTime) parsed;
+            }
+        }
+        if (text.length() > 10 && text.charAt(10) == ' ') {
+            text = text.substring(0, 10) + 'T' + text.substring(11);
+        }
+        return text.indexOf('T') > 0 ? LocalDateTime.parse(text) : LocalDate.parse(text).atStartOfDay();
+    }
+}
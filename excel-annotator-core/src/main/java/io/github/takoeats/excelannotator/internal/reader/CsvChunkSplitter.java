@@ -0,0 +1,118 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * CSV 파일을 레코드 경계에서 조각으로 나누는 분할기
+ * <p>RFC 4180에서 {@code "}는 따옴표 필드의 시작·끝이거나 {@code ""}로만 나타나므로, 어떤 위치가 따옴표 필드 안인지는
+ * 그 앞에 나온 {@code "} 개수의 홀짝으로 결정됩니다. 분할은 두 단계를 모두 병렬로 수행합니다.</p>
+ * <ol>
+ *     <li>파일을 chunkSize 구간으로 나누어 구간마다 {@code "} 개수의 홀짝을 셉니다.</li>
+ *     <li>앞 구간들의 홀짝을 누적해 각 구간 시작의 따옴표 상태를 구하고, 그 위치부터 따옴표 밖의 첫 LF 다음을
+ *     조각 경계로 정합니다.</li>
+ * </ol>
+ * <p>값 안의 줄바꿈이 조각 경계가 되지 않으며, 레코드가 구간보다 길면 조각이 합쳐집니다.
+ * 줄 끝이 CR만 있는 파일은 나누지 않습니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class CsvChunkSplitter {
+
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * @param dataStart 첫 데이터 레코드의 시작 위치 (따옴표 밖이어야 함)
+     * @return 조각 경계 배열 {@code [dataStart, b1, ..., size]} (조각 i는 [경계 i, 경계 i+1))
+     */
+    static long[] split(FileChannel channel, long dataStart, long size, int chunkSize, ForkJoinPool pool) {
+        int segments = (int) Math.max(1, (size - dataStart + chunkSize - 1) / chunkSize);
+        if (segments == 1) {
+            return new long[]{dataStart, size};
+        }
+
+        List<ForkJoinTask<Boolean>> parities = new ArrayList<>(segments - 1);
+        for (int k = 0; k < segments - 1; k++) {
+            long start = dataStart + (long) k * chunkSize;
+            long end = Math.min(size, start + chunkSize);
+            parities.add(pool.submit(() -> oddQuotes(channel, start, end)));
+        }
+
+        List<ForkJoinTask<Long>> boundaries = new ArrayList<>(segments - 1);
+        boolean quoted = false;
+        for (int k = 1; k < segments; k++) {
+            quoted ^= parities.get(k - 1).join();
+            long start = dataStart + (long) k * chunkSize;
+            boolean quotedAtStart = quoted;
+            boundaries.add(pool.submit(() -> nextRecordStart(channel, start, quotedAtStart)));
+        }
+
+        long[] result = new long[segments + 1];
+        int count = 0;
+        result[count++] = dataStart;
+        for (ForkJoinTask<Long> boundary : boundaries) {
+            long position = boundary.join();
+            if (position > result[count - 1] && position < size) {
+                result[count++] = position;
+            }
+        }
+        result[count++] = size;
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * position부터 따옴표 밖의 첫 LF 다음 위치 (없으면 파일 끝)
+     *
+     * @param quoted position이 따옴표 필드 안인지 여부
+     */
+    static long nextRecordStart(FileChannel channel, long position, boolean quoted) {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long offset = position;
+        try {
+            while (true) {
+                buffer.clear();
+                int read = channel.read(buffer, offset);
+                if (read <= 0) {
+                    return offset;
+                }
+                byte[] bytes = buffer.array();
+                for (int i = 0; i < read; i++) {
+                    byte b = bytes[i];
+                    if (b == '"') {
+                        quoted = !quoted;
+                    } else if (b == '\n' && !quoted) {
+                        return offset + i + 1;
+                    }
+                }
+                offset += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean oddQuotes(FileChannel channel, long start, long end) {
+        try {
+            MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            boolean odd = false;
+            for (int i = 0, length = bytes.limit(); i < length; i++) {
+                if (bytes.get(i) == '"') {
+                    odd = !odd;
+                }
+            }
+            return odd;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
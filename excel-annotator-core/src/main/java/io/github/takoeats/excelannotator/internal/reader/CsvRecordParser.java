@@ -0,0 +1,267 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * 재사용 char 버퍼에서 RFC 4180 레코드를 읽는 파서
+ * <p>먼저 따옴표 밖의 줄바꿈(CR, LF, CRLF)을 찾아 레코드 전체를 버퍼에 확보한 뒤, 버퍼 안에서 필드 경계를 기록합니다.
+ * 따옴표로 감싼 필드의 {@code ""}는 버퍼 안에서 제자리로 풀기 때문에 레코드나 필드마다 String을 만들지 않습니다.
+ * 버퍼가 레코드보다 작으면 두 배로 늘립니다.</p>
+ * <p>맨 앞의 UTF-8 BOM은 건너뛰고, 닫는 따옴표 뒤에 구분자 전까지 남은 문자는 무시합니다.
+ * 스레드 안전하지 않습니다.</p>
+ */
+public final class CsvRecordParser implements RecordFields, Closeable {
+
+    public static final int DEFAULT_BUFFER_CHARS = 64 * 1024;
+
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+    private static final char BOM = '\uFEFF';
+
+    private final Reader in;
+    private char[] buffer;
+    private int limit;
+    private int position;
+    private boolean eof;
+    private boolean started;
+    private boolean pendingLineFeed;
+
+    private int[] starts = new int[16];
+    private int[] lengths = new int[16];
+    private int fieldCount;
+    private boolean emptyLine;
+    private long recordNumber;
+
+    public CsvRecordParser(Reader in) {
+        this(in, DEFAULT_BUFFER_CHARS);
+    }
+
+    /**
+     * @param in          읽을 문자 스트림
+     * @param bufferChars 초기 버퍼 크기 (문자 수, 최소 64)
+     */
+    public CsvRecordParser(Reader in, int bufferChars) {
+        this.in = in;
+        this.buffer = new char[Math.max(bufferChars, 64)];
+    }
+
+    /**
+     * 이미 디코딩된 문자 배열을 읽는 파서 (배열 내용은 따옴표 해제 과정에서 변경됨)
+     */
+    public CsvRecordParser(char[] chars, int offset, int length) {
+        this.in = null;
+        this.buffer = chars;
+        this.position = offset;
+        this.limit = offset + length;
+        this.eof = true;
+    }
+
+    /**
+     * 다음 레코드로 이동
+     *
+     * @return 레코드가 없으면 false
+     */
+    public boolean nextRecord() throws IOException {
+        fieldCount = 0;
+        if (!started) {
+            started = true;
+            if (available(1) && buffer[position] == BOM) {
+                position++;
+            }
+        }
+        if (pendingLineFeed) {
+            pendingLineFeed = false;
+            if (available(1) && buffer[position] == '\n') {
+                position++;
+            }
+        }
+        if (!available(1)) {
+            return false;
+        }
+
+        int end = findRecordEnd();
+        int recordStart = position;
+        emptyLine = end == recordStart;
+        position = end;
+        skipTerminator();
+        tokenize(recordStart, end);
+        recordNumber++;
+        return true;
+    }
+
+    /**
+     * 지금까지 읽은 레코드 수 (헤더 포함, 1부터)
+     */
+    public long recordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * 빈 줄 여부 (문자가 하나도 없는 물리적 줄, {@code ""}처럼 빈 필드 하나를 적은 레코드는 빈 줄이 아님)
+     */
+    public boolean isBlank() {
+        return emptyLine;
+    }
+
+    @Override
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    @Override
+    public char[] chars(int index) {
+        return buffer;
+    }
+
+    @Override
+    public int start(int index) {
+        return starts[index];
+    }
+
+    @Override
+    public int length(int index) {
+        return lengths[index];
+    }
+
+    public String field(int index) {
+        return new String(buffer, starts[index], lengths[index]);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+        }
+    }
+
+    /**
+     * 따옴표 밖의 첫 CR/LF 위치 (필요하면 버퍼를 채우며, 끝까지 없으면 입력 끝)
+     */
+    private int findRecordEnd() throws IOException {
+        boolean quoted = false;
+        int scan = position;
+        while (true) {
+            for (; scan < limit; scan++) {
+                char c = buffer[scan];
+                if (c == QUOTE) {
+                    quoted = !quoted;
+                } else if ((c == '\n' || c == '\r') && !quoted) {
+                    return scan;
+                }
+            }
+            int shift = position;
+            if (!fill()) {
+                return limit;
+            }
+            scan -= shift;
+        }
+    }
+
+    /**
+     * 줄바꿈을 건너뜀 (CR이 버퍼 끝이면 이어지는 LF는 다음 레코드에서 건너뜀)
+     * <p>아직 분리하지 않은 레코드가 버퍼에 있으므로 여기서 버퍼를 채우면 안 됩니다.</p>
+     */
+    private void skipTerminator() {
+        if (position >= limit) {
+            return;
+        }
+        char c = buffer[position++];
+        if (c != '\r') {
+            return;
+        }
+        if (position < limit) {
+            if (buffer[position] == '\n') {
+                position++;
+            }
+        } else {
+            pendingLineFeed = true;
+        }
+    }
+
+    private void tokenize(int start, int end) {
+        int p = start;
+        while (true) {
+            if (p < end && buffer[p] == QUOTE) {
+                int read = p + 1;
+                int write = read;
+                while (read < end) {
+                    char c = buffer[read];
+                    if (c == QUOTE) {
+                        if (read + 1 < end && buffer[read + 1] == QUOTE) {
+                            buffer[write++] = QUOTE;
+                            read += 2;
+                            continue;
+                        }
+                        read++;
+                        break;
+                    }
+                    buffer[write++] = c;
+                    read++;
+                }
+                addField(p + 1, write - p - 1);
+                while (read < end && buffer[read] != DELIMITER) {
+                    read++;
+                }
+                p = read;
+            } else {
+                int fieldStart = p;
+                while (p < end && buffer[p] != DELIMITER) {
+                    p++;
+                }
+                addField(fieldStart, p - fieldStart);
+            }
+            if (p >= end) {
+                return;
+            }
+            p++;
+        }
+    }
+
+    private void addField(int start, int length) {
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, fieldCount * 2);
+            lengths = Arrays.copyOf(lengths, fieldCount * 2);
+        }
+        starts[fieldCount] = start;
+        lengths[fieldCount] = length;
+        fieldCount++;
+    }
+
+    private boolean available(int chars) throws IOException {
+        while (limit - position < chars) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 위치 앞의 소비한 문자를 버리고 입력을 더 읽음 (버퍼가 가득 차 있으면 두 배로 늘림)
+     *
+     * @return 더 읽은 문자가 없으면 false
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int read = in.read(buffer, limit, buffer.length - limit);
+        if (read <= 0) {
+            eof = read < 0;
+            return !eof && fill();
+        }
+        limit += read;
+        return true;
+    }
+}
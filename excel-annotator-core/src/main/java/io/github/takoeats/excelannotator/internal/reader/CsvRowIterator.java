@@ -0,0 +1,98 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataRegistry;
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * CSV 입력을 한 레코드씩 DTO로 변환하는 Iterator
+ * <p>첫 {@link #hasNext()}에서 헤더 행을 읽어 {@link RowBinder}를 준비하며, 빈 줄은 건너뜁니다.
+ * 입력은 UTF-8로 읽습니다.</p>
+ */
+public final class CsvRowIterator<T> implements Iterator<T>, Closeable {
+
+    private final CsvRecordParser parser;
+    private final Class<T> type;
+    private final ColumnMatch columnMatch;
+    private RowBinder<T> binder;
+    private T next;
+    private boolean finished;
+
+    public CsvRowIterator(InputStream inputStream, Class<T> type, ColumnMatch columnMatch) {
+        this.parser = new CsvRecordParser(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.type = type;
+        this.columnMatch = columnMatch;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            if (binder == null && !prepareBinder()) {
+                finished = true;
+                return false;
+            }
+            while (parser.nextRecord()) {
+                if (!parser.isBlank()) {
+                    next = binder.bind(parser, parser.recordNumber());
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new ExcelExporterException(ErrorCode.IO_ERROR, "CSV 읽기 중 오류 발생", e);
+        }
+        finished = true;
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * @return 입력이 비어 있으면 false
+     */
+    private boolean prepareBinder() throws IOException {
+        ExcelMetadata<T> metadata = ExcelMetadataRegistry.getMetadata(type);
+        if (!metadata.hasHeader()) {
+            binder = RowBinder.byOrder(type, metadata);
+            return true;
+        }
+        if (!parser.nextRecord()) {
+            return false;
+        }
+        binder = columnMatch == ColumnMatch.ORDER
+                ? RowBinder.byOrder(type, metadata)
+                : RowBinder.byHeader(type, metadata, parser);
+        return true;
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new ExcelExporterException(ErrorCode.IO_ERROR, "CSV 입력 닫기 실패", e);
+        }
+    }
+}
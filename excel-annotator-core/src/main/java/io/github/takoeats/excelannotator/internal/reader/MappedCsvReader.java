@@ -0,0 +1,242 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataRegistry;
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 메모리 매핑한 CSV 파일을 조각 단위로 병렬 파싱하는 Iterator
+ * <p>{@link CsvChunkSplitter}가 레코드 경계에서 나눈 조각마다 ForkJoinPool 작업이 매핑 구간을 UTF-8로 디코딩하고
+ * {@link CsvRecordParser}와 {@link RowBinder}로 DTO 목록을 만듭니다. 끝난 조각은 완료 큐로 전달되며,
+ * ordered이면 조각 순서대로, 아니면 완료된 순서대로 행을 반환합니다. 제출했지만 반환을 마치지 않은 조각은
+ * maxInFlightChunks개로 제한됩니다.</p>
+ * <p>조각 작업에서 발생한 예외는 {@link #hasNext()}에서 다시 던집니다. {@link #close()}는 남은 조각 작업이
+ * 다음 레코드에서 멈추도록 하고 파일을 닫습니다.</p>
+ */
+public final class MappedCsvReader<T> implements Iterator<T>, Closeable {
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final FileChannel channel;
+    private final ForkJoinPool pool;
+    private final boolean ordered;
+    private final int maxInFlight;
+    private final BlockingQueue<Chunk<T>> completed = new LinkedBlockingQueue<>();
+    private final Map<Integer, Chunk<T>> pending = new HashMap<>();
+    private final RowBinder<T> binder;
+    private final long[] boundaries;
+    private volatile boolean cancelled;
+
+    private int submitted;
+    private int delivered;
+    private int nextSequence;
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean closed;
+
+    public MappedCsvReader(Path path, Class<T> type, ColumnMatch columnMatch, ParallelReadOptions options) {
+        ExcelMetadata<T> metadata = ExcelMetadataRegistry.getMetadata(type);
+        this.pool = options.getPool();
+        this.ordered = options.isOrdered();
+        this.maxInFlight = options.getMaxInFlightChunks();
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new ExcelExporterException(ErrorCode.IO_ERROR, "CSV 파일 열기 실패: " + path, e);
+        }
+
+        try {
+            long size = channel.size();
+            long dataStart = hasBom(size) ? UTF8_BOM.length : 0;
+            if (!metadata.hasHeader() || dataStart == size) {
+                this.binder = RowBinder.byOrder(type, metadata);
+            } else {
+                long headerEnd = CsvChunkSplitter.nextRecordStart(channel, dataStart, false);
+                CsvRecordParser header = parserFor(dataStart, headerEnd);
+                header.nextRecord();
+                this.binder = columnMatch == ColumnMatch.ORDER
+                        ? RowBinder.byOrder(type, metadata)
+                        : RowBinder.byHeader(type, metadata, header);
+                dataStart = headerEnd;
+            }
+            this.boundaries = CsvChunkSplitter.split(channel, dataStart, size, options.getChunkSize(), pool);
+        } catch (IOException | RuntimeException e) {
+            closeChannel();
+            if (e instanceof ExcelExporterException) {
+                throw (ExcelExporterException) e;
+            }
+            throw new ExcelExporterException(ErrorCode.IO_ERROR, "CSV 파일 분할 실패: " + path, e);
+        }
+        submitChunks();
+    }
+
+    private boolean hasBom(long size) throws IOException {
+        if (size < UTF8_BOM.length) {
+            return false;
+        }
+        ByteBuffer head = ByteBuffer.allocate(UTF8_BOM.length);
+        channel.read(head, 0);
+        for (int i = 0; i < UTF8_BOM.length; i++) {
+            if (head.get(i) != UTF8_BOM[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private CsvRecordParser parserFor(long start, long end) throws IOException {
+        MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        CharBuffer chars = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(bytes);
+        return new CsvRecordParser(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+    }
+
+    private void submitChunks() {
+        while (submitted < boundaries.length - 1 && submitted - delivered < maxInFlight) {
+            int sequence = submitted++;
+            long start = boundaries[sequence];
+            long end = boundaries[sequence + 1];
+            pool.execute(() -> completed.add(parseChunk(sequence, start, end)));
+        }
+    }
+
+    private Chunk<T> parseChunk(int sequence, long start, long end) {
+        List<T> rows = new ArrayList<>();
+        try {
+            CsvRecordParser parser = parserFor(start, end);
+            while (!cancelled && parser.nextRecord()) {
+                if (!parser.isBlank()) {
+                    rows.add(binder.bind(parser, parser.recordNumber()));
+                }
+            }
+            return new Chunk<>(sequence, rows, null);
+        } catch (ExcelExporterException e) {
+            return new Chunk<>(sequence, null, new ExcelExporterException(e.getErrorCode(),
+                    "파일 오프셋 " + start + "부터 " + e.getDetail(), e.getCause()));
+        } catch (Throwable t) {
+            return new Chunk<>(sequence, null, t);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (closed || delivered == boundaries.length - 1) {
+                return false;
+            }
+            Chunk<T> chunk = nextChunk();
+            delivered++;
+            if (chunk.failure != null) {
+                close();
+                throw rethrow(chunk.failure);
+            }
+            current = chunk.rows.iterator();
+            submitChunks();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    private Chunk<T> nextChunk() {
+        if (!ordered) {
+            return take();
+        }
+        Chunk<T> chunk = pending.remove(nextSequence);
+        while (chunk == null) {
+            Chunk<T> arrived = take();
+            if (arrived.sequence == nextSequence) {
+                chunk = arrived;
+            } else {
+                pending.put(arrived.sequence, arrived);
+            }
+        }
+        nextSequence++;
+        return chunk;
+    }
+
+    private Chunk<T> take() {
+        try {
+            return completed.take();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new ExcelExporterException(ErrorCode.ROW_READ_ERROR, "CSV 조각 대기 중 인터럽트", e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            return (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new ExcelExporterException(ErrorCode.ROW_READ_ERROR, "CSV 조각 읽기 실패", failure);
+    }
+
+    /**
+     * 남은 조각 작업을 멈추고 파일을 닫음 (이미 매핑된 구간을 처리 중인 작업은 다음 레코드에서 종료)
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        cancelled = true;
+        current = Collections.emptyIterator();
+        pending.clear();
+        completed.clear();
+        closeChannel();
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 읽기 전용 파일 닫기 실패는 결과에 영향을 주지 않음
+        }
+    }
+
+    private static final class Chunk<T> {
+        final int sequence;
+        final List<T> rows;
+        final Throwable failure;
+
+        Chunk(int sequence, List<T> rows, Throwable failure) {
+            this.sequence = sequence;
+            this.rows = rows;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 로컬 CSV 파일 병렬 읽기 옵션
+ * <p>파일을 메모리 매핑한 뒤 약 chunkSize 바이트마다 따옴표 밖의 줄바꿈(레코드 경계)에서 나누고, 조각마다
+ * ForkJoinPool 작업이 UTF-8 디코딩, 파싱, DTO 바인딩을 수행합니다. 동시에 처리 중이거나 전달을 기다리는 조각은
+ * maxInFlightChunks개로 제한되므로 메모리에는 최대 maxInFlightChunks × chunkSize 분량의 행만 보관됩니다.</p>
+ *
+ * <ul>
+ *     <li>pool: 조각 처리를 실행할 ForkJoinPool (기본: 공용 풀)</li>
+ *     <li>chunkSize: 조각 하나의 목표 크기 (바이트, 기본 8MB, 최소 64KB)</li>
+ *     <li>maxInFlightChunks: 동시에 보관하는 최대 조각 수 (기본: 풀 병렬도 + 1)</li>
+ *     <li>ordered: 파일 순서대로 행 전달 (기본 true, false이면 먼저 끝난 조각부터 전달)</li>
+ * </ul>
+ *
+ * <p>파일은 UTF-8이어야 하며, DTO 인스턴스 생성과 Setter는 여러 스레드에서 호출될 수 있어야 합니다.</p>
+ *
+ * <h3>사용 예시</h3>
+ * <pre>{@code
+ * try (Stream<OrderDTO> orders = ExcelImporter.csv(Paths.get("orders.csv"))
+ *         .parallel(ParallelReadOptions.builder().ordered(false).build())
+ *         .read(OrderDTO.class)) {
+ *     orders.forEach(orderRepository::save);
+ * }
+ * }</pre>
+ */
+@Getter
+@ToString
+public final class ParallelReadOptions {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+    public static final int MIN_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * 공용 풀, 기본 조각 크기, 파일 순서 전달
+     */
+    public static final ParallelReadOptions DEFAULT = builder().build();
+
+    @ToString.Exclude
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxInFlightChunks;
+    private final boolean ordered;
+
+    private ParallelReadOptions(ForkJoinPool pool, int chunkSize, int maxInFlightChunks, boolean ordered) {
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxInFlightChunks = maxInFlightChunks;
+        this.ordered = ordered;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int maxInFlightChunks;
+        private boolean ordered = true;
+
+        private Builder() {
+        }
+
+        /**
+         * 조각 처리를 실행할 ForkJoinPool
+         */
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * 조각 하나의 목표 크기 (바이트, 실제 조각은 다음 레코드 경계까지 늘어남)
+         */
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * 동시에 보관하는 최대 조각 수 (0이면 풀 병렬도 + 1)
+         */
+        public Builder maxInFlightChunks(int maxInFlightChunks) {
+            this.maxInFlightChunks = maxInFlightChunks;
+            return this;
+        }
+
+        /**
+         * 파일 순서대로 행 전달 여부
+         */
+        public Builder ordered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        public ParallelReadOptions build() {
+            if (pool == null) {
+                throw new ExcelExporterException(ErrorCode.INVALID_READ_OPTION, "pool은 null일 수 없습니다.");
+            }
+            if (chunkSize < MIN_CHUNK_SIZE) {
+                throw new ExcelExporterException(ErrorCode.INVALID_READ_OPTION,
+                        "chunkSize는 " + MIN_CHUNK_SIZE + " 이상이어야 합니다: " + chunkSize);
+            }
+            if (maxInFlightChunks < 0) {
+                throw new ExcelExporterException(ErrorCode.INVALID_READ_OPTION,
+                        "maxInFlightChunks는 0 이상이어야 합니다: " + maxInFlightChunks);
+            }
+            int inFlight = maxInFlightChunks > 0 ? maxInFlightChunks : pool.getParallelism() + 1;
+            return new ParallelReadOptions(pool, chunkSize, inFlight, ordered);
+        }
+    }
+}
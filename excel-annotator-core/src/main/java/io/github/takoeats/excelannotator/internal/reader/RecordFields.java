@@ -0,0 +1,19 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+/**
+ * 한 레코드의 필드를 문자열을 만들지 않고 char 구간으로 제공하는 소스
+ * <p>반환된 배열과 구간은 다음 레코드로 넘어가기 전까지만 유효합니다.</p>
+ */
+public interface RecordFields {
+
+    int fieldCount();
+
+    /**
+     * 필드 문자가 들어 있는 배열
+     */
+    char[] chars(int index);
+
+    int start(int index);
+
+    int length(int index);
+}
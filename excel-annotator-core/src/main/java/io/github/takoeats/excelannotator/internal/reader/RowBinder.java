@@ -0,0 +1,203 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.internal.writer.CsvWriter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 레코드 필드를 DTO 인스턴스로 바인딩
+ * <p>내보내기와 같은 {@link ExcelMetadata}(헤더, 필드 이름·타입, 표시 형식)로 컬럼을 해석하고, 컬럼마다
+ * 파일 필드 위치, {@link ColumnValueParser}, 값을 넣을 MethodHandle을 한 번만 준비합니다.
+ * 값은 public Setter가 있으면 Setter로, 없으면 필드에 직접 설정합니다.</p>
+ * <p>빈 필드는 null로 설정하며, primitive 필드는 기본값을 유지합니다. 준비된 바인더는 여러 스레드에서 공유할 수 있습니다.</p>
+ */
+public final class RowBinder<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandle constructor;
+    private final int[] fieldIndexes;
+    private final MethodHandle[] setters;
+    private final ColumnValueParser[] parsers;
+    private final boolean[] primitives;
+    private final String[] headers;
+
+    private RowBinder(Class<T> type, ExcelMetadata<T> metadata, int[] fieldIndexes) {
+        int columnCount = metadata.getColumnCount();
+        this.constructor = findConstructor(type);
+        this.fieldIndexes = fieldIndexes;
+        this.setters = new MethodHandle[columnCount];
+        this.parsers = new ColumnValueParser[columnCount];
+        this.primitives = new boolean[columnCount];
+        this.headers = metadata.getHeaders().toArray(new String[0]);
+
+        for (int i = 0; i < columnCount; i++) {
+            Field field = findField(type, metadata.getFieldNameAt(i));
+            setters[i] = findSetter(type, field);
+            parsers[i] = ColumnValueParsers.forType(field.getType(), CsvWriter.csvFormatAt(metadata, i));
+            primitives[i] = field.getType().isPrimitive();
+        }
+    }
+
+    /**
+     * {@code @ExcelColumn.order} 순서대로 파일 필드 0, 1, 2...에 연결
+     */
+    public static <T> RowBinder<T> byOrder(Class<T> type, ExcelMetadata<T> metadata) {
+        int[] indexes = new int[metadata.getColumnCount()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        return new RowBinder<>(type, metadata, indexes);
+    }
+
+    /**
+     * 헤더 텍스트(앞뒤 공백 무시)로 연결
+     *
+     * @throws ExcelExporterException HEADER_MISMATCH - DTO 컬럼의 헤더가 파일에 없는 경우
+     */
+    public static <T> RowBinder<T> byHeader(Class<T> type, ExcelMetadata<T> metadata, RecordFields headerRecord) {
+        String[] fileHeaders = new String[headerRecord.fieldCount()];
+        for (int i = 0; i < fileHeaders.length; i++) {
+            fileHeaders[i] = new String(headerRecord.chars(i), headerRecord.start(i), headerRecord.length(i)).trim();
+        }
+
+        List<String> headers = metadata.getHeaders();
+        int[] indexes = new int[headers.size()];
+        boolean[] used = new boolean[fileHeaders.length];
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = indexOf(fileHeaders, used, headers.get(i).trim());
+            if (indexes[i] < 0) {
+                missing.add(headers.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new ExcelExporterException(ErrorCode.HEADER_MISMATCH,
+                    "파일에 없는 헤더: " + missing + ", 파일 헤더: " + Arrays.toString(fileHeaders));
+        }
+        return new RowBinder<>(type, metadata, indexes);
+    }
+
+    private static int indexOf(String[] fileHeaders, boolean[] used, String header) {
+        for (int i = 0; i < fileHeaders.length; i++) {
+            if (!used[i] && fileHeaders[i].equals(header)) {
+                used[i] = true;
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 레코드 하나를 DTO로 변환
+     *
+     * @param rowNumber 오류 메시지에 표시할 행 번호
+     * @throws ExcelExporterException ROW_READ_ERROR - 값을 필드 타입으로 변환할 수 없는 경우
+     */
+    @SuppressWarnings("unchecked")
+    public T bind(RecordFields record, long rowNumber) {
+        Object target = newInstance();
+        for (int i = 0; i < setters.length; i++) {
+            int index = fieldIndexes[i];
+            if (index >= record.fieldCount() || record.length(index) == 0) {
+                if (!primitives[i]) {
+                    set(i, target, null);
+                }
+                continue;
+            }
+
+            char[] chars = record.chars(index);
+            int start = record.start(index);
+            int length = record.length(index);
+            Object value;
+            try {
+                value = parsers[i].parse(chars, start, length);
+            } catch (RuntimeException e) {
+                throw new ExcelExporterException(ErrorCode.ROW_READ_ERROR,
+                        String.format("%d행 '%s' 값 변환 실패: %s", rowNumber, headers[i], new String(chars, start, length)),
+                        e);
+            }
+            set(i, target, value);
+        }
+        return (T) target;
+    }
+
+    private Object newInstance() {
+        try {
+            return constructor.invoke();
+        } catch (Throwable e) {
+            throw new ExcelExporterException(ErrorCode.FIELD_ACCESS_FAILED, "DTO 인스턴스 생성 실패", e);
+        }
+    }
+
+    private void set(int column, Object target, Object value) {
+        try {
+            setters[column].invokeExact(target, value);
+        } catch (Throwable e) {
+            throw new ExcelExporterException(ErrorCode.FIELD_ACCESS_FAILED, "필드 값 설정 실패: " + headers[column], e);
+        }
+    }
+
+    private static MethodHandle findConstructor(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            throw new ExcelExporterException(ErrorCode.FIELD_ACCESS_FAILED,
+                    "기본 생성자를 사용할 수 없음: " + type.getName(), e);
+        }
+    }
+
+    private static Field findField(Class<?> type, String fieldName) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException e) {
+                // 상위 클래스에서 계속 찾음
+            }
+        }
+        throw new ExcelExporterException(ErrorCode.FIELD_ACCESS_FAILED, "필드를 찾을 수 없음: " + fieldName);
+    }
+
+    /**
+     * public Setter MethodHandle, 없으면 필드 Setter MethodHandle
+     */
+    private static MethodHandle findSetter(Class<?> type, Field field) {
+        String name = field.getName();
+        String setterName = "set" + name.substring(0, 1).toUpperCase(Locale.ROOT) + name.substring(1);
+        try {
+            Method setter = type.getMethod(setterName, field.getType());
+            if (!Modifier.isStatic(setter.getModifiers())) {
+                setter.setAccessible(true);
+                return LOOKUP.unreflect(setter).asType(SETTER_TYPE);
+            }
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            // 필드 직접 설정으로 대체
+        }
+
+        if (Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+            throw new ExcelExporterException(ErrorCode.FIELD_ACCESS_FAILED, "값을 설정할 수 없는 필드: " + name);
+        }
+        try {
+            field.setAccessible(true);
+            return LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new ExcelExporterException(ErrorCode.FIELD_ACCESS_FAILED, "필드 접근 실패: " + name, e);
+        }
+    }
+}
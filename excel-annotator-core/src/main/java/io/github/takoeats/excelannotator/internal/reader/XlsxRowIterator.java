@@ -0,0 +1,379 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataRegistry;
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.internal.util.SheetNameValidator;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * XLSX 시트를 SAX로 읽어 한 행씩 DTO로 반환하는 Iterator
+ * <p>파서 스레드가 {@link XSSFReader}로 워크시트 XML을 {@link XlsxSheetHandler}에 흘려보내고, 행마다
+ * {@link RowBinder}로 만든 DTO를 batchSize개씩 묶어 depth개 크기의 고정 버퍼에 넣습니다. 호출 스레드는
+ * 묶음 단위로 꺼내어 반환하며, 버퍼가 가득 차면 파서가 대기하므로 메모리는 행 수와 무관합니다.
+ * 공유 문자열 표는 {@link ReadOnlySharedStringsTable}로 한 번 읽어 둡니다.</p>
+ * <p>시트 이름을 지정하지 않으면 DTO의 시트 이름과 같은 시트와, 행 수 초과로 이어서 만든 시트(이름2, 이름3...)를
+ * 순서대로 읽고, 해당 시트가 없으면 첫 시트를 읽습니다. 선택한 시트의 XML만 엽니다. 시트마다
+ * {@code getHeaderRowCount()}번째 행을 헤더로 사용하고, 그 위의 행(병합 헤더)과 빈 행은 건너뜁니다.
+ * 날짜 셀은 통합 문서의 1904 날짜 체계 설정({@code workbookPr/@date1904})을 따릅니다.</p>
+ * <p>파서에서 발생한 예외는 {@link #hasNext()}에서 다시 던집니다. {@link #close()}는 파서를 멈추고 종료를 기다린 뒤
+ * resourceCloser로 패키지를 닫습니다.</p>
+ */
+public final class XlsxRowIterator<T> implements Iterator<T>, Closeable {
+
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+    private static final long OFFER_POLL_MILLIS = 100;
+    private static final int BATCH_SIZE = 256;
+    private static final int DEPTH = 4;
+    private static final Batch END = new Batch(new Object[0], 0, null);
+
+    private final OPCPackage pkg;
+    private final Runnable resourceCloser;
+    private final Class<T> type;
+    private final ColumnMatch columnMatch;
+    private final String sheetName;
+    private final BlockingQueue<Batch> buffer = new ArrayBlockingQueue<>(DEPTH);
+    private final Thread parser;
+    private volatile boolean cancelled;
+
+    private Batch current;
+    private int position;
+    private boolean endReached;
+    private boolean closed;
+
+    /**
+     * @param pkg            읽기 전용으로 연 XLSX 패키지 (생성 즉시 파서 스레드에서 읽기 시작)
+     * @param resourceCloser 패키지와 임시 파일을 닫는 작업 ({@link #close()}에서 한 번 호출)
+     * @param sheetName      읽을 시트 이름 (null이면 DTO의 시트)
+     */
+    public XlsxRowIterator(OPCPackage pkg, Runnable resourceCloser, Class<T> type,
+                           ColumnMatch columnMatch, String sheetName) {
+        this.pkg = pkg;
+        this.resourceCloser = resourceCloser;
+        this.type = type;
+        this.columnMatch = columnMatch;
+        this.sheetName = sheetName;
+        this.parser = new Thread(this::parse, "excel-import-" + THREAD_SEQUENCE.incrementAndGet());
+        this.parser.setDaemon(true);
+        this.parser.start();
+    }
+
+    private void parse() {
+        try {
+            ExcelMetadata<T> metadata = ExcelMetadataRegistry.getMetadata(type);
+            WorkbookReader reader = new WorkbookReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+            boolean date1904 = reader.isDate1904();
+
+            Map<String, PackagePart> sheets = selectSheets(reader.sheetParts(), metadata);
+            for (Map.Entry<String, PackagePart> sheet : sheets.entrySet()) {
+                SheetRows rows = new SheetRows(sheet.getKey(), metadata);
+                XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new XlsxSheetHandler(sharedStrings, styles, date1904, rows));
+                try (InputStream sheetData = sheet.getValue().getInputStream()) {
+                    xmlReader.parse(new InputSource(sheetData));
+                }
+                if (!rows.flush()) {
+                    return;
+                }
+            }
+            publish(END);
+        } catch (Cancelled e) {
+            // close()로 취소됨
+        } catch (ExcelExporterException e) {
+            publish(new Batch(null, 0, e));
+        } catch (Throwable t) {
+            publish(new Batch(null, 0, new ExcelExporterException(ErrorCode.IO_ERROR, "XLSX 읽기 중 오류 발생", t)));
+        }
+    }
+
+    /**
+     * 읽을 시트의 이름과 파트 (시트 XML은 열지 않음)
+     *
+     * @param all 통합 문서의 모든 시트 (문서 순서)
+     */
+    private Map<String, PackagePart> selectSheets(Map<String, PackagePart> all, ExcelMetadata<T> metadata) {
+        Map<String, PackagePart> selected = new LinkedHashMap<>();
+        if (sheetName != null) {
+            PackagePart part = all.get(sheetName);
+            if (part == null) {
+                throw new ExcelExporterException(ErrorCode.INVALID_READ_OPTION, "시트를 찾을 수 없음: " + sheetName);
+            }
+            selected.put(sheetName, part);
+            return selected;
+        }
+
+        String base = SheetNameValidator.validateAndSanitize(metadata.getSheetName());
+        String name = base;
+        for (int index = 2; all.containsKey(name); index++) {
+            selected.put(name, all.get(name));
+            name = SheetNameValidator.validateAndSanitize(base + index);
+        }
+        if (selected.isEmpty() && !all.isEmpty()) {
+            Map.Entry<String, PackagePart> first = all.entrySet().iterator().next();
+            selected.put(first.getKey(), first.getValue());
+        }
+        return selected;
+    }
+
+    /**
+     * 시트 하나의 행을 DTO로 바꿔 묶음으로 넘기는 콜백
+     */
+    private final class SheetRows implements XlsxSheetHandler.RowCallback {
+        private final String name;
+        private final ExcelMetadata<T> metadata;
+        private final int headerRowIndex;
+        private RowBinder<T> binder;
+        private Object[] items = new Object[BATCH_SIZE];
+        private int count;
+
+        SheetRows(String name, ExcelMetadata<T> metadata) {
+            this.name = name;
+            this.metadata = metadata;
+            this.headerRowIndex = metadata.hasHeader() ? metadata.getHeaderRowCount() - 1 : -1;
+            if (headerRowIndex < 0 || columnMatch == ColumnMatch.ORDER) {
+                this.binder = RowBinder.byOrder(type, metadata);
+            }
+        }
+
+        @Override
+        public void row(int rowIndex, XlsxSheetHandler record) {
+            if (cancelled) {
+                throw new Cancelled();
+            }
+            if (rowIndex < headerRowIndex) {
+                return;
+            }
+            try {
+                if (rowIndex == headerRowIndex) {
+                    if (binder == null) {
+                        binder = RowBinder.byHeader(type, metadata, record);
+                    }
+                    return;
+                }
+                if (binder == null) {
+                    throw new ExcelExporterException(ErrorCode.HEADER_MISMATCH, "헤더 행이 없습니다.");
+                }
+                if (record.isBlank()) {
+                    return;
+                }
+                items[count++] = binder.bind(record, rowIndex + 1L);
+            } catch (ExcelExporterException e) {
+                throw new ExcelExporterException(e.getErrorCode(), "시트 '" + name + "' " + e.getDetail(), e.getCause());
+            }
+            if (count == BATCH_SIZE && !flush()) {
+                throw new Cancelled();
+            }
+        }
+
+        /**
+         * 모은 행을 버퍼에 넣음 (취소되면 false)
+         */
+        boolean flush() {
+            if (count == 0) {
+                return true;
+            }
+            Batch batch = new Batch(items, count, null);
+            items = new Object[BATCH_SIZE];
+            count = 0;
+            return publish(batch);
+        }
+    }
+
+    /**
+     * 버퍼에 여유가 생길 때까지 대기 (취소되면 false)
+     */
+    private boolean publish(Batch batch) {
+        try {
+            while (!buffer.offer(batch, OFFER_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (cancelled) {
+                    return false;
+                }
+            }
+            return !cancelled;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (current != null && position < current.count) {
+            return true;
+        }
+        if (endReached || closed) {
+            return false;
+        }
+
+        Batch batch = take();
+        if (batch == END) {
+            endReached = true;
+            current = null;
+            return false;
+        }
+        if (batch.failure != null) {
+            endReached = true;
+            current = null;
+            throw batch.failure;
+        }
+        current = batch;
+        position = 0;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T item = (T) current.items[position];
+        current.items[position++] = null;
+        return item;
+    }
+
+    private Batch take() {
+        try {
+            return buffer.take();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new ExcelExporterException(ErrorCode.EXPORT_CANCELLED, "XLSX 읽기 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 파서를 멈추고 종료를 기다린 뒤 패키지를 닫음
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        cancelled = true;
+        buffer.clear();
+        current = null;
+
+        boolean interrupted = false;
+        while (parser.isAlive()) {
+            try {
+                parser.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        buffer.clear();
+        resourceCloser.run();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 시트 XML을 열지 않고 시트 목록과 통합 문서 설정을 읽는 {@link XSSFReader}
+     */
+    private static final class WorkbookReader extends XSSFReader {
+
+        WorkbookReader(OPCPackage pkg) throws IOException, OpenXML4JException {
+            super(pkg);
+        }
+
+        /**
+         * 문서 순서대로 시트 이름과 파트
+         */
+        Map<String, PackagePart> sheetParts() throws IOException, InvalidFormatException {
+            return new SheetParts(workbookPart).collect();
+        }
+
+        /**
+         * {@code workbookPr/@date1904} 설정 여부
+         */
+        boolean isDate1904() throws Exception {
+            boolean[] date1904 = {false};
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                    if ("workbookPr".equals(localName)) {
+                        String value = attributes.getValue("date1904");
+                        date1904[0] = "1".equals(value) || "true".equals(value);
+                    }
+                }
+            });
+            try (InputStream workbookData = getWorkbookData()) {
+                xmlReader.parse(new InputSource(workbookData));
+            }
+            return date1904[0];
+        }
+    }
+
+    /**
+     * {@link XSSFReader.SheetIterator}의 시트 참조만 따라가며 스트림을 열지 않고 파트를 모음
+     */
+    private static final class SheetParts extends XSSFReader.SheetIterator {
+
+        SheetParts(PackagePart workbookPart) throws IOException, InvalidFormatException {
+            super(workbookPart);
+        }
+
+        Map<String, PackagePart> collect() {
+            Map<String, PackagePart> parts = new LinkedHashMap<>();
+            while (sheetIterator.hasNext()) {
+                xssfSheetRef = sheetIterator.next();
+                PackagePart part = getSheetPart();
+                if (part != null) {
+                    parts.put(getSheetName(), part);
+                }
+            }
+            return parts;
+        }
+    }
+
+    /**
+     * 취소 시 SAX 파싱을 중단하기 위한 신호
+     */
+    private static final class Cancelled extends RuntimeException {
+        Cancelled() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class Batch {
+        final Object[] items;
+        final int count;
+        final ExcelExporterException failure;
+
+        Batch(Object[] items, int count, ExcelExporterException failure) {
+            this.items = items;
+            this.count = count;
+            this.failure = failure;
+        }
+    }
+}
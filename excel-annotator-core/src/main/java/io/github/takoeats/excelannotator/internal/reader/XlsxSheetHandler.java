@@ -0,0 +1,272 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import io.github.takoeats.excelannotator.internal.writer.csv.CsvValueFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * 워크시트 XML을 SAX로 읽어 행마다 셀 값을 {@link RecordFields}로 제공하는 핸들러
+ * <p>행 하나의 셀 값만 재사용 char 버퍼에 담으므로 메모리는 행 수와 무관합니다. 셀 값은 타입에 따라 텍스트로 정규화합니다.</p>
+ * <ul>
+ *     <li>공유 문자열(s), 인라인 문자열(inlineStr), 수식 문자열(str), 오류(e): 텍스트 그대로</li>
+ *     <li>boolean(b): {@code true} / {@code false}</li>
+ *     <li>숫자(n): 셀 스타일이 날짜 형식이면({@link CsvValueFormatter#isDateFormat(String)}로도 판별) ISO-8601
+ *     날짜·시각, 아니면 저장된 값 그대로
+ *     ({@code 42.0}은 {@code 42}, 지수 표기는 일반 표기로 변환)</li>
+ * </ul>
+ * <p>비어 있는 셀은 길이 0인 필드로 제공합니다. 스레드 안전하지 않습니다.</p>
+ */
+final class XlsxSheetHandler extends DefaultHandler implements RecordFields {
+
+    /**
+     * 행 하나를 다 읽을 때마다 호출 (record는 다음 행으로 넘어가기 전까지만 유효)
+     */
+    interface RowCallback {
+        void row(int rowIndex, XlsxSheetHandler record);
+    }
+
+    private static final int INITIAL_COLUMNS = 16;
+
+    private final SharedStrings sharedStrings;
+    private final StylesTable styles;
+    private final boolean date1904;
+    private final RowCallback callback;
+    private final StringBuilder value = new StringBuilder(64);
+    private Boolean[] dateStyles = new Boolean[0];
+
+    private char[] chars = new char[1024];
+    private int[] starts = new int[INITIAL_COLUMNS];
+    private int[] lengths = new int[INITIAL_COLUMNS];
+    private int fieldCount;
+    private int position;
+
+    private int rowIndex = -1;
+    private int nextColumn;
+    private int cellColumn;
+    private char cellType;
+    private int cellStyle;
+    private boolean inValue;
+    private boolean inInlineString;
+    private boolean inPhonetic;
+
+    /**
+     * @param date1904 통합 문서가 1904 날짜 체계를 쓰는지 ({@code workbookPr/@date1904})
+     */
+    XlsxSheetHandler(SharedStrings sharedStrings, StylesTable styles, boolean date1904, RowCallback callback) {
+        this.sharedStrings = sharedStrings;
+        this.styles = styles;
+        this.date1904 = date1904;
+        this.callback = callback;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName) {
+            case "row":
+                String r = attributes.getValue("r");
+                rowIndex = r != null ? Integer.parseInt(r) - 1 : rowIndex + 1;
+                Arrays.fill(lengths, 0, fieldCount, 0);
+                fieldCount = 0;
+                position = 0;
+                nextColumn = 0;
+                break;
+            case "c":
+                cellColumn = columnOf(attributes.getValue("r"));
+                String t = attributes.getValue("t");
+                cellType = t == null ? 'n' : t.equals("inlineStr") ? 'i' : t.equals("str") ? 'f' : t.charAt(0);
+                String s = attributes.getValue("s");
+                cellStyle = s != null ? Integer.parseInt(s) : 0;
+                value.setLength(0);
+                break;
+            case "v":
+                inValue = true;
+                break;
+            case "is":
+                inInlineString = true;
+                break;
+            case "t":
+                inValue = inInlineString && !inPhonetic;
+                break;
+            case "rPh":
+                inPhonetic = true;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        switch (localName) {
+            case "v":
+            case "t":
+                inValue = false;
+                break;
+            case "is":
+                inInlineString = false;
+                break;
+            case "rPh":
+                inPhonetic = false;
+                break;
+            case "c":
+                endCell();
+                break;
+            case "row":
+                callback.row(rowIndex, this);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (inValue) {
+            value.append(ch, start, length);
+        }
+    }
+
+    private void endCell() {
+        nextColumn = cellColumn + 1;
+        if (value.length() == 0) {
+            return;
+        }
+        switch (cellType) {
+            case 's':
+                append(cellColumn, sharedStrings.getItemAt(Integer.parseInt(value.toString().trim())).getString());
+                break;
+            case 'b':
+                append(cellColumn, value.charAt(0) == '1' ? "true" : "false");
+                break;
+            case 'n':
+                appendNumber();
+                break;
+            default:
+                append(cellColumn, value);
+                break;
+        }
+    }
+
+    private void appendNumber() {
+        if (isDateStyle(cellStyle)) {
+            double serial = Double.parseDouble(value.toString());
+            if (DateUtil.isValidExcelDate(serial)) {
+                LocalDateTime dateTime = DateUtil.getLocalDateTime(serial, date1904, true);
+                append(cellColumn, dateTime.toString());
+                return;
+            }
+        }
+
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == 'E' || c == 'e') {
+                append(cellColumn, new BigDecimal(value.toString()).stripTrailingZeros().toPlainString());
+                return;
+            }
+        }
+        if (length > 2 && value.charAt(length - 2) == '.' && value.charAt(length - 1) == '0') {
+            value.setLength(length - 2);
+        }
+        append(cellColumn, value);
+    }
+
+    /**
+     * 스타일 인덱스별 날짜 형식 여부 (처음 조회할 때 한 번만 판정)
+     */
+    private boolean isDateStyle(int styleIndex) {
+        if (styles == null) {
+            return false;
+        }
+        if (styleIndex >= dateStyles.length) {
+            dateStyles = Arrays.copyOf(dateStyles, Math.max(styleIndex + 1, dateStyles.length * 2));
+        }
+        Boolean date = dateStyles[styleIndex];
+        if (date == null) {
+            XSSFCellStyle style = styleIndex < styles.getNumCellStyles() ? styles.getStyleAt(styleIndex) : null;
+            date = style != null && (DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString())
+                    || CsvValueFormatter.isDateFormat(style.getDataFormatString()));
+            dateStyles[styleIndex] = date;
+        }
+        return date;
+    }
+
+    private void append(int column, CharSequence text) {
+        if (column >= starts.length) {
+            int capacity = Math.max(column + 1, starts.length * 2);
+            starts = Arrays.copyOf(starts, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        int length = text.length();
+        if (position + length > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(position + length, chars.length * 2));
+        }
+        if (text instanceof String) {
+            ((String) text).getChars(0, length, chars, position);
+        } else {
+            ((StringBuilder) text).getChars(0, length, chars, position);
+        }
+        starts[column] = position;
+        lengths[column] = length;
+        position += length;
+        fieldCount = Math.max(fieldCount, column + 1);
+    }
+
+    /**
+     * 셀 참조(예: {@code AB12})의 0부터 시작하는 열 번호 (참조가 없으면 이전 셀의 다음 열)
+     */
+    private int columnOf(String reference) {
+        if (reference == null) {
+            return nextColumn;
+        }
+        int column = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    /**
+     * 모든 필드가 비어 있는 행인지
+     */
+    boolean isBlank() {
+        for (int i = 0; i < fieldCount; i++) {
+            if (lengths[i] > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    @Override
+    public char[] chars(int index) {
+        return chars;
+    }
+
+    @Override
+    public int start(int index) {
+        return starts[index];
+    }
+
+    @Override
+    public int length(int index) {
+        return lengths[index];
+    }
+}
@@ -5,7 +5,10 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.poi.ss.usermodel.Cell;
 
+import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -16,17 +19,30 @@ public final class CellValueConverter {
     private static final Pattern NUMERIC_PATTERN = Pattern.compile("[-+]?\\d+(\\.\\d+)?");
     private static final int EXCEL_MAX_PRECISION_DIGITS = 15;
 
+    private static final CellValueStrategy STRING_STRATEGY = new StringValueStrategy();
+    private static final CellValueStrategy LOCAL_DATE_STRATEGY = new LocalDateValueStrategy();
+    private static final CellValueStrategy LOCAL_DATE_TIME_STRATEGY = new LocalDateTimeValueStrategy();
+    private static final CellValueStrategy NUMBER_STRATEGY = new NumberValueStrategy();
+    private static final CellValueStrategy BOOLEAN_STRATEGY = new BooleanValueStrategy();
+
     private static final List<CellValueStrategy> STRATEGIES = Arrays.asList(
-            new StringValueStrategy(),
-            new LocalDateValueStrategy(),
-            new LocalDateTimeValueStrategy(),
+            STRING_STRATEGY,
+            LOCAL_DATE_STRATEGY,
+            LOCAL_DATE_TIME_STRATEGY,
             new DateValueStrategy(),
             new CalendarValueStrategy(),
-            new NumberValueStrategy(),
-            new BooleanValueStrategy(),
+            NUMBER_STRATEGY,
+            BOOLEAN_STRATEGY,
             new DefaultValueStrategy()
     );
 
+    private static final CellValueStrategy TYPED_STRING = new TypedValueStrategy(STRING_STRATEGY);
+    private static final CellValueStrategy TYPED_LOCAL_DATE = new TypedValueStrategy(LOCAL_DATE_STRATEGY);
+    private static final CellValueStrategy TYPED_LOCAL_DATE_TIME = new TypedValueStrategy(LOCAL_DATE_TIME_STRATEGY);
+    private static final CellValueStrategy TYPED_NUMBER = new TypedValueStrategy(NUMBER_STRATEGY);
+    private static final CellValueStrategy TYPED_BOOLEAN = new TypedValueStrategy(BOOLEAN_STRATEGY);
+    private static final CellValueStrategy DYNAMIC = new DynamicValueStrategy();
+
     public static void setCellValue(Cell cell, String value) {
         if (value == null) {
             cell.setBlank();
@@ -119,6 +135,38 @@ public final class CellValueConverter {
         }
     }
 
+    /**
+     * 컬럼의 선언 타입에 맞는 셀 값 전략을 메타데이터 시점에 선택
+     * <p>추출기는 날짜/숫자/Boolean 외의 값을 문자열로 정규화하므로, final 타입과 enum은
+     * 추출 결과 타입이 하나로 결정됩니다. Object 등 하위 타입이 열려 있는 선언 타입은
+     * 셀마다 전략을 탐색합니다.</p>
+     *
+     * @param declaredType 필드 선언 타입 (알 수 없으면 null)
+     */
+    public static CellValueStrategy strategyFor(Class<?> declaredType) {
+        if (declaredType == null) {
+            return DYNAMIC;
+        }
+        if (declaredType == boolean.class || declaredType == Boolean.class) {
+            return TYPED_BOOLEAN;
+        }
+        if (declaredType.isPrimitive() && declaredType != char.class
+                || Number.class.isAssignableFrom(declaredType)) {
+            return TYPED_NUMBER;
+        }
+        if (declaredType == LocalDate.class) {
+            return TYPED_LOCAL_DATE;
+        }
+        if (declaredType == LocalDateTime.class) {
+            return TYPED_LOCAL_DATE_TIME;
+        }
+        if (declaredType.isEnum() || declaredType == char.class
+                || Modifier.isFinal(declaredType.getModifiers())) {
+            return TYPED_STRING;
+        }
+        return DYNAMIC;
+    }
+
     public static void setCellValueSafely(Cell cell, Object value) {
         if (value == null) {
             cell.setBlank();
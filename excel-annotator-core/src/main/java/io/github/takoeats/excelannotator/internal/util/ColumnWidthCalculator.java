@@ -2,83 +2,67 @@ package io.github.takoeats.excelannotator.internal.util;
 
 import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
 import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 
 public final class ColumnWidthCalculator {
 
     private static final int EXCEL_CHAR_WIDTH = 256;
     private static final int CALIBRATION_FACTOR = 32;
-    private static final int PADDING_REDUCTION_CHARS = 5;
     private static final int MIN_COLUMN_WIDTH = 256;
-    private static final int LARGE_DATA_THRESHOLD = 10000;
+    private static final int MAX_COLUMN_WIDTH = 255 * 256;
 
     private ColumnWidthCalculator() {
     }
 
-    public static <T> void applyAutoWidthColumns(Sheet sheet,
-                                                 ExcelMetadata<T> metadata) {
-        int totalRows = sheet.getLastRowNum() + 1;
-
-        if (totalRows > LARGE_DATA_THRESHOLD) {
-            for (int colIndex = 0; colIndex < metadata.getColumnWidths().size(); colIndex++) {
-                if (metadata.getColumnWidths().get(colIndex) == -1) {
-                    applySampledAutoSize(sheet, colIndex);
-                }
-            }
-            return;
-        }
-
-        for (int i = 0; i < metadata.getColumnWidths().size(); i++) {
-            if (metadata.getColumnWidths().get(i) == -1) {
-                applyAutoSizeToColumn(sheet, i);
-            }
-        }
+    /**
+     * 행 추가 시점에 추적한 최대 표시 너비를 그대로 컬럼에 적용 (Excel 최대 너비 255자로 제한)
+     * <p>estimateCellWidth는 이미 좌우 여백(2자)을 포함하므로 추가 보정을 하지 않습니다.</p>
+     */
+    public static void applyTrackedWidth(Sheet sheet, int columnIndex, int maxEstimatedWidth) {
+        sheet.setColumnWidth(columnIndex,
+                Math.min(MAX_COLUMN_WIDTH, Math.max(MIN_COLUMN_WIDTH, maxEstimatedWidth)));
     }
 
-    public static void applySampledAutoSize(Sheet sheet, int columnIndex) {
-        int maxWidth = 0;
-        int rowsToScan = Math.min(LARGE_DATA_THRESHOLD, sheet.getLastRowNum() + 1);
+    /**
+     * 셀이 화면에 표시될 너비 추정 (1/256 글자 단위, 좌우 여백 2자 포함)
+     * <p>숫자 셀은 셀 스타일의 표시 형식(천 단위 구분, 소수 자리, 백분율, 날짜 형식)을 반영합니다.
+     * 폰트 메트릭(java.awt)을 사용하지 않습니다.</p>
+     */
+    public static int estimateCellWidth(Cell cell) {
+        return (displayLength(cell) * EXCEL_CHAR_WIDTH) + (EXCEL_CHAR_WIDTH * 2);
+    }
 
-        for (int rowIndex = 0; rowIndex < rowsToScan; rowIndex++) {
-            Row row = sheet.getRow(rowIndex);
-            if (row != null) {
-                Cell cell = row.getCell(columnIndex);
-                if (cell != null) {
-                    int cellWidth = estimateCellWidth(cell);
-                    maxWidth = Math.max(maxWidth, cellWidth);
-                }
-            }
+    private static int displayLength(Cell cell) {
+        switch (cell.getCellType()) {
+            case STRING:
+                return displayLength(cell.getStringCellValue());
+            case NUMERIC:
+                return NumberFormatWidth.displayLength(cell.getNumericCellValue(), cell.getCellStyle());
+            case BLANK:
+                return 0;
+            default:
+                return displayLength(CellValueConverter.getCellValueAsString(cell));
         }
-
-        int reducedWidth = Math.max(MIN_COLUMN_WIDTH,
-                maxWidth - EXCEL_CHAR_WIDTH * PADDING_REDUCTION_CHARS);
-        sheet.setColumnWidth(columnIndex, reducedWidth);
     }
 
-    public static int estimateCellWidth(Cell cell) {
-        String cellValue = CellValueConverter.getCellValueAsString(cell);
-
+    /**
+     * 문자열의 표시 글자 수 (한글·한자·가나·전각 문자는 2자로 계산)
+     */
+    public static int displayLength(CharSequence text) {
         int length = 0;
-        for (char c : cellValue.toCharArray()) {
-            if (Character.UnicodeBlock.of(c) == Character.UnicodeBlock.HANGUL_SYLLABLES ||
-                    Character.UnicodeBlock.of(c) == Character.UnicodeBlock.HANGUL_JAMO ||
-                    Character.UnicodeBlock.of(c) == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO) {
-                length += 2;
-            } else {
-                length += 1;
-            }
+        for (int i = 0; i < text.length(); i++) {
+            length += isWideChar(text.charAt(i)) ? 2 : 1;
         }
-
-        return (length * EXCEL_CHAR_WIDTH) + (EXCEL_CHAR_WIDTH * 2);
+        return length;
     }
 
-    public static void applyAutoSizeToColumn(Sheet sheet, int columnIndex) {
-        sheet.autoSizeColumn(columnIndex);
-        int currentWidth = sheet.getColumnWidth(columnIndex);
-        int reducedWidth = Math.max(MIN_COLUMN_WIDTH,
-                currentWidth - EXCEL_CHAR_WIDTH * PADDING_REDUCTION_CHARS);
-        sheet.setColumnWidth(columnIndex, reducedWidth);
+    private static boolean isWideChar(char c) {
+        return (c >= '\u1100' && c <= '\u11FF')
+                || (c >= '\u3000' && c <= '\u30FF')
+                || (c >= '\u3130' && c <= '\u318F')
+                || (c >= '\u4E00' && c <= '\u9FFF')
+                || (c >= '\uAC00' && c <= '\uD7AF')
+                || (c >= '\uFF01' && c <= '\uFF60');
     }
 
     public static <T> void applyFixedColumnWidths(Sheet sheet,
@@ -2,8 +2,8 @@ package io.github.takoeats.excelannotator.internal.util;
 
 import io.github.takoeats.excelannotator.exception.ErrorCode;
 import io.github.takoeats.excelannotator.exception.ExcelExporterException;
-import io.github.takoeats.excelannotator.internal.ExcelMetadataCache;
 import io.github.takoeats.excelannotator.internal.ExcelMetadataFactory;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataRegistry;
 import io.github.takoeats.excelannotator.internal.SheetDataEntry;
 import io.github.takoeats.excelannotator.internal.metadata.ColumnInfo;
 import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
@@ -215,12 +215,12 @@ public final class MergedDataConverter {
 
     @SuppressWarnings("unchecked")
     private static ExcelMetadata<Object> extractMetadata(Class<?> clazz) {
-        return ExcelMetadataCache.getMetadata((Class<Object>) clazz);
+        return ExcelMetadataRegistry.getMetadata((Class<Object>) clazz);
     }
 
     private static boolean hasHeaderInEntries(List<SheetDataEntry> dataEntries) {
         return !dataEntries.isEmpty() &&
-                ExcelMetadataCache.getMetadata(dataEntries.get(0).getClazz()).hasHeader();
+                ExcelMetadataRegistry.getMetadata(dataEntries.get(0).getClazz()).hasHeader();
     }
 
     private static Map<Integer, ColumnInfo> buildMergedColumnsFromEntries(
@@ -229,7 +229,7 @@ public final class MergedDataConverter {
 
         for (SheetDataEntry entry : dataEntries) {
             ExcelMetadata<?> metadata =
-                    ExcelMetadataFactory.extractExcelMetadata(entry.getClazz());
+                    ExcelMetadataRegistry.getMetadata(entry.getClazz());
             addColumnsToMergedMap(mergedColumns, metadata);
         }
 
@@ -242,7 +242,7 @@ public final class MergedDataConverter {
         int globalIndex = 0;
 
         for (SheetDataEntry entry : dataEntries) {
-            ExcelMetadata<?> metadata = ExcelMetadataFactory.extractExcelMetadata(
+            ExcelMetadata<?> metadata = ExcelMetadataRegistry.getMetadata(
                     entry.getClazz());
 
             for (ColumnInfo columnInfo : metadata.getColumnInfos()) {
@@ -276,7 +276,7 @@ public final class MergedDataConverter {
 
         for (SheetDataEntry entry : dataEntries) {
             ExcelMetadata<?> metadata =
-                    ExcelMetadataFactory.extractExcelMetadata(entry.getClazz());
+                    ExcelMetadataRegistry.getMetadata(entry.getClazz());
             uniqueOrders.addAll(metadata.getAllOrders());
             totalColumnCount += metadata.getColumnCount();
         }
@@ -299,9 +299,9 @@ public final class MergedDataConverter {
     private static Comparator<SheetDataEntry> compareEntriesByMinOrder() {
         return (firstEntry, secondEntry) -> {
             ExcelMetadata<?> firstMetadata =
-                    ExcelMetadataFactory.extractExcelMetadata(firstEntry.getClazz());
+                    ExcelMetadataRegistry.getMetadata(firstEntry.getClazz());
             ExcelMetadata<?> secondMetadata =
-                    ExcelMetadataFactory.extractExcelMetadata(secondEntry.getClazz());
+                    ExcelMetadataRegistry.getMetadata(secondEntry.getClazz());
             return Integer.compare(firstMetadata.getMinOrder(), secondMetadata.getMinOrder());
         };
     }
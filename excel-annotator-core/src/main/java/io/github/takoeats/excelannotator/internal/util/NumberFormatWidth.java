@@ -0,0 +1,225 @@
+package io.github.takoeats.excelannotator.internal.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 숫자 셀이 표시 형식에 따라 화면에 표시될 글자 수 추정
+ * <p>셀 값을 실제로 포맷하지 않고, 표시 형식 문자열을 한 번 분석한 결과(정수 최소 자리, 천 단위 구분,
+ * 소수 자리, 백분율, 리터럴 문자)로 값의 자릿수만 계산합니다. 날짜 형식은 값과 관계없이 형식 길이로 계산합니다.
+ * 분석 결과는 형식 문자열별로 캐싱됩니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class NumberFormatWidth {
+
+    private static final int GENERAL_MAX_LENGTH = 11;
+    private static final int MAX_CACHED_FORMATS = 1024;
+    private static final Map<String, Shape> SHAPES = new ConcurrentHashMap<>();
+
+    /**
+     * 셀 스타일의 표시 형식으로 숫자 값의 표시 글자 수 계산
+     */
+    static int displayLength(double value, CellStyle style) {
+        if (style == null || style.getDataFormat() == 0) {
+            return generalLength(value);
+        }
+        String format = style.getDataFormatString();
+        if (format == null || format.isEmpty() || "General".equalsIgnoreCase(format)) {
+            return generalLength(value);
+        }
+        return shapeOf(style.getDataFormat(), format).length(value);
+    }
+
+    private static Shape shapeOf(short formatIndex, String format) {
+        Shape shape = SHAPES.get(format);
+        if (shape == null) {
+            shape = Shape.parse(formatIndex, format);
+            if (SHAPES.size() < MAX_CACHED_FORMATS) {
+                SHAPES.putIfAbsent(format, shape);
+            }
+        }
+        return shape;
+    }
+
+    /**
+     * 일반 형식 표시 길이 (Excel은 최대 11자로 반올림 또는 지수 표기)
+     */
+    static int generalLength(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return 7;
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e11) {
+            return Long.toString((long) value).length();
+        }
+        return Math.min(GENERAL_MAX_LENGTH, BigDecimal.valueOf(value).stripTrailingZeros().toPlainString().length());
+    }
+
+    private static final class Shape {
+        private final int fixedLength;
+        private final boolean numeric;
+        private final int minIntegerDigits;
+        private final boolean grouping;
+        private final int decimals;
+        private final boolean percent;
+        private final boolean scientific;
+        private final int literalLength;
+
+        private Shape(int fixedLength, boolean numeric, int minIntegerDigits, boolean grouping,
+                      int decimals, boolean percent, boolean scientific, int literalLength) {
+            this.fixedLength = fixedLength;
+            this.numeric = numeric;
+            this.minIntegerDigits = minIntegerDigits;
+            this.grouping = grouping;
+            this.decimals = decimals;
+            this.percent = percent;
+            this.scientific = scientific;
+            this.literalLength = literalLength;
+        }
+
+        static Shape parse(short formatIndex, String format) {
+            String section = firstSection(format);
+            if (DateUtil.isADateFormat(formatIndex, format)) {
+                return new Shape(dateLength(section), false, 0, false, 0, false, false, 0);
+            }
+
+            int minIntegerDigits = 0;
+            int decimals = 0;
+            int placeholders = 0;
+            boolean grouping = false;
+            boolean percent = false;
+            boolean scientific = false;
+            boolean afterPoint = false;
+            StringBuilder literal = new StringBuilder();
+
+            for (int i = 0; i < section.length(); i++) {
+                char c = section.charAt(i);
+                switch (c) {
+                    case '"':
+                        int end = section.indexOf('"', i + 1);
+                        end = end < 0 ? section.length() : end;
+                        literal.append(section, i + 1, end);
+                        i = end;
+                        break;
+                    case '\\':
+                        if (i + 1 < section.length()) {
+                            literal.append(section.charAt(++i));
+                        }
+                        break;
+                    case '[':
+                        int close = section.indexOf(']', i);
+                        i = close < 0 ? section.length() : close;
+                        break;
+                    case '_':
+                        literal.append(' ');
+                        i++;
+                        break;
+                    case '*':
+                        i++;
+                        break;
+                    case '0':
+                    case '#':
+                    case '?':
+                        placeholders++;
+                        if (afterPoint) {
+                            decimals++;
+                        } else if (c == '0') {
+                            minIntegerDigits++;
+                        }
+                        break;
+                    case '.':
+                        afterPoint = true;
+                        break;
+                    case ',':
+                        grouping = grouping || (!afterPoint && placeholders > 0);
+                        break;
+                    case '%':
+                        percent = true;
+                        literal.append(c);
+                        break;
+                    case 'E':
+                    case 'e':
+                        scientific = true;
+                        break;
+                    case '@':
+                        break;
+                    default:
+                        literal.append(c);
+                }
+            }
+
+            int literalLength = ColumnWidthCalculator.displayLength(literal);
+            if (placeholders == 0) {
+                return new Shape(literalLength, false, 0, false, 0, false, false, 0);
+            }
+            if (scientific) {
+                return new Shape(placeholders + 4 + literalLength, false, 0, false, 0, false, false, 0);
+            }
+            return new Shape(0, true, minIntegerDigits, grouping, decimals, percent, false, literalLength);
+        }
+
+        int length(double value) {
+            if (!numeric) {
+                return fixedLength;
+            }
+            double magnitude = Math.abs(value) * (percent ? 100 : 1);
+            if (Double.isNaN(magnitude) || Double.isInfinite(magnitude)) {
+                return literalLength + 7;
+            }
+
+            double rounded = roundHalfUp(magnitude, decimals);
+            int integerDigits = rounded < 1 ? 0 : integerDigits(rounded);
+            integerDigits = Math.max(integerDigits, minIntegerDigits);
+            int separators = grouping && integerDigits > 3 ? (integerDigits - 1) / 3 : 0;
+            int fraction = decimals > 0 ? decimals + 1 : 0;
+            int sign = value < 0 ? 1 : 0;
+            return sign + integerDigits + separators + fraction + literalLength;
+        }
+
+        private static double roundHalfUp(double value, int decimals) {
+            double scale = Math.pow(10, decimals);
+            return Math.floor(value * scale + 0.5) / scale;
+        }
+
+        private static int integerDigits(double value) {
+            if (value < 1e18) {
+                return Long.toString((long) value).length();
+            }
+            return (int) Math.log10(value) + 1;
+        }
+
+        private static String firstSection(String format) {
+            boolean quoted = false;
+            for (int i = 0; i < format.length(); i++) {
+                char c = format.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == '\\') {
+                    i++;
+                } else if (c == ';' && !quoted) {
+                    return format.substring(0, i);
+                }
+            }
+            return format;
+        }
+
+        /**
+         * 날짜 형식 표시 길이 (월·요일 이름은 영문 최대 길이, AM/PM은 2자)
+         */
+        private static int dateLength(String section) {
+            String pattern = section.replaceAll("\\[[^]]*]", "")
+                    .replace("\\", "")
+                    .replace("\"", "")
+                    .replaceAll("(?i)AM/PM", "AM")
+                    .replaceAll("(?i)A/P", "A")
+                    .replaceAll("(?i)m{4,}", "MMMMMMMMM")
+                    .replaceAll("(?i)d{4,}", "DDDDDDDDD");
+            return ColumnWidthCalculator.displayLength(pattern);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package io.github.takoeats.excelannotator.internal.util;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.Locale;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ResponseHeaderHandler {
@@ -16,6 +18,62 @@ public final class ResponseHeaderHandler {
         setDefaultCacheControlIfAbsent(response);
     }
 
+    /**
+     * 요청의 Accept-Encoding이 gzip을 허용하면 Content-Encoding: gzip을 설정
+     * <p>응답이 Accept-Encoding에 따라 달라지므로 항상 Vary: Accept-Encoding을 추가합니다.</p>
+     *
+     * @return gzip으로 응답해야 하면 true
+     */
+    public static boolean negotiateGzip(HttpServletRequest request, HttpServletResponse response) {
+        response.addHeader("Vary", "Accept-Encoding");
+        if (!acceptsGzip(request.getHeader("Accept-Encoding"))) {
+            return false;
+        }
+        response.setHeader("Content-Encoding", "gzip");
+        return true;
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지 확인 (RFC 7231 5.3.4)
+     * <p>gzip(x-gzip)이 명시되면 그 q 값을, 없으면 {@code *}의 q 값을 따르며 q=0은 거부입니다.</p>
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.trim().isEmpty()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if ("*".equals(coding)) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                    && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
     public static void setDefaultCacheControlIfAbsent(HttpServletResponse response) {
         if (response.getHeader("Cache-Control") == null) {
             response.setHeader("Cache-Control", "no-store, no-cache, must-revalidate, max-age=0");
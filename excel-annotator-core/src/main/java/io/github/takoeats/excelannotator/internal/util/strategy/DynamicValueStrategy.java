@@ -0,0 +1,21 @@
+package io.github.takoeats.excelannotator.internal.util.strategy;
+
+import io.github.takoeats.excelannotator.internal.util.CellValueConverter;
+import org.apache.poi.ss.usermodel.Cell;
+
+/**
+ * 선언 타입으로 값 타입을 알 수 없는 컬럼(Object, 인터페이스 등)에 사용하는 전략
+ * <p>셀마다 전체 전략 목록을 탐색합니다.</p>
+ */
+public final class DynamicValueStrategy implements CellValueStrategy {
+
+    @Override
+    public boolean supports(Object value) {
+        return true;
+    }
+
+    @Override
+    public void apply(Cell cell, Object value) {
+        CellValueConverter.setCellValueSafely(cell, value);
+    }
+}
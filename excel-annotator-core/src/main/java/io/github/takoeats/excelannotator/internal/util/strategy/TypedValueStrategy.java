@@ -0,0 +1,31 @@
+package io.github.takoeats.excelannotator.internal.util.strategy;
+
+import io.github.takoeats.excelannotator.internal.util.CellValueConverter;
+import org.apache.poi.ss.usermodel.Cell;
+
+/**
+ * 선언 타입으로 미리 선택된 전략을 적용하는 래퍼
+ * <p>값이 선택된 전략과 맞지 않으면(병합 시트 등) 전체 전략 탐색으로 대체합니다.</p>
+ */
+public final class TypedValueStrategy implements CellValueStrategy {
+
+    private final CellValueStrategy delegate;
+
+    public TypedValueStrategy(CellValueStrategy delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supports(Object value) {
+        return true;
+    }
+
+    @Override
+    public void apply(Cell cell, Object value) {
+        if (delegate.supports(value)) {
+            delegate.apply(cell, value);
+        } else {
+            CellValueConverter.setCellValueSafely(cell, value);
+        }
+    }
+}
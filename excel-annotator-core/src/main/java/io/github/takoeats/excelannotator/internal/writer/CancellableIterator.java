@@ -0,0 +1,49 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.internal.writer.prefetch.PrefetchIterator;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * 행을 꺼내기 전마다 {@link ExportCancellation}을 확인하는 Iterator
+ * <p>close는 감싼 Iterator가 선읽기 Iterator이면 생산자 스레드를 종료합니다.</p>
+ */
+final class CancellableIterator<T> implements Iterator<T>, Closeable {
+
+    private final Iterator<T> delegate;
+    private final ExportCancellation cancellation;
+
+    CancellableIterator(Iterator<T> delegate, ExportCancellation cancellation) {
+        this.delegate = delegate;
+        this.cancellation = cancellation;
+    }
+
+    /**
+     * 취소 가능 Iterator 또는 선읽기 Iterator이면 닫고, 아니면 아무 것도 하지 않음
+     */
+    static void closeIfNeeded(Iterator<?> iterator) {
+        if (iterator instanceof CancellableIterator) {
+            ((CancellableIterator<?>) iterator).close();
+        } else {
+            PrefetchIterator.closeIfPrefetching(iterator);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        cancellation.throwIfCancelled();
+        return delegate.hasNext();
+    }
+
+    @Override
+    public T next() {
+        cancellation.throwIfCancelled();
+        return delegate.next();
+    }
+
+    @Override
+    public void close() {
+        PrefetchIterator.closeIfPrefetching(delegate);
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.internal.util.CellValueConverter;
+import io.github.takoeats.excelannotator.internal.util.strategy.CellValueStrategy;
+import io.github.takoeats.excelannotator.style.CustomExcelCellStyle;
+import io.github.takoeats.excelannotator.style.internal.rule.CellContext;
+import io.github.takoeats.excelannotator.style.internal.rule.StyleRule;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 컬럼 단위로 미리 해석된 셀 쓰기 계획
+ * <p>시트마다 ExcelMetadata를 한 번 컴파일하여 {@link CompiledColumn}(추출기, 마스킹, 표시 형식)에
+ * POI CellStyle, 조건부 규칙별 CellStyle, 선언 타입별 셀 값 전략을 더해 확정합니다.
+ * 데이터 행에서는 배열 인덱싱만 수행합니다.</p>
+ * <p>조건부 스타일이 없는 숫자형 primitive 컬럼은 박싱 없이 double 값을 기록합니다.</p>
+ */
+final class CellPlan<T> {
+
+    private static final StyleRule[] NO_RULES = new StyleRule[0];
+    private static final CellStyle[] NO_STYLES = new CellStyle[0];
+
+    private final CompiledColumn<T> column;
+    private final Function<T, Object> extractor;
+    private final ToDoubleFunction<T> doubleExtractor;
+    private final CellValueStrategy valueStrategy;
+    private final CellStyle style;
+    private final StyleRule[] rules;
+    private final CellStyle[] ruleStyles;
+
+    private CellPlan(CompiledColumn<T> column,
+                     ToDoubleFunction<T> doubleExtractor,
+                     CellValueStrategy valueStrategy,
+                     CellStyle style,
+                     StyleRule[] rules,
+                     CellStyle[] ruleStyles) {
+        this.column = column;
+        this.extractor = column.getExtractor();
+        this.doubleExtractor = doubleExtractor;
+        this.valueStrategy = valueStrategy;
+        this.style = style;
+        this.rules = rules;
+        this.ruleStyles = ruleStyles;
+    }
+
+    /**
+     * 메타데이터의 모든 컬럼을 셀 쓰기 계획으로 컴파일
+     * <p>스타일은 주어진 StyleCacheManager(워크북 단위)에서 해석됩니다.</p>
+     */
+    @SuppressWarnings("unchecked")
+    static <T> CellPlan<T>[] compile(ExcelMetadata<T> metadata, StyleCacheManager styleCacheManager) {
+        List<Function<T, Object>> extractors = metadata.getExtractors();
+        CellPlan<T>[] plans = new CellPlan[extractors.size()];
+
+        for (int i = 0; i < plans.length; i++) {
+            plans[i] = compileColumn(metadata, i, extractors.get(i), styleCacheManager);
+        }
+        return plans;
+    }
+
+    private static <T> CellPlan<T> compileColumn(ExcelMetadata<T> metadata,
+                                                 int columnIndex,
+                                                 Function<T, Object> extractor,
+                                                 StyleCacheManager styleCacheManager) {
+        CompiledColumn<T> column = CompiledColumn.compileColumn(metadata, columnIndex, extractor);
+        CellStyle style = styleCacheManager.getOrCreateStyle(styleClassAt(metadata, columnIndex), column.getFormat());
+
+        List<StyleRule> conditionalRules = metadata.getConditionalStyleRulesAt(columnIndex);
+        StyleRule[] rules = NO_RULES;
+        CellStyle[] ruleStyles = NO_STYLES;
+        if (!conditionalRules.isEmpty()) {
+            rules = conditionalRules.toArray(new StyleRule[0]);
+            ruleStyles = new CellStyle[rules.length];
+            for (int r = 0; r < rules.length; r++) {
+                ruleStyles[r] = resolveStyle(metadata, columnIndex, rules[r].getStyleClass(), styleCacheManager);
+            }
+        }
+
+        return new CellPlan<>(
+                column,
+                rules.length == 0 ? metadata.getDoubleExtractorAt(columnIndex) : null,
+                CellValueConverter.strategyFor(metadata.getFieldTypeAt(columnIndex)),
+                style,
+                rules,
+                ruleStyles
+        );
+    }
+
+    private static Class<? extends CustomExcelCellStyle> styleClassAt(ExcelMetadata<?> metadata, int columnIndex) {
+        CustomExcelCellStyle columnStyle = metadata.getColumnStyleAt(columnIndex);
+        return columnStyle != null ? columnStyle.getClass() : null;
+    }
+
+    private static CellStyle resolveStyle(ExcelMetadata<?> metadata,
+                                          int columnIndex,
+                                          Class<? extends CustomExcelCellStyle> styleClass,
+                                          StyleCacheManager styleCacheManager) {
+        return styleCacheManager.getOrCreateStyle(styleClass,
+                CompiledColumn.formatFor(metadata, columnIndex, styleClass));
+    }
+
+    /**
+     * 데이터 항목에서 값을 추출하여 셀 값과 스타일을 기록
+     */
+    void write(Cell cell, T item, int columnIndex, int dataRowIndex, CellContext cellContext) {
+        if (doubleExtractor != null) {
+            writeDouble(cell, item);
+            return;
+        }
+
+        Object value = extractor.apply(item);
+        if (value == null) {
+            cell.setBlank();
+        } else {
+            valueStrategy.apply(cell, mask(value));
+        }
+        cell.setCellStyle(rules.length == 0 ? style : selectStyle(value, item, columnIndex, dataRowIndex, cellContext));
+    }
+
+    /**
+     * POI에 접근하지 않고 셀에 기록할 값(마스킹 적용)과 스타일을 계산하여 slot에 저장
+     * <p>병렬 행 준비 작업 스레드에서 호출되며, {@link #applyPrepared}로 쓰기 스레드에서 기록합니다.</p>
+     */
+    void prepare(T item, int columnIndex, int dataRowIndex, CellContext cellContext, PreparedRows rows, int slot) {
+        if (doubleExtractor != null) {
+            if (item == null) {
+                rows.values[slot] = null;
+            } else {
+                rows.values[slot] = PreparedRows.NUMERIC;
+                rows.numbers[slot] = doubleExtractor.applyAsDouble(item);
+            }
+            rows.styles[slot] = style;
+            return;
+        }
+
+        Object value = extractor.apply(item);
+        rows.values[slot] = value == null ? null : mask(value);
+        rows.styles[slot] = rules.length == 0
+                ? style
+                : selectStyle(value, item, columnIndex, dataRowIndex, cellContext);
+    }
+
+    /**
+     * {@link #prepare}로 계산한 값과 스타일을 셀에 기록
+     */
+    void applyPrepared(Cell cell, PreparedRows rows, int slot) {
+        Object value = rows.values[slot];
+        if (value == PreparedRows.NUMERIC) {
+            cell.setCellValue(rows.numbers[slot]);
+        } else if (value == null) {
+            cell.setBlank();
+        } else {
+            valueStrategy.apply(cell, value);
+        }
+        cell.setCellStyle(rows.styles[slot]);
+    }
+
+    private void writeDouble(Cell cell, T item) {
+        if (item == null) {
+            cell.setBlank();
+        } else {
+            cell.setCellValue(doubleExtractor.applyAsDouble(item));
+        }
+        cell.setCellStyle(style);
+    }
+
+    private Object mask(Object value) {
+        return column.mask(value);
+    }
+
+    private CellStyle selectStyle(Object value, T item, int columnIndex, int dataRowIndex, CellContext cellContext) {
+        cellContext.update(value, item, columnIndex, dataRowIndex, column.getFieldName());
+
+        for (int r = 0; r < rules.length; r++) {
+            if (rules[r].evaluate(cellContext)) {
+                return ruleStyles[r];
+            }
+        }
+        return style;
+    }
+}
@@ -3,64 +3,14 @@ package io.github.takoeats.excelannotator.internal.writer;
 import io.github.takoeats.excelannotator.internal.metadata.ColumnMetadata;
 import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
 import io.github.takoeats.excelannotator.internal.metadata.HeaderMetadata;
-import io.github.takoeats.excelannotator.internal.util.CellValueConverter;
-import io.github.takoeats.excelannotator.masking.Masking;
 import io.github.takoeats.excelannotator.style.CustomExcelCellStyle;
-import io.github.takoeats.excelannotator.style.internal.cache.StyleCache;
 import io.github.takoeats.excelannotator.style.internal.rule.CellContext;
-import io.github.takoeats.excelannotator.style.internal.rule.StyleRule;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Row;
 
-import java.util.List;
-import java.util.function.Function;
-
 public class CellWriter {
 
-    private static final String DEFAULT_FORMAT = "General";
-
-    private <T> void writeCell(
-            Cell cell,
-            Object value,
-            ExcelMetadata<T> metadata,
-            int columnIndex,
-            StyleCacheManager styleCacheManager) {
-
-        Object maskedValue = applyMasking(value, metadata, columnIndex);
-        CellValueConverter.setCellValueSafely(cell, maskedValue);
-
-        CustomExcelCellStyle defaultStyle = metadata.getColumnStyleAt(columnIndex);
-        Class<? extends CustomExcelCellStyle> styleClass = defaultStyle != null
-                ? defaultStyle.getClass()
-                : null;
-
-        String format = determineFormat(metadata, styleClass, columnIndex);
-        CellStyle poiStyle = styleCacheManager.getOrCreateStyle(styleClass, format);
-        cell.setCellStyle(poiStyle);
-    }
-
-    private <T> void writeCellWithConditionalStyle(
-            Cell cell,
-            Object value,
-            ExcelMetadata<T> metadata,
-            int columnIndex,
-            T dataItem,
-            int dataRowIndex,
-            CellContext cellContext,
-            StyleCacheManager styleCacheManager) {
-
-        Object maskedValue = applyMasking(value, metadata, columnIndex);
-        CellValueConverter.setCellValueSafely(cell, maskedValue);
-
-        Class<? extends CustomExcelCellStyle> styleClass =
-                determineStyleClass(metadata, columnIndex, value, dataItem, dataRowIndex, cellContext);
-
-        String format = determineFormat(metadata, styleClass, columnIndex);
-        CellStyle poiStyle = styleCacheManager.getOrCreateStyle(styleClass, format);
-        cell.setCellStyle(poiStyle);
-    }
-
     <T> void configureHeaderCell(
             Row header,
             int columnIndex,
@@ -89,97 +39,15 @@ public class CellWriter {
         cell.setCellStyle(poiStyle);
     }
 
-    private <T> Class<? extends CustomExcelCellStyle> determineStyleClass(
-            ExcelMetadata<T> metadata,
-            int columnIndex,
-            Object value,
-            T dataItem,
-            int dataRowIndex,
-            CellContext cellContext) {
-
-        List<StyleRule> conditionalRules = metadata.getConditionalStyleRulesAt(columnIndex);
-
-        if (!conditionalRules.isEmpty()) {
-            cellContext.update(
-                    value,
-                    dataItem,
-                    columnIndex,
-                    dataRowIndex,
-                    metadata.getFieldNameAt(columnIndex)
-            );
-
-            for (StyleRule rule : conditionalRules) {
-                if (rule.evaluate(cellContext)) {
-                    return rule.getStyleClass();
-                }
-            }
-        }
-
-        CustomExcelCellStyle defaultStyle = metadata.getColumnStyleAt(columnIndex);
-        return defaultStyle != null ? defaultStyle.getClass() : null;
-    }
-
-    private String determineFormat(
-            ExcelMetadata<?> metadata,
-            Class<? extends CustomExcelCellStyle> styleClass,
-            int columnIndex) {
-
-        String annotationFormat = metadata.getFormatAt(columnIndex);
-        if (annotationFormat != null && !annotationFormat.trim().isEmpty()) {
-            return annotationFormat;
-        }
-
-        if (styleClass != null) {
-            CustomExcelCellStyle styleInstance = StyleCache.getStyleInstance(styleClass);
-            String styleFormat = styleInstance.getDataFormat();
-            if (styleFormat != null && !styleFormat.equals(DEFAULT_FORMAT)) {
-                return styleFormat;
-            }
-        }
-
-        return null;
-    }
-
-    private <T> Object applyMasking(Object value, ExcelMetadata<T> metadata, int columnIndex) {
-        if (value == null) {
-            return value;
-        }
-
-        if (!(value instanceof String)) {
-            return value;
-        }
-
-        Masking masking = metadata.getMaskingAt(columnIndex);
-        if (masking == null || masking == Masking.NONE) {
-            return value;
-        }
-
-        return masking.mask((String) value);
-    }
-
     <T> void writeCells(
             Row row,
             T item,
             int dataRowIndex,
-            ExcelMetadata<T> metadata,
-            CellContext cellContext,
-            StyleCacheManager styleCacheManager) {
-
-        List<Function<T, Object>> extractors = metadata.getExtractors();
-
-        for (int colIndex = 0; colIndex < extractors.size(); colIndex++) {
-            Function<T, Object> extractor = extractors.get(colIndex);
-            Object value = extractor.apply(item);
-            Cell cell = row.createCell(colIndex);
-
-            List<StyleRule> conditionalRules = metadata.getConditionalStyleRulesAt(colIndex);
+            CellPlan<T>[] cellPlans,
+            CellContext cellContext) {
 
-            if (!conditionalRules.isEmpty()) {
-                writeCellWithConditionalStyle(cell, value, metadata, colIndex, item,
-                        dataRowIndex, cellContext, styleCacheManager);
-            } else {
-                writeCell(cell, value, metadata, colIndex, styleCacheManager);
-            }
+        for (int colIndex = 0; colIndex < cellPlans.length; colIndex++) {
+            cellPlans[colIndex].write(row.createCell(colIndex), item, colIndex, dataRowIndex, cellContext);
         }
     }
 }
@@ -0,0 +1,182 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.internal.util.ColumnWidthCalculator;
+import io.github.takoeats.excelannotator.internal.writer.width.ColumnWidthProfile;
+import io.github.takoeats.excelannotator.internal.writer.width.WidthProfileOptions;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * 자동 너비(-1) 컬럼의 최대 표시 너비를 행 작성 루프 안에서 누적
+ * <p>SXSSF의 autoSizeColumn 추적은 플러시 전까지 모든 셀을 폰트 메트릭(java.awt)으로 측정하고,
+ * 시트 종료 후 샘플링은 이미 플러시된 행을 읽지 못합니다. 이 추적기는 행이 추가될 때
+ * {@link ColumnWidthCalculator#estimateCellWidth}로 셀마다 한 번만 측정하여 컬럼별 최대값만 보관하고,
+ * 시트를 닫을 때 한 번에 적용합니다.</p>
+ * <p>{@link WidthProfileOptions}로 갱신 주기 안의 프로파일이 있으면 시트 생성 시점에 프로파일 너비를 적용하고,
+ * 앞쪽 일부 행만 측정하여 드리프트를 확인합니다. 요청의 모든 시트가 끝나면 {@link #complete()}에서
+ * 측정 결과를 프로파일 저장소에 기록합니다.</p>
+ */
+final class ColumnWidthTracker {
+
+    private final int[] autoWidthColumns;
+    private final int[] maxWidths;
+    private final int[] observedWidths;
+    private final int columnCount;
+    private final int columnHeaderRowIndex;
+
+    private final WidthProfileOptions profileOptions;
+    private final String profileKey;
+    private final String profileFingerprint;
+    private final ColumnWidthProfile storedProfile;
+    private final int[] profileWidths;
+
+    private int rowsInSheet;
+    private boolean drifted;
+    private boolean measured;
+
+    ColumnWidthTracker(ExcelMetadata<?> metadata) {
+        this(metadata, WidthProfileOptions.DISABLED);
+    }
+
+    ColumnWidthTracker(ExcelMetadata<?> metadata, WidthProfileOptions profileOptions) {
+        this.columnCount = metadata.getColumnWidths().size();
+        this.autoWidthColumns = IntStream.range(0, columnCount)
+                .filter(i -> metadata.getColumnWidths().get(i) == -1)
+                .toArray();
+        this.maxWidths = new int[autoWidthColumns.length];
+        this.observedWidths = new int[autoWidthColumns.length];
+        this.columnHeaderRowIndex = metadata.hasHeader() ? metadata.getHeaderRowCount() - 1 : -1;
+
+        this.profileOptions = profileOptions;
+        if (profileOptions.isEnabled() && !isEmpty()) {
+            this.profileKey = ColumnWidthProfile.keyOf(metadata);
+            this.profileFingerprint = ColumnWidthProfile.fingerprintOf(metadata);
+            this.storedProfile = loadProfile();
+        } else {
+            this.profileKey = null;
+            this.profileFingerprint = null;
+            this.storedProfile = null;
+        }
+        this.profileWidths = storedProfile != null
+                && storedProfile.isFresh(profileOptions.getClock().millis(), profileOptions.getRefreshInterval())
+                ? storedProfile.getWidths()
+                : null;
+    }
+
+    boolean isEmpty() {
+        return autoWidthColumns.length == 0;
+    }
+
+    /**
+     * 갱신 주기 안의 프로파일 너비를 적용 중인지 여부 (true이면 앞쪽 일부 행만 측정)
+     */
+    boolean usesProfile() {
+        return profileWidths != null;
+    }
+
+    /**
+     * 헤더가 작성된 새 시트에서 누적을 다시 시작하고 컬럼 헤더 너비를 기록
+     * <p>프로파일을 사용하면 이 시점에 프로파일 너비를 바로 적용합니다.</p>
+     */
+    void startSheet(Sheet sheet) {
+        Arrays.fill(maxWidths, 0);
+        rowsInSheet = 0;
+        if (isEmpty()) {
+            return;
+        }
+        if (profileWidths != null) {
+            for (int column : autoWidthColumns) {
+                ColumnWidthCalculator.applyTrackedWidth(sheet, column, profileWidths[column]);
+            }
+        }
+        if (columnHeaderRowIndex >= 0) {
+            Row columnHeaderRow = sheet.getRow(columnHeaderRowIndex);
+            if (columnHeaderRow != null) {
+                measure(columnHeaderRow);
+            }
+        }
+    }
+
+    /**
+     * 작성된 행의 자동 너비 컬럼 셀을 측정 (프로파일 사용 중에는 driftSampleRows행까지만)
+     */
+    void record(Row row) {
+        if (profileWidths != null && rowsInSheet >= profileOptions.getDriftSampleRows()) {
+            return;
+        }
+        rowsInSheet++;
+        measure(row);
+    }
+
+    private void measure(Row row) {
+        for (int i = 0; i < autoWidthColumns.length; i++) {
+            Cell cell = row.getCell(autoWidthColumns[i]);
+            if (cell != null) {
+                int width = ColumnWidthCalculator.estimateCellWidth(cell);
+                if (width > maxWidths[i]) {
+                    maxWidths[i] = width;
+                }
+            }
+        }
+    }
+
+    /**
+     * 누적한 최대 너비를 시트에 적용
+     * <p>프로파일 사용 중에는 측정 너비가 허용 비율을 넘는 컬럼만 넓히고 드리프트로 기록합니다.</p>
+     */
+    void apply(Sheet sheet) {
+        measured = true;
+        for (int i = 0; i < autoWidthColumns.length; i++) {
+            observedWidths[i] = Math.max(observedWidths[i], maxWidths[i]);
+            if (profileWidths == null) {
+                ColumnWidthCalculator.applyTrackedWidth(sheet, autoWidthColumns[i], maxWidths[i]);
+                continue;
+            }
+
+            int profileWidth = profileWidths[autoWidthColumns[i]];
+            if (maxWidths[i] > profileWidth * (1 + profileOptions.getDriftTolerance())) {
+                drifted = true;
+                ColumnWidthCalculator.applyTrackedWidth(sheet, autoWidthColumns[i], maxWidths[i]);
+            }
+        }
+    }
+
+    /**
+     * 요청의 모든 시트가 끝난 뒤 측정 결과를 프로파일 저장소에 기록
+     * <p>새로 측정했으면 실행 결과를 추가하여 갱신하고, 프로파일 사용 중 드리프트가 있으면
+     * 다음 내보내기에서 다시 측정하도록 표시합니다.</p>
+     */
+    void complete() {
+        if (profileKey == null || !measured) {
+            return;
+        }
+        if (profileWidths != null && !drifted) {
+            return;
+        }
+
+        int[] run = new int[columnCount];
+        for (int i = 0; i < autoWidthColumns.length; i++) {
+            run[autoWidthColumns[i]] = observedWidths[i];
+        }
+        long now = profileOptions.getClock().millis();
+        ColumnWidthProfile updated = storedProfile != null
+                ? storedProfile.withRun(run, profileOptions.getHistorySize(), now, drifted)
+                : ColumnWidthProfile.first(profileKey, profileFingerprint, run, now);
+        profileOptions.getStore().save(updated);
+    }
+
+    private ColumnWidthProfile loadProfile() {
+        ColumnWidthProfile profile = profileOptions.getStore().load(profileKey);
+        if (profile == null
+                || !profileFingerprint.equals(profile.getFingerprint())
+                || profile.getColumnCount() != columnCount) {
+            return null;
+        }
+        return profile;
+    }
+}
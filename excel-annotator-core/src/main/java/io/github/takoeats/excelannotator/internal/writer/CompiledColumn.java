@@ -0,0 +1,103 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.masking.Masking;
+import io.github.takoeats.excelannotator.style.CustomExcelCellStyle;
+import io.github.takoeats.excelannotator.style.internal.cache.StyleCache;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 출력 형식과 무관하게 컬럼마다 한 번 해석해 두는 값 파이프라인
+ * <p>값 추출기, 마스킹, 표시 형식을 확정합니다. Excel 경로({@link CellPlan})는 여기에 POI 스타일을 더하고,
+ * CSV 경로({@link CsvWriter})는 표시 형식을 텍스트 포맷터로 컴파일하여 사용합니다.</p>
+ */
+final class CompiledColumn<T> {
+
+    private static final String DEFAULT_FORMAT = "General";
+
+    private final Function<T, Object> extractor;
+    private final String fieldName;
+    private final Masking masking;
+    private final String format;
+
+    private CompiledColumn(Function<T, Object> extractor, String fieldName, Masking masking, String format) {
+        this.extractor = extractor;
+        this.fieldName = fieldName;
+        this.masking = masking;
+        this.format = format;
+    }
+
+    /**
+     * 메타데이터의 모든 컬럼을 컴파일
+     */
+    @SuppressWarnings("unchecked")
+    static <T> CompiledColumn<T>[] compile(ExcelMetadata<T> metadata) {
+        List<Function<T, Object>> extractors = metadata.getExtractors();
+        CompiledColumn<T>[] columns = new CompiledColumn[extractors.size()];
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = compileColumn(metadata, i, extractors.get(i));
+        }
+        return columns;
+    }
+
+    static <T> CompiledColumn<T> compileColumn(ExcelMetadata<T> metadata, int columnIndex,
+                                               Function<T, Object> extractor) {
+        CustomExcelCellStyle columnStyle = metadata.getColumnStyleAt(columnIndex);
+        Masking masking = metadata.getMaskingAt(columnIndex);
+        return new CompiledColumn<>(
+                extractor,
+                metadata.getFieldNameAt(columnIndex),
+                masking == Masking.NONE ? null : masking,
+                formatFor(metadata, columnIndex, columnStyle != null ? columnStyle.getClass() : null)
+        );
+    }
+
+    /**
+     * 컬럼 표시 형식 결정 ({@code @ExcelColumn.format} 우선, 없으면 스타일의 데이터 형식, 둘 다 없으면 null)
+     */
+    static String formatFor(ExcelMetadata<?> metadata, int columnIndex,
+                            Class<? extends CustomExcelCellStyle> styleClass) {
+        String annotationFormat = metadata.getFormatAt(columnIndex);
+        if (annotationFormat != null && !annotationFormat.trim().isEmpty()) {
+            return annotationFormat;
+        }
+
+        if (styleClass != null) {
+            CustomExcelCellStyle styleInstance = StyleCache.getStyleInstance(styleClass);
+            String styleFormat = styleInstance.getDataFormat();
+            if (styleFormat != null && !styleFormat.equals(DEFAULT_FORMAT)) {
+                return styleFormat;
+            }
+        }
+
+        return null;
+    }
+
+    Function<T, Object> getExtractor() {
+        return extractor;
+    }
+
+    String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * 컬럼 스타일까지 반영한 표시 형식 (없으면 null)
+     */
+    String getFormat() {
+        return format;
+    }
+
+    /**
+     * 문자열 값에 컬럼 마스킹 적용 (마스킹이 없거나 문자열이 아니면 그대로 반환)
+     */
+    Object mask(Object value) {
+        if (masking == null || !(value instanceof String)) {
+            return value;
+        }
+        return masking.mask((String) value);
+    }
+}
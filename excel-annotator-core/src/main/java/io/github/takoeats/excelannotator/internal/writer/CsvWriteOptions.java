@@ -0,0 +1,30 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.internal.writer.csv.CsvQuoting;
+import io.github.takoeats.excelannotator.internal.writer.csv.GzipOptions;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * CSV 내보내기 1회에 적용되는 쓰기 옵션
+ * <p>CsvBuilder에서 설정한 값이 CsvWriter로 전달됩니다.</p>
+ */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+public final class CsvWriteOptions {
+
+    public static final CsvWriteOptions DEFAULT = builder().build();
+
+    /**
+     * 필드 따옴표 처리 방식 (기본: 모든 필드를 따옴표로 감쌈)
+     */
+    @Builder.Default
+    private final CsvQuoting quoting = CsvQuoting.ALWAYS;
+
+    /**
+     * gzip 압축 옵션 (기본: null, 압축하지 않음)
+     */
+    private final GzipOptions gzip;
+}
@@ -2,38 +2,52 @@ package io.github.takoeats.excelannotator.internal.writer;
 
 import io.github.takoeats.excelannotator.exception.ErrorCode;
 import io.github.takoeats.excelannotator.exception.ExcelExporterException;
-import io.github.takoeats.excelannotator.internal.ExcelMetadataFactory;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataRegistry;
 import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
 import io.github.takoeats.excelannotator.internal.writer.adapter.DataStreamAdapter;
+import io.github.takoeats.excelannotator.internal.writer.csv.CsvRowEncoder;
+import io.github.takoeats.excelannotator.internal.writer.csv.CsvValueFormatter;
+import io.github.takoeats.excelannotator.internal.writer.csv.GzipCsvOutputStream;
+import io.github.takoeats.excelannotator.style.CustomExcelCellStyle;
+import io.github.takoeats.excelannotator.style.defaultstyle.DefaultColumnStyle;
+import io.github.takoeats.excelannotator.style.defaultstyle.DefaultNumberStyle;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public final class CsvWriter {
 
-    private static final String CSV_DELIMITER = ",";
-    private static final String CSV_LINE_BREAK = "\r\n";
     private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
     private final DataStreamAdapter streamAdapter;
+    private final CsvWriteOptions options;
+    private final ExportCancellation cancellation;
 
     public CsvWriter() {
+        this(CsvWriteOptions.DEFAULT, null);
+    }
+
+    /**
+     * @param options      CSV 쓰기 옵션
+     * @param cancellation 행마다 확인할 취소 신호 (null이면 취소하지 않음)
+     */
+    public CsvWriter(CsvWriteOptions options, ExportCancellation cancellation) {
         this.streamAdapter = new DataStreamAdapter();
+        this.options = options;
+        this.cancellation = cancellation;
     }
 
     public <T> void write(OutputStream outputStream, List<T> data) {
         validateData(data);
         Class<?> clazz = data.get(0).getClass();
         @SuppressWarnings("unchecked")
-        ExcelMetadata<T> metadata = (ExcelMetadata<T>) ExcelMetadataFactory.extractExcelMetadata(clazz);
-        writeFromIterator(outputStream, data.iterator(), metadata);
+        ExcelMetadata<T> metadata = (ExcelMetadata<T>) ExcelMetadataRegistry.getMetadata(clazz);
+        writeFromIterator(outputStream, cancellable(data.iterator()), metadata);
     }
 
     public <T> void write(OutputStream outputStream, Stream<T> dataStream) {
@@ -45,67 +59,82 @@ public final class CsvWriter {
         T firstElement = iterator.next();
         Class<?> clazz = firstElement.getClass();
         @SuppressWarnings("unchecked")
-        ExcelMetadata<T> metadata = (ExcelMetadata<T>) ExcelMetadataFactory.extractExcelMetadata(clazz);
+        ExcelMetadata<T> metadata = (ExcelMetadata<T>) ExcelMetadataRegistry.getMetadata(clazz);
 
         Iterator<T> combinedIterator = streamAdapter.prependToIterator(firstElement, iterator);
-        writeFromIterator(outputStream, combinedIterator, metadata);
+        writeFromIterator(outputStream, cancellable(combinedIterator), metadata);
+    }
+
+    /**
+     * 메타데이터가 확정된 데이터 하나를 CSV로 기록 (ZIP 항목 인코딩용, 출력 스트림은 닫힘)
+     */
+    <T> void writeEntry(OutputStream outputStream, Iterator<T> iterator, ExcelMetadata<T> metadata) {
+        writeFromIterator(outputStream, cancellable(iterator), metadata);
+    }
+
+    private <T> Iterator<T> cancellable(Iterator<T> iterator) {
+        return cancellation != null ? cancellation.guard(iterator) : iterator;
     }
 
     private <T> void writeFromIterator(OutputStream outputStream, Iterator<T> iterator,
                                        ExcelMetadata<T> metadata) {
         try {
-            outputStream.write(UTF8_BOM);
+            OutputStream target = options.getGzip() != null
+                    ? new GzipCsvOutputStream(outputStream, options.getGzip())
+                    : outputStream;
+            target.write(UTF8_BOM);
 
-            try (BufferedWriter writer = new BufferedWriter(
-                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            try (Writer writer = new OutputStreamWriter(target, StandardCharsets.UTF_8)) {
+                CsvRowEncoder encoder = new CsvRowEncoder(writer, options.getQuoting());
 
                 if (metadata.hasHeader()) {
-                    writeHeader(writer, metadata.getHeaders());
+                    writeHeader(encoder, metadata.getHeaders());
                 }
 
-                writeDataRows(writer, iterator, metadata.getExtractors());
+                writeDataRows(encoder, iterator, metadata);
+                encoder.flush();
             }
         } catch (IOException e) {
             throw new ExcelExporterException(ErrorCode.IO_ERROR, "CSV 작성 중 오류 발생", e);
         }
     }
 
-    private void writeHeader(BufferedWriter writer, List<String> headers) throws IOException {
-        String headerLine = headers.stream()
-                .map(this::escapeCsvValue)
-                .collect(Collectors.joining(CSV_DELIMITER));
-        writer.write(headerLine);
-        writer.write(CSV_LINE_BREAK);
-    }
-
-    private <T> void writeDataRows(BufferedWriter writer, Iterator<T> iterator,
-                                   List<Function<T, Object>> extractors) throws IOException {
-        while (iterator.hasNext()) {
-            T data = iterator.next();
-            String rowLine = extractors.stream()
-                    .map(extractor -> extractor.apply(data))
-                    .map(this::convertToString)
-                    .map(this::escapeCsvValue)
-                    .collect(Collectors.joining(CSV_DELIMITER));
-            writer.write(rowLine);
-            writer.write(CSV_LINE_BREAK);
+    private void writeHeader(CsvRowEncoder encoder, List<String> headers) throws IOException {
+        for (String header : headers) {
+            encoder.value(header);
         }
+        encoder.endRow();
     }
 
-    private String convertToString(Object value) {
-        if (value == null) {
-            return "";
+    private <T> void writeDataRows(CsvRowEncoder encoder, Iterator<T> iterator,
+                                   ExcelMetadata<T> metadata) throws IOException {
+        CompiledColumn<T>[] columns = CompiledColumn.compile(metadata);
+        CsvValueFormatter[] formatters = new CsvValueFormatter[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            formatters[i] = CsvValueFormatter.of(csvFormatAt(metadata, i));
         }
-        return value.toString();
-    }
 
-    private String escapeCsvValue(String value) {
-        if (value == null) {
-            return "\"\"";
+        while (iterator.hasNext()) {
+            T data = iterator.next();
+            for (int i = 0; i < columns.length; i++) {
+                CompiledColumn<T> column = columns[i];
+                encoder.value(column.mask(column.getExtractor().apply(data)), formatters[i]);
+            }
+            encoder.endRow();
         }
+    }
 
-        String escaped = value.replace("\"", "\"\"");
-        return "\"" + escaped + "\"";
+    /**
+     * CSV에 적용할 표시 형식
+     * <p>숫자 컬럼에 자동으로 지정되는 라이브러리 기본 스타일의 형식(예: {@code #,##0_ })은 Excel 화면용이므로
+     * 적용하지 않고, {@code @ExcelColumn.format}과 명시적으로 지정한 컬럼 스타일의 형식만 사용합니다.
+     * CSV 가져오기도 같은 형식으로 값을 되돌립니다.</p>
+     */
+    public static String csvFormatAt(ExcelMetadata<?> metadata, int columnIndex) {
+        CustomExcelCellStyle columnStyle = metadata.getColumnStyleAt(columnIndex);
+        boolean implicit = columnStyle == null
+                || columnStyle instanceof DefaultNumberStyle || columnStyle instanceof DefaultColumnStyle;
+        return CompiledColumn.formatFor(metadata, columnIndex, implicit ? null : columnStyle.getClass());
     }
 
     private <T> void validateData(List<T> data) {
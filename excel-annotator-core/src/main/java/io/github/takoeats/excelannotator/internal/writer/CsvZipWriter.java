@@ -0,0 +1,271 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.SheetDataEntry;
+import io.github.takoeats.excelannotator.internal.SheetGroupInfo;
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.internal.util.SheetNameValidator;
+import io.github.takoeats.excelannotator.internal.writer.adapter.DataStreamAdapter;
+import io.github.takoeats.excelannotator.internal.writer.builder.SheetRequestBuilder;
+import io.github.takoeats.excelannotator.internal.writer.csv.BoundedChunkPipe;
+import io.github.takoeats.excelannotator.internal.writer.organizer.SheetDataOrganizer;
+import io.github.takoeats.excelannotator.internal.writer.validation.ExcelDataValidator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 여러 데이터를 시트 이름별 CSV 항목으로 묶어 ZIP 하나로 스트리밍하는 Writer
+ * <p>시트 구성은 Excel 멀티 시트와 같습니다. 각 데이터의 DTO에서 찾은 시트 이름으로 묶고
+ * ({@link SheetDataOrganizer}), 같은 시트 이름의 데이터는 한 항목으로 병합하며, {@code @ExcelSheet(order)} 순서로
+ * 정렬합니다. 항목 이름은 시트 이름에 {@code .csv}를 붙인 것입니다. 임시 파일 없이 항목을 하나씩
+ * {@link ZipOutputStream}에 기록합니다.</p>
+ * <p>항목마다 인코딩 작업이 CSV를 {@link BoundedChunkPipe}의 고정 버퍼에 미리 인코딩하고, 호출 스레드는
+ * 항목 순서대로 버퍼를 받아 압축합니다. 동시에 인코딩하는 항목은 parallelism개로 제한되며, 앞 항목이 끝나면
+ * 다음 항목의 인코딩을 시작합니다. 항목당 메모리는 chunks × chunkSize를 넘지 않습니다.</p>
+ * <p>버퍼가 가득 차면 인코딩 스레드는 호출 스레드가 버퍼를 비울 때까지 멈추므로, 인코딩 속도는 결국 출력 스트림
+ * (다운로드 수신 측)의 속도를 따릅니다. 그래서 인코딩 작업은 여러 내보내기가 공유하는 풀이 아니라 내보내기마다
+ * 항목별로 만드는 데몬 스레드(최대 parallelism개)에서 실행합니다. 느린 다운로드 하나가 다른 내보내기의 인코딩을
+ * 막지 않습니다.</p>
+ * <p>작성 중 실패하면 중앙 디렉터리를 쓰지 않고 출력 스트림을 닫으므로, 수신 측은 잘린 ZIP을 정상 파일로 읽지
+ * 않습니다.</p>
+ * <p>Stream 값은 인코딩 스레드에서 소비됩니다. gzip 옵션은 ZIP 자체가 압축되므로 항목에는 적용하지 않습니다.</p>
+ */
+public final class CsvZipWriter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    public static final int DEFAULT_CHUNKS = 4;
+    public static final int DEFAULT_PARALLELISM = Math.min(4, Math.max(1, Runtime.getRuntime().availableProcessors()));
+
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+    private static final String CSV = ".csv";
+
+    private final CsvWriteOptions options;
+    private final ExportCancellation cancellation;
+    private final SheetDataOrganizer sheetOrganizer =
+            new SheetDataOrganizer(new DataStreamAdapter(), new ExcelDataValidator());
+    private final SheetRequestBuilder requestBuilder = new SheetRequestBuilder();
+    private final Executor executor;
+    private final int parallelism;
+    private final int chunkSize;
+    private final int chunks;
+
+    /**
+     * @param options      CSV 쓰기 옵션 (gzip은 무시)
+     * @param cancellation 행마다 확인할 취소 신호 (null이면 취소하지 않음)
+     */
+    public CsvZipWriter(CsvWriteOptions options, ExportCancellation cancellation) {
+        this(options, cancellation, CsvZipWriter::startEncoderThread, DEFAULT_PARALLELISM,
+                DEFAULT_CHUNK_SIZE, DEFAULT_CHUNKS);
+    }
+
+    CsvZipWriter(CsvWriteOptions options, ExportCancellation cancellation,
+                 int parallelism, int chunkSize, int chunks) {
+        this(options, cancellation, CsvZipWriter::startEncoderThread, parallelism, chunkSize, chunks);
+    }
+
+    /**
+     * @param executor 인코딩 작업을 실행할 Executor (제출한 작업을 바로 실행해야 하며, 앞 항목이 끝나기 전에 뒤 항목을
+     *                 대기시키면 교착될 수 있음)
+     */
+    CsvZipWriter(CsvWriteOptions options, ExportCancellation cancellation, Executor executor,
+                 int parallelism, int chunkSize, int chunks) {
+        this.options = options.toBuilder().gzip(null).build();
+        this.cancellation = cancellation;
+        this.executor = executor;
+        this.parallelism = Math.max(parallelism, 1);
+        this.chunkSize = chunkSize;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Map의 데이터를 시트 이름별 CSV 항목으로 만들어 ZIP으로 기록 (출력 스트림은 닫힘)
+     *
+     * @param sheetData 시트 식별자별 데이터 (List 또는 Stream)
+     */
+    public void write(OutputStream outputStream, Map<String, ?> sheetData) {
+        List<Entry<?>> entries = resolveEntries(sheetData);
+        AbortableZipOutputStream zip = new AbortableZipOutputStream(outputStream);
+        boolean finished = false;
+        try {
+            int started = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                while (started < entries.size() && started < i + parallelism) {
+                    entries.get(started++).start();
+                }
+                Entry<?> entry = entries.get(i);
+                zip.putNextEntry(new ZipEntry(entry.name));
+                entry.pipe.drainTo(zip);
+                zip.closeEntry();
+            }
+            zip.close();
+            finished = true;
+        } catch (IOException e) {
+            throw new ExcelExporterException(ErrorCode.IO_ERROR, "CSV ZIP 작성 중 오류 발생", e);
+        } finally {
+            for (Entry<?> entry : entries) {
+                entry.stop();
+            }
+            if (!finished) {
+                zip.abort();
+            }
+        }
+    }
+
+    private List<Entry<?>> resolveEntries(Map<String, ?> sheetData) {
+        if (sheetData == null || sheetData.isEmpty()) {
+            throw new ExcelExporterException(ErrorCode.EMPTY_DATA);
+        }
+
+        boolean isLinkedHashMap = sheetData instanceof LinkedHashMap;
+        Map<String, Stream<?>> streams = isLinkedHashMap ? new LinkedHashMap<>() : new HashMap<>();
+        for (Map.Entry<String, ?> sheet : sheetData.entrySet()) {
+            streams.put(sheet.getKey(), toStream(sheet.getValue()));
+        }
+
+        Map<String, SheetGroupInfo> grouped = sheetOrganizer.groupSheetDataFromStreams(streams);
+        List<Entry<?>> entries = new ArrayList<>(grouped.size());
+        Set<String> names = new HashSet<>();
+        for (Map.Entry<String, SheetGroupInfo> sheet : sheetOrganizer.sortSheetsByOrder(grouped)) {
+            List<SheetDataEntry> dataEntries = sheet.getValue().getEntries();
+            List<SheetWriteRequest<?>> requests = dataEntries.size() == 1
+                    ? requestBuilder.createRequestsForSingleEntry(sheet.getKey(), dataEntries.get(0))
+                    : Collections.singletonList(
+                    requestBuilder.createRequestForMergedData(sheet.getKey(), dataEntries, isLinkedHashMap));
+            for (SheetWriteRequest<?> request : requests) {
+                Entry<?> entry = new Entry<>(request);
+                if (!names.add(entry.name)) {
+                    throw new ExcelExporterException(ErrorCode.DUPLICATE_SHEET_NAME, entry.name);
+                }
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private static Stream<?> toStream(Object value) {
+        if (value instanceof List) {
+            return ((List<?>) value).stream();
+        }
+        if (value instanceof Stream) {
+            return (Stream<?>) value;
+        }
+        throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                "Map values must be List or Stream, but was: " +
+                        (value == null ? "null" : value.getClass().getName()));
+    }
+
+    /**
+     * ZIP 항목 하나와 그 인코딩 작업
+     */
+    private final class Entry<T> {
+        private static final int PENDING = 0;
+        private static final int RUNNING = 1;
+        private static final int SKIPPED = 2;
+
+        final String name;
+        final SheetWriteRequest<T> request;
+        final BoundedChunkPipe pipe = new BoundedChunkPipe(chunkSize, chunks);
+        final AtomicInteger state = new AtomicInteger(PENDING);
+        final CountDownLatch done = new CountDownLatch(1);
+        boolean submitted;
+
+        Entry(SheetWriteRequest<T> request) {
+            this.request = request;
+            this.name = SheetNameValidator.validateAndSanitize(request.getMetadata().getSheetName()) + CSV;
+        }
+
+        void start() {
+            try {
+                executor.execute(this::encode);
+                submitted = true;
+            } catch (RejectedExecutionException e) {
+                throw new ExcelExporterException(ErrorCode.EXPORT_REJECTED, "CSV 인코딩 작업이 거부되었습니다.", e);
+            }
+        }
+
+        private void encode() {
+            if (!state.compareAndSet(PENDING, RUNNING)) {
+                return;
+            }
+            try {
+                ExcelMetadata<T> metadata = request.getMetadata();
+                new CsvWriter(options, cancellation).writeEntry(pipe.sink(), request.getDataIterator(), metadata);
+                pipe.complete();
+            } catch (Throwable t) {
+                pipe.fail(t);
+            } finally {
+                done.countDown();
+            }
+        }
+
+        /**
+         * 인코딩 작업을 멈추고 종료를 기다림 (아직 실행되지 않은 작업은 실행하지 않음)
+         */
+        void stop() {
+            if (!submitted || state.compareAndSet(PENDING, SKIPPED)) {
+                return;
+            }
+            pipe.cancel();
+            boolean interrupted = false;
+            while (done.getCount() > 0) {
+                try {
+                    done.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 실패 시 중앙 디렉터리 없이 닫을 수 있는 ZipOutputStream
+     */
+    private static final class AbortableZipOutputStream extends ZipOutputStream {
+
+        AbortableZipOutputStream(OutputStream out) {
+            super(out, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * 압축기를 해제하고 ZIP을 마무리하지 않은 채 출력 스트림을 닫음
+         */
+        void abort() {
+            def.end();
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // 이미 실패한 내보내기의 정리 단계
+            }
+        }
+    }
+
+    /**
+     * 인코딩 작업 하나를 새 데몬 스레드에서 실행 (작업이 끝나면 스레드도 종료)
+     */
+    private static void startEncoderThread(Runnable task) {
+        Thread thread = new Thread(task, "csv-zip-encoder-" + THREAD_SEQUENCE.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.internal.util.ColumnWidthCalculator;
+import io.github.takoeats.excelannotator.internal.writer.direct.OoxmlPackageWriter;
+import io.github.takoeats.excelannotator.internal.writer.direct.SheetXmlWriter;
+import io.github.takoeats.excelannotator.internal.writer.direct.StreamingCell;
+import io.github.takoeats.excelannotator.internal.writer.workbook.SharedStringDictionary;
+import io.github.takoeats.excelannotator.internal.writer.workbook.SharedStringsOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.SharedStringsReport;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * SXSSF 임시 파일 없이 XLSX를 출력 스트림에 직접 기록하는 엔진
+ * <p>스타일, 헤더, 병합 영역, 컬럼 너비는 메모리상의 템플릿 XSSFWorkbook에서 기존 Writer로 만들고,
+ * 데이터 행은 재사용 셀({@link StreamingCell})에 CellPlan을 적용한 즉시 시트 XML로 직렬화합니다.</p>
+ * <p>자동 너비(-1) 컬럼이 있으면 시트마다 앞쪽 {@value #AUTO_WIDTH_SAMPLE_ROWS}행을 템플릿 시트에 기록하여
+ * {@link ColumnWidthTracker}로 너비를 계산한 뒤 출력합니다. 갱신 주기 안의 너비 프로파일이 있으면 샘플링 없이
+ * 프로파일 너비를 적용합니다. 행 기반 시트만 지원합니다.</p>
+ */
+public final class DirectWorkbookWriter {
+
+    static final int AUTO_WIDTH_SAMPLE_ROWS = 100;
+
+    private final RowWriter rowWriter;
+    private final ExcelWriteOptions options;
+
+    public DirectWorkbookWriter(RowWriter rowWriter, ExcelWriteOptions options) {
+        this.rowWriter = rowWriter;
+        this.options = options;
+    }
+
+    /**
+     * 행 기반 시트 요청을 XLSX로 기록 (출력 스트림은 닫지 않음)
+     */
+    public ExcelExportReport write(SheetWriteContext<?> context, OutputStream outputStream) throws IOException {
+        if (context.isColumnBasedSplit()) {
+            throw new IllegalArgumentException("컬럼 기반 시트 분리는 직접 스트리밍 엔진에서 지원하지 않습니다.");
+        }
+
+        try (XSSFWorkbook template = new XSSFWorkbook();
+             OoxmlPackageWriter packageWriter = new OoxmlPackageWriter(outputStream, options.getCompression())) {
+            Export export = new Export(template, packageWriter);
+            for (SheetWriteRequest<?> request : context.getSheetRequests()) {
+                export.writeRequest(request);
+            }
+            return export.finish();
+        }
+    }
+
+    private final class Export {
+
+        private final XSSFWorkbook template;
+        private final StyleCacheManager styleCacheManager;
+        private final OoxmlPackageWriter packageWriter;
+        private SharedStringDictionary sharedStringDictionary;
+
+        Export(XSSFWorkbook template, OoxmlPackageWriter packageWriter) {
+            this.template = template;
+            this.styleCacheManager = new StyleCacheManager(template);
+            this.packageWriter = packageWriter;
+        }
+
+        <T> void writeRequest(SheetWriteRequest<T> request) throws IOException {
+            ExcelMetadata<T> metadata = request.getMetadata();
+            Iterator<T> dataIterator = request.getDataIterator();
+            CellPlan<T>[] cellPlans = CellPlan.compile(metadata, styleCacheManager);
+            StreamingCell[] cells = new StreamingCell[cellPlans.length];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = new StreamingCell(i);
+            }
+
+            ColumnWidthTracker widths = new ColumnWidthTracker(metadata, options.getWidthProfiles());
+            try (RowSource<T> rows = RowSource.of(dataIterator, cellPlans, rowWriter, options.getRowPreparation())) {
+                int sheetIndex = 0;
+                while (rows.hasNext()) {
+                    String sheetName = SheetWriter.buildSheetName(metadata.getSheetName(), sheetIndex++);
+                    writeSheet(sheetName, metadata, rows, cellPlans, cells, widths);
+                }
+            }
+            widths.complete();
+        }
+
+        private <T> void writeSheet(String sheetName,
+                                    ExcelMetadata<T> metadata,
+                                    RowSource<T> rows,
+                                    CellPlan<T>[] cellPlans,
+                                    StreamingCell[] cells,
+                                    ColumnWidthTracker widths) throws IOException {
+            int headerRows = metadata.hasHeader() ? metadata.getHeaderRowCount() : 0;
+            XSSFSheet templateSheet = template.createSheet(sheetName);
+            rowWriter.createHeaderRow(templateSheet, metadata, styleCacheManager);
+            ColumnWidthCalculator.applyFixedColumnWidths(templateSheet, metadata);
+
+            int rowInSheet = 0;
+            widths.startSheet(templateSheet);
+            if (!widths.isEmpty() && !widths.usesProfile()) {
+                while (rows.hasNext() && rowInSheet < AUTO_WIDTH_SAMPLE_ROWS) {
+                    Row row = templateSheet.createRow(rowInSheet + headerRows);
+                    rows.writeNext(row, rowInSheet);
+                    widths.record(row);
+                    rowInSheet++;
+                }
+            }
+            widths.apply(templateSheet);
+
+            SheetXmlWriter sheetXml = packageWriter.beginSheet(sheetName);
+            configureSharedStrings(sheetXml, metadata);
+            sheetXml.begin(packageWriter.getSheetCount() == 1, columnWidths(templateSheet, cellPlans.length));
+
+            List<Row> bufferedRows = new ArrayList<>();
+            for (Row row : templateSheet) {
+                sheetXml.writeRow(row);
+                bufferedRows.add(row);
+            }
+
+            while (rows.hasNext() && rowInSheet < SheetWriter.MAX_DATA_ROWS_PER_SHEET) {
+                rows.writeNext(cells, rowInSheet);
+                sheetXml.writeRow(rowInSheet + headerRows, cells);
+                rowInSheet++;
+            }
+
+            sheetXml.end(templateSheet.getMergedRegions());
+            packageWriter.endSheet();
+
+            for (Row row : bufferedRows) {
+                templateSheet.removeRow(row);
+            }
+        }
+
+        private void configureSharedStrings(SheetXmlWriter sheetXml, ExcelMetadata<?> metadata) {
+            SharedStringsOptions sharedStrings = options.getSharedStrings();
+            boolean[] columnEnabled = SheetWriter.sharedStringColumns(metadata);
+            if (!sharedStrings.isAllColumns() && !anyEnabled(columnEnabled)) {
+                return;
+            }
+
+            if (sharedStringDictionary == null) {
+                sharedStringDictionary = new SharedStringDictionary(template.getSharedStringSource(), sharedStrings);
+            }
+            sheetXml.enableSharedStrings(sharedStringDictionary,
+                    sharedStringDictionary.newColumns(columnEnabled, sharedStrings.isAllColumns()));
+        }
+
+        ExcelExportReport finish() throws IOException {
+            boolean hasSharedStrings = sharedStringDictionary != null && !sharedStringDictionary.isEmpty();
+            packageWriter.finish(template.getStylesSource(),
+                    hasSharedStrings ? template.getSharedStringSource() : null);
+
+            return ExcelExportReport.builder()
+                    .engine(WriteEngine.DIRECT)
+                    .sharedStrings(sharedStringDictionary != null
+                            ? sharedStringDictionary.toReport()
+                            : SharedStringsReport.EMPTY)
+                    .build();
+        }
+    }
+
+    private static int[] columnWidths(XSSFSheet sheet, int columnCount) {
+        int[] widths = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            widths[i] = sheet.getColumnWidth(i);
+        }
+        return widths;
+    }
+
+    private static boolean anyEnabled(boolean[] columnEnabled) {
+        for (boolean enabled : columnEnabled) {
+            if (enabled) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
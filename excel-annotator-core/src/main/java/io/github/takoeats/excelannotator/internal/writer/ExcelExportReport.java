@@ -0,0 +1,63 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.internal.writer.workbook.ConfiguredSXSSFWorkbook;
+import io.github.takoeats.excelannotator.internal.writer.workbook.SharedStringsReport;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.ToString;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.util.List;
+
+/**
+ * Excel 내보내기 1회의 실행 결과 보고서
+ * <p>{@code ExcelBuilder.onReport(...)}로 등록한 리스너에 워크북 출력이 끝난 뒤 전달됩니다.</p>
+ */
+@Getter
+@ToString
+@Builder
+public final class ExcelExportReport {
+
+    /**
+     * 실제 사용된 출력 엔진
+     */
+    @Builder.Default
+    private final WriteEngine engine = WriteEngine.SXSSF;
+
+    @Builder.Default
+    private final SharedStringsReport sharedStrings = SharedStringsReport.EMPTY;
+
+    /**
+     * 임시 파일에 기록된 총 바이트 (메모리 버퍼에 남은 시트는 제외, 커스텀 임시 저장소 사용 시에만 집계)
+     */
+    private final long tempFileBytes;
+
+    /**
+     * 메모리 버퍼 한도를 넘어 임시 파일로 전환된 시트 수
+     */
+    private final int spilledSheetCount;
+
+    /**
+     * 힙 예산으로 결정된 시트별 출력 파라미터 (예산을 설정하지 않았으면 빈 목록)
+     */
+    @Singular
+    private final List<ExportSizing> sizings;
+
+    /**
+     * 출력이 끝난 워크북에서 보고서 생성
+     */
+    public static ExcelExportReport from(SXSSFWorkbook workbook) {
+        if (!(workbook instanceof ConfiguredSXSSFWorkbook)) {
+            return builder().build();
+        }
+
+        ConfiguredSXSSFWorkbook configured = (ConfiguredSXSSFWorkbook) workbook;
+        return builder()
+                .sharedStrings(configured.getSharedStringsReport())
+                .tempFileBytes(configured.getTempFileBytes())
+                .spilledSheetCount(configured.getSpilledSheetCount())
+                .sizings(configured.getSizings())
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.internal.writer.prefetch.PrefetchOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.CompressionOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.SharedStringsOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.TempStorageOptions;
+import io.github.takoeats.excelannotator.internal.writer.width.WidthProfileOptions;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Excel 내보내기 1회에 적용되는 쓰기 옵션
+ * <p>ExcelBuilder에서 설정한 값이 ExcelWriter → SXSSFWorkbookBuilder → SheetWriter로 전달됩니다.</p>
+ */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+public final class ExcelWriteOptions {
+
+    public static final ExcelWriteOptions DEFAULT = builder().build();
+
+    /**
+     * 공유 문자열 사전 옵션 (기본: {@code @ExcelColumn(sharedString = true)} 컬럼만 적용)
+     */
+    @Builder.Default
+    private final SharedStringsOptions sharedStrings = SharedStringsOptions.ANNOTATED_COLUMNS;
+
+    /**
+     * SXSSF 시트 임시 저장소 옵션 (기본: POI 기본 임시 파일, DIRECT 엔진에서는 사용하지 않음)
+     */
+    @Builder.Default
+    private final TempStorageOptions tempStorage = TempStorageOptions.DEFAULT;
+
+    /**
+     * SXSSF 행 보관에 사용할 힙 예산 (바이트, 0이면 고정 500행 윈도우)
+     * <p>설정하면 행당 예상 바이트로 행 윈도우, 플러시 단위, 자동 너비 샘플링을 결정합니다.</p>
+     */
+    private final long heapBudgetBytes;
+
+    /**
+     * XLSX 패키지 압축 옵션 (기본: POI 기본 압축 수준, 단일 스레드)
+     */
+    @Builder.Default
+    private final CompressionOptions compression = CompressionOptions.DEFAULT;
+
+    /**
+     * 학습한 컬럼 너비 프로파일 옵션 (기본: 사용하지 않음)
+     */
+    @Builder.Default
+    private final WidthProfileOptions widthProfiles = WidthProfileOptions.DISABLED;
+
+    /**
+     * 행 기반 멀티 시트를 시트별로 병렬 작성할 Executor (기본: null, 순차 작성)
+     * <p>SXSSF 엔진에서만 사용되며, Executor의 수명은 호출자가 관리합니다.</p>
+     */
+    private final Executor sheetExecutor;
+
+    /**
+     * 단일 Stream 소스 선읽기 옵션 (기본: 사용하지 않음)
+     */
+    @Builder.Default
+    private final PrefetchOptions prefetch = PrefetchOptions.DISABLED;
+
+    /**
+     * 병렬 행 준비 옵션 (기본: 사용하지 않음)
+     */
+    @Builder.Default
+    private final RowPreparationOptions rowPreparation = RowPreparationOptions.DISABLED;
+
+    /**
+     * 워크북 출력 엔진 (기본: {@link WriteEngine#SXSSF})
+     */
+    @Builder.Default
+    private final WriteEngine engine = WriteEngine.SXSSF;
+}
@@ -2,17 +2,21 @@ package io.github.takoeats.excelannotator.internal.writer;
 
 import io.github.takoeats.excelannotator.exception.ErrorCode;
 import io.github.takoeats.excelannotator.exception.ExcelExporterException;
-import io.github.takoeats.excelannotator.internal.ExcelMetadataFactory;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataRegistry;
 import io.github.takoeats.excelannotator.internal.SheetDataEntry;
 import io.github.takoeats.excelannotator.internal.SheetGroupInfo;
 import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
 import io.github.takoeats.excelannotator.internal.writer.adapter.DataStreamAdapter;
 import io.github.takoeats.excelannotator.internal.writer.builder.SheetRequestBuilder;
 import io.github.takoeats.excelannotator.internal.writer.organizer.SheetDataOrganizer;
+import io.github.takoeats.excelannotator.internal.writer.prefetch.PrefetchIterator;
+import io.github.takoeats.excelannotator.internal.writer.prefetch.PrefetchOptions;
 import io.github.takoeats.excelannotator.internal.writer.validation.ExcelDataValidator;
 import io.github.takoeats.excelannotator.internal.writer.workbook.SXSSFWorkbookBuilder;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -27,6 +31,8 @@ import java.util.stream.Stream;
  *     <li>멀티 시트 Excel 생성 (여러 DTO를 각각 시트로)</li>
  *     <li>컬럼별 시트 분리 (@ExcelColumn.sheetName() 기반)</li>
  *     <li>100만건 초과 시 자동 시트 분할</li>
+ *     <li>단일 Stream 소스 선읽기 ({@link PrefetchOptions})</li>
+ *     <li>행 단위 협력적 취소 ({@link ExportCancellation})</li>
  * </ul>
  */
 public final class ExcelWriter {
@@ -36,8 +42,23 @@ public final class ExcelWriter {
     private final SheetDataOrganizer sheetOrganizer;
     private final SheetRequestBuilder requestBuilder;
     private final SXSSFWorkbookBuilder workbookBuilder;
+    private final DirectWorkbookWriter directWriter;
+    private final WriteEngine engine;
+    private final PrefetchOptions prefetch;
+    private final ExportCancellation cancellation;
 
     public ExcelWriter() {
+        this(ExcelWriteOptions.DEFAULT);
+    }
+
+    public ExcelWriter(ExcelWriteOptions options) {
+        this(options, null);
+    }
+
+    /**
+     * @param cancellation 행마다 확인할 취소 신호 (null이면 취소하지 않음)
+     */
+    public ExcelWriter(ExcelWriteOptions options, ExportCancellation cancellation) {
         this.dataValidator = new ExcelDataValidator();
         this.streamAdapter = new DataStreamAdapter();
         this.sheetOrganizer = new SheetDataOrganizer(streamAdapter, dataValidator);
@@ -45,7 +66,11 @@ public final class ExcelWriter {
 
         RowWriter rowWriter = new RowWriter();
         SheetWriter sheetWriter = new SheetWriter(rowWriter);
-        this.workbookBuilder = new SXSSFWorkbookBuilder(sheetWriter);
+        this.workbookBuilder = new SXSSFWorkbookBuilder(sheetWriter, options);
+        this.directWriter = new DirectWorkbookWriter(rowWriter, options);
+        this.engine = options.getEngine();
+        this.prefetch = options.getPrefetch();
+        this.cancellation = cancellation;
     }
 
     public SXSSFWorkbook write(List<?> list) {
@@ -54,6 +79,102 @@ public final class ExcelWriter {
     }
 
     public SXSSFWorkbook write(Map<String, List<?>> sheetDataMap) {
+        return writeWithStreams(toStreamMap(sheetDataMap));
+    }
+
+    public SXSSFWorkbook writeWithStreams(Map<String, Stream<?>> sheetStreamMap) {
+        dataValidator.validateDataNotEmpty(sheetStreamMap);
+        return workbookBuilder.createWorkbookAndWrite(contextFor(sheetStreamMap));
+    }
+
+    public SXSSFWorkbook write(Stream<?> stream) {
+        SheetWriteContext<?> context = contextFor(stream);
+        try {
+            return workbookBuilder.createWorkbookAndWrite(context);
+        } finally {
+            closeSources(context);
+        }
+    }
+
+    /**
+     * 단일 DTO 목록을 설정된 엔진으로 출력 스트림에 기록 (출력 스트림은 닫지 않음)
+     *
+     * @return 내보내기 결과 보고서
+     */
+    public ExcelExportReport export(List<?> list, OutputStream outputStream) throws IOException {
+        dataValidator.validateDataNotEmpty(list);
+        return export(list.stream(), outputStream);
+    }
+
+    /**
+     * Stream 데이터를 설정된 엔진으로 출력 스트림에 기록 (출력 스트림은 닫지 않음)
+     *
+     * @return 내보내기 결과 보고서
+     */
+    public ExcelExportReport export(Stream<?> stream, OutputStream outputStream) throws IOException {
+        return export(contextFor(stream), outputStream);
+    }
+
+    /**
+     * 멀티 시트 Stream Map을 설정된 엔진으로 출력 스트림에 기록 (출력 스트림은 닫지 않음)
+     *
+     * @return 내보내기 결과 보고서
+     */
+    public ExcelExportReport exportStreams(Map<String, Stream<?>> sheetStreamMap,
+                                           OutputStream outputStream) throws IOException {
+        dataValidator.validateDataNotEmpty(sheetStreamMap);
+        return export(contextFor(sheetStreamMap), outputStream);
+    }
+
+    /**
+     * DIRECT 엔진은 행 기반 시트만 직접 스트리밍하고, 컬럼 기반 시트 분리는 SXSSF로 처리
+     */
+    private ExcelExportReport export(SheetWriteContext<?> context, OutputStream outputStream) throws IOException {
+        try {
+            if (engine == WriteEngine.DIRECT && !context.isColumnBasedSplit()) {
+                return directWriter.write(context, outputStream);
+            }
+
+            SXSSFWorkbook wb = workbookBuilder.createWorkbookAndWrite(context);
+            try {
+                wb.write(outputStream);
+                return ExcelExportReport.from(wb);
+            } finally {
+                wb.close();
+            }
+        } finally {
+            closeSources(context);
+        }
+    }
+
+    /**
+     * 선읽기 생산자 스레드 종료 (끝까지 읽지 못한 소스 Stream은 닫힘)
+     */
+    private static void closeSources(SheetWriteContext<?> context) {
+        if (context.isColumnBasedSplit()) {
+            CancellableIterator.closeIfNeeded(context.getColumnDataIterator());
+        }
+        for (SheetWriteRequest<?> request : context.getSheetRequests()) {
+            CancellableIterator.closeIfNeeded(request.getDataIterator());
+        }
+    }
+
+    private <T> Iterator<T> prefetch(Iterator<T> iterator, Stream<?> stream) {
+        return prefetch.isEnabled() ? new PrefetchIterator<>(iterator, prefetch, stream::close) : iterator;
+    }
+
+    private <T> Iterator<T> cancellable(Iterator<T> iterator) {
+        return cancellation != null ? cancellation.guard(iterator) : iterator;
+    }
+
+    private <T> SheetWriteRequest<T> cancellableRequest(SheetWriteRequest<T> request) {
+        return SheetWriteRequest.<T>builder()
+                .dataIterator(cancellable(request.getDataIterator()))
+                .metadata(request.getMetadata())
+                .build();
+    }
+
+    private Map<String, Stream<?>> toStreamMap(Map<String, List<?>> sheetDataMap) {
         dataValidator.validateDataNotEmpty(sheetDataMap);
         boolean isLinkedHashMap = sheetDataMap instanceof LinkedHashMap;
         Map<String, Stream<?>> streamMap = isLinkedHashMap ? new LinkedHashMap<>() : new java.util.HashMap<>();
@@ -64,16 +185,11 @@ public final class ExcelWriter {
             }
             streamMap.put(entry.getKey(), list.stream());
         }
-        return writeWithStreams(streamMap);
-    }
-
-    public SXSSFWorkbook writeWithStreams(Map<String, Stream<?>> sheetStreamMap) {
-        dataValidator.validateDataNotEmpty(sheetStreamMap);
-        return writeFromStreamMap(sheetStreamMap);
+        return streamMap;
     }
 
     @SuppressWarnings("unchecked")
-    public SXSSFWorkbook write(Stream<?> stream) {
+    private SheetWriteContext<?> contextFor(Stream<?> stream) {
         Iterator<?> iterator = dataValidator.validateAndGetIterator(stream);
 
         Object firstElement = iterator.next();
@@ -81,22 +197,19 @@ public final class ExcelWriter {
         Iterator<Object> fullIterator = streamAdapter.prependToIterator(firstElement, (Iterator<Object>) iterator);
 
         Map<String, ExcelMetadata<Object>> multiSheetMeta =
-                (Map<String, ExcelMetadata<Object>>) (Map<?, ?>) ExcelMetadataFactory.extractMultiSheetMetadata(
+                (Map<String, ExcelMetadata<Object>>) (Map<?, ?>) ExcelMetadataRegistry.getMultiSheetMetadata(
                         clazz);
 
         if (multiSheetMeta.size() > 1) {
             List<ExcelMetadata<Object>> metadataList = new ArrayList<>(multiSheetMeta.values());
-            SheetWriteContext<Object> context = SheetWriteContext.forColumnBasedSheets(
-                    fullIterator, metadataList);
-            return workbookBuilder.createWorkbookAndWrite(context);
+            return SheetWriteContext.forColumnBasedSheets(cancellable(prefetch(fullIterator, stream)), metadataList);
         }
 
-        ExcelMetadata<Object> metadata = (ExcelMetadata<Object>) ExcelMetadataFactory.extractExcelMetadata(
+        ExcelMetadata<Object> metadata = (ExcelMetadata<Object>) ExcelMetadataRegistry.getMetadata(
                 clazz);
-        SheetWriteRequest<Object> request = requestBuilder.createRequest(fullIterator, metadata);
-        SheetWriteContext<Object> context = SheetWriteContext.forRowBasedSheets(
-                Collections.singletonList(request));
-        return workbookBuilder.createWorkbookAndWrite(context);
+        SheetWriteRequest<Object> request =
+                requestBuilder.createRequest(cancellable(prefetch(fullIterator, stream)), metadata);
+        return SheetWriteContext.forRowBasedSheets(Collections.singletonList(request));
     }
 
     /**
@@ -113,10 +226,10 @@ public final class ExcelWriter {
      * sheetData.put("identifier3", productList);   // Sheet 이름: @ExcelSheet("고객") -> "고객" 시트에 병합
      * }</pre>
      *
-     * @return SXSSFWorkbook 객체 (호출자는 반드시 close() 및 dispose() 호출 필요)
-     * @throws ExcelExporterException 멀티 시트 생성 중 오류 발생 시
+     * @return 행 기반 시트 쓰기 컨텍스트
+     * @throws ExcelExporterException 멀티 시트 구성 중 오류 발생 시
      */
-    private SXSSFWorkbook writeFromStreamMap(Map<String, Stream<?>> sheetStreamMap) {
+    private SheetWriteContext<?> contextFor(Map<String, Stream<?>> sheetStreamMap) {
         boolean isLinkedHashMap = sheetStreamMap instanceof LinkedHashMap;
 
         Map<String, SheetGroupInfo> sheetGroupedData = sheetOrganizer.groupSheetDataFromStreams(sheetStreamMap);
@@ -136,9 +249,11 @@ public final class ExcelWriter {
                 requests.add(requestBuilder.createRequestForMergedData(sheetName, dataEntries, isLinkedHashMap));
             }
         }
+        if (cancellation != null) {
+            requests.replaceAll(this::cancellableRequest);
+        }
 
-        SheetWriteContext<?> context = SheetWriteContext.forRowBasedSheets(requests);
-        return workbookBuilder.createWorkbookAndWrite(context);
+        return SheetWriteContext.forRowBasedSheets(requests);
     }
 
 }
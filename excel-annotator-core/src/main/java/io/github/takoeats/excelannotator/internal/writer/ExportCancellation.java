@@ -0,0 +1,41 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+
+import java.util.Iterator;
+
+/**
+ * 내보내기 1회의 협력적 취소 신호
+ * <p>{@link #guard(Iterator)}로 감싼 데이터 소스는 행을 꺼내기 전마다 신호를 확인하고, 취소되었으면 소스에서 더
+ * 읽지 않고 {@link ErrorCode#EXPORT_CANCELLED}를 던집니다. 예외는 일반 실패와 같은 경로로 전파되어 SXSSF 임시
+ * 파일 삭제와 선읽기 스레드 종료가 즉시 수행됩니다.</p>
+ */
+public final class ExportCancellation {
+
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 취소되었으면 EXPORT_CANCELLED 예외 발생
+     */
+    public void throwIfCancelled() {
+        if (cancelled) {
+            throw new ExcelExporterException(ErrorCode.EXPORT_CANCELLED, "사용자 요청으로 내보내기 중단");
+        }
+    }
+
+    /**
+     * 행을 꺼내기 전마다 취소 여부를 확인하는 Iterator로 감쌈
+     */
+    public <T> Iterator<T> guard(Iterator<T> iterator) {
+        return new CancellableIterator<>(iterator, this);
+    }
+}
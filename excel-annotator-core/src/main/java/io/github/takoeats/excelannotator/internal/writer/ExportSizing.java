@@ -0,0 +1,71 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 힙 예산으로 결정된 시트 출력 파라미터
+ * <p>예산을 동시에 채워지는 시트 수로 나눈 뒤 행당 예상 바이트로 나누어 메모리에 유지할 행 수를 정합니다.
+ * 계산 결과가 최소값보다 작으면 최소값을 사용하므로 아주 작은 예산은 초과될 수 있습니다.</p>
+ */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+public final class ExportSizing {
+
+    static final int MIN_ROW_ACCESS_WINDOW = 16;
+    static final int MAX_ROW_ACCESS_WINDOW = 10_000;
+    static final int FLUSH_BATCH_DIVISOR = 4;
+
+    /**
+     * 대상 시트 기본 이름
+     */
+    private final String sheetName;
+
+    private final long heapBudgetBytes;
+
+    /**
+     * 행 하나가 메모리에서 차지하는 예상 바이트
+     */
+    private final long estimatedBytesPerRow;
+
+    /**
+     * 추정에 사용한 실제 행 수 (0이면 메타데이터 기반 정적 추정)
+     */
+    private final int sampledRows;
+
+    /**
+     * 시트별로 메모리에 유지하는 최대 행 수
+     */
+    private final int rowAccessWindowSize;
+
+    /**
+     * 한 번에 임시 저장소로 내보내는 행 수
+     */
+    private final int flushIntervalRows;
+
+    /**
+     * 예산과 행당 바이트로 출력 파라미터 계산
+     *
+     * @param concurrentSheets 동시에 행이 추가되는 시트 수 (컬럼 기반 시트 분리 시 시트 수)
+     */
+    static ExportSizing plan(String sheetName,
+                             long heapBudgetBytes,
+                             long estimatedBytesPerRow,
+                             int concurrentSheets,
+                             int sampledRows) {
+        long perSheetBudget = heapBudgetBytes / Math.max(1, concurrentSheets);
+        long rows = perSheetBudget / Math.max(1, estimatedBytesPerRow);
+        int window = (int) Math.max(MIN_ROW_ACCESS_WINDOW, Math.min(MAX_ROW_ACCESS_WINDOW, rows));
+
+        return builder()
+                .sheetName(sheetName)
+                .heapBudgetBytes(heapBudgetBytes)
+                .estimatedBytesPerRow(estimatedBytesPerRow)
+                .sampledRows(sampledRows)
+                .rowAccessWindowSize(window)
+                .flushIntervalRows(Math.max(1, window / FLUSH_BATCH_DIVISOR))
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.internal.writer.direct.StreamingCell;
+import io.github.takoeats.excelannotator.style.internal.rule.CellContext;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.util.Iterator;
+
+/**
+ * 쓰기 스레드에서 항목을 하나씩 꺼내 바로 기록하는 기본 행 소스
+ */
+final class IteratorRowSource<T> implements RowSource<T> {
+
+    private final Iterator<T> dataIterator;
+    private final CellPlan<T>[] cellPlans;
+    private final RowWriter rowWriter;
+
+    IteratorRowSource(Iterator<T> dataIterator, CellPlan<T>[] cellPlans, RowWriter rowWriter) {
+        this.dataIterator = dataIterator;
+        this.cellPlans = cellPlans;
+        this.rowWriter = rowWriter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return dataIterator.hasNext();
+    }
+
+    @Override
+    public void writeNext(Row row, int dataRowIndex) {
+        rowWriter.writeDataRow(row, dataIterator.next(), dataRowIndex, cellPlans);
+    }
+
+    @Override
+    public void writeNext(StreamingCell[] cells, int dataRowIndex) {
+        T item = dataIterator.next();
+        try (CellContext cellContext = CellContext.acquire()) {
+            for (int col = 0; col < cellPlans.length; col++) {
+                cells[col].reset();
+                cellPlans[col].write(cells[col], item, col, dataRowIndex, cellContext);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        // 쓰기 스레드 외에 정리할 자원 없음
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+
+import java.io.IOException;
+
+/**
+ * 힙 예산에 맞춰 SXSSF 시트의 행 보관을 제어
+ * <p>시트는 수동 플러시 모드(window = -1)로 전환되고, 메모리에 보관된 행이
+ * {@link ExportSizing#getRowAccessWindowSize()}에 도달하면 {@link ExportSizing#getFlushIntervalRows()}행을
+ * 한 번에 임시 저장소로 내보냅니다.</p>
+ * <p>처음에는 메타데이터의 선언 타입으로 행 크기를 추정하고, 첫 시트의 앞쪽 {@value #SIZING_SAMPLE_ROWS}행이
+ * 작성되면 실제 값으로 다시 계산합니다. 자동 너비는 {@link ColumnWidthTracker}가 행 추가 시점에 측정하므로
+ * 플러시 시점과 무관합니다.</p>
+ */
+final class MemoryBudgetController {
+
+    static final int SIZING_SAMPLE_ROWS = 32;
+
+    private final ExcelMetadata<?> metadata;
+    private final long heapBudgetBytes;
+    private final int concurrentSheets;
+
+    private ExportSizing sizing;
+    private long maxSampledRowBytes;
+    private int sampledRows;
+    private int rowsInMemory;
+
+    MemoryBudgetController(ExcelMetadata<?> metadata, long heapBudgetBytes, int concurrentSheets) {
+        this.metadata = metadata;
+        this.heapBudgetBytes = heapBudgetBytes;
+        this.concurrentSheets = concurrentSheets;
+        this.sizing = ExportSizing.plan(metadata.getSheetName(), heapBudgetBytes,
+                RowSizeEstimator.estimate(metadata), concurrentSheets, 0);
+    }
+
+    /**
+     * 헤더가 작성된 새 시트를 수동 플러시 모드로 전환
+     */
+    void startSheet(SXSSFSheet sheet) {
+        sheet.setRandomAccessWindowSize(-1);
+        rowsInMemory = sheet.getPhysicalNumberOfRows();
+    }
+
+    /**
+     * 데이터 행 작성 직후 호출
+     */
+    void afterRow(SXSSFSheet sheet, Row row) {
+        if (sampledRows < SIZING_SAMPLE_ROWS) {
+            sample(row);
+        }
+
+        rowsInMemory++;
+        if (rowsInMemory >= sizing.getRowAccessWindowSize()) {
+            int remaining = sizing.getRowAccessWindowSize() - sizing.getFlushIntervalRows();
+            flush(sheet, remaining);
+            rowsInMemory = remaining;
+        }
+    }
+
+    /**
+     * 남은 행을 모두 내보냄
+     */
+    void finishSheet(SXSSFSheet sheet) {
+        if (sampledRows > 0 && sampledRows < SIZING_SAMPLE_ROWS && sizing.getSampledRows() != sampledRows) {
+            replanFromSamples();
+        }
+        flush(sheet, 0);
+        rowsInMemory = 0;
+    }
+
+    ExportSizing getSizing() {
+        return sizing;
+    }
+
+    private void sample(Row row) {
+        maxSampledRowBytes = Math.max(maxSampledRowBytes, RowSizeEstimator.estimate(row));
+        sampledRows++;
+        if (sampledRows == SIZING_SAMPLE_ROWS) {
+            replanFromSamples();
+        }
+    }
+
+    private void replanFromSamples() {
+        sizing = ExportSizing.plan(metadata.getSheetName(), heapBudgetBytes,
+                maxSampledRowBytes, concurrentSheets, sampledRows);
+    }
+
+    private static void flush(SXSSFSheet sheet, int remaining) {
+        try {
+            sheet.flushRows(remaining);
+        } catch (IOException e) {
+            throw new ExcelExporterException(ErrorCode.IO_ERROR, e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.direct.StreamingCell;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 행 준비를 ForkJoinPool 작업으로 나누고, 준비된 행을 원래 순서대로 기록하는 행 소스
+ * <p>쓰기 스레드가 소스에서 batchSize개씩 항목을 꺼내 {@link PreparedRows} 묶음으로 제출하면, 작업 스레드가
+ * 추출, 마스킹, 조건부 스타일 평가를 수행합니다. 쓰기 스레드는 제출 순서대로 묶음을 기다려 POI 셀에 값과
+ * 스타일만 기록하므로 시트는 계속 한 스레드만 씁니다. 동시에 준비 중인 묶음은 maxInFlightBatches개로 제한되고,
+ * 기록을 마친 묶음의 배열은 다음 제출에 재사용됩니다.</p>
+ */
+final class ParallelRowSource<T> implements RowSource<T> {
+
+    private final Iterator<T> dataIterator;
+    private final CellPlan<T>[] cellPlans;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final int maxInFlightBatches;
+    private final int rowsPerSheet;
+    private final Deque<ForkJoinTask<PreparedRows>> inFlight = new ArrayDeque<>();
+    private final Deque<PreparedRows> freeBatches = new ArrayDeque<>();
+
+    private long nextRowIndex;
+    private PreparedRows current;
+    private int position;
+
+    ParallelRowSource(Iterator<T> dataIterator,
+                      CellPlan<T>[] cellPlans,
+                      RowPreparationOptions options,
+                      int rowsPerSheet) {
+        this.dataIterator = dataIterator;
+        this.cellPlans = cellPlans;
+        this.pool = options.getPool();
+        this.batchSize = options.getBatchSize();
+        this.maxInFlightBatches = options.getMaxInFlightBatches();
+        this.rowsPerSheet = rowsPerSheet;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (current != null && position < current.size) {
+            return true;
+        }
+        recycleCurrent();
+        submitBatches();
+
+        ForkJoinTask<PreparedRows> next = inFlight.poll();
+        if (next == null) {
+            return false;
+        }
+        current = await(next);
+        position = 0;
+        submitBatches();
+        return true;
+    }
+
+    @Override
+    public void writeNext(Row row, int dataRowIndex) {
+        int base = nextSlot();
+        for (int col = 0; col < cellPlans.length; col++) {
+            cellPlans[col].applyPrepared(row.createCell(col), current, base + col);
+        }
+    }
+
+    @Override
+    public void writeNext(StreamingCell[] cells, int dataRowIndex) {
+        int base = nextSlot();
+        for (int col = 0; col < cellPlans.length; col++) {
+            cells[col].reset();
+            cellPlans[col].applyPrepared(cells[col], current, base + col);
+        }
+    }
+
+    private int nextSlot() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return position++ * cellPlans.length;
+    }
+
+    /**
+     * 준비 중인 묶음이 한도에 도달하거나 소스가 끝날 때까지 새 묶음 제출
+     */
+    private void submitBatches() {
+        while (inFlight.size() < maxInFlightBatches && dataIterator.hasNext()) {
+            PreparedRows rows = freeBatches.isEmpty()
+                    ? new PreparedRows(batchSize, cellPlans.length)
+                    : freeBatches.poll();
+            rows.firstRowIndex = nextRowIndex;
+            while (rows.size < batchSize && dataIterator.hasNext()) {
+                rows.items[rows.size++] = dataIterator.next();
+            }
+            nextRowIndex += rows.size;
+            inFlight.add(pool.submit(() -> rows.prepare(cellPlans, rowsPerSheet)));
+        }
+    }
+
+    private void recycleCurrent() {
+        if (current != null) {
+            current.clear();
+            freeBatches.add(current);
+            current = null;
+        }
+    }
+
+    private PreparedRows await(ForkJoinTask<PreparedRows> task) {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "행 준비 실패", cause);
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new ExcelExporterException(ErrorCode.EXPORT_CANCELLED, "행 준비 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 아직 시작하지 않은 준비 작업 취소 (실행 중인 작업은 자기 묶음만 채우고 끝남)
+     */
+    @Override
+    public void close() {
+        for (ForkJoinTask<PreparedRows> task : inFlight) {
+            task.cancel(false);
+        }
+        inFlight.clear();
+        current = null;
+    }
+}
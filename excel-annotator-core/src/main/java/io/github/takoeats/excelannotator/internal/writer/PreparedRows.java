@@ -0,0 +1,64 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.style.internal.rule.CellContext;
+import org.apache.poi.ss.usermodel.CellStyle;
+
+import java.util.Arrays;
+
+/**
+ * 병렬 행 준비 단위 (고정 크기 묶음)
+ * <p>묶음의 항목마다 컬럼별 기록 값(마스킹 적용), 숫자 값, CellStyle을 행 우선 배열에 보관합니다.
+ * 배열은 묶음을 재사용할 때 그대로 다시 사용됩니다.</p>
+ */
+final class PreparedRows {
+
+    /**
+     * numbers 배열의 값을 숫자 셀로 기록하라는 표시
+     */
+    static final Object NUMERIC = new Object();
+
+    final int capacity;
+    final int columnCount;
+    final Object[] items;
+    final Object[] values;
+    final double[] numbers;
+    final CellStyle[] styles;
+
+    int size;
+    long firstRowIndex;
+
+    PreparedRows(int capacity, int columnCount) {
+        this.capacity = capacity;
+        this.columnCount = columnCount;
+        this.items = new Object[capacity];
+        this.values = new Object[capacity * columnCount];
+        this.numbers = new double[capacity * columnCount];
+        this.styles = new CellStyle[capacity * columnCount];
+    }
+
+    /**
+     * 모든 항목의 셀 값과 스타일 계산 (작업 스레드에서 실행, POI에 접근하지 않음)
+     *
+     * @param rowsPerSheet 시트당 데이터 행 수 (조건부 스타일의 시트 내 행 번호 계산용)
+     */
+    @SuppressWarnings("unchecked")
+    <T> PreparedRows prepare(CellPlan<T>[] cellPlans, int rowsPerSheet) {
+        try (CellContext cellContext = CellContext.acquire()) {
+            for (int r = 0; r < size; r++) {
+                T item = (T) items[r];
+                int dataRowIndex = (int) ((firstRowIndex + r) % rowsPerSheet);
+                int base = r * columnCount;
+                for (int col = 0; col < columnCount; col++) {
+                    cellPlans[col].prepare(item, col, dataRowIndex, cellContext, this, base + col);
+                }
+            }
+        }
+        return this;
+    }
+
+    void clear() {
+        Arrays.fill(items, 0, size, null);
+        Arrays.fill(values, 0, size * columnCount, null);
+        size = 0;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.time.temporal.Temporal;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * SXSSF 행 하나가 힙에서 차지하는 바이트 추정
+ * <p>SXSSFRow/SXSSFCell 객체, 행·셀 TreeMap 엔트리, 값 객체 크기를 64bit JVM(compressed oops) 기준으로 근사합니다.
+ * 문자열은 문자당 2바이트로 보수적으로 계산합니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class RowSizeEstimator {
+
+    private static final long ROW_OVERHEAD = 96;
+    private static final long CELL_OVERHEAD = 88;
+    private static final long STRING_OVERHEAD = 40;
+    private static final long NUMERIC_VALUE = 24;
+    private static final long BOOLEAN_VALUE = 16;
+    private static final int DEFAULT_STRING_LENGTH = 32;
+
+    /**
+     * 선언 타입만으로 행 크기 추정 (문자열은 기본 길이 가정)
+     */
+    static long estimate(ExcelMetadata<?> metadata) {
+        long bytes = ROW_OVERHEAD;
+        for (int i = 0; i < metadata.getColumnCount(); i++) {
+            bytes += CELL_OVERHEAD + valueBytes(metadata.getFieldTypeAt(i));
+        }
+        return bytes;
+    }
+
+    /**
+     * 작성된 행의 실제 값으로 행 크기 추정
+     */
+    static long estimate(Row row) {
+        long bytes = ROW_OVERHEAD;
+        for (Cell cell : row) {
+            bytes += CELL_OVERHEAD + valueBytes(cell);
+        }
+        return bytes;
+    }
+
+    private static long valueBytes(Class<?> type) {
+        if (type == null) {
+            return stringBytes(DEFAULT_STRING_LENGTH);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return BOOLEAN_VALUE;
+        }
+        if (type.isPrimitive()
+                || Number.class.isAssignableFrom(type)
+                || Date.class.isAssignableFrom(type)
+                || Calendar.class.isAssignableFrom(type)
+                || Temporal.class.isAssignableFrom(type)) {
+            return NUMERIC_VALUE;
+        }
+        return stringBytes(DEFAULT_STRING_LENGTH);
+    }
+
+    private static long valueBytes(Cell cell) {
+        switch (cell.getCellType()) {
+            case STRING:
+                return stringBytes(cell.getStringCellValue().length());
+            case NUMERIC:
+                return NUMERIC_VALUE;
+            case BOOLEAN:
+            case ERROR:
+                return BOOLEAN_VALUE;
+            default:
+                return 0;
+        }
+    }
+
+    private static long stringBytes(int length) {
+        return STRING_OVERHEAD + 2L * length;
+    }
+}
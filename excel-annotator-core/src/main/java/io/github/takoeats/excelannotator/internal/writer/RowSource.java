@@ -0,0 +1,41 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.internal.writer.direct.StreamingCell;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * 시트 작성 루프에 데이터 행을 공급하는 소스
+ * <p>기본 구현은 쓰기 스레드에서 항목을 꺼내 바로 기록하고, {@link RowPreparationOptions}가 설정되면
+ * 작업 스레드에서 미리 계산한 행을 원래 순서대로 기록합니다.</p>
+ */
+interface RowSource<T> extends Closeable {
+
+    static <T> RowSource<T> of(Iterator<T> dataIterator,
+                               CellPlan<T>[] cellPlans,
+                               RowWriter rowWriter,
+                               RowPreparationOptions options) {
+        return options.isEnabled()
+                ? new ParallelRowSource<>(dataIterator, cellPlans, options, SheetWriter.MAX_DATA_ROWS_PER_SHEET)
+                : new IteratorRowSource<>(dataIterator, cellPlans, rowWriter);
+    }
+
+    boolean hasNext();
+
+    /**
+     * 다음 항목을 행에 기록
+     *
+     * @param dataRowIndex 시트 내 데이터 행 번호 (0부터)
+     */
+    void writeNext(Row row, int dataRowIndex);
+
+    /**
+     * 다음 항목을 재사용 셀 배열에 기록 (DIRECT 엔진)
+     */
+    void writeNext(StreamingCell[] cells, int dataRowIndex);
+
+    @Override
+    void close();
+}
@@ -23,11 +23,10 @@ public final class RowWriter {
             Row row,
             T item,
             int dataRowIndex,
-            ExcelMetadata<T> metadata,
-            StyleCacheManager styleCacheManager) {
+            CellPlan<T>[] cellPlans) {
 
         try (CellContext cellContext = CellContext.acquire()) {
-            cellWriter.writeCells(row, item, dataRowIndex, metadata, cellContext, styleCacheManager);
+            cellWriter.writeCells(row, item, dataRowIndex, cellPlans, cellContext);
         }
     }
 
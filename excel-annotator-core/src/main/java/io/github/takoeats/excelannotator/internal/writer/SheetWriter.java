@@ -1,20 +1,27 @@
 package io.github.takoeats.excelannotator.internal.writer;
 
-import io.github.takoeats.excelannotator.internal.metadata.ColumnMetadata;
 import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
 import io.github.takoeats.excelannotator.internal.util.ColumnWidthCalculator;
 import io.github.takoeats.excelannotator.internal.util.SheetNameValidator;
+import io.github.takoeats.excelannotator.internal.writer.width.WidthProfileOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.ConfiguredSXSSFWorkbook;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class SheetWriter {
 
-    private static final int MAX_DATA_ROWS_PER_SHEET = 1000000;
+    static final int MAX_DATA_ROWS_PER_SHEET = 1000000;
 
     private final RowWriter rowWriter;
 
@@ -28,20 +35,90 @@ public final class SheetWriter {
             ExcelMetadata<T> metadata,
             StyleCacheManager styleCacheManager) {
 
-        SXSSFSheet sheet = wb.createSheet(sheetName);
-        configureAutoSizeTracking(sheet, metadata);
-        writeHeaderAndApplyWidths(sheet, metadata, styleCacheManager);
-        return sheet;
+        synchronized (wb) {
+            SXSSFSheet sheet = wb.createSheet(sheetName);
+            configureSharedStrings(wb, sheet, metadata);
+            writeHeaderAndApplyWidths(sheet, metadata, styleCacheManager);
+            return sheet;
+        }
     }
 
-    private void configureAutoSizeTracking(
-            SXSSFSheet sheet,
-            ColumnMetadata columnMetadata) {
+    private static long heapBudgetBytes(SXSSFWorkbook wb) {
+        return wb instanceof ConfiguredSXSSFWorkbook ? ((ConfiguredSXSSFWorkbook) wb).getHeapBudgetBytes() : 0;
+    }
 
-        for (int i = 0; i < columnMetadata.getColumnWidths().size(); i++) {
-            if (columnMetadata.getColumnWidths().get(i) == -1) {
-                sheet.trackColumnForAutoSizing(i);
-            }
+    private static Executor sheetExecutor(SXSSFWorkbook wb) {
+        return wb instanceof ConfiguredSXSSFWorkbook ? ((ConfiguredSXSSFWorkbook) wb).getSheetExecutor() : null;
+    }
+
+    private static WidthProfileOptions widthProfiles(SXSSFWorkbook wb) {
+        return wb instanceof ConfiguredSXSSFWorkbook
+                ? ((ConfiguredSXSSFWorkbook) wb).getWidthProfiles()
+                : WidthProfileOptions.DISABLED;
+    }
+
+    private static RowPreparationOptions rowPreparation(SXSSFWorkbook wb) {
+        return wb instanceof ConfiguredSXSSFWorkbook
+                ? ((ConfiguredSXSSFWorkbook) wb).getRowPreparation()
+                : RowPreparationOptions.DISABLED;
+    }
+
+    /**
+     * 힙 예산이 설정된 경우에만 컨트롤러 생성 (없으면 null, 고정 행 윈도우 사용)
+     */
+    private static MemoryBudgetController createBudgetController(
+            SXSSFWorkbook wb,
+            ExcelMetadata<?> metadata,
+            int concurrentSheets) {
+
+        long heapBudgetBytes = heapBudgetBytes(wb);
+        return heapBudgetBytes > 0 ? new MemoryBudgetController(metadata, heapBudgetBytes, concurrentSheets) : null;
+    }
+
+    private static void recordSizing(SXSSFWorkbook wb, MemoryBudgetController budget) {
+        ((ConfiguredSXSSFWorkbook) wb).recordSizing(budget.getSizing());
+    }
+
+    private void configureSharedStrings(SXSSFWorkbook wb, SXSSFSheet sheet, ExcelMetadata<?> metadata) {
+        if (!(wb instanceof ConfiguredSXSSFWorkbook)) {
+            return;
+        }
+
+        ((ConfiguredSXSSFWorkbook) wb).enableSharedStrings(sheet, sharedStringColumns(metadata));
+    }
+
+    static boolean[] sharedStringColumns(ExcelMetadata<?> metadata) {
+        boolean[] columnEnabled = new boolean[metadata.getColumnCount()];
+        for (int i = 0; i < columnEnabled.length; i++) {
+            columnEnabled[i] = metadata.isSharedStringAt(i);
+        }
+        return columnEnabled;
+    }
+
+    /**
+     * 헤더가 작성된 새 시트에서 너비 누적과 행 보관 제어 시작
+     */
+    private static void startSheet(SXSSFSheet sheet, ColumnWidthTracker widths, MemoryBudgetController budget) {
+        widths.startSheet(sheet);
+        if (budget != null) {
+            budget.startSheet(sheet);
+        }
+    }
+
+    private static void afterRow(SXSSFSheet sheet, Row row, ColumnWidthTracker widths, MemoryBudgetController budget) {
+        widths.record(row);
+        if (budget != null) {
+            budget.afterRow(sheet, row);
+        }
+    }
+
+    /**
+     * 시트를 닫을 때 누적한 자동 너비를 적용하고, 힙 예산 모드이면 남은 행을 내보냄
+     */
+    private static void finishSheet(SXSSFSheet sheet, ColumnWidthTracker widths, MemoryBudgetController budget) {
+        widths.apply(sheet);
+        if (budget != null) {
+            budget.finishSheet(sheet);
         }
     }
 
@@ -69,8 +146,101 @@ public final class SheetWriter {
             SheetWriteContext<?> context,
             StyleCacheManager styleCacheManager) {
 
-        for (SheetWriteRequest<?> request : context.getSheetRequests()) {
-            processSheetRequestMemoryEfficient(wb, request, styleCacheManager);
+        List<SheetWriteRequest<?>> requests = context.getSheetRequests();
+        Executor executor = sheetExecutor(wb);
+        if (executor == null || requests.size() < 2) {
+            SheetGroup group = new SheetGroup(1);
+            for (SheetWriteRequest<?> request : requests) {
+                processSheetRequestMemoryEfficient(wb, request, styleCacheManager, group, new ArrayList<>());
+            }
+            return;
+        }
+
+        writeRowBasedSheetsInParallel(wb, requests, styleCacheManager, executor);
+    }
+
+    /**
+     * 시트 요청마다 Executor 작업 하나로 행을 작성
+     * <p>시트 생성과 스타일 생성은 워크북/레지스트리 단위로 직렬화되고, 행 작성과 플러시는 시트별 버퍼에서
+     * 독립적으로 진행됩니다. 모든 작업이 끝난 뒤(실패 포함) 시트 순서를 요청 순서로 맞추고,
+     * 워크북 단위 파트(스타일, 공유 문자열, workbook.xml)는 이후 write 시점에 한 번 조립됩니다.</p>
+     * <p>한 작업이 실패하면 나머지 작업은 다음 행에서 중단되며, 첫 번째 실패를 그대로 전파합니다.</p>
+     */
+    private void writeRowBasedSheetsInParallel(
+            SXSSFWorkbook wb,
+            List<SheetWriteRequest<?>> requests,
+            StyleCacheManager styleCacheManager,
+            Executor executor) {
+
+        SheetGroup group = new SheetGroup(requests.size());
+        List<List<String>> sheetNames = new ArrayList<>(requests.size());
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(requests.size());
+
+        for (SheetWriteRequest<?> request : requests) {
+            List<String> names = new ArrayList<>();
+            sheetNames.add(names);
+            tasks.add(submit(executor, group,
+                    () -> processSheetRequestMemoryEfficient(wb, request, styleCacheManager, group, names)));
+        }
+
+        RuntimeException failure = awaitAll(tasks);
+        if (failure != null) {
+            throw failure;
+        }
+        applySheetOrder(wb, sheetNames);
+    }
+
+    private static CompletableFuture<Void> submit(Executor executor, SheetGroup group, Runnable task) {
+        try {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException | Error e) {
+                    group.abort();
+                    throw e;
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            group.abort();
+            CompletableFuture<Void> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(e);
+            return rejected;
+        }
+    }
+
+    /**
+     * 모든 작업의 종료를 기다린 뒤 첫 번째 실패 반환 (워크북을 닫기 전에 작업 스레드가 남지 않도록)
+     */
+    private static RuntimeException awaitAll(List<CompletableFuture<Void>> tasks) {
+        RuntimeException failure = null;
+        for (CompletableFuture<Void> task : tasks) {
+            try {
+                task.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                if (failure == null) {
+                    failure = cause instanceof RuntimeException ? (RuntimeException) cause : e;
+                }
+            }
+        }
+        return failure;
+    }
+
+    /**
+     * 100만 행 분할로 작업 중 추가된 시트를 포함하여 시트 순서를 요청 순서로 정렬
+     */
+    private static void applySheetOrder(SXSSFWorkbook wb, List<List<String>> sheetNames) {
+        int position = 0;
+        for (List<String> names : sheetNames) {
+            for (String name : names) {
+                if (wb.getSheetIndex(name) != position) {
+                    wb.setSheetOrder(name, position);
+                }
+                position++;
+            }
         }
     }
 
@@ -82,24 +252,28 @@ public final class SheetWriter {
         Iterator<T> dataIterator = context.getColumnDataIterator();
         List<ExcelMetadata<T>> metadataList = context.getColumnMetadataList();
 
-        Map<String, SheetContext> sheetContexts = initializeSheetContexts(
+        Map<String, SheetContext<T>> sheetContexts = initializeSheetContexts(
                 wb, metadataList, styleCacheManager);
 
         writeDataToColumnSheets(dataIterator, metadataList, sheetContexts, styleCacheManager);
-        applyAutoWidthToSheets(wb, metadataList, sheetContexts);
+        finishColumnSheets(wb, metadataList, sheetContexts);
     }
 
-    private <T> Map<String, SheetContext> initializeSheetContexts(
+    private <T> Map<String, SheetContext<T>> initializeSheetContexts(
             SXSSFWorkbook wb,
             List<ExcelMetadata<T>> metadataList,
             StyleCacheManager styleCacheManager) {
 
-        Map<String, SheetContext> sheetContexts = new java.util.HashMap<>();
+        Map<String, SheetContext<T>> sheetContexts = new java.util.HashMap<>();
 
         for (ExcelMetadata<T> metadata : metadataList) {
             String sheetName = metadata.getSheetName();
             SXSSFSheet sheet = createConfiguredSheet(wb, sheetName, metadata, styleCacheManager);
-            sheetContexts.put(sheetName, new SheetContext(sheet, metadata, 0, 0));
+            CellPlan<T>[] cellPlans = CellPlan.compile(metadata, styleCacheManager);
+            ColumnWidthTracker widths = new ColumnWidthTracker(metadata, widthProfiles(wb));
+            MemoryBudgetController budget = createBudgetController(wb, metadata, metadataList.size());
+            startSheet(sheet, widths, budget);
+            sheetContexts.put(sheetName, new SheetContext<>(sheet, cellPlans, widths, budget, 0, 0));
         }
 
         return sheetContexts;
@@ -108,7 +282,7 @@ public final class SheetWriter {
     private <T> void writeDataToColumnSheets(
             Iterator<T> dataIterator,
             List<ExcelMetadata<T>> metadataList,
-            Map<String, SheetContext> sheetContexts,
+            Map<String, SheetContext<T>> sheetContexts,
             StyleCacheManager styleCacheManager) {
 
         while (dataIterator.hasNext()) {
@@ -116,7 +290,7 @@ public final class SheetWriter {
 
             for (ExcelMetadata<T> metadata : metadataList) {
                 String baseSheetName = metadata.getSheetName();
-                SheetContext sheetContext = sheetContexts.get(baseSheetName);
+                SheetContext<T> sheetContext = sheetContexts.get(baseSheetName);
 
                 int headerRows = metadata.hasHeader() ? metadata.getHeaderRowCount() : 0;
 
@@ -126,7 +300,8 @@ public final class SheetWriter {
 
                 int rowIndex = sheetContext.currentRowInSheet + headerRows;
                 Row row = sheetContext.sheet.createRow(rowIndex);
-                rowWriter.writeDataRow(row, item, sheetContext.currentRowInSheet, metadata, styleCacheManager);
+                rowWriter.writeDataRow(row, item, sheetContext.currentRowInSheet, sheetContext.cellPlans);
+                afterRow(sheetContext.sheet, row, sheetContext.widths, sheetContext.budget);
 
                 sheetContext.currentRowInSheet++;
             }
@@ -134,40 +309,38 @@ public final class SheetWriter {
     }
 
     private <T> void createNewSheetForContext(
-            SheetContext sheetContext,
+            SheetContext<T> sheetContext,
             String baseSheetName,
             ExcelMetadata<T> metadata,
             StyleCacheManager styleCacheManager) {
 
+        finishSheet(sheetContext.sheet, sheetContext.widths, sheetContext.budget);
         sheetContext.sheetIndex++;
         String actualSheetName = buildSheetName(baseSheetName, sheetContext.sheetIndex);
 
         sheetContext.sheet = createConfiguredSheet(
                 sheetContext.sheet.getWorkbook(), actualSheetName, metadata, styleCacheManager);
+        startSheet(sheetContext.sheet, sheetContext.widths, sheetContext.budget);
         sheetContext.currentRowInSheet = 0;
     }
 
-    private <T> void applyAutoWidthToSheets(
+    private <T> void finishColumnSheets(
             SXSSFWorkbook wb,
             List<ExcelMetadata<T>> metadataList,
-            Map<String, SheetContext> sheetContexts) {
+            Map<String, SheetContext<T>> sheetContexts) {
 
         for (ExcelMetadata<T> metadata : metadataList) {
-            String baseSheetName = metadata.getSheetName();
-            SheetContext sheetContext = sheetContexts.get(baseSheetName);
-
-            for (int i = 0; i <= sheetContext.sheetIndex; i++) {
-                String actualSheetName = buildSheetName(baseSheetName, i);
-                SXSSFSheet sheet = wb.getSheet(actualSheetName);
-                if (sheet != null) {
-                    ColumnWidthCalculator.applyAutoWidthColumns(sheet, metadata);
-                }
+            SheetContext<T> sheetContext = sheetContexts.get(metadata.getSheetName());
+            finishSheet(sheetContext.sheet, sheetContext.widths, sheetContext.budget);
+            sheetContext.widths.complete();
+            if (sheetContext.budget != null) {
+                recordSizing(wb, sheetContext.budget);
             }
         }
     }
 
 
-    private String buildSheetName(String baseSheetName, int sheetIndex) {
+    static String buildSheetName(String baseSheetName, int sheetIndex) {
         String sheetName = sheetIndex == 0
                 ? baseSheetName
                 : baseSheetName + (sheetIndex + 1);
@@ -177,7 +350,9 @@ public final class SheetWriter {
     private <T> void processSheetRequestMemoryEfficient(
             SXSSFWorkbook wb,
             SheetWriteRequest<T> request,
-            StyleCacheManager styleCacheManager) {
+            StyleCacheManager styleCacheManager,
+            SheetGroup group,
+            List<String> createdSheetNames) {
 
         ExcelMetadata<T> metadata = request.getMetadata();
         Iterator<T> dataIterator = request.getDataIterator();
@@ -185,53 +360,86 @@ public final class SheetWriter {
         String baseSheetName = metadata.getSheetName();
         int headerRows = metadata.hasHeader() ? metadata.getHeaderRowCount() : 0;
 
+        CellPlan<T>[] cellPlans = CellPlan.compile(metadata, styleCacheManager);
+        ColumnWidthTracker widths = new ColumnWidthTracker(metadata, widthProfiles(wb));
+        MemoryBudgetController budget = createBudgetController(wb, metadata, group.concurrentSheets);
         int sheetIndex = 0;
         SXSSFSheet currentSheet = null;
         int currentRowInSheet = 0;
 
-        while (dataIterator.hasNext()) {
-            if (currentSheet == null || currentRowInSheet >= MAX_DATA_ROWS_PER_SHEET) {
-                String sanitizedName = buildSheetName(baseSheetName, sheetIndex);
-                currentSheet = createConfiguredSheet(wb, sanitizedName, metadata, styleCacheManager);
-                currentRowInSheet = 0;
-                sheetIndex++;
-            }
+        try (RowSource<T> rows = RowSource.of(dataIterator, cellPlans, rowWriter, rowPreparation(wb))) {
+            while (rows.hasNext()) {
+                if (group.isAborted()) {
+                    return;
+                }
+                if (currentSheet == null || currentRowInSheet >= MAX_DATA_ROWS_PER_SHEET) {
+                    if (currentSheet != null) {
+                        finishSheet(currentSheet, widths, budget);
+                    }
+                    String sanitizedName = buildSheetName(baseSheetName, sheetIndex);
+                    currentSheet = createConfiguredSheet(wb, sanitizedName, metadata, styleCacheManager);
+                    createdSheetNames.add(currentSheet.getSheetName());
+                    startSheet(currentSheet, widths, budget);
+                    currentRowInSheet = 0;
+                    sheetIndex++;
+                }
 
-            T item = dataIterator.next();
-            int rowIndex = currentRowInSheet + headerRows;
-            Row row = currentSheet.createRow(rowIndex);
-            rowWriter.writeDataRow(row, item, currentRowInSheet, metadata, styleCacheManager);
+                int rowIndex = currentRowInSheet + headerRows;
+                Row row = currentSheet.createRow(rowIndex);
+                rows.writeNext(row, currentRowInSheet);
+                afterRow(currentSheet, row, widths, budget);
 
-            currentRowInSheet++;
+                currentRowInSheet++;
+            }
         }
 
-        applyAutoWidthToRowBasedSheets(wb, baseSheetName, sheetIndex, metadata);
+        if (currentSheet != null) {
+            finishSheet(currentSheet, widths, budget);
+            widths.complete();
+            if (budget != null) {
+                recordSizing(wb, budget);
+            }
+        }
     }
 
-    private <T> void applyAutoWidthToRowBasedSheets(
-            SXSSFWorkbook wb,
-            String baseSheetName,
-            int totalSheets,
-            ExcelMetadata<T> metadata) {
-
-        for (int i = 0; i < totalSheets; i++) {
-            String sanitizedName = buildSheetName(baseSheetName, i);
-            SXSSFSheet sheet = wb.getSheet(sanitizedName);
-            if (sheet != null) {
-                ColumnWidthCalculator.applyAutoWidthColumns(sheet, metadata);
-            }
+    /**
+     * 함께 작성되는 시트 요청 묶음 (힙 예산 분할 수와 실패 시 중단 신호)
+     */
+    private static final class SheetGroup {
+        final int concurrentSheets;
+        private final AtomicBoolean aborted = new AtomicBoolean();
+
+        SheetGroup(int concurrentSheets) {
+            this.concurrentSheets = concurrentSheets;
+        }
+
+        void abort() {
+            aborted.set(true);
+        }
+
+        boolean isAborted() {
+            return aborted.get();
         }
     }
 
-    private static final class SheetContext {
+    private static final class SheetContext<T> {
         SXSSFSheet sheet;
-        final ExcelMetadata<?> metadata;
+        final CellPlan<T>[] cellPlans;
+        final ColumnWidthTracker widths;
+        final MemoryBudgetController budget;
         int sheetIndex;
         int currentRowInSheet;
 
-        SheetContext(SXSSFSheet sheet, ExcelMetadata<?> metadata, int sheetIndex, int currentRowInSheet) {
+        SheetContext(SXSSFSheet sheet,
+                     CellPlan<T>[] cellPlans,
+                     ColumnWidthTracker widths,
+                     MemoryBudgetController budget,
+                     int sheetIndex,
+                     int currentRowInSheet) {
             this.sheet = sheet;
-            this.metadata = metadata;
+            this.cellPlans = cellPlans;
+            this.widths = widths;
+            this.budget = budget;
             this.sheetIndex = sheetIndex;
             this.currentRowInSheet = currentRowInSheet;
         }
@@ -2,59 +2,136 @@ package io.github.takoeats.excelannotator.internal.writer;
 
 import io.github.takoeats.excelannotator.style.CustomExcelCellStyle;
 import io.github.takoeats.excelannotator.style.internal.cache.StyleCache;
+import io.github.takoeats.excelannotator.style.internal.cache.StyleSignature;
+import lombok.EqualsAndHashCode;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormat;
+import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Workbook;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 워크북 단위 스타일 레지스트리
+ * <p>스타일을 렌더링 내용(폰트, 배경 RGB, 정렬, 테두리, 데이터 포맷)으로 정규화하여,
+ * 내용이 같은 스타일 클래스는 하나의 CellStyle(XF 레코드)과 폰트를 공유합니다.
+ * 스타일이 없는 셀은 워크북 기본 스타일을 공유합니다.</p>
+ * <p>워크북 스타일 수가 한도에 도달하면 새 스타일을 만들지 않고 포맷 없는 기본형 또는
+ * 워크북 기본 스타일로 대체합니다.</p>
+ */
 public final class StyleCacheManager {
 
-    private final Map<Class<? extends CustomExcelCellStyle>, CellStyle> baseStyleCache = new HashMap<>();
-    private final Map<String, CellStyle> formatStyleCache = new HashMap<>();
+    private final Map<StyleKey, CellStyle> styleCache = new ConcurrentHashMap<>();
+    private final Map<StyleSignature, CellStyle> canonicalStyles = new ConcurrentHashMap<>();
+    private final Map<Object, Font> sharedFonts = new ConcurrentHashMap<>();
+    private final LongAdder requestCount = new LongAdder();
     private final Workbook workbook;
+    private final int maxCellStyles;
+
+    private DataFormat dataFormat;
+    private long createdStyleCount;
+    private long degradedStyleCount;
 
     StyleCacheManager(Workbook workbook) {
+        this(workbook, workbook.getSpreadsheetVersion().getMaxCellStyles());
+    }
+
+    StyleCacheManager(Workbook workbook, int maxCellStyles) {
         this.workbook = workbook;
+        this.maxCellStyles = maxCellStyles;
     }
 
     public CellStyle getOrCreateStyle(
             Class<? extends CustomExcelCellStyle> styleClass,
             String format) {
 
-        if (format != null) {
-            String cacheKey = buildCacheKey(styleClass, format);
-            return formatStyleCache.computeIfAbsent(cacheKey,
-                    k -> createStyleWithFormat(styleClass, format));
+        requestCount.increment();
+        StyleKey key = new StyleKey(styleClass, format);
+        CellStyle style = styleCache.get(key);
+        if (style != null) {
+            return style;
         }
 
-        if (styleClass != null) {
-            return baseStyleCache.computeIfAbsent(styleClass,
-                    k -> StyleCache.createPOIStyle(workbook, styleClass));
+        synchronized (this) {
+            style = styleCache.get(key);
+            if (style == null) {
+                style = resolveCanonicalStyle(styleClass, format);
+                styleCache.put(key, style);
+            }
+            return style;
         }
+    }
 
-        return workbook.createCellStyle();
+    public synchronized StyleCacheStatistics getStatistics() {
+        return new StyleCacheStatistics(requestCount.sum(), createdStyleCount, degradedStyleCount, sharedFonts.size());
     }
 
-    private String buildCacheKey(
+    private CellStyle resolveCanonicalStyle(
             Class<? extends CustomExcelCellStyle> styleClass,
             String format) {
-        String styleClassName = styleClass != null ? styleClass.getName() : "null";
-        return styleClassName + ":" + format;
+
+        StyleSignature signature = signatureOf(styleClass).withDataFormat(format);
+        CellStyle style = canonicalStyles.get(signature);
+        if (style != null) {
+            return style;
+        }
+
+        if (signature.isEmpty()) {
+            style = workbook.getCellStyleAt(0);
+        } else if (workbook.getNumCellStyles() >= maxCellStyles) {
+            degradedStyleCount++;
+            return degrade(styleClass);
+        } else {
+            style = createStyle(styleClass, format);
+            createdStyleCount++;
+        }
+
+        canonicalStyles.put(signature, style);
+        return style;
+    }
+
+    private CellStyle degrade(Class<? extends CustomExcelCellStyle> styleClass) {
+        CellStyle baseStyle = canonicalStyles.get(signatureOf(styleClass));
+        return baseStyle != null ? baseStyle : workbook.getCellStyleAt(0);
     }
 
-    private CellStyle createStyleWithFormat(
+    private StyleSignature signatureOf(Class<? extends CustomExcelCellStyle> styleClass) {
+        return styleClass != null
+                ? StyleCache.getStyleInstance(styleClass).getStyleSignature()
+                : StyleSignature.EMPTY;
+    }
+
+    private CellStyle createStyle(
             Class<? extends CustomExcelCellStyle> styleClass,
             String format) {
-        CellStyle poiStyle = workbook.createCellStyle();
 
-        if (styleClass != null) {
-            CellStyle baseStyle = baseStyleCache.computeIfAbsent(styleClass,
-                    k -> StyleCache.createPOIStyle(workbook, styleClass));
-            poiStyle.cloneStyleFrom(baseStyle);
-        }
+        CellStyle poiStyle = styleClass != null
+                ? StyleCache.createPOIStyle(workbook, styleClass, sharedFonts)
+                : workbook.createCellStyle();
 
-        poiStyle.setDataFormat(workbook.createDataFormat().getFormat(format));
+        if (format != null) {
+            poiStyle.setDataFormat(getDataFormat().getFormat(format));
+        }
         return poiStyle;
     }
+
+    private DataFormat getDataFormat() {
+        if (dataFormat == null) {
+            dataFormat = workbook.createDataFormat();
+        }
+        return dataFormat;
+    }
+
+    @EqualsAndHashCode
+    private static final class StyleKey {
+        private final Class<? extends CustomExcelCellStyle> styleClass;
+        private final String format;
+
+        StyleKey(Class<? extends CustomExcelCellStyle> styleClass, String format) {
+            this.styleClass = styleClass;
+            this.format = format;
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 워크북 단위 스타일 레지스트리 통계 스냅샷
+ */
+@Getter
+@ToString
+public final class StyleCacheStatistics {
+
+    private final long requestCount;
+    private final long createdStyleCount;
+    private final long degradedStyleCount;
+    private final int sharedFontCount;
+
+    public StyleCacheStatistics(long requestCount, long createdStyleCount, long degradedStyleCount,
+                                int sharedFontCount) {
+        this.requestCount = requestCount;
+        this.createdStyleCount = createdStyleCount;
+        this.degradedStyleCount = degradedStyleCount;
+        this.sharedFontCount = sharedFontCount;
+    }
+
+    /**
+     * 새 POI CellStyle을 만들지 않고 기존 스타일로 해결된 요청 수
+     */
+    public long getReusedStyleCount() {
+        return requestCount - createdStyleCount - degradedStyleCount;
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+/**
+ * Excel 워크북 출력 엔진
+ */
+public enum WriteEngine {
+
+    /**
+     * POI SXSSF 기반 출력 (기본값)
+     * <p>행을 임시 파일에 기록한 뒤 모든 데이터 소비가 끝나면 ZIP으로 출력합니다.</p>
+     */
+    SXSSF,
+
+    /**
+     * 직접 스트리밍 출력
+     * <p>시트 XML 행을 ZIP 출력 스트림에 바로 기록하므로 첫 바이트가 즉시 전송되고 임시 파일을 사용하지 않습니다.
+     * 자동 너비 컬럼은 시트의 앞쪽 샘플 행으로 계산합니다.
+     * 하나의 데이터로 여러 시트를 동시에 채우는 컬럼 기반 시트 분리는 SXSSF로 처리됩니다.</p>
+     */
+    DIRECT
+}
@@ -1,6 +1,6 @@
 package io.github.takoeats.excelannotator.internal.writer.builder;
 
-import io.github.takoeats.excelannotator.internal.ExcelMetadataFactory;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataRegistry;
 import io.github.takoeats.excelannotator.internal.SheetDataEntry;
 import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
 import io.github.takoeats.excelannotator.internal.metadata.SheetInfo;
@@ -32,7 +32,7 @@ public final class SheetRequestBuilder {
         Iterator<Object> dataIterator = (Iterator<Object>) singleEntry.getData();
 
         Map<String, ExcelMetadata<Object>> multiSheetMeta =
-                ExcelMetadataFactory.extractMultiSheetMetadata(clazz);
+                ExcelMetadataRegistry.getMultiSheetMetadata(clazz);
 
         if (multiSheetMeta.size() > 1) {
             List<Object> materializedData = new ArrayList<>();
@@ -45,7 +45,7 @@ public final class SheetRequestBuilder {
             return requests;
         }
 
-        ExcelMetadata<Object> metadata = ExcelMetadataFactory.extractExcelMetadata(clazz);
+        ExcelMetadata<Object> metadata = ExcelMetadataRegistry.getMetadata(clazz);
         ExcelMetadata<Object> updatedMetadata = updateSheetName(metadata, sheetName);
 
         return Collections.singletonList(createRequest(dataIterator, updatedMetadata));
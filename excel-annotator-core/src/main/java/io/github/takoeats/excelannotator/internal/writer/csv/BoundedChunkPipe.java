@@ -0,0 +1,189 @@
+package io.github.takoeats.excelannotator.internal.writer.csv;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인코딩 스레드와 기록 스레드 사이에서 고정 개수의 byte 버퍼를 순환시키는 파이프
+ * <p>생산자는 {@link #sink()}에 기록하고, 버퍼가 가득 찰 때마다 소비자에게 넘깁니다. 소비자는
+ * {@link #drainTo(OutputStream)}로 받은 버퍼를 대상 스트림에 쓰고 빈 버퍼를 돌려줍니다. 버퍼는 chunks개만
+ * 만들어 재사용하므로, 소비자가 따라오지 못하면 생산자가 대기하며 메모리는 chunks × chunkSize를 넘지 않습니다.</p>
+ * <p>생산자는 정상 종료 시 {@link #complete()}, 실패 시 {@link #fail(Throwable)}을 호출해야 하며,
+ * 생산자 예외는 소비자 스레드의 {@link #drainTo(OutputStream)}에서 다시 던집니다.</p>
+ */
+public final class BoundedChunkPipe {
+
+    private static final long POLL_MILLIS = 100;
+    private static final Chunk END = new Chunk(new byte[0]);
+
+    private final BlockingQueue<Chunk> free;
+    private final BlockingQueue<Chunk> filled = new LinkedBlockingQueue<>();
+    private final Sink sink = new Sink();
+    private volatile boolean cancelled;
+    private volatile Throwable failure;
+
+    /**
+     * @param chunkSize 버퍼 하나의 크기 (byte)
+     * @param chunks    순환시킬 버퍼 수 (최소 2)
+     */
+    public BoundedChunkPipe(int chunkSize, int chunks) {
+        int count = Math.max(chunks, 2);
+        this.free = new ArrayBlockingQueue<>(count);
+        for (int i = 0; i < count; i++) {
+            free.add(new Chunk(new byte[chunkSize]));
+        }
+    }
+
+    /**
+     * 생산자가 기록할 출력 스트림 ({@link OutputStream#close()}는 남은 바이트만 넘기고 종료를 알리지 않음)
+     */
+    public OutputStream sink() {
+        return sink;
+    }
+
+    /**
+     * 생산자 정상 종료 (남은 바이트를 넘기고 종료 표시)
+     */
+    public void complete() throws IOException {
+        sink.publishPending();
+        filled.add(END);
+    }
+
+    /**
+     * 생산자 실패 (소비자가 다음 버퍼를 기다릴 때 예외로 전달)
+     */
+    public void fail(Throwable cause) {
+        failure = cause;
+        filled.add(END);
+    }
+
+    /**
+     * 소비자 취소 (대기 중이거나 이후에 기록하는 생산자는 IOException으로 중단됨)
+     */
+    public void cancel() {
+        cancelled = true;
+        filled.clear();
+    }
+
+    /**
+     * 생산자가 종료할 때까지 받은 바이트를 대상 스트림에 기록
+     *
+     * @return 기록한 바이트 수
+     */
+    public long drainTo(OutputStream out) throws IOException {
+        long total = 0;
+        while (true) {
+            Chunk chunk = take();
+            if (chunk == END) {
+                if (failure != null) {
+                    throw rethrow(failure);
+                }
+                return total;
+            }
+            out.write(chunk.bytes, 0, chunk.length);
+            total += chunk.length;
+            chunk.length = 0;
+            free.add(chunk);
+        }
+    }
+
+    private Chunk take() {
+        try {
+            return filled.take();
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new ExcelExporterException(ErrorCode.EXPORT_CANCELLED, "CSV 인코딩 대기 중 인터럽트", e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new ExcelExporterException(ErrorCode.IO_ERROR, "CSV 인코딩 실패", cause);
+    }
+
+    private final class Sink extends OutputStream {
+        private Chunk current;
+
+        @Override
+        public void write(int b) throws IOException {
+            Chunk chunk = acquire();
+            chunk.bytes[chunk.length++] = (byte) b;
+            if (chunk.length == chunk.bytes.length) {
+                publishPending();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                Chunk chunk = acquire();
+                int count = Math.min(len, chunk.bytes.length - chunk.length);
+                System.arraycopy(b, off, chunk.bytes, chunk.length, count);
+                chunk.length += count;
+                off += count;
+                len -= count;
+                if (chunk.length == chunk.bytes.length) {
+                    publishPending();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            publishPending();
+        }
+
+        private void publishPending() throws IOException {
+            if (current != null && current.length > 0) {
+                if (cancelled) {
+                    throw new IOException("CSV 파이프가 취소되었습니다.");
+                }
+                filled.add(current);
+                current = null;
+            }
+        }
+
+        /**
+         * 빈 버퍼를 받을 때까지 대기 (소비자가 취소하면 IOException)
+         */
+        private Chunk acquire() throws IOException {
+            if (current != null) {
+                return current;
+            }
+            try {
+                while (current == null) {
+                    if (cancelled) {
+                        throw new IOException("CSV 파이프가 취소되었습니다.");
+                    }
+                    current = free.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                return current;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("CSV 파이프 대기 중 인터럽트", e);
+            }
+        }
+    }
+
+    private static final class Chunk {
+        final byte[] bytes;
+        int length;
+
+        Chunk(byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
+}
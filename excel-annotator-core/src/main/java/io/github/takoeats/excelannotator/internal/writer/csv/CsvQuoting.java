@@ -0,0 +1,19 @@
+package io.github.takoeats.excelannotator.internal.writer.csv;
+
+/**
+ * CSV 필드 따옴표 처리 방식
+ */
+public enum CsvQuoting {
+
+    /**
+     * 모든 필드를 큰따옴표로 감쌈 (기본값)
+     * <p>null 값도 {@code ""}로 기록합니다.</p>
+     */
+    ALWAYS,
+
+    /**
+     * RFC 4180 최소 따옴표
+     * <p>쉼표, 큰따옴표, CR, LF가 포함된 필드만 큰따옴표로 감싸고, null 값은 빈 필드로 기록합니다.</p>
+     */
+    MINIMAL
+}
@@ -0,0 +1,211 @@
+package io.github.takoeats.excelannotator.internal.writer.csv;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 재사용 char 버퍼에 CSV 행을 직접 인코딩하는 인코더
+ * <p>필드마다 문자열을 만들고 이어 붙이는 대신, 값을 버퍼에 바로 기록하고 버퍼가 가득 찰 때만
+ * 대상 Writer로 큰 단위로 내보냅니다.</p>
+ * <ul>
+ *     <li>문자열은 한 번만 훑어 따옴표 필요 여부를 판단하고, 필요 없으면 통째로 복사합니다.</li>
+ *     <li>Integer, Long, Short, Byte는 중간 String 없이 숫자를 버퍼에 직접 기록합니다.</li>
+ *     <li>표시 형식이 있는 값은 {@link CsvValueFormatter}가 재사용 scratch 버퍼에 포맷한 결과를 그대로 복사합니다.</li>
+ *     <li>그 외 값은 {@code toString()} 결과를 문자열과 같은 방식으로 기록합니다.</li>
+ * </ul>
+ * <p>스레드 안전하지 않으며, 내보내기 1회에 하나씩 사용합니다.</p>
+ */
+public final class CsvRowEncoder implements Flushable {
+
+    public static final int DEFAULT_BUFFER_CHARS = 64 * 1024;
+
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+    private static final int MAX_LONG_CHARS = 20;
+
+    private final Writer out;
+    private final boolean alwaysQuote;
+    private final char[] buffer;
+    private final StringBuilder scratch = new StringBuilder(64);
+    private int position;
+    private boolean rowStarted;
+
+    public CsvRowEncoder(Writer out, CsvQuoting quoting) {
+        this(out, quoting, DEFAULT_BUFFER_CHARS);
+    }
+
+    /**
+     * @param out         인코딩 결과를 받을 Writer (버퍼링하지 않은 Writer 권장)
+     * @param quoting     따옴표 처리 방식
+     * @param bufferChars 버퍼 크기 (문자 수, 최소 64)
+     */
+    public CsvRowEncoder(Writer out, CsvQuoting quoting, int bufferChars) {
+        this.out = out;
+        this.alwaysQuote = quoting != CsvQuoting.MINIMAL;
+        this.buffer = new char[Math.max(bufferChars, 64)];
+    }
+
+    /**
+     * 현재 행에 필드 하나를 추가
+     */
+    public void value(Object value) throws IOException {
+        if (rowStarted) {
+            put(DELIMITER);
+        }
+        rowStarted = true;
+
+        if (value == null) {
+            if (alwaysQuote) {
+                ensure(2);
+                buffer[position++] = QUOTE;
+                buffer[position++] = QUOTE;
+            }
+        } else if (value instanceof String) {
+            text((String) value);
+        } else if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            integral(((Number) value).longValue());
+        } else {
+            text(value.toString());
+        }
+    }
+
+    /**
+     * 현재 행에 필드 하나를 표시 형식으로 추가
+     * <p>formatter가 null이거나 값 타입에 형식을 적용할 수 없으면 {@link #value(Object)}와 같습니다.</p>
+     */
+    public void value(Object value, CsvValueFormatter formatter) throws IOException {
+        if (value == null || formatter == null) {
+            value(value);
+            return;
+        }
+        scratch.setLength(0);
+        if (!formatter.formatTo(value, scratch)) {
+            value(value);
+            return;
+        }
+        if (rowStarted) {
+            put(DELIMITER);
+        }
+        rowStarted = true;
+        text(scratch);
+    }
+
+    /**
+     * 현재 행을 CRLF로 종료
+     */
+    public void endRow() throws IOException {
+        ensure(2);
+        buffer[position++] = '\r';
+        buffer[position++] = '\n';
+        rowStarted = false;
+    }
+
+    /**
+     * 버퍼에 남은 문자를 내보내고 대상 Writer를 flush
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    private void text(CharSequence value) throws IOException {
+        int length = value.length();
+        if (alwaysQuote || needsQuoting(value, length)) {
+            put(QUOTE);
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                ensure(2);
+                buffer[position++] = c;
+                if (c == QUOTE) {
+                    buffer[position++] = QUOTE;
+                }
+            }
+            put(QUOTE);
+            return;
+        }
+
+        if (length > buffer.length - position) {
+            drain();
+            if (length > buffer.length) {
+                out.append(value);
+                return;
+            }
+        }
+        if (value instanceof String) {
+            ((String) value).getChars(0, length, buffer, position);
+        } else {
+            ((StringBuilder) value).getChars(0, length, buffer, position);
+        }
+        position += length;
+    }
+
+    private static boolean needsQuoting(CharSequence value, int length) {
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == DELIMITER || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 정수를 뒤에서부터 버퍼에 직접 기록 (Long.MIN_VALUE 포함)
+     */
+    private void integral(long value) throws IOException {
+        ensure(MAX_LONG_CHARS + 2);
+        if (alwaysQuote) {
+            buffer[position++] = QUOTE;
+        }
+
+        int digits = digitCount(value);
+        int end = position + digits;
+        int cursor = end;
+        long remaining = value;
+        if (remaining < 0) {
+            buffer[position] = '-';
+        } else {
+            remaining = -remaining;
+        }
+        do {
+            buffer[--cursor] = (char) ('0' - (int) (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        position = end;
+
+        if (alwaysQuote) {
+            buffer[position++] = QUOTE;
+        }
+    }
+
+    private static int digitCount(long value) {
+        int count = value < 0 ? 2 : 1;
+        long remaining = value < 0 ? value : -value;
+        while (remaining <= -10) {
+            remaining /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    private void put(char c) throws IOException {
+        ensure(1);
+        buffer[position++] = c;
+    }
+
+    private void ensure(int chars) throws IOException {
+        if (buffer.length - position < chars) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
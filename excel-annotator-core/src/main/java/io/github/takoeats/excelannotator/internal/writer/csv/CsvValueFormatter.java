@@ -0,0 +1,638 @@
+package io.github.takoeats.excelannotator.internal.writer.csv;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.FieldPosition;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Excel 표시 형식을 CSV 텍스트로 적용하는 포맷터
+ * <p>형식 문자열을 한 번 분석하여 날짜 형식은 {@link DateTimeFormatter}로, 숫자 형식은
+ * {@link DecimalFormat} 패턴으로 변환합니다. 변환 결과는 형식 문자열별로 캐싱되며 여러 스레드에서 공유할 수 있습니다
+ * (DecimalFormat은 스레드별 인스턴스를 사용).</p>
+ * <p>지원하는 범위는 Excel 형식의 앞 두 구역(양수;음수), 천 단위 구분, 소수 자리, 백분율, 지수, 따옴표·역슬래시
+ * 리터럴, {@code [$기호-로캘]} 통화 기호입니다. 색상·조건 구역과 채움({@code *}) 문자는 무시하고,
+ * 변환할 수 없는 형식은 포맷터를 만들지 않아 값을 {@code toString()}으로 기록합니다.</p>
+ * <p>{@link #parse(String)}는 같은 형식으로 기록된 텍스트를 값으로 되돌리며, CSV 가져오기에서 사용합니다.</p>
+ */
+public abstract class CsvValueFormatter {
+
+    private static final int MAX_CACHED_FORMATS = 1024;
+    private static final Map<String, CsvValueFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    private static final CsvValueFormatter UNSUPPORTED = new CsvValueFormatter() {
+        @Override
+        public boolean formatTo(Object value, StringBuilder target) {
+            return false;
+        }
+
+        @Override
+        public Object parse(String text) {
+            return null;
+        }
+    };
+    private static final LocalDate EXCEL_EPOCH = LocalDate.of(1899, 12, 31);
+
+    /**
+     * 값을 형식에 맞춰 target에 추가
+     *
+     * @return 형식을 적용했으면 true, 값 타입이 형식과 맞지 않으면 false (target 변경 없음)
+     */
+    public abstract boolean formatTo(Object value, StringBuilder target);
+
+    /**
+     * 이 형식으로 기록된 텍스트 전체를 값으로 변환
+     *
+     * @return 숫자 형식은 BigDecimal, 날짜 형식은 LocalDateTime (텍스트가 형식과 맞지 않으면 null)
+     */
+    public abstract Object parse(String text);
+
+    /**
+     * Excel 표시 형식에 해당하는 포맷터 (형식이 없거나 General·텍스트 형식이거나 변환할 수 없으면 null)
+     */
+    public static CsvValueFormatter of(String excelFormat) {
+        if (excelFormat == null || excelFormat.trim().isEmpty()) {
+            return null;
+        }
+        CsvValueFormatter formatter = FORMATTERS.get(excelFormat);
+        if (formatter == null) {
+            formatter = compile(excelFormat);
+            if (FORMATTERS.size() < MAX_CACHED_FORMATS) {
+                FORMATTERS.putIfAbsent(excelFormat, formatter);
+            }
+        }
+        return formatter == UNSUPPORTED ? null : formatter;
+    }
+
+    /**
+     * 날짜·시각 표시 형식인지 (따옴표 리터럴에 ASCII 외 문자가 있어도 판별)
+     */
+    public static boolean isDateFormat(String excelFormat) {
+        return of(excelFormat) instanceof DateFormatter;
+    }
+
+    private static CsvValueFormatter compile(String excelFormat) {
+        String format = excelFormat.trim();
+        if ("General".equalsIgnoreCase(format) || "@".equals(format)) {
+            return UNSUPPORTED;
+        }
+        try {
+            String first = section(format, 0);
+            if (DateUtil.isADateFormat(-1, withoutLiterals(first))) {
+                return new DateFormatter(DateTimeFormatter.ofPattern(toDateTimePattern(first), Locale.US));
+            }
+            String positive = toDecimalPattern(section(format, 0));
+            String negative = section(format, 1);
+            String pattern = negative != null ? positive + ";" + toDecimalPattern(negative) : positive;
+            return new NumberFormatter(pattern);
+        } catch (IllegalArgumentException e) {
+            return UNSUPPORTED;
+        }
+    }
+
+    /**
+     * 세미콜론으로 구분된 형식 구역 (없으면 null)
+     */
+    private static String section(String format, int index) {
+        boolean quoted = false;
+        int start = 0;
+        int current = 0;
+        for (int i = 0; i < format.length(); i++) {
+            char c = format.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '\\') {
+                i++;
+            } else if (c == ';' && !quoted) {
+                if (current == index) {
+                    return format.substring(start, i);
+                }
+                current++;
+                start = i + 1;
+            }
+        }
+        return current == index ? format.substring(start) : null;
+    }
+
+    /**
+     * 따옴표·역슬래시 리터럴을 공백으로 바꾼 형식 (POI 날짜 형식 판별은 ASCII 외 리터럴을 인식하지 못함)
+     */
+    private static String withoutLiterals(String section) {
+        StringBuilder stripped = new StringBuilder(section.length());
+        for (int i = 0; i < section.length(); i++) {
+            char c = section.charAt(i);
+            if (c == '"') {
+                int end = section.indexOf('"', i + 1);
+                i = end < 0 ? section.length() : end;
+                stripped.append(' ');
+            } else if (c == '\\') {
+                i++;
+                stripped.append(' ');
+            } else {
+                stripped.append(c);
+            }
+        }
+        return stripped.toString();
+    }
+
+    /**
+     * Excel 숫자 형식 구역 → DecimalFormat 패턴
+     */
+    static String toDecimalPattern(String section) {
+        StringBuilder pattern = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        boolean placeholders = false;
+        for (int i = 0; i < section.length(); i++) {
+            char c = section.charAt(i);
+            switch (c) {
+                case '"':
+                    int end = section.indexOf('"', i + 1);
+                    end = end < 0 ? section.length() : end;
+                    literal.append(section, i + 1, end);
+                    i = end;
+                    break;
+                case '\\':
+                    if (i + 1 < section.length()) {
+                        literal.append(section.charAt(++i));
+                    }
+                    break;
+                case '[':
+                    int close = section.indexOf(']', i);
+                    close = close < 0 ? section.length() : close;
+                    if (i + 1 < close && section.charAt(i + 1) == '$') {
+                        int dash = section.indexOf('-', i);
+                        literal.append(section, i + 2, dash > i && dash < close ? dash : close);
+                    }
+                    i = close;
+                    break;
+                case '_':
+                    literal.append(' ');
+                    i++;
+                    break;
+                case '*':
+                    i++;
+                    break;
+                case 'E':
+                case 'e':
+                    flushLiteral(pattern, literal);
+                    pattern.append('E');
+                    if (i + 1 < section.length() && (section.charAt(i + 1) == '+' || section.charAt(i + 1) == '-')) {
+                        i++;
+                    }
+                    break;
+                case '?':
+                    flushLiteral(pattern, literal);
+                    pattern.append('#');
+                    placeholders = true;
+                    break;
+                case '0':
+                case '#':
+                case '.':
+                case ',':
+                case '%':
+                    flushLiteral(pattern, literal);
+                    pattern.append(c);
+                    placeholders |= c == '0' || c == '#';
+                    break;
+                default:
+                    literal.append(c);
+            }
+        }
+        flushLiteral(pattern, literal);
+        if (!placeholders) {
+            throw new IllegalArgumentException("숫자 자리 표시자가 없는 형식: " + section);
+        }
+        return pattern.toString();
+    }
+
+    private static void flushLiteral(StringBuilder pattern, StringBuilder literal) {
+        if (literal.length() == 0) {
+            return;
+        }
+        pattern.append('\'');
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            pattern.append(c);
+            if (c == '\'') {
+                pattern.append('\'');
+            }
+        }
+        pattern.append('\'');
+        literal.setLength(0);
+    }
+
+    /**
+     * Excel 날짜 형식 구역 → DateTimeFormatter 패턴
+     * <p>m은 바로 앞 시간 토큰이 h이거나 바로 뒤 토큰이 s이면 분, 아니면 월로 해석합니다.</p>
+     */
+    static String toDateTimePattern(String section) {
+        String lower = section.toLowerCase(Locale.ROOT);
+        boolean twelveHour = lower.contains("am/pm") || lower.contains("a/p");
+        StringBuilder pattern = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        char previousToken = 0;
+
+        for (int i = 0; i < section.length(); i++) {
+            char c = section.charAt(i);
+            char token = Character.toLowerCase(c);
+            int run = runLength(lower, i, token);
+            switch (token) {
+                case '"':
+                    int end = section.indexOf('"', i + 1);
+                    end = end < 0 ? section.length() : end;
+                    literal.append(section, i + 1, end);
+                    i = end;
+                    continue;
+                case '\\':
+                    if (i + 1 < section.length()) {
+                        literal.append(section.charAt(++i));
+                    }
+                    continue;
+                case '[':
+                    int close = section.indexOf(']', i);
+                    close = close < 0 ? section.length() : close;
+                    String bracket = lower.substring(i + 1, close);
+                    if (!bracket.isEmpty() && bracket.replace("h", "").isEmpty()) {
+                        flushLiteral(pattern, literal);
+                        pattern.append(twelveHour ? "h" : "H");
+                        previousToken = 'h';
+                    }
+                    i = close;
+                    continue;
+                case '_':
+                    literal.append(' ');
+                    i++;
+                    continue;
+                case '*':
+                    i++;
+                    continue;
+                case 'y':
+                    flushLiteral(pattern, literal);
+                    pattern.append(run <= 2 ? "yy" : "yyyy");
+                    break;
+                case 'd':
+                    flushLiteral(pattern, literal);
+                    pattern.append(run == 1 ? "d" : run == 2 ? "dd" : run == 3 ? "EEE" : "EEEE");
+                    break;
+                case 'h':
+                    flushLiteral(pattern, literal);
+                    pattern.append(repeat(twelveHour ? 'h' : 'H', Math.min(run, 2)));
+                    break;
+                case 's':
+                    flushLiteral(pattern, literal);
+                    pattern.append(repeat('s', Math.min(run, 2)));
+                    int fraction = fractionDigits(section, i + run);
+                    if (fraction > 0) {
+                        pattern.append('.').append(repeat('S', fraction));
+                        run += fraction + 1;
+                    }
+                    break;
+                case 'm':
+                    flushLiteral(pattern, literal);
+                    if (run <= 2 && (previousToken == 'h' || nextTokenIsSeconds(lower, i + run))) {
+                        pattern.append(repeat('m', run));
+                    } else {
+                        pattern.append(run == 1 ? "M" : run == 2 ? "MM" : run == 3 ? "MMM" : run == 4 ? "MMMM" : "MMMMM");
+                    }
+                    break;
+                case 'a':
+                    if (lower.startsWith("am/pm", i)) {
+                        flushLiteral(pattern, literal);
+                        pattern.append('a');
+                        i += 4;
+                        continue;
+                    }
+                    if (lower.startsWith("a/p", i)) {
+                        flushLiteral(pattern, literal);
+                        pattern.append('a');
+                        i += 2;
+                        continue;
+                    }
+                    literal.append(c);
+                    continue;
+                default:
+                    literal.append(c);
+                    continue;
+            }
+            previousToken = token;
+            i += run - 1;
+        }
+        flushLiteral(pattern, literal);
+        return pattern.toString();
+    }
+
+    private static int runLength(String lower, int start, char token) {
+        int end = start;
+        while (end < lower.length() && lower.charAt(end) == token) {
+            end++;
+        }
+        return end - start;
+    }
+
+    private static int fractionDigits(String section, int index) {
+        if (index >= section.length() || section.charAt(index) != '.') {
+            return 0;
+        }
+        int digits = 0;
+        while (index + 1 + digits < section.length() && section.charAt(index + 1 + digits) == '0') {
+            digits++;
+        }
+        return digits;
+    }
+
+    private static boolean nextTokenIsSeconds(String lower, int from) {
+        for (int i = from; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c == 's') {
+                return true;
+            }
+            if (c == 'y' || c == 'm' || c == 'd' || c == 'h') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    /**
+     * 숫자 형식 포맷터
+     * <p>천 단위 구분(3자리)과 고정 소수 자리만 있는 단순 형식(예: {@code #,##0}, {@code ₩#,##0.00})은 정수와
+     * BigDecimal 값을 DecimalFormat 없이 직접 기록하고, 그 외 형식과 값은 스레드별 DecimalFormat으로 기록합니다.</p>
+     * <p>스레드별 DecimalFormat은 포맷터마다 ThreadLocal을 두지 않고, 하나의 정적 ThreadLocal에 패턴을 키로 보관합니다.
+     * 스레드마다 보관하는 패턴 수가 MAX_CACHED_FORMATS에 도달하면 비우고 다시 만듭니다.</p>
+     */
+    private static final class NumberFormatter extends CsvValueFormatter {
+
+        private static final long[] POWERS_OF_TEN = new long[19];
+
+        static {
+            POWERS_OF_TEN[0] = 1;
+            for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+                POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+            }
+        }
+
+        private static final ThreadLocal<Map<String, ThreadFormat>> THREAD_FORMATS =
+                ThreadLocal.withInitial(HashMap::new);
+
+        private final String pattern;
+        private final DecimalFormat prototype;
+        private final boolean fixedPoint;
+        private final String prefix;
+        private final String suffix;
+        private final String negativePrefix;
+        private final boolean grouping;
+        private final int minIntegerDigits;
+        private final int fractionDigits;
+
+        NumberFormatter(String pattern) {
+            DecimalFormat prototype = new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(Locale.ROOT));
+            prototype.setRoundingMode(RoundingMode.HALF_UP);
+            prototype.setParseBigDecimal(true);
+            this.pattern = pattern;
+            this.prototype = prototype;
+
+            this.prefix = prototype.getPositivePrefix();
+            this.suffix = prototype.getPositiveSuffix();
+            this.negativePrefix = prototype.getNegativePrefix();
+            this.grouping = prototype.isGroupingUsed();
+            this.minIntegerDigits = prototype.getMinimumIntegerDigits();
+            this.fractionDigits = prototype.getMaximumFractionDigits();
+            this.fixedPoint = prototype.getMultiplier() == 1
+                    && !prototype.toPattern().contains("E")
+                    && (!grouping || prototype.getGroupingSize() == 3)
+                    && minIntegerDigits >= 1 && minIntegerDigits < POWERS_OF_TEN.length
+                    && fractionDigits == prototype.getMinimumFractionDigits()
+                    && fractionDigits < POWERS_OF_TEN.length
+                    && negativePrefix.equals("-" + prefix)
+                    && prototype.getNegativeSuffix().equals(suffix);
+        }
+
+        @Override
+        public boolean formatTo(Object value, StringBuilder target) {
+            if (!(value instanceof Number)) {
+                return false;
+            }
+            if (!fixedPoint || !appendFixedPoint(value, target)) {
+                ThreadFormat threadFormat = threadFormat();
+                threadFormat.buffer.setLength(0);
+                threadFormat.format.format(value, threadFormat.buffer, threadFormat.position);
+                target.append(threadFormat.buffer);
+            }
+            return true;
+        }
+
+        @Override
+        public Object parse(String text) {
+            ThreadFormat threadFormat = threadFormat();
+            ParsePosition position = threadFormat.parsePosition;
+            position.setIndex(0);
+            position.setErrorIndex(-1);
+            Number number = threadFormat.format.parse(text, position);
+            return number != null && position.getIndex() == text.length() ? number : null;
+        }
+
+        /**
+         * 현재 스레드에서 이 패턴에 사용할 DecimalFormat (처음 사용할 때 원본을 복제)
+         */
+        private ThreadFormat threadFormat() {
+            Map<String, ThreadFormat> formats = THREAD_FORMATS.get();
+            ThreadFormat threadFormat = formats.get(pattern);
+            if (threadFormat == null) {
+                if (formats.size() >= MAX_CACHED_FORMATS) {
+                    formats.clear();
+                }
+                threadFormat = new ThreadFormat((DecimalFormat) prototype.clone());
+                formats.put(pattern, threadFormat);
+            }
+            return threadFormat;
+        }
+
+        private boolean appendFixedPoint(Object value, StringBuilder target) {
+            boolean negative;
+            long integer;
+            long fraction = 0;
+            if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+                long number = ((Number) value).longValue();
+                if (number == Long.MIN_VALUE) {
+                    return false;
+                }
+                negative = number < 0;
+                integer = Math.abs(number);
+            } else if (value instanceof BigDecimal) {
+                BigDecimal number = (BigDecimal) value;
+                long scaled = scaledMagnitude(number);
+                if (scaled < 0) {
+                    return false;
+                }
+                negative = number.signum() < 0;
+                integer = scaled / POWERS_OF_TEN[fractionDigits];
+                fraction = scaled % POWERS_OF_TEN[fractionDigits];
+            } else {
+                return false;
+            }
+
+            target.append(negative ? negativePrefix : prefix);
+            appendInteger(integer, target);
+            if (fractionDigits > 0) {
+                target.append('.');
+                for (int p = fractionDigits - 1; p >= 0; p--) {
+                    target.append((char) ('0' + fraction / POWERS_OF_TEN[p] % 10));
+                }
+            }
+            target.append(suffix);
+            return true;
+        }
+
+        /**
+         * 소수 자리 수에 맞춰 반올림(HALF_UP)한 절댓값의 unscaled long 값 (long 범위를 넘으면 -1)
+         */
+        private long scaledMagnitude(BigDecimal number) {
+            if (number.precision() >= POWERS_OF_TEN.length) {
+                return -1;
+            }
+            long magnitude = Math.abs(number.unscaledValue().longValue());
+            int scale = number.scale();
+            if (scale > fractionDigits) {
+                int drop = scale - fractionDigits;
+                if (drop >= POWERS_OF_TEN.length) {
+                    return 0;
+                }
+                long divisor = POWERS_OF_TEN[drop];
+                long rounded = magnitude / divisor;
+                return magnitude % divisor * 2 >= divisor ? rounded + 1 : rounded;
+            }
+            int shift = fractionDigits - scale;
+            if (shift >= POWERS_OF_TEN.length || magnitude > Long.MAX_VALUE / POWERS_OF_TEN[shift]) {
+                return -1;
+            }
+            return magnitude * POWERS_OF_TEN[shift];
+        }
+
+        private void appendInteger(long integer, StringBuilder target) {
+            int digits = 1;
+            while (digits < POWERS_OF_TEN.length && integer >= POWERS_OF_TEN[digits]) {
+                digits++;
+            }
+            int width = Math.max(digits, minIntegerDigits);
+            for (int p = width - 1; p >= 0; p--) {
+                target.append((char) ('0' + integer / POWERS_OF_TEN[p] % 10));
+                if (grouping && p > 0 && p % 3 == 0) {
+                    target.append(',');
+                }
+            }
+        }
+
+        private static final class ThreadFormat {
+            final DecimalFormat format;
+            final FieldPosition position = new FieldPosition(0);
+            final StringBuffer buffer = new StringBuffer(32);
+            final ParsePosition parsePosition = new ParsePosition(0);
+
+            ThreadFormat(DecimalFormat format) {
+                this.format = format;
+            }
+        }
+    }
+
+    private static final class DateFormatter extends CsvValueFormatter {
+
+        private final DateTimeFormatter formatter;
+
+        DateFormatter(DateTimeFormatter formatter) {
+            this.formatter = formatter;
+        }
+
+        @Override
+        public boolean formatTo(Object value, StringBuilder target) {
+            TemporalAccessor temporal = toLocalDateTime(value);
+            if (temporal == null) {
+                return false;
+            }
+            int length = target.length();
+            try {
+                formatter.formatTo(temporal, target);
+                return true;
+            } catch (DateTimeException e) {
+                target.setLength(length);
+                return false;
+            }
+        }
+
+        /**
+         * 날짜만 있는 형식은 자정, 시각만 있는 형식은 Excel 기준일(1899-12-31)로 보충
+         */
+        @Override
+        public Object parse(String text) {
+            try {
+                TemporalAccessor parsed = formatter.parse(text);
+                LocalDate date = parsed.query(TemporalQueries.localDate());
+                LocalTime time = parsed.query(TemporalQueries.localTime());
+                if (date == null && time == null) {
+                    return null;
+                }
+                return LocalDateTime.of(date != null ? date : EXCEL_EPOCH, time != null ? time : LocalTime.MIDNIGHT);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Excel 셀과 같은 기준(시스템 기본 시간대의 날짜·시각)으로 변환
+         */
+        private static LocalDateTime toLocalDateTime(Object value) {
+            if (value instanceof LocalDateTime) {
+                return (LocalDateTime) value;
+            }
+            if (value instanceof LocalDate) {
+                return ((LocalDate) value).atStartOfDay();
+            }
+            if (value instanceof LocalTime) {
+                return ((LocalTime) value).atDate(EXCEL_EPOCH);
+            }
+            if (value instanceof ZonedDateTime) {
+                return ((ZonedDateTime) value).toLocalDateTime();
+            }
+            if (value instanceof OffsetDateTime) {
+                return ((OffsetDateTime) value).toLocalDateTime();
+            }
+            if (value instanceof Instant) {
+                return LocalDateTime.ofInstant((Instant) value, ZoneId.systemDefault());
+            }
+            if (value instanceof Date) {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(((Date) value).getTime()), ZoneId.systemDefault());
+            }
+            if (value instanceof Calendar) {
+                Calendar calendar = (Calendar) value;
+                return LocalDateTime.ofInstant(calendar.toInstant(), calendar.getTimeZone().toZoneId());
+            }
+            return null;
+        }
+    }
+}
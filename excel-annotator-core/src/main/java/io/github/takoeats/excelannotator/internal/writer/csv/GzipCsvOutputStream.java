@@ -0,0 +1,17 @@
+package io.github.takoeats.excelannotator.internal.writer.csv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 압축 수준을 지정할 수 있는 gzip 출력 스트림
+ * <p>{@link #close()}는 gzip trailer를 기록한 뒤 대상 스트림을 닫습니다.</p>
+ */
+public final class GzipCsvOutputStream extends GZIPOutputStream {
+
+    public GzipCsvOutputStream(OutputStream out, GzipOptions options) throws IOException {
+        super(out, options.getBufferSize());
+        def.setLevel(options.getLevel());
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.takoeats.excelannotator.internal.writer.csv;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.zip.Deflater;
+
+/**
+ * CSV gzip 압축 옵션
+ * <p>CSV 행은 인코딩되는 즉시 {@link java.util.zip.GZIPOutputStream}을 거쳐 출력 스트림으로 전달되므로
+ * 전체 파일을 메모리에 모으지 않습니다. 메모리에는 bufferSize 크기의 압축 출력 버퍼만 유지됩니다.</p>
+ *
+ * <ul>
+ *     <li>level: deflate 압축 수준 (-1 기본(6), 0 비압축 ~ 9 최대 압축)</li>
+ *     <li>bufferSize: 압축 출력 버퍼 크기 (기본 64KB, 최소 512바이트)</li>
+ * </ul>
+ *
+ * <h3>사용 예시</h3>
+ * <pre>{@code
+ * ExcelExporter.csv(request, response)
+ *     .gzip(GzipOptions.builder().level(4).build())
+ *     .write(orderStream);
+ * }</pre>
+ */
+@Getter
+@ToString
+public final class GzipOptions {
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    static final int MIN_BUFFER_SIZE = 512;
+
+    /**
+     * 기본 압축 수준과 버퍼 크기
+     */
+    public static final GzipOptions DEFAULT = builder().build();
+
+    /**
+     * 가장 빠른 압축 수준 (1)
+     */
+    public static final GzipOptions FASTEST = builder().level(Deflater.BEST_SPEED).build();
+
+    private final int level;
+    private final int bufferSize;
+
+    private GzipOptions(Builder builder) {
+        this.level = builder.level;
+        this.bufferSize = builder.bufferSize;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private int level = Deflater.DEFAULT_COMPRESSION;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * deflate 압축 수준 (-1 기본, 0 ~ 9)
+         */
+        public Builder level(int level) {
+            this.level = level;
+            return this;
+        }
+
+        /**
+         * 압축 출력 버퍼 크기 (최소 512바이트)
+         */
+        public Builder bufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public GzipOptions build() {
+            if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "level은 -1 ~ 9 범위여야 합니다: " + level);
+            }
+            if (bufferSize < MIN_BUFFER_SIZE) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "bufferSize는 " + MIN_BUFFER_SIZE + " 이상이어야 합니다: " + bufferSize);
+            }
+            return new GzipOptions(this);
+        }
+    }
+}
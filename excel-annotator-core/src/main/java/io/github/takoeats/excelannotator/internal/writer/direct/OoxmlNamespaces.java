@@ -0,0 +1,28 @@
+package io.github.takoeats.excelannotator.internal.writer.direct;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * SpreadsheetML 패키지 파트에서 사용하는 네임스페이스와 콘텐츠 타입
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class OoxmlNamespaces {
+
+    static final String SPREADSHEETML = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    static final String RELATIONSHIPS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    static final String PACKAGE_RELATIONSHIPS = "http://schemas.openxmlformats.org/package/2006/relationships";
+    static final String CONTENT_TYPES = "http://schemas.openxmlformats.org/package/2006/content-types";
+
+    static final String REL_OFFICE_DOCUMENT = RELATIONSHIPS + "/officeDocument";
+    static final String REL_WORKSHEET = RELATIONSHIPS + "/worksheet";
+    static final String REL_STYLES = RELATIONSHIPS + "/styles";
+    static final String REL_SHARED_STRINGS = RELATIONSHIPS + "/sharedStrings";
+
+    static final String CT_RELATIONSHIPS = "application/vnd.openxmlformats-package.relationships+xml";
+    static final String CT_WORKBOOK = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml";
+    static final String CT_WORKSHEET = "application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml";
+    static final String CT_STYLES = "application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml";
+    static final String CT_SHARED_STRINGS =
+            "application/vnd.openxmlformats-officedocument.spreadsheetml.sharedStrings+xml";
+}
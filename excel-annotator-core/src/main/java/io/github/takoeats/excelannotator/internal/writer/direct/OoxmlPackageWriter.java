@@ -0,0 +1,233 @@
+package io.github.takoeats.excelannotator.internal.writer.direct;
+
+import io.github.takoeats.excelannotator.internal.writer.workbook.CompressionOptions;
+import io.github.takoeats.excelannotator.internal.writer.workbook.ParallelZipOutputStream;
+import org.apache.poi.xssf.model.SharedStringsTable;
+import org.apache.poi.xssf.model.StylesTable;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * XLSX(OPC) 패키지를 출력 스트림에 직접 기록하는 ZIP 기록기
+ * <p>시트 XML을 먼저 스트리밍하고, 시트 목록과 스타일이 확정된 뒤 workbook.xml, styles.xml,
+ * 관계(.rels), [Content_Types].xml을 마지막에 기록합니다. 임시 파일을 사용하지 않습니다.</p>
+ * <p>{@link CompressionOptions}가 병렬 압축이면 {@link ParallelZipOutputStream}, 아니면 지정한 압축 수준의
+ * ZipOutputStream으로 기록합니다. {@link #close()}는 병렬 압축 스레드만 정리하며 대상 출력 스트림은 닫지 않습니다.</p>
+ */
+public final class OoxmlPackageWriter implements Closeable {
+
+    private static final int WRITER_BUFFER_SIZE = 64 * 1024;
+
+    private final ZipOutputStream zip;
+    private final ParallelZipOutputStream parallelZip;
+    private final OutputStream entryStream;
+    private final Writer writer;
+    private final List<String> sheetNames = new ArrayList<>();
+    private boolean sheetOpen;
+
+    public OoxmlPackageWriter(OutputStream outputStream) {
+        this(outputStream, CompressionOptions.DEFAULT);
+    }
+
+    public OoxmlPackageWriter(OutputStream outputStream, CompressionOptions compression) {
+        if (compression.isParallel()) {
+            this.zip = null;
+            this.parallelZip = new ParallelZipOutputStream(outputStream, compression);
+            this.entryStream = parallelZip;
+        } else {
+            this.zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+            this.zip.setLevel(compression.getLevel());
+            this.parallelZip = null;
+            this.entryStream = zip;
+        }
+        this.writer = new BufferedWriter(new OutputStreamWriter(entryStream, StandardCharsets.UTF_8), WRITER_BUFFER_SIZE);
+    }
+
+    /**
+     * 새 시트 파트를 열고 해당 파트에 기록하는 SheetXmlWriter 반환
+     */
+    public SheetXmlWriter beginSheet(String sheetName) throws IOException {
+        if (sheetOpen) {
+            throw new IllegalStateException("이전 시트가 종료되지 않았습니다.");
+        }
+        sheetNames.add(sheetName);
+        putEntry("xl/worksheets/sheet" + sheetNames.size() + ".xml");
+        sheetOpen = true;
+        return new SheetXmlWriter(writer);
+    }
+
+    public void endSheet() throws IOException {
+        writer.flush();
+        closeEntry();
+        sheetOpen = false;
+    }
+
+    public int getSheetCount() {
+        return sheetNames.size();
+    }
+
+    /**
+     * 나머지 패키지 파트를 기록하고 ZIP을 종료
+     *
+     * @param styles        워크북 스타일 테이블
+     * @param sharedStrings 공유 문자열 테이블 (사용하지 않았으면 null)
+     */
+    public void finish(StylesTable styles, SharedStringsTable sharedStrings) throws IOException {
+        if (sheetOpen) {
+            endSheet();
+        }
+
+        putEntry("xl/styles.xml");
+        styles.writeTo(new NonClosingOutputStream(entryStream));
+        closeEntry();
+
+        if (sharedStrings != null) {
+            putEntry("xl/sharedStrings.xml");
+            sharedStrings.writeTo(new NonClosingOutputStream(entryStream));
+            closeEntry();
+        }
+
+        writeEntry("xl/workbook.xml", workbookXml());
+        writeEntry("xl/_rels/workbook.xml.rels", workbookRelationshipsXml(sharedStrings != null));
+        writeEntry("_rels/.rels", packageRelationshipsXml());
+        writeEntry("[Content_Types].xml", contentTypesXml(sharedStrings != null));
+        if (parallelZip != null) {
+            parallelZip.finish();
+        } else {
+            zip.finish();
+            zip.flush();
+        }
+    }
+
+    /**
+     * 병렬 압축 스레드 정리 (대상 출력 스트림은 닫지 않음)
+     */
+    @Override
+    public void close() {
+        if (parallelZip != null) {
+            parallelZip.close();
+        }
+    }
+
+    private void putEntry(String name) throws IOException {
+        if (parallelZip != null) {
+            parallelZip.putNextEntry(name);
+        } else {
+            zip.putNextEntry(new ZipEntry(name));
+        }
+    }
+
+    private void closeEntry() throws IOException {
+        if (parallelZip != null) {
+            parallelZip.closeEntry();
+        } else {
+            zip.closeEntry();
+        }
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        putEntry(name);
+        writer.write(content);
+        writer.flush();
+        closeEntry();
+    }
+
+    private String workbookXml() throws IOException {
+        StringWriter xml = new StringWriter();
+        xml.write(xmlDeclaration());
+        xml.write("<workbook xmlns=\"" + OoxmlNamespaces.SPREADSHEETML
+                + "\" xmlns:r=\"" + OoxmlNamespaces.RELATIONSHIPS + "\">");
+        xml.write("<workbookPr/><bookViews><workbookView activeTab=\"0\"/></bookViews><sheets>");
+        for (int i = 0; i < sheetNames.size(); i++) {
+            xml.write("<sheet name=\"");
+            XmlEscaper.writeAttribute(xml, sheetNames.get(i));
+            xml.write("\" sheetId=\"" + (i + 1) + "\" r:id=\"rId" + (i + 1) + "\"/>");
+        }
+        xml.write("</sheets></workbook>");
+        return xml.toString();
+    }
+
+    private String workbookRelationshipsXml(boolean hasSharedStrings) {
+        StringBuilder xml = new StringBuilder(xmlDeclaration());
+        xml.append("<Relationships xmlns=\"").append(OoxmlNamespaces.PACKAGE_RELATIONSHIPS).append("\">");
+        int id = 1;
+        for (; id <= sheetNames.size(); id++) {
+            appendRelationship(xml, id, OoxmlNamespaces.REL_WORKSHEET, "worksheets/sheet" + id + ".xml");
+        }
+        appendRelationship(xml, id++, OoxmlNamespaces.REL_STYLES, "styles.xml");
+        if (hasSharedStrings) {
+            appendRelationship(xml, id, OoxmlNamespaces.REL_SHARED_STRINGS, "sharedStrings.xml");
+        }
+        return xml.append("</Relationships>").toString();
+    }
+
+    private static String packageRelationshipsXml() {
+        StringBuilder xml = new StringBuilder(xmlDeclaration());
+        xml.append("<Relationships xmlns=\"").append(OoxmlNamespaces.PACKAGE_RELATIONSHIPS).append("\">");
+        appendRelationship(xml, 1, OoxmlNamespaces.REL_OFFICE_DOCUMENT, "xl/workbook.xml");
+        return xml.append("</Relationships>").toString();
+    }
+
+    private String contentTypesXml(boolean hasSharedStrings) {
+        StringBuilder xml = new StringBuilder(xmlDeclaration());
+        xml.append("<Types xmlns=\"").append(OoxmlNamespaces.CONTENT_TYPES).append("\">");
+        xml.append("<Default Extension=\"rels\" ContentType=\"").append(OoxmlNamespaces.CT_RELATIONSHIPS).append("\"/>");
+        xml.append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>");
+        appendOverride(xml, "/xl/workbook.xml", OoxmlNamespaces.CT_WORKBOOK);
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            appendOverride(xml, "/xl/worksheets/sheet" + i + ".xml", OoxmlNamespaces.CT_WORKSHEET);
+        }
+        appendOverride(xml, "/xl/styles.xml", OoxmlNamespaces.CT_STYLES);
+        if (hasSharedStrings) {
+            appendOverride(xml, "/xl/sharedStrings.xml", OoxmlNamespaces.CT_SHARED_STRINGS);
+        }
+        return xml.append("</Types>").toString();
+    }
+
+    private static void appendRelationship(StringBuilder xml, int id, String type, String target) {
+        xml.append("<Relationship Id=\"rId").append(id)
+                .append("\" Type=\"").append(type)
+                .append("\" Target=\"").append(target).append("\"/>");
+    }
+
+    private static void appendOverride(StringBuilder xml, String partName, String contentType) {
+        xml.append("<Override PartName=\"").append(partName)
+                .append("\" ContentType=\"").append(contentType).append("\"/>");
+    }
+
+    private static String xmlDeclaration() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    }
+
+    /**
+     * POI 파트 직렬화가 ZIP 스트림을 닫지 않도록 close를 flush로 대체
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.takoeats.excelannotator.internal.writer.direct;
+
+import io.github.takoeats.excelannotator.internal.writer.workbook.SharedStringDictionary;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * 워크시트 XML(xl/worksheets/sheetN.xml) 직렬화기
+ * <p>행을 받는 즉시 출력 Writer로 기록하며 행을 메모리에 보관하지 않습니다.
+ * 호출 순서는 {@link #begin} → {@link #writeRow} 반복 → {@link #end}입니다.</p>
+ */
+public final class SheetXmlWriter {
+
+    private static final int DEFAULT_CHAR_WIDTH = 256;
+
+    private final Writer out;
+    private SharedStringDictionary dictionary;
+    private SharedStringDictionary.Column[] sharedStringColumns;
+    private String[] columnLetters = new String[0];
+
+    public SheetXmlWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * 공유 문자열 사전 적용 (columns의 null 항목 컬럼은 인라인 문자열 유지)
+     */
+    public void enableSharedStrings(SharedStringDictionary dictionary, SharedStringDictionary.Column[] columns) {
+        this.dictionary = dictionary;
+        this.sharedStringColumns = columns;
+    }
+
+    /**
+     * 워크시트 시작 태그, 시트 뷰, 컬럼 너비를 기록하고 sheetData를 연다
+     *
+     * @param selected     선택된(활성) 시트 여부
+     * @param columnWidths 컬럼별 너비 (1/256 문자 단위)
+     */
+    public void begin(boolean selected, int[] columnWidths) throws IOException {
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+        out.write("<worksheet xmlns=\"" + OoxmlNamespaces.SPREADSHEETML
+                + "\" xmlns:r=\"" + OoxmlNamespaces.RELATIONSHIPS + "\">");
+        out.write(selected
+                ? "<sheetViews><sheetView tabSelected=\"1\" workbookViewId=\"0\"/></sheetViews>"
+                : "<sheetViews><sheetView workbookViewId=\"0\"/></sheetViews>");
+        out.write("<sheetFormatPr defaultRowHeight=\"15.0\"/>");
+
+        if (columnWidths.length > 0) {
+            out.write("<cols>");
+            for (int i = 0; i < columnWidths.length; i++) {
+                String column = Integer.toString(i + 1);
+                out.write("<col min=\"" + column + "\" max=\"" + column + "\" width=\"");
+                out.write(Double.toString((double) columnWidths[i] / DEFAULT_CHAR_WIDTH));
+                out.write("\" customWidth=\"true\"/>");
+            }
+            out.write("</cols>");
+        }
+        out.write("<sheetData>");
+    }
+
+    /**
+     * POI 행(헤더, 너비 계산용 샘플 행) 기록
+     */
+    public void writeRow(Row row) throws IOException {
+        int rowIndex = row.getRowNum();
+        out.write("<row r=\"");
+        out.write(Integer.toString(rowIndex + 1));
+        out.write('"');
+        if (row.getHeight() != row.getSheet().getDefaultRowHeight()) {
+            out.write(" ht=\"");
+            out.write(Float.toString(row.getHeightInPoints()));
+            out.write("\" customHeight=\"true\"");
+        }
+        out.write('>');
+        for (Cell cell : row) {
+            writeCell(rowIndex, cell.getColumnIndex(), cell);
+        }
+        out.write("</row>");
+    }
+
+    /**
+     * 재사용 셀 배열로 구성된 데이터 행 기록
+     */
+    public void writeRow(int rowIndex, StreamingCell[] cells) throws IOException {
+        out.write("<row r=\"");
+        out.write(Integer.toString(rowIndex + 1));
+        out.write("\">");
+        for (int i = 0; i < cells.length; i++) {
+            writeCell(rowIndex, i, cells[i]);
+        }
+        out.write("</row>");
+    }
+
+    /**
+     * sheetData를 닫고 병합 영역을 기록한 뒤 워크시트를 종료
+     */
+    public void end(List<CellRangeAddress> mergedRegions) throws IOException {
+        out.write("</sheetData>");
+        if (!mergedRegions.isEmpty()) {
+            out.write("<mergeCells count=\"" + mergedRegions.size() + "\">");
+            for (CellRangeAddress region : mergedRegions) {
+                out.write("<mergeCell ref=\"" + region.formatAsString() + "\"/>");
+            }
+            out.write("</mergeCells>");
+        }
+        out.write("</worksheet>");
+    }
+
+    private void writeCell(int rowIndex, int columnIndex, Cell cell) throws IOException {
+        CellStyle style = cell.getCellStyle();
+        int styleIndex = style != null ? style.getIndex() & 0xffff : 0;
+
+        switch (cell.getCellType()) {
+            case NUMERIC:
+                double number = cell.getNumericCellValue();
+                beginCell(rowIndex, columnIndex, styleIndex);
+                if (Double.isNaN(number) || Double.isInfinite(number)) {
+                    // Excel은 NaN·Infinity 숫자 값을 손상된 파일로 취급하므로 SXSSF와 같은 오류 셀로 기록
+                    out.write(" t=\"e\"><v>");
+                    out.write(Double.isNaN(number) ? FormulaError.NUM.getString() : FormulaError.DIV0.getString());
+                    out.write("</v></c>");
+                    break;
+                }
+                out.write("><v>");
+                writeNumber(number);
+                out.write("</v></c>");
+                break;
+            case STRING:
+                writeStringCell(rowIndex, columnIndex, styleIndex, cell.getStringCellValue());
+                break;
+            case BOOLEAN:
+                beginCell(rowIndex, columnIndex, styleIndex);
+                out.write(cell.getBooleanCellValue() ? " t=\"b\"><v>1</v></c>" : " t=\"b\"><v>0</v></c>");
+                break;
+            case ERROR:
+                beginCell(rowIndex, columnIndex, styleIndex);
+                out.write(" t=\"e\"><v>");
+                out.write(FormulaError.forInt(cell.getErrorCellValue()).getString());
+                out.write("</v></c>");
+                break;
+            default:
+                if (styleIndex != 0) {
+                    beginCell(rowIndex, columnIndex, styleIndex);
+                    out.write("/>");
+                }
+                break;
+        }
+    }
+
+    private void writeStringCell(int rowIndex, int columnIndex, int styleIndex, String value) throws IOException {
+        beginCell(rowIndex, columnIndex, styleIndex);
+
+        if (dictionary != null && columnIndex < sharedStringColumns.length
+                && sharedStringColumns[columnIndex] != null) {
+            int index = dictionary.indexOf(sharedStringColumns[columnIndex], value);
+            if (index >= 0) {
+                out.write(" t=\"s\"><v>");
+                out.write(Integer.toString(index));
+                out.write("</v></c>");
+                return;
+            }
+        }
+
+        out.write(hasLeadingOrTrailingSpace(value)
+                ? " t=\"inlineStr\"><is><t xml:space=\"preserve\">"
+                : " t=\"inlineStr\"><is><t>");
+        XmlEscaper.writeText(out, value);
+        out.write("</t></is></c>");
+    }
+
+    private void beginCell(int rowIndex, int columnIndex, int styleIndex) throws IOException {
+        out.write("<c r=\"");
+        out.write(columnLetter(columnIndex));
+        out.write(Integer.toString(rowIndex + 1));
+        out.write('"');
+        if (styleIndex != 0) {
+            out.write(" s=\"");
+            out.write(Integer.toString(styleIndex));
+            out.write('"');
+        }
+    }
+
+    private String columnLetter(int columnIndex) {
+        if (columnIndex >= columnLetters.length) {
+            String[] grown = new String[Math.max(columnIndex + 1, columnLetters.length * 2)];
+            System.arraycopy(columnLetters, 0, grown, 0, columnLetters.length);
+            columnLetters = grown;
+        }
+        String letter = columnLetters[columnIndex];
+        if (letter == null) {
+            letter = CellReference.convertNumToColString(columnIndex);
+            columnLetters[columnIndex] = letter;
+        }
+        return letter;
+    }
+
+    private void writeNumber(double value) throws IOException {
+        long integral = (long) value;
+        if (integral == value && Math.abs(value) < 1e15) {
+            out.write(Long.toString(integral));
+        } else {
+            out.write(Double.toString(value));
+        }
+    }
+
+    private static boolean hasLeadingOrTrailingSpace(String value) {
+        return !value.isEmpty()
+                && (Character.isWhitespace(value.charAt(0))
+                || Character.isWhitespace(value.charAt(value.length() - 1)));
+    }
+}
@@ -0,0 +1,237 @@
+package io.github.takoeats.excelannotator.internal.writer.direct;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellBase;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * 행 단위로 재사용되는 값 보관용 셀
+ * <p>POI 행/시트에 속하지 않으며, 셀 값 전략과 스타일 적용 결과(타입, 값, 스타일)만 기록합니다.
+ * {@link SheetXmlWriter}가 기록된 값을 바로 시트 XML로 직렬화합니다.</p>
+ * <p>수식, 주석, 하이퍼링크는 지원하지 않습니다.</p>
+ */
+public final class StreamingCell extends CellBase {
+
+    private final int columnIndex;
+    private CellType type = CellType.BLANK;
+    private double numericValue;
+    private String stringValue;
+    private boolean booleanValue;
+    private byte errorValue;
+    private CellStyle style;
+
+    public StreamingCell(int columnIndex) {
+        this.columnIndex = columnIndex;
+    }
+
+    /**
+     * 다음 행 기록을 위해 값과 스타일 초기화
+     */
+    public void reset() {
+        type = CellType.BLANK;
+        stringValue = null;
+        style = null;
+    }
+
+    @Override
+    protected void setCellTypeImpl(CellType cellType) {
+        type = cellType;
+    }
+
+    @Override
+    protected void setCellFormulaImpl(String formula) {
+        throw new UnsupportedOperationException("StreamingCell은 수식을 지원하지 않습니다.");
+    }
+
+    @Override
+    protected void removeFormulaImpl() {
+        // 수식을 저장하지 않으므로 제거할 대상이 없음
+    }
+
+    @Override
+    protected void setCellValueImpl(double value) {
+        type = CellType.NUMERIC;
+        numericValue = value;
+    }
+
+    @Override
+    protected void setCellValueImpl(Date value) {
+        setCellValueImpl(DateUtil.getExcelDate(value, false));
+    }
+
+    @Override
+    protected void setCellValueImpl(LocalDateTime value) {
+        setCellValueImpl(DateUtil.getExcelDate(value, false));
+    }
+
+    @Override
+    protected void setCellValueImpl(Calendar value) {
+        setCellValueImpl(DateUtil.getExcelDate(value, false));
+    }
+
+    @Override
+    protected void setCellValueImpl(String value) {
+        type = CellType.STRING;
+        stringValue = value;
+    }
+
+    @Override
+    protected void setCellValueImpl(RichTextString value) {
+        setCellValueImpl(value.getString());
+    }
+
+    @Override
+    protected SpreadsheetVersion getSpreadsheetVersion() {
+        return SpreadsheetVersion.EXCEL2007;
+    }
+
+    @Override
+    public void setCellValue(boolean value) {
+        type = CellType.BOOLEAN;
+        booleanValue = value;
+    }
+
+    @Override
+    public void setCellErrorValue(byte value) {
+        type = CellType.ERROR;
+        errorValue = value;
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    @Override
+    public int getRowIndex() {
+        return -1;
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return null;
+    }
+
+    @Override
+    public Row getRow() {
+        return null;
+    }
+
+    @Override
+    public CellType getCellType() {
+        return type;
+    }
+
+    @Override
+    public CellType getCachedFormulaResultType() {
+        throw new IllegalStateException("Only formula cells have cached results");
+    }
+
+    @Override
+    public String getCellFormula() {
+        throw new IllegalStateException("StreamingCell은 수식을 지원하지 않습니다.");
+    }
+
+    @Override
+    public double getNumericCellValue() {
+        return type == CellType.NUMERIC ? numericValue : 0.0;
+    }
+
+    @Override
+    public Date getDateCellValue() {
+        return type == CellType.NUMERIC ? DateUtil.getJavaDate(numericValue, false) : null;
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTimeCellValue() {
+        return type == CellType.NUMERIC ? DateUtil.getLocalDateTime(numericValue, false) : null;
+    }
+
+    @Override
+    public RichTextString getRichStringCellValue() {
+        return new XSSFRichTextString(getStringCellValue());
+    }
+
+    @Override
+    public String getStringCellValue() {
+        return type == CellType.STRING ? stringValue : "";
+    }
+
+    @Override
+    public boolean getBooleanCellValue() {
+        return type == CellType.BOOLEAN && booleanValue;
+    }
+
+    @Override
+    public byte getErrorCellValue() {
+        return type == CellType.ERROR ? errorValue : 0;
+    }
+
+    @Override
+    public void setCellStyle(CellStyle style) {
+        this.style = style;
+    }
+
+    @Override
+    public CellStyle getCellStyle() {
+        return style;
+    }
+
+    @Override
+    public void setAsActiveCell() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setCellComment(Comment comment) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Comment getCellComment() {
+        return null;
+    }
+
+    @Override
+    public void removeCellComment() {
+        // 주석을 저장하지 않으므로 제거할 대상이 없음
+    }
+
+    @Override
+    public Hyperlink getHyperlink() {
+        return null;
+    }
+
+    @Override
+    public void setHyperlink(Hyperlink link) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeHyperlink() {
+        // 하이퍼링크를 저장하지 않으므로 제거할 대상이 없음
+    }
+
+    @Override
+    public CellRangeAddress getArrayFormulaRange() {
+        throw new IllegalStateException("StreamingCell은 배열 수식을 지원하지 않습니다.");
+    }
+
+    @Override
+    public boolean isPartOfArrayFormulaGroup() {
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.takoeats.excelannotator.internal.writer.direct;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * OOXML 파트 기록용 XML 이스케이프
+ * <p>XML 1.0에서 허용되지 않는 제어 문자는 POI와 동일하게 '?'로 치환합니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class XmlEscaper {
+
+    static void writeText(Writer out, String value) throws IOException {
+        write(out, value, false);
+    }
+
+    static void writeAttribute(Writer out, String value) throws IOException {
+        write(out, value, true);
+    }
+
+    private static void write(Writer out, String value, boolean attribute) throws IOException {
+        int start = 0;
+        int length = value.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement = replacementFor(c, attribute);
+            if (replacement != null) {
+                if (i > start) {
+                    out.write(value, start, i - start);
+                }
+                out.write(replacement);
+                start = i + 1;
+            }
+        }
+
+        if (start < length) {
+            out.write(value, start, length - start);
+        }
+    }
+
+    private static String replacementFor(char c, boolean attribute) {
+        switch (c) {
+            case '&':
+                return "&amp;";
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            case '"':
+                return attribute ? "&quot;" : null;
+            case '\t':
+                return attribute ? "&#x9;" : null;
+            case '\n':
+                return attribute ? "&#xa;" : null;
+            case '\r':
+                return "&#xd;";
+            default:
+                return isInvalidXmlChar(c) ? "?" : null;
+        }
+    }
+
+    private static boolean isInvalidXmlChar(char c) {
+        return c < 0x20 || c == 0xFFFE || c == 0xFFFF;
+    }
+}
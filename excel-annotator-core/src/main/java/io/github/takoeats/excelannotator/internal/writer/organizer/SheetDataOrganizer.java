@@ -2,7 +2,7 @@ package io.github.takoeats.excelannotator.internal.writer.organizer;
 
 import io.github.takoeats.excelannotator.exception.ErrorCode;
 import io.github.takoeats.excelannotator.exception.ExcelExporterException;
-import io.github.takoeats.excelannotator.internal.ExcelMetadataFactory;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataRegistry;
 import io.github.takoeats.excelannotator.internal.SheetDataEntry;
 import io.github.takoeats.excelannotator.internal.SheetGroupInfo;
 import io.github.takoeats.excelannotator.internal.metadata.SheetInfo;
@@ -37,7 +37,7 @@ public final class SheetDataOrganizer {
 
             Object firstItem = iterator.next();
             Class<?> clazz = firstItem.getClass();
-            SheetInfo sheetInfo = ExcelMetadataFactory.extractSheetInfo(clazz);
+            SheetInfo sheetInfo = ExcelMetadataRegistry.getSheetInfo(clazz);
 
             Iterator<Object> fullIterator = streamAdapter.prependToIterator(firstItem, (Iterator<Object>) iterator);
 
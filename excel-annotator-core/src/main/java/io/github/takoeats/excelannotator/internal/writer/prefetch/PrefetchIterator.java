@@ -0,0 +1,241 @@
+package io.github.takoeats.excelannotator.internal.writer.prefetch;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 생산자 스레드가 소스 Iterator를 미리 읽어 두는 Iterator
+ * <p>생산자는 소스 항목을 batchSize개씩 묶어 depth개 크기의 고정 버퍼({@link ArrayBlockingQueue})에 넣고,
+ * 쓰기 스레드는 묶음 단위로 꺼내어 항목을 반환합니다. 버퍼가 가득 차면 생산자가 대기합니다.</p>
+ * <p>생산자에서 발생한 예외는 쓰기 스레드의 {@link #hasNext()}에서 그대로 다시 던집니다.
+ * 소스 소비가 실패하거나, 끝까지 읽기 전에 {@link #close()}로 취소되면 sourceCloser로 소스를 닫습니다.
+ * 정상적으로 끝까지 읽은 소스는 닫지 않습니다 (호출자 소유).</p>
+ */
+public final class PrefetchIterator<T> implements Iterator<T>, Closeable {
+
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+    private static final long OFFER_POLL_MILLIS = 100;
+    private static final long CLOSE_JOIN_MILLIS = 1_000;
+    private static final Batch END = new Batch(new Object[0], 0, null);
+
+    private final Iterator<T> source;
+    private final Runnable sourceCloser;
+    private final int batchSize;
+    private final BlockingQueue<Batch> buffer;
+    private final Thread producer;
+    private final AtomicBoolean sourceClosed = new AtomicBoolean();
+    private volatile boolean cancelled;
+
+    private Batch current;
+    private int position;
+    private boolean endReached;
+    private boolean closed;
+
+    /**
+     * @param source       소스 Iterator (생성 즉시 생산자 스레드에서 소비 시작)
+     * @param options      선읽기 옵션 (사용 설정된 옵션)
+     * @param sourceCloser 실패/취소 시 소스를 닫는 작업 (null이면 닫지 않음)
+     */
+    public PrefetchIterator(Iterator<T> source, PrefetchOptions options, Runnable sourceCloser) {
+        this.source = source;
+        this.sourceCloser = sourceCloser;
+        this.batchSize = options.getBatchSize();
+        this.buffer = new ArrayBlockingQueue<>(options.getDepth());
+        this.producer = new Thread(this::produce, "excel-prefetch-" + THREAD_SEQUENCE.incrementAndGet());
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    /**
+     * 선읽기 Iterator이면 닫고, 아니면 아무 것도 하지 않음
+     */
+    public static void closeIfPrefetching(Iterator<?> iterator) {
+        if (iterator instanceof PrefetchIterator) {
+            ((PrefetchIterator<?>) iterator).close();
+        }
+    }
+
+    private void produce() {
+        try {
+            Object[] items = new Object[batchSize];
+            int count = 0;
+            while (source.hasNext()) {
+                if (cancelled) {
+                    closeSource(null);
+                    return;
+                }
+                items[count++] = source.next();
+                if (count == batchSize) {
+                    if (!publish(new Batch(items, count, null))) {
+                        closeSource(null);
+                        return;
+                    }
+                    items = new Object[batchSize];
+                    count = 0;
+                }
+            }
+            if (count > 0 && !publish(new Batch(items, count, null))) {
+                closeSource(null);
+                return;
+            }
+            publish(END);
+        } catch (Throwable t) {
+            closeSource(t);
+            publish(new Batch(null, 0, t));
+        }
+    }
+
+    /**
+     * 버퍼에 여유가 생길 때까지 대기 (취소되면 false)
+     */
+    private boolean publish(Batch batch) {
+        try {
+            while (!buffer.offer(batch, OFFER_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (cancelled) {
+                    return false;
+                }
+            }
+            return !cancelled;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void closeSource(Throwable failure) {
+        if (sourceCloser == null || !sourceClosed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sourceCloser.run();
+        } catch (RuntimeException e) {
+            if (failure != null) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (current != null && position < current.count) {
+            return true;
+        }
+        if (endReached || closed) {
+            return false;
+        }
+
+        Batch batch = take();
+        if (batch == END) {
+            endReached = true;
+            current = null;
+            return false;
+        }
+        if (batch.failure != null) {
+            endReached = true;
+            current = null;
+            throw rethrow(batch.failure);
+        }
+        current = batch;
+        position = 0;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T item = (T) current.items[position];
+        current.items[position++] = null;
+        return item;
+    }
+
+    private Batch take() {
+        try {
+            return buffer.take();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new ExcelExporterException(ErrorCode.EXPORT_CANCELLED, "데이터 선읽기 대기 중 인터럽트", e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            return (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "데이터 소스 읽기 실패", failure);
+    }
+
+    /**
+     * 생산자를 멈추고 종료를 기다림
+     * <p>끝까지 읽기 전에 호출되면 취소로 간주하여 생산자를 인터럽트하고 소스를 닫습니다. 소스 fetch가 인터럽트에
+     * 반응하지 않아도 소스를 닫으면 대부분 풀리며, 그래도 끝나지 않는 생산자는 최대 {@link #CLOSE_JOIN_MILLIS}씩만
+     * 기다린 뒤 남겨 둡니다 (데몬 스레드이며 fetch가 끝나면 취소 상태를 보고 종료).</p>
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        cancelled = true;
+        buffer.clear();
+        current = null;
+
+        boolean interrupted = false;
+        if (producer.isAlive()) {
+            producer.interrupt();
+            interrupted = awaitProducer();
+        }
+        buffer.clear();
+        if (!endReached) {
+            closeSource(null);
+        }
+        if (producer.isAlive()) {
+            interrupted |= awaitProducer();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 생산자 종료를 최대 CLOSE_JOIN_MILLIS 동안 기다림
+     *
+     * @return 기다리는 중 호출 스레드가 인터럽트되었으면 true
+     */
+    private boolean awaitProducer() {
+        try {
+            producer.join(CLOSE_JOIN_MILLIS);
+            return false;
+        } catch (InterruptedException e) {
+            return true;
+        }
+    }
+
+    private static final class Batch {
+        final Object[] items;
+        final int count;
+        final Throwable failure;
+
+        Batch(Object[] items, int count, Throwable failure) {
+            this.items = items;
+            this.count = count;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.takoeats.excelannotator.internal.writer.prefetch;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 데이터 소스 선읽기(prefetch) 옵션
+ * <p>기본 동작은 행을 쓰는 스레드가 소스 Iterator에서 항목을 하나씩 꺼내므로, DB 커서 fetch 대기와
+ * 셀/XML 작업이 한 스레드에서 번갈아 실행됩니다. 선읽기를 켜면 별도 생산자 스레드가 소스를 batchSize개씩 묶어
+ * 최대 depth개 묶음을 보관하는 고정 크기 버퍼에 채우고, 쓰기 스레드는 묶음 단위로 꺼내어 행을 작성합니다.
+ * 버퍼가 가득 차면 생산자가 대기하므로(backpressure) 메모리에는 최대 depth × batchSize개 항목만 보관됩니다.</p>
+ *
+ * <ul>
+ *     <li>depth: 버퍼에 보관하는 최대 묶음 수 (0이면 사용하지 않음)</li>
+ *     <li>batchSize: 한 묶음의 항목 수 (기본 256)</li>
+ * </ul>
+ *
+ * <p>소스 Iterator는 생산자 스레드에서 소비됩니다. 트랜잭션이나 세션이 스레드에 묶인 스트림은
+ * 다른 스레드에서 fetch할 수 있는지 확인한 뒤 사용해야 합니다.</p>
+ *
+ * <h3>사용 예시</h3>
+ * <pre>{@code
+ * try (Stream<OrderDTO> orders = orderRepository.streamAll()) {
+ *     ExcelExporter.excel(outputStream)
+ *         .prefetch(PrefetchOptions.builder().depth(8).batchSize(500).build())
+ *         .write(orders);
+ * }
+ * }</pre>
+ */
+@Getter
+@ToString
+public final class PrefetchOptions {
+
+    public static final int DEFAULT_DEPTH = 4;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /**
+     * 선읽기를 사용하지 않음 (쓰기 스레드가 소스를 직접 소비)
+     */
+    public static final PrefetchOptions DISABLED = builder().depth(0).build();
+
+    /**
+     * 기본 깊이와 묶음 크기로 선읽기
+     */
+    public static final PrefetchOptions DEFAULT = builder().build();
+
+    private final int depth;
+    private final int batchSize;
+
+    private PrefetchOptions(Builder builder) {
+        this.depth = builder.depth;
+        this.batchSize = builder.batchSize;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isEnabled() {
+        return depth > 0;
+    }
+
+    public static final class Builder {
+        private int depth = DEFAULT_DEPTH;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * 버퍼에 보관하는 최대 묶음 수 (0이면 사용하지 않음)
+         */
+        public Builder depth(int depth) {
+            this.depth = depth;
+            return this;
+        }
+
+        /**
+         * 한 묶음의 항목 수
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public PrefetchOptions build() {
+            if (depth < 0) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "depth는 0 이상이어야 합니다: " + depth);
+            }
+            if (batchSize < 1) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "batchSize는 1 이상이어야 합니다: " + batchSize);
+            }
+            return new PrefetchOptions(this);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package io.github.takoeats.excelannotator.internal.writer.reactive;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publisher 구독을 쓰기 스레드가 소비하는 Iterator로 바꾸는 구독자
+ * <p>구독 직후 batchSize개를 요청하고, 쓰기 스레드가 절반을 소비할 때마다 소비한 만큼만 다시 요청합니다.
+ * 버퍼에 있는 항목과 아직 도착하지 않은 요청 수의 합은 항상 batchSize 이하이므로, Publisher가 아무리 빨라도
+ * 메모리에는 batchSize개까지만 보관됩니다.</p>
+ * <p>onError로 전달된 예외는 쓰기 스레드의 {@link #hasNext()}에서 {@link ExcelExporterException}으로 던집니다.
+ * 완료 전에 {@link #close()}가 호출되거나 Publisher가 규약을 위반하면(Reactive Streams §2.13) 구독을 취소합니다.</p>
+ */
+public final class PublisherIterator<T> implements Iterator<T>, Closeable {
+
+    /**
+     * Publisher 구현에 독립적인 구독 핸들
+     */
+    public interface Subscription {
+        void request(long n);
+
+        void cancel();
+    }
+
+    private final int batchSize;
+    private final int replenishThreshold;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition signalled = lock.newCondition();
+    private final Queue<T> buffer;
+
+    private Subscription subscription;
+    private boolean completed;
+    private Throwable failure;
+    private boolean cancelled;
+    private int consumedSinceRequest;
+
+    public PublisherIterator(int batchSize) {
+        if (batchSize < 1) {
+            throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                    "batchSize는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.replenishThreshold = Math.max(1, batchSize / 2);
+        this.buffer = new ArrayDeque<>(batchSize);
+    }
+
+    public void onSubscribe(Subscription subscription) {
+        boolean cancelNow;
+        lock.lock();
+        try {
+            cancelNow = this.subscription != null || cancelled;
+            if (!cancelNow) {
+                this.subscription = subscription;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (cancelNow) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(batchSize);
+    }
+
+    /**
+     * 항목을 버퍼에 넣음 (null 항목이나 요청보다 많은 항목은 규약 위반이므로 구독을 취소하고 실패로 종료)
+     */
+    public void onNext(T item) {
+        Subscription toCancel = null;
+        lock.lock();
+        try {
+            if (cancelled || completed) {
+                return;
+            }
+            if (item == null) {
+                terminate(new NullPointerException("Publisher가 null 항목을 전달했습니다."));
+                toCancel = subscription;
+            } else if (buffer.size() >= batchSize) {
+                terminate(new IllegalStateException("Publisher가 요청하지 않은 항목을 전달했습니다 (batchSize="
+                        + batchSize + ")"));
+                toCancel = subscription;
+            } else {
+                buffer.add(item);
+                signalled.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (toCancel != null) {
+            toCancel.cancel();
+        }
+    }
+
+    public void onError(Throwable throwable) {
+        lock.lock();
+        try {
+            if (!completed) {
+                terminate(throwable != null ? throwable : new NullPointerException("onError(null)"));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onComplete() {
+        lock.lock();
+        try {
+            completed = true;
+            signalled.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실패로 종료 (lock 보유 상태에서 호출)
+     */
+    private void terminate(Throwable throwable) {
+        failure = throwable;
+        completed = true;
+        signalled.signal();
+    }
+
+    @Override
+    public boolean hasNext() {
+        lock.lock();
+        try {
+            while (buffer.isEmpty()) {
+                if (failure != null) {
+                    throw toExporterException(failure);
+                }
+                if (completed || cancelled) {
+                    return false;
+                }
+                signalled.await();
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExcelExporterException(ErrorCode.EXPORT_CANCELLED, "Publisher 항목 대기 중 인터럽트", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T item;
+        long toRequest = 0;
+        Subscription current;
+        lock.lock();
+        try {
+            item = buffer.poll();
+            if (++consumedSinceRequest >= replenishThreshold && !completed) {
+                toRequest = consumedSinceRequest;
+                consumedSinceRequest = 0;
+            }
+            current = subscription;
+        } finally {
+            lock.unlock();
+        }
+        if (toRequest > 0 && current != null) {
+            current.request(toRequest);
+        }
+        return item;
+    }
+
+    private static ExcelExporterException toExporterException(Throwable failure) {
+        if (failure instanceof ExcelExporterException) {
+            return (ExcelExporterException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "Publisher 오류: " + failure, failure);
+    }
+
+    /**
+     * 완료 전이면 구독을 취소하고 버퍼를 비움 (중복 호출은 무시)
+     */
+    @Override
+    public void close() {
+        Subscription toCancel = null;
+        lock.lock();
+        try {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            if (!completed) {
+                toCancel = subscription;
+            }
+            buffer.clear();
+            signalled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (toCancel != null) {
+            toCancel.cancel();
+        }
+    }
+}
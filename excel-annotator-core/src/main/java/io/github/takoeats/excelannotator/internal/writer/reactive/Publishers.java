@@ -0,0 +1,170 @@
+package io.github.takoeats.excelannotator.internal.writer.reactive;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@code java.util.concurrent.Flow.Publisher}와 Reactive Streams {@code org.reactivestreams.Publisher}를
+ * {@link PublisherIterator}로 구독하는 어댑터
+ * <p>Java 8 기준 빌드에서 두 API에 컴파일 의존성을 두지 않도록, Publisher가 구현한 인터페이스를 런타임에 찾아
+ * 같은 패밀리의 Subscriber를 동적 프록시로 만들어 구독합니다.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Publishers {
+
+    private static final String FLOW_PUBLISHER = "java.util.concurrent.Flow$Publisher";
+    private static final String REACTIVE_STREAMS_PUBLISHER = "org.reactivestreams.Publisher";
+
+    /**
+     * Publisher를 구독하여 쓰기 스레드가 소비할 Stream으로 변환
+     * <p>Stream을 닫으면 완료되지 않은 구독이 취소됩니다.</p>
+     *
+     * @param publisher Flow.Publisher 또는 Reactive Streams Publisher
+     * @param batchSize 한 번에 요청하는 항목 수 (버퍼 상한)
+     */
+    public static Stream<Object> toStream(Object publisher, int batchSize) {
+        PublisherIterator<Object> iterator = subscribe(publisher, batchSize);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Publisher를 구독하는 Iterator 생성 (구독 즉시 batchSize개 요청)
+     */
+    public static <T> PublisherIterator<T> subscribe(Object publisher, int batchSize) {
+        if (publisher == null) {
+            throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION, "publisher는 null일 수 없습니다.");
+        }
+        Class<?> publisherType = findPublisherType(publisher.getClass());
+        if (publisherType == null) {
+            throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                    "Flow.Publisher 또는 org.reactivestreams.Publisher가 아닙니다: " + publisher.getClass().getName());
+        }
+
+        PublisherIterator<T> iterator = new PublisherIterator<>(batchSize);
+        try {
+            String family = publisherType.getName().substring(0, publisherType.getName().length() - "Publisher".length());
+            ClassLoader typeLoader = publisherType.getClassLoader();
+            Class<?> subscriberType = Class.forName(family + "Subscriber", false, typeLoader);
+            Class<?> subscriptionType = Class.forName(family + "Subscription", false, typeLoader);
+            Method request = subscriptionType.getMethod("request", long.class);
+            Method cancel = subscriptionType.getMethod("cancel");
+
+            ClassLoader proxyLoader = typeLoader != null ? typeLoader : Publishers.class.getClassLoader();
+            Object subscriber = Proxy.newProxyInstance(proxyLoader, new Class<?>[]{subscriberType},
+                    (proxy, method, args) -> dispatch(iterator, proxy, method, args, request, cancel));
+
+            publisherType.getMethod("subscribe", subscriberType).invoke(publisher, subscriber);
+        } catch (InvocationTargetException e) {
+            iterator.close();
+            throw new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "Publisher 구독 실패", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                    "Publisher 구독 API를 찾을 수 없습니다: " + publisherType.getName(), e);
+        }
+        return iterator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Object dispatch(PublisherIterator<T> iterator, Object proxy, Method method, Object[] args,
+                                       Method request, Method cancel) {
+        switch (method.getName()) {
+            case "onSubscribe":
+                iterator.onSubscribe(new ReflectiveSubscription(args[0], request, cancel));
+                return null;
+            case "onNext":
+                iterator.onNext((T) args[0]);
+                return null;
+            case "onError":
+                iterator.onError((Throwable) args[0]);
+                return null;
+            case "onComplete":
+                iterator.onComplete();
+                return null;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "PublisherIterator subscriber";
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    private static Class<?> findPublisherType(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> candidate : current.getInterfaces()) {
+                Class<?> found = findPublisherInterface(candidate);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> findPublisherInterface(Class<?> type) {
+        if (FLOW_PUBLISHER.equals(type.getName()) || REACTIVE_STREAMS_PUBLISHER.equals(type.getName())) {
+            return type;
+        }
+        for (Class<?> parent : type.getInterfaces()) {
+            Class<?> found = findPublisherInterface(parent);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 리플렉션으로 request/cancel을 호출하는 구독 핸들
+     */
+    private static final class ReflectiveSubscription implements PublisherIterator.Subscription {
+        private final Object subscription;
+        private final Method request;
+        private final Method cancel;
+
+        ReflectiveSubscription(Object subscription, Method request, Method cancel) {
+            this.subscription = subscription;
+            this.request = request;
+            this.cancel = cancel;
+        }
+
+        @Override
+        public void request(long n) {
+            invoke(request, n);
+        }
+
+        @Override
+        public void cancel() {
+            invoke(cancel);
+        }
+
+        private void invoke(Method method, Object... args) {
+            try {
+                method.invoke(subscription, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "Publisher 구독 호출 실패", cause);
+            } catch (IllegalAccessException e) {
+                throw new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "Publisher 구독 호출 실패", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package io.github.takoeats.excelannotator.internal.writer.schedule;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.ExcelWriteOptions;
+import io.github.takoeats.excelannotator.internal.writer.WriteEngine;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여러 내보내기 요청이 공유하는 동시 실행 제한(admission control)
+ * <p>동시 내보내기 수, 예상 힙 사용량 합계, 예상 임시 디스크 사용량 합계가 한도를 넘지 않을 때만 내보내기를
+ * 시작합니다. 한도를 넘는 요청은 도착 순서대로 대기하며, queueTimeout 안에 자리가 나지 않거나 대기열이 가득 차면
+ * {@link ErrorCode#EXPORT_REJECTED}로 실패합니다. 대기 중 인터럽트되면 {@link ErrorCode#EXPORT_CANCELLED}로
+ * 실패합니다.</p>
+ *
+ * <p>내보내기 1회의 예상 사용량은 옵션에서 계산합니다.</p>
+ * <ul>
+ *     <li>힙: heapBudget이 설정되면 그 값, 아니면 estimatedExportMemoryBytes</li>
+ *     <li>임시 디스크: 임시 저장소 quota가 설정되면 그 값, 아니면 estimatedExportTempBytes
+ *     (임시 파일을 쓰지 않는 DIRECT 엔진은 0)</li>
+ * </ul>
+ * <p>한도보다 큰 요청은 한도로 잘라 계산하므로, 다른 내보내기가 모두 끝나면 단독으로 실행됩니다.</p>
+ *
+ * <p>{@link #getExecutor()}는 내보내기를 호출 스레드 밖에서 실행할 Executor를 제공합니다. 런타임이 가상 스레드를
+ * 지원하면(Java 21+) 작업마다 가상 스레드를, 아니면 maxConcurrentExports개로 제한한 데몬 플랫폼 스레드 풀을
+ * 사용합니다. scheduler를 지정한 빌더에서 executor 없이(null) writeAsync를 호출하면 이 Executor에서 실행합니다
+ * (writeAsync는 OutputStream 빌더 전용).</p>
+ *
+ * <h3>사용 예시</h3>
+ * <pre>{@code
+ * ExportScheduler scheduler = ExportScheduler.builder()
+ *     .maxConcurrentExports(8)
+ *     .memoryBudgetBytes(2L * 1024 * 1024 * 1024)
+ *     .tempDiskBudgetBytes(20L * 1024 * 1024 * 1024)
+ *     .queueTimeout(Duration.ofMinutes(2))
+ *     .build();
+ *
+ * ExcelExporter.excel(outputStream)
+ *     .scheduler(scheduler)
+ *     .write(dataStream);
+ *
+ * // scheduler의 Executor에서 실행
+ * CompletableFuture<String> fileName = ExcelExporter.excel(outputStream)
+ *     .scheduler(scheduler)
+ *     .writeAsync(dataStream, null);
+ * }</pre>
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public final class ExportScheduler implements AutoCloseable {
+
+    public static final long DEFAULT_EXPORT_MEMORY_BYTES = 64L * 1024 * 1024;
+    public static final long DEFAULT_EXPORT_TEMP_BYTES = 256L * 1024 * 1024;
+    public static final Duration DEFAULT_QUEUE_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final MethodHandle VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+    private static final long IDLE_THREAD_SECONDS = 60;
+
+    @Getter
+    @ToString.Include
+    private final int maxConcurrentExports;
+    @Getter
+    @ToString.Include
+    private final int maxQueuedExports;
+    @Getter
+    @ToString.Include
+    private final long memoryBudgetBytes;
+    @Getter
+    @ToString.Include
+    private final long tempDiskBudgetBytes;
+    @Getter
+    @ToString.Include
+    private final long estimatedExportMemoryBytes;
+    @Getter
+    @ToString.Include
+    private final long estimatedExportTempBytes;
+    @Getter
+    @ToString.Include
+    private final Duration queueTimeout;
+    @Getter
+    @ToString.Include
+    private final boolean virtualThreads;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Deque<Object> queue = new ArrayDeque<>();
+
+    private int activeExports;
+    private long reservedMemoryBytes;
+    private long reservedTempBytes;
+    private long admittedCount;
+    private long rejectedCount;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+    private ExecutorService executor;
+
+    private ExportScheduler(Builder builder) {
+        this.maxConcurrentExports = builder.maxConcurrentExports;
+        this.maxQueuedExports = builder.maxQueuedExports;
+        this.memoryBudgetBytes = builder.memoryBudgetBytes;
+        this.tempDiskBudgetBytes = builder.tempDiskBudgetBytes;
+        this.estimatedExportMemoryBytes = builder.estimatedExportMemoryBytes;
+        this.estimatedExportTempBytes = builder.estimatedExportTempBytes;
+        this.queueTimeout = builder.queueTimeout;
+        this.virtualThreads = builder.virtualThreads;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 런타임이 가상 스레드를 지원하는지 여부 (Java 21+)
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * 옵션으로 예상 사용량을 계산하여 실행 허가를 받음 (자리가 날 때까지 대기)
+     */
+    public Permit admit(ExcelWriteOptions options) {
+        long memory = options.getHeapBudgetBytes() > 0
+                ? options.getHeapBudgetBytes()
+                : estimatedExportMemoryBytes;
+        long temp;
+        if (options.getEngine() == WriteEngine.DIRECT) {
+            temp = 0;
+        } else if (options.getTempStorage().hasQuota()) {
+            temp = options.getTempStorage().getQuotaBytes();
+        } else {
+            temp = estimatedExportTempBytes;
+        }
+        return acquire(memory, temp);
+    }
+
+    /**
+     * 지정한 예상 사용량으로 실행 허가를 받음 (자리가 날 때까지 대기)
+     *
+     * @param memoryBytes 예상 힙 사용량
+     * @param tempBytes   예상 임시 디스크 사용량
+     */
+    public Permit acquire(long memoryBytes, long tempBytes) {
+        long memory = clamp(memoryBytes, memoryBudgetBytes);
+        long temp = clamp(tempBytes, tempDiskBudgetBytes);
+        long start = System.nanoTime();
+
+        lock.lock();
+        try {
+            if (maxQueuedExports > 0 && queue.size() >= maxQueuedExports) {
+                rejectedCount++;
+                throw new ExcelExporterException(ErrorCode.EXPORT_REJECTED,
+                        "대기 중인 내보내기 수가 한도에 도달했습니다: " + maxQueuedExports);
+            }
+
+            Object ticket = new Object();
+            queue.addLast(ticket);
+            long remaining = queueTimeout.toNanos();
+            try {
+                while (queue.peekFirst() != ticket || !fits(memory, temp)) {
+                    if (remaining <= 0) {
+                        leave(ticket);
+                        rejectedCount++;
+                        throw new ExcelExporterException(ErrorCode.EXPORT_REJECTED,
+                                "대기 시간 초과: " + queueTimeout.toMillis() + "ms");
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                leave(ticket);
+                Thread.currentThread().interrupt();
+                throw new ExcelExporterException(ErrorCode.EXPORT_CANCELLED, "내보내기 대기 중 인터럽트", e);
+            }
+
+            queue.pollFirst();
+            activeExports++;
+            reservedMemoryBytes += memory;
+            reservedTempBytes += temp;
+            long waited = System.nanoTime() - start;
+            admittedCount++;
+            totalWaitNanos += waited;
+            maxWaitNanos = Math.max(maxWaitNanos, waited);
+            released.signalAll();
+            return new Permit(memory, temp);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long clamp(long requested, long budget) {
+        long value = Math.max(0, requested);
+        return budget > 0 ? Math.min(value, budget) : value;
+    }
+
+    private boolean fits(long memory, long temp) {
+        if (activeExports >= maxConcurrentExports) {
+            return false;
+        }
+        if (memoryBudgetBytes > 0 && reservedMemoryBytes + memory > memoryBudgetBytes) {
+            return false;
+        }
+        return tempDiskBudgetBytes <= 0 || reservedTempBytes + temp <= tempDiskBudgetBytes;
+    }
+
+    /**
+     * 대기열에서 빠지며 다음 순번을 깨움 (lock 보유 상태에서 호출)
+     */
+    private void leave(Object ticket) {
+        queue.remove(ticket);
+        released.signalAll();
+    }
+
+    private void release(Permit permit) {
+        lock.lock();
+        try {
+            activeExports--;
+            reservedMemoryBytes -= permit.memoryBytes;
+            reservedTempBytes -= permit.tempBytes;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public ExportSchedulerStatistics getStatistics() {
+        lock.lock();
+        try {
+            return new ExportSchedulerStatistics(activeExports, queue.size(),
+                    reservedMemoryBytes, reservedTempBytes,
+                    admittedCount, rejectedCount, totalWaitNanos, maxWaitNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 내보내기 작업을 실행할 Executor (처음 호출 시 생성)
+     * <p>virtualThreads가 켜져 있고 런타임이 지원하면 작업마다 가상 스레드를 사용합니다. 아니면 대기 중인 작업도
+     * {@link #admit}에서 플랫폼 스레드를 붙잡고 있으므로, 스레드를 maxConcurrentExports개로 제한한 데몬 스레드 풀을
+     * 사용합니다. 나머지 작업은 풀의 대기열에서 기다리며, maxQueuedExports가 설정되면 대기열이 가득 찼을 때 제출이
+     * 거부됩니다(writeAsync는 {@link ErrorCode#EXPORT_REJECTED}로 실패).</p>
+     */
+    public ExecutorService getExecutor() {
+        lock.lock();
+        try {
+            if (executor == null) {
+                executor = createExecutor();
+            }
+            return executor;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ExecutorService createExecutor() {
+        if (virtualThreads && VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invoke();
+            } catch (Throwable ignored) {
+                // 플랫폼 스레드로 대체
+            }
+        }
+        BlockingQueue<Runnable> tasks = maxQueuedExports > 0
+                ? new LinkedBlockingQueue<>(maxQueuedExports)
+                : new LinkedBlockingQueue<>();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrentExports, maxConcurrentExports,
+                IDLE_THREAD_SECONDS, TimeUnit.SECONDS, tasks, task -> {
+                    Thread thread = new Thread(task, "excel-export-" + THREAD_SEQUENCE.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static MethodHandle findVirtualThreadExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Executor를 종료하고 실행 중인 작업이 끝날 때까지 최대 queueTimeout 동안 대기
+     */
+    @Override
+    public void close() {
+        ExecutorService toClose;
+        lock.lock();
+        try {
+            toClose = executor;
+            executor = null;
+        } finally {
+            lock.unlock();
+        }
+        if (toClose == null) {
+            return;
+        }
+        toClose.shutdown();
+        try {
+            toClose.awaitTermination(queueTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 내보내기 1회의 실행 허가 (close로 반납, 중복 호출은 무시)
+     */
+    public final class Permit implements AutoCloseable {
+        private final long memoryBytes;
+        private final long tempBytes;
+        private boolean closed;
+
+        private Permit(long memoryBytes, long tempBytes) {
+            this.memoryBytes = memoryBytes;
+            this.tempBytes = tempBytes;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            release(this);
+        }
+    }
+
+    public static final class Builder {
+        private int maxConcurrentExports = Runtime.getRuntime().availableProcessors();
+        private int maxQueuedExports;
+        private long memoryBudgetBytes;
+        private long tempDiskBudgetBytes;
+        private long estimatedExportMemoryBytes = DEFAULT_EXPORT_MEMORY_BYTES;
+        private long estimatedExportTempBytes = DEFAULT_EXPORT_TEMP_BYTES;
+        private Duration queueTimeout = DEFAULT_QUEUE_TIMEOUT;
+        private boolean virtualThreads = true;
+
+        private Builder() {
+        }
+
+        /**
+         * 동시에 실행할 최대 내보내기 수 (기본: 가용 프로세서 수)
+         */
+        public Builder maxConcurrentExports(int maxConcurrentExports) {
+            this.maxConcurrentExports = maxConcurrentExports;
+            return this;
+        }
+
+        /**
+         * 대기열 최대 길이 (0이면 무제한)
+         */
+        public Builder maxQueuedExports(int maxQueuedExports) {
+            this.maxQueuedExports = maxQueuedExports;
+            return this;
+        }
+
+        /**
+         * 실행 중인 내보내기의 예상 힙 사용량 합계 한도 (0이면 제한하지 않음)
+         */
+        public Builder memoryBudgetBytes(long memoryBudgetBytes) {
+            this.memoryBudgetBytes = memoryBudgetBytes;
+            return this;
+        }
+
+        /**
+         * 실행 중인 내보내기의 예상 임시 디스크 사용량 합계 한도 (0이면 제한하지 않음)
+         */
+        public Builder tempDiskBudgetBytes(long tempDiskBudgetBytes) {
+            this.tempDiskBudgetBytes = tempDiskBudgetBytes;
+            return this;
+        }
+
+        /**
+         * heapBudget이 없는 내보내기 1회의 예상 힙 사용량
+         */
+        public Builder estimatedExportMemoryBytes(long estimatedExportMemoryBytes) {
+            this.estimatedExportMemoryBytes = estimatedExportMemoryBytes;
+            return this;
+        }
+
+        /**
+         * 임시 저장소 quota가 없는 내보내기 1회의 예상 임시 디스크 사용량
+         */
+        public Builder estimatedExportTempBytes(long estimatedExportTempBytes) {
+            this.estimatedExportTempBytes = estimatedExportTempBytes;
+            return this;
+        }
+
+        /**
+         * 대기열에서 기다리는 최대 시간 (ZERO면 즉시 실행할 수 없을 때 바로 거부)
+         */
+        public Builder queueTimeout(Duration queueTimeout) {
+            this.queueTimeout = queueTimeout;
+            return this;
+        }
+
+        /**
+         * 지원되는 런타임에서 {@link #getExecutor()}가 가상 스레드를 사용할지 여부 (기본 true)
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        public ExportScheduler build() {
+            if (maxConcurrentExports < 1) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "maxConcurrentExports는 1 이상이어야 합니다: " + maxConcurrentExports);
+            }
+            if (maxQueuedExports < 0) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "maxQueuedExports는 0 이상이어야 합니다: " + maxQueuedExports);
+            }
+            if (memoryBudgetBytes < 0 || tempDiskBudgetBytes < 0) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "예산은 0 이상이어야 합니다: memory=" + memoryBudgetBytes + ", temp=" + tempDiskBudgetBytes);
+            }
+            if (estimatedExportMemoryBytes < 0 || estimatedExportTempBytes < 0) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "예상 사용량은 0 이상이어야 합니다: memory=" + estimatedExportMemoryBytes
+                                + ", temp=" + estimatedExportTempBytes);
+            }
+            if (queueTimeout == null || queueTimeout.isNegative()) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "queueTimeout은 0 이상이어야 합니다: " + queueTimeout);
+            }
+            return new ExportScheduler(this);
+        }
+    }
+}
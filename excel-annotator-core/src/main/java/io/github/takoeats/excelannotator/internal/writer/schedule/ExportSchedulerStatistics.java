@@ -0,0 +1,42 @@
+package io.github.takoeats.excelannotator.internal.writer.schedule;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 내보내기 스케줄러 상태 스냅샷
+ */
+@Getter
+@ToString
+public final class ExportSchedulerStatistics {
+
+    private final int activeExports;
+    private final int queuedExports;
+    private final long reservedMemoryBytes;
+    private final long reservedTempBytes;
+    private final long admittedCount;
+    private final long rejectedCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+
+    public ExportSchedulerStatistics(int activeExports, int queuedExports,
+                                     long reservedMemoryBytes, long reservedTempBytes,
+                                     long admittedCount, long rejectedCount,
+                                     long totalWaitNanos, long maxWaitNanos) {
+        this.activeExports = activeExports;
+        this.queuedExports = queuedExports;
+        this.reservedMemoryBytes = reservedMemoryBytes;
+        this.reservedTempBytes = reservedTempBytes;
+        this.admittedCount = admittedCount;
+        this.rejectedCount = rejectedCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    /**
+     * 승인된 내보내기의 평균 대기 시간 (나노초)
+     */
+    public long getAverageWaitNanos() {
+        return admittedCount == 0 ? 0 : totalWaitNanos / admittedCount;
+    }
+}
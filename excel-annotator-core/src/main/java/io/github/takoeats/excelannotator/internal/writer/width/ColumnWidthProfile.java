@@ -0,0 +1,108 @@
+package io.github.takoeats.excelannotator.internal.writer.width;
+
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DTO 클래스와 시트 이름별로 학습한 자동 너비(-1) 컬럼 너비
+ * <p>최근 내보내기에서 관측한 컬럼별 최대 너비를 실행 단위로 보관하고({@link #getRuns()}),
+ * 보관된 실행 중 컬럼별 최대값을 적용 너비로 사용합니다. 컬럼 구성(필드 이름 순서)이 바뀌면
+ * {@link #getFingerprint()}가 달라져 기존 프로파일은 사용되지 않습니다.</p>
+ * <p>너비 단위는 {@code Sheet.setColumnWidth}와 같은 1/256 글자이며, 고정 너비 컬럼은 0입니다.</p>
+ */
+@Getter
+@ToString
+public final class ColumnWidthProfile {
+
+    private final String key;
+    private final String fingerprint;
+    private final long updatedAtMillis;
+
+    /**
+     * 드리프트가 감지되어 다음 내보내기에서 다시 측정해야 하는지 여부
+     */
+    private final boolean stale;
+
+    @ToString.Exclude
+    private final List<int[]> runs;
+
+    public ColumnWidthProfile(String key, String fingerprint, long updatedAtMillis, boolean stale, List<int[]> runs) {
+        this.key = key;
+        this.fingerprint = fingerprint;
+        this.updatedAtMillis = updatedAtMillis;
+        this.stale = stale;
+        List<int[]> copies = new ArrayList<>(runs.size());
+        for (int[] run : runs) {
+            copies.add(run.clone());
+        }
+        this.runs = Collections.unmodifiableList(copies);
+    }
+
+    /**
+     * 프로파일 저장 키 (DTO 클래스 이름 + 시트 이름)
+     */
+    public static String keyOf(ExcelMetadata<?> metadata) {
+        String type = metadata.getDataType() != null ? metadata.getDataType().getName() : "-";
+        return type + "#" + metadata.getSheetName();
+    }
+
+    /**
+     * 컬럼 구성 식별값 (필드 이름과 너비 설정 순서)
+     */
+    public static String fingerprintOf(ExcelMetadata<?> metadata) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < metadata.getColumnWidths().size(); i++) {
+            sb.append(metadata.getFieldNameAt(i)).append(':').append(metadata.getColumnWidths().get(i)).append(';');
+        }
+        return Integer.toHexString(sb.toString().hashCode());
+    }
+
+    public int getColumnCount() {
+        return runs.isEmpty() ? 0 : runs.get(0).length;
+    }
+
+    /**
+     * 보관된 실행 중 컬럼별 최대 너비
+     */
+    public int[] getWidths() {
+        int[] widths = new int[getColumnCount()];
+        for (int[] run : runs) {
+            for (int i = 0; i < widths.length; i++) {
+                widths[i] = Math.max(widths[i], run[i]);
+            }
+        }
+        return widths;
+    }
+
+    /**
+     * 갱신 주기 안에 측정되었고 드리프트가 없으면 다시 측정하지 않고 적용 가능
+     */
+    public boolean isFresh(long nowMillis, Duration refreshInterval) {
+        return !stale && nowMillis - updatedAtMillis < refreshInterval.toMillis();
+    }
+
+    /**
+     * 새 실행 결과를 추가한 프로파일 (가장 오래된 실행부터 historySize개를 넘는 만큼 제거)
+     */
+    public ColumnWidthProfile withRun(int[] observed, int historySize, long nowMillis, boolean markStale) {
+        List<int[]> next = new ArrayList<>(runs);
+        next.add(observed);
+        while (next.size() > historySize) {
+            next.remove(0);
+        }
+        return new ColumnWidthProfile(key, fingerprint, nowMillis, markStale, next);
+    }
+
+    /**
+     * 실행 결과 하나로 새 프로파일 생성
+     */
+    public static ColumnWidthProfile first(String key, String fingerprint, int[] observed, long nowMillis) {
+        return new ColumnWidthProfile(key, fingerprint, nowMillis, false, Collections.singletonList(observed));
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.takoeats.excelannotator.internal.writer.width;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 키별 properties 파일에 프로파일을 보관하는 저장소
+ * <p>임시 파일에 기록한 뒤 이동하므로 읽는 쪽이 반쯤 기록된 파일을 보지 않습니다.
+ * 손상되었거나 형식이 맞지 않는 파일은 프로파일이 없는 것으로 처리합니다.</p>
+ */
+final class DirectoryWidthProfileStore implements WidthProfileStore {
+
+    private static final String FILE_SUFFIX = ".width.properties";
+
+    private final Path directory;
+
+    DirectoryWidthProfileStore(Path directory) {
+        if (directory == null || !Files.isDirectory(directory)) {
+            throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                    "너비 프로파일 디렉터리가 존재하지 않습니다: " + directory);
+        }
+        this.directory = directory;
+    }
+
+    @Override
+    public ColumnWidthProfile load(String key) {
+        Path file = fileOf(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+            if (!key.equals(properties.getProperty("key"))) {
+                return null;
+            }
+            int runCount = Integer.parseInt(properties.getProperty("runs"));
+            List<int[]> runs = new ArrayList<>(runCount);
+            for (int i = 0; i < runCount; i++) {
+                runs.add(parseWidths(properties.getProperty("run." + i)));
+            }
+            return new ColumnWidthProfile(key,
+                    properties.getProperty("fingerprint"),
+                    Long.parseLong(properties.getProperty("updatedAt")),
+                    Boolean.parseBoolean(properties.getProperty("stale")),
+                    runs);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void save(ColumnWidthProfile profile) {
+        Properties properties = new Properties();
+        properties.setProperty("key", profile.getKey());
+        properties.setProperty("fingerprint", profile.getFingerprint());
+        properties.setProperty("updatedAt", String.valueOf(profile.getUpdatedAtMillis()));
+        properties.setProperty("stale", String.valueOf(profile.isStale()));
+        properties.setProperty("runs", String.valueOf(profile.getRuns().size()));
+        for (int i = 0; i < profile.getRuns().size(); i++) {
+            properties.setProperty("run." + i, formatWidths(profile.getRuns().get(i)));
+        }
+
+        Path target = fileOf(profile.getKey());
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, ".width", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, null);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new ExcelExporterException(ErrorCode.IO_ERROR, "너비 프로파일 저장 실패: " + target, e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private Path fileOf(String key) {
+        String safeName = key.replaceAll("[^A-Za-z0-9._-]", "_");
+        return directory.resolve(safeName + "-" + Integer.toHexString(key.hashCode()) + FILE_SUFFIX);
+    }
+
+    private static int[] parseWidths(String value) {
+        String[] parts = value.split(",");
+        int[] widths = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            widths[i] = Integer.parseInt(parts[i].trim());
+        }
+        return widths;
+    }
+
+    private static String formatWidths(int[] widths) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < widths.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(widths[i]);
+        }
+        return sb.toString();
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 이동에 실패한 임시 파일만 남을 수 있음
+        }
+    }
+}
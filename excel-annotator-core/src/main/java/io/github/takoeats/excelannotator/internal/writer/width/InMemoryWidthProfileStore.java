@@ -0,0 +1,19 @@
+package io.github.takoeats.excelannotator.internal.writer.width;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class InMemoryWidthProfileStore implements WidthProfileStore {
+
+    private final Map<String, ColumnWidthProfile> profiles = new ConcurrentHashMap<>();
+
+    @Override
+    public ColumnWidthProfile load(String key) {
+        return profiles.get(key);
+    }
+
+    @Override
+    public void save(ColumnWidthProfile profile) {
+        profiles.put(profile.getKey(), profile);
+    }
+}
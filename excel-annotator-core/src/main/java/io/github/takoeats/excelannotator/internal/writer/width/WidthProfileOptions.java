@@ -0,0 +1,154 @@
+package io.github.takoeats.excelannotator.internal.writer.width;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 학습한 컬럼 너비 프로파일 옵션
+ * <p>같은 DTO를 반복해서 내보내면 자동 너비(-1) 컬럼의 너비가 매번 거의 같습니다. 프로파일이 갱신 주기 안에 있으면
+ * 시트 생성 시점에 저장된 너비를 고정 너비처럼 바로 적용하고, 앞쪽 driftSampleRows행만 측정하여
+ * 드리프트를 확인합니다. 프로파일이 없거나 오래되었거나 드리프트가 감지되면 다음 내보내기에서 모든 행을 다시 측정하여
+ * 프로파일을 갱신합니다.</p>
+ *
+ * <ul>
+ *     <li>store: 프로파일 저장소 (null이면 사용하지 않음)</li>
+ *     <li>refreshInterval: 프로파일을 다시 측정하는 주기 (기본 1일)</li>
+ *     <li>historySize: 적용 너비 계산에 사용하는 최근 실행 수 (기본 8)</li>
+ *     <li>driftSampleRows: 프로파일 적용 중 시트별로 측정하는 앞쪽 행 수 (기본 200, 0이면 확인하지 않음)</li>
+ *     <li>driftTolerance: 측정 너비가 프로파일보다 이 비율 이상 넓으면 드리프트로 판단 (기본 0.15)</li>
+ * </ul>
+ *
+ * <h3>사용 예시</h3>
+ * <pre>{@code
+ * WidthProfileStore store = WidthProfileStore.directory(Paths.get("/var/app/excel-widths"));
+ *
+ * ExcelExporter.excel(outputStream)
+ *     .widthProfiles(WidthProfileOptions.builder()
+ *         .store(store)
+ *         .refreshInterval(Duration.ofHours(12))
+ *         .build())
+ *     .write(dataStream);
+ * }</pre>
+ */
+@Getter
+@ToString
+public final class WidthProfileOptions {
+
+    /**
+     * 프로파일을 사용하지 않음 (매번 측정)
+     */
+    public static final WidthProfileOptions DISABLED = builder().build();
+
+    private final WidthProfileStore store;
+    private final Duration refreshInterval;
+    private final int historySize;
+    private final int driftSampleRows;
+    private final double driftTolerance;
+    @ToString.Exclude
+    private final Clock clock;
+
+    private WidthProfileOptions(Builder builder) {
+        this.store = builder.store;
+        this.refreshInterval = builder.refreshInterval;
+        this.historySize = builder.historySize;
+        this.driftSampleRows = builder.driftSampleRows;
+        this.driftTolerance = builder.driftTolerance;
+        this.clock = builder.clock;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isEnabled() {
+        return store != null;
+    }
+
+    public static final class Builder {
+        private WidthProfileStore store;
+        private Duration refreshInterval = Duration.ofDays(1);
+        private int historySize = 8;
+        private int driftSampleRows = 200;
+        private double driftTolerance = 0.15;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        /**
+         * 프로파일 저장소
+         */
+        public Builder store(WidthProfileStore store) {
+            this.store = store;
+            return this;
+        }
+
+        /**
+         * 프로파일을 다시 측정하는 주기
+         */
+        public Builder refreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        /**
+         * 적용 너비 계산에 사용하는 최근 실행 수
+         */
+        public Builder historySize(int historySize) {
+            this.historySize = historySize;
+            return this;
+        }
+
+        /**
+         * 프로파일 적용 중 드리프트 확인을 위해 측정하는 시트별 앞쪽 행 수
+         */
+        public Builder driftSampleRows(int driftSampleRows) {
+            this.driftSampleRows = driftSampleRows;
+            return this;
+        }
+
+        /**
+         * 드리프트 판단 비율 (0.15이면 프로파일보다 15% 이상 넓을 때)
+         */
+        public Builder driftTolerance(double driftTolerance) {
+            this.driftTolerance = driftTolerance;
+            return this;
+        }
+
+        /**
+         * 갱신 주기 판단에 사용하는 시계
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public WidthProfileOptions build() {
+            if (refreshInterval == null || refreshInterval.isNegative() || refreshInterval.isZero()) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "refreshInterval은 0보다 커야 합니다: " + refreshInterval);
+            }
+            if (historySize < 1) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "historySize는 1 이상이어야 합니다: " + historySize);
+            }
+            if (driftSampleRows < 0) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "driftSampleRows는 0 이상이어야 합니다: " + driftSampleRows);
+            }
+            if (driftTolerance < 0) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "driftTolerance는 0 이상이어야 합니다: " + driftTolerance);
+            }
+            if (clock == null) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION, "clock은 null일 수 없습니다.");
+            }
+            return new WidthProfileOptions(this);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.takoeats.excelannotator.internal.writer.width;
+
+import java.nio.file.Path;
+
+/**
+ * 학습한 컬럼 너비 프로파일 저장소
+ * <p>구현체는 여러 내보내기가 동시에 호출해도 안전해야 합니다.</p>
+ */
+public interface WidthProfileStore {
+
+    /**
+     * 저장된 프로파일 조회
+     *
+     * @return 프로파일 (없거나 읽을 수 없으면 null)
+     */
+    ColumnWidthProfile load(String key);
+
+    /**
+     * 프로파일 저장 (같은 키의 기존 프로파일을 대체)
+     */
+    void save(ColumnWidthProfile profile);
+
+    /**
+     * 프로세스 메모리에 보관하는 저장소
+     */
+    static WidthProfileStore inMemory() {
+        return new InMemoryWidthProfileStore();
+    }
+
+    /**
+     * 디렉터리에 키별 properties 파일로 보관하는 저장소 (재시작 후에도 유지)
+     *
+     * @param directory 존재하는 디렉터리
+     */
+    static WidthProfileStore directory(Path directory) {
+        return new DirectoryWidthProfileStore(directory);
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+
+/**
+ * XLSX 패키지(ZIP) 압축 옵션
+ * <p>XLSX 출력 시간의 상당 부분은 시트 XML을 deflate하는 데 쓰입니다. 압축 수준을 낮추거나
+ * 여러 스레드로 나누어 압축하면 파일 크기를 조금 희생하는 대신 출력 시간을 줄일 수 있습니다.
+ * 기본값은 POI 기본 동작(단일 스레드, 기본 압축 수준)과 같습니다.</p>
+ *
+ * <ul>
+ *     <li>level: deflate 압축 수준 (-1 기본, 0 비압축 ~ 9 최대 압축)</li>
+ *     <li>parallelism: 압축 스레드 수 (1이면 단일 스레드)</li>
+ *     <li>chunkSizeBytes: 병렬 압축 시 한 스레드가 압축하는 입력 단위</li>
+ *     <li>executor: 병렬 압축 작업을 실행할 Executor (기본값: 모든 내보내기가 공유하는 CPU 수만큼의 데몬 스레드 풀)</li>
+ * </ul>
+ *
+ * <p>병렬 압축은 각 파트를 chunkSizeBytes 단위로 나누어 독립된 deflate 블록으로 압축한 뒤 순서대로 이어 붙입니다.
+ * 청크마다 직전 청크의 마지막 32KB를 사전으로 사용하므로 압축률은 단일 스레드와 거의 같습니다.
+ * parallelism은 내보내기 하나가 동시에 제출하는 청크 수를 제한하며, 스레드는 executor에서 가져오므로 동시 내보내기가
+ * 늘어도 압축 스레드 수는 늘지 않습니다. 병렬 압축은 4GB를 넘는 파트(Zip64)를 지원하지 않습니다.</p>
+ *
+ * <h3>사용 예시</h3>
+ * <pre>{@code
+ * ExcelExporter.excel(outputStream)
+ *     .compression(CompressionOptions.builder()
+ *         .level(1)
+ *         .parallelism(4)
+ *         .build())
+ *     .write(dataStream);
+ * }</pre>
+ */
+@Getter
+@ToString
+public final class CompressionOptions {
+
+    public static final int DEFAULT_CHUNK_SIZE_BYTES = 128 * 1024;
+    static final int MIN_CHUNK_SIZE_BYTES = 32 * 1024;
+
+    /**
+     * POI 기본 동작과 같은 옵션
+     */
+    public static final CompressionOptions DEFAULT = builder().build();
+
+    /**
+     * 압축하지 않음 (압축 수준 0: deflate 비압축 블록으로 기록하여 ZIP 엔트리 형식은 유지)
+     */
+    public static final CompressionOptions STORED = builder().level(Deflater.NO_COMPRESSION).build();
+
+    /**
+     * 가장 빠른 압축 수준 (1)
+     */
+    public static final CompressionOptions FASTEST = builder().level(Deflater.BEST_SPEED).build();
+
+    private final int level;
+    private final int parallelism;
+    private final int chunkSizeBytes;
+    private final Executor executor;
+
+    private CompressionOptions(Builder builder) {
+        this.level = builder.level;
+        this.parallelism = builder.parallelism;
+        this.chunkSizeBytes = builder.chunkSizeBytes;
+        this.executor = builder.executor;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * POI 기본 ZIP 기록기를 그대로 사용할 수 있는지 여부
+     */
+    public boolean isDefault() {
+        return level == Deflater.DEFAULT_COMPRESSION && !isParallel();
+    }
+
+    public boolean isParallel() {
+        return parallelism > 1;
+    }
+
+    public static final class Builder {
+        private int level = Deflater.DEFAULT_COMPRESSION;
+        private int parallelism = 1;
+        private int chunkSizeBytes = DEFAULT_CHUNK_SIZE_BYTES;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * deflate 압축 수준 (-1 기본, 0 ~ 9)
+         */
+        public Builder level(int level) {
+            this.level = level;
+            return this;
+        }
+
+        /**
+         * 압축 스레드 수 (2 이상이면 병렬 압축)
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * 병렬 압축 청크 크기 (최소 32KB)
+         */
+        public Builder chunkSizeBytes(int chunkSizeBytes) {
+            this.chunkSizeBytes = chunkSizeBytes;
+            return this;
+        }
+
+        /**
+         * 병렬 압축 작업을 실행할 Executor (null이면 공유 데몬 스레드 풀, 종료는 호출자 책임)
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public CompressionOptions build() {
+            if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "level은 -1 ~ 9 범위여야 합니다: " + level);
+            }
+            if (parallelism < 1) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "parallelism은 1 이상이어야 합니다: " + parallelism);
+            }
+            if (chunkSizeBytes < MIN_CHUNK_SIZE_BYTES) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "chunkSizeBytes는 " + MIN_CHUNK_SIZE_BYTES + " 이상이어야 합니다: " + chunkSizeBytes);
+            }
+            return new CompressionOptions(this);
+        }
+    }
+}
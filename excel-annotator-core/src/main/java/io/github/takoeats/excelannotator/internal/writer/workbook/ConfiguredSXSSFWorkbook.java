@@ -0,0 +1,187 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import io.github.takoeats.excelannotator.internal.writer.ExcelWriteOptions;
+import io.github.takoeats.excelannotator.internal.writer.ExportSizing;
+import io.github.takoeats.excelannotator.internal.writer.RowPreparationOptions;
+import io.github.takoeats.excelannotator.internal.writer.width.WidthProfileOptions;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 내보내기 옵션이 적용된 SXSSFWorkbook
+ * <p>시트마다 {@link ConfiguredSheetDataWriter}를 생성하여 공유 문자열 사전, 임시 저장소 등 시트 XML 기록 방식을 제어하고,
+ * 패키지 출력 시 {@link CompressionOptions}에 따라 압축 수준과 병렬 압축을 적용합니다.
+ * 옵션을 사용하지 않으면 기본 SXSSFWorkbook과 동일한 결과를 생성합니다.</p>
+ * <p>병렬 시트 작성 시 시트 생성과 워크북 단위 기록(공유 문자열 등록, 출력 파라미터)은 워크북 모니터로 직렬화되고,
+ * 행 작성과 플러시는 시트별 버퍼에서 독립적으로 진행됩니다.</p>
+ */
+public class ConfiguredSXSSFWorkbook extends SXSSFWorkbook {
+
+    private final ExcelWriteOptions options;
+    private final Map<SXSSFSheet, ConfiguredSheetDataWriter> sheetWriters = new IdentityHashMap<>();
+    private ConfiguredSheetDataWriter lastCreatedWriter;
+    private final TempStorage tempStorage;
+    private final List<ExportSizing> sizings = new ArrayList<>();
+    private SharedStringDictionary sharedStringDictionary;
+
+    public ConfiguredSXSSFWorkbook(int rowAccessWindowSize, ExcelWriteOptions options) {
+        super(new XSSFWorkbook(), rowAccessWindowSize, false, false);
+        this.options = options;
+        this.tempStorage = options.getTempStorage().isDefault() ? null : new TempStorage(options.getTempStorage());
+    }
+
+    @Override
+    protected SheetDataWriter createSheetDataWriter() throws IOException {
+        ConfiguredSheetDataWriter writer = tempStorage != null
+                ? new TempStorageSheetDataWriter(tempStorage)
+                : new ConfiguredSheetDataWriter();
+        lastCreatedWriter = writer;
+        return writer;
+    }
+
+    /**
+     * 압축 옵션에 맞는 ZIP 기록기 생성 (병렬 압축이면 {@link ParallelZipArchiveOutputStream})
+     */
+    @Override
+    protected ZipArchiveOutputStream createArchiveOutputStream(OutputStream out) {
+        CompressionOptions compression = options.getCompression();
+        if (compression.isParallel()) {
+            return new ParallelZipArchiveOutputStream(out, compression);
+        }
+        ZipArchiveOutputStream zos = super.createArchiveOutputStream(out);
+        zos.setLevel(compression.getLevel());
+        return zos;
+    }
+
+    /**
+     * 시트 임시 버퍼와 함께 임시 저장소가 만든 파일도 삭제 (close()에서도 호출됨)
+     */
+    @Override
+    public boolean dispose() {
+        boolean disposed = super.dispose();
+        if (tempStorage != null) {
+            disposed = tempStorage.deleteFiles() && disposed;
+        }
+        return disposed;
+    }
+
+    @Override
+    public synchronized SXSSFSheet createSheet() {
+        return register(super.createSheet());
+    }
+
+    @Override
+    public synchronized SXSSFSheet createSheet(String sheetName) {
+        return register(super.createSheet(sheetName));
+    }
+
+    private SXSSFSheet register(SXSSFSheet sheet) {
+        if (lastCreatedWriter != null) {
+            sheetWriters.put(sheet, lastCreatedWriter);
+            lastCreatedWriter = null;
+        }
+        return sheet;
+    }
+
+    /**
+     * 시트에 공유 문자열 사전 적용
+     * <p>옵션이 allColumns이면 모든 컬럼에, 아니면 columnEnabled가 true인 컬럼에만 적용됩니다.
+     * 적용 대상 컬럼이 없으면 아무 것도 하지 않습니다.</p>
+     *
+     * @param sheet         이 워크북에서 생성된 시트
+     * @param columnEnabled 컬럼별 {@code @ExcelColumn(sharedString)} 값
+     */
+    public synchronized void enableSharedStrings(SXSSFSheet sheet, boolean[] columnEnabled) {
+        SharedStringsOptions sharedStrings = options.getSharedStrings();
+        if (!sharedStrings.isAllColumns() && !anyEnabled(columnEnabled)) {
+            return;
+        }
+
+        ConfiguredSheetDataWriter writer = sheetWriters.get(sheet);
+        if (writer == null) {
+            return;
+        }
+        if (sharedStringDictionary == null) {
+            sharedStringDictionary = new SharedStringDictionary(_wb.getSharedStringSource(), sharedStrings);
+        }
+        writer.enableSharedStrings(sharedStringDictionary, columnEnabled, sharedStrings.isAllColumns());
+    }
+
+    private static boolean anyEnabled(boolean[] columnEnabled) {
+        for (boolean enabled : columnEnabled) {
+            if (enabled) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 힙 예산 (0이면 고정 행 윈도우 사용)
+     */
+    public long getHeapBudgetBytes() {
+        return options.getHeapBudgetBytes();
+    }
+
+    public WidthProfileOptions getWidthProfiles() {
+        return options.getWidthProfiles();
+    }
+
+    /**
+     * 병렬 행 준비 옵션
+     */
+    public RowPreparationOptions getRowPreparation() {
+        return options.getRowPreparation();
+    }
+
+    /**
+     * 행 기반 시트를 병렬로 작성할 Executor (null이면 순차 작성)
+     */
+    public Executor getSheetExecutor() {
+        return options.getSheetExecutor();
+    }
+
+    /**
+     * 힙 예산으로 결정된 시트 출력 파라미터 기록 (시트 요청 단위)
+     */
+    public synchronized void recordSizing(ExportSizing sizing) {
+        sizings.add(sizing);
+    }
+
+    public synchronized List<ExportSizing> getSizings() {
+        return Collections.unmodifiableList(new ArrayList<>(sizings));
+    }
+
+    /**
+     * 임시 파일에 기록된 총 바이트 (기본 임시 저장소이면 0)
+     */
+    public long getTempFileBytes() {
+        return tempStorage != null ? tempStorage.getFileBytes() : 0;
+    }
+
+    /**
+     * 메모리 버퍼에서 임시 파일로 전환된 시트 수 (기본 임시 저장소이면 0)
+     */
+    public int getSpilledSheetCount() {
+        return tempStorage != null ? tempStorage.getSpilledSheetCount() : 0;
+    }
+
+    /**
+     * 공유 문자열 사전 사용 결과 (write 이후 호출해야 모든 행이 반영됨)
+     */
+    public SharedStringsReport getSharedStringsReport() {
+        return sharedStringDictionary != null ? sharedStringDictionary.toReport() : SharedStringsReport.EMPTY;
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.streaming.SXSSFRow;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+
+import java.io.IOException;
+
+/**
+ * 시트 XML 임시 파일 기록기
+ * <p>공유 문자열 사전이 활성화된 컬럼의 문자열 셀은 {@code t="s"} 인덱스 셀로 기록하고,
+ * 그 외 셀은 POI 기본 기록 방식(인라인 문자열)을 그대로 사용합니다.</p>
+ */
+class ConfiguredSheetDataWriter extends SheetDataWriter {
+
+    private SharedStringDictionary dictionary;
+    private SharedStringDictionary.Column[] columns;
+    private boolean allColumns;
+    private int rowNumber;
+
+    ConfiguredSheetDataWriter() throws IOException {
+        super();
+    }
+
+    /**
+     * 공유 문자열 사전 활성화
+     *
+     * @param dictionary    워크북 단위 사전
+     * @param columnEnabled 컬럼별 사전 사용 여부 (allColumns이면 무시)
+     * @param allColumns    모든 컬럼 사전 사용 여부
+     */
+    void enableSharedStrings(SharedStringDictionary dictionary, boolean[] columnEnabled, boolean allColumns) {
+        this.dictionary = dictionary;
+        this.allColumns = allColumns;
+        this.columns = dictionary.newColumns(columnEnabled, allColumns);
+    }
+
+    @Override
+    public void writeRow(int rowNumber, SXSSFRow row) throws IOException {
+        this.rowNumber = rowNumber;
+        super.writeRow(rowNumber, row);
+    }
+
+    @Override
+    public void writeCell(int columnIndex, Cell cell) throws IOException {
+        if (dictionary != null && cell != null && cell.getCellType() == CellType.STRING) {
+            SharedStringDictionary.Column column = columnAt(columnIndex);
+            if (column != null) {
+                int index = dictionary.indexOf(column, cell.getStringCellValue());
+                if (index >= 0) {
+                    writeSharedStringCell(columnIndex, cell, index);
+                    return;
+                }
+            }
+        }
+        super.writeCell(columnIndex, cell);
+    }
+
+    private SharedStringDictionary.Column columnAt(int columnIndex) {
+        if (columnIndex < columns.length) {
+            return columns[columnIndex];
+        }
+        if (!allColumns) {
+            return null;
+        }
+        SharedStringDictionary.Column[] grown = new SharedStringDictionary.Column[columnIndex + 1];
+        System.arraycopy(columns, 0, grown, 0, columns.length);
+        for (int i = columns.length; i < grown.length; i++) {
+            grown[i] = dictionary.newColumn();
+        }
+        columns = grown;
+        return columns[columnIndex];
+    }
+
+    private void writeSharedStringCell(int columnIndex, Cell cell, int index) throws IOException {
+        _out.write("<c r=\"");
+        _out.write(CellReference.convertNumToColString(columnIndex));
+        _out.write(Integer.toString(rowNumber + 1));
+        _out.write('"');
+
+        CellStyle cellStyle = cell.getCellStyle();
+        if (cellStyle.getIndex() != 0) {
+            _out.write(" s=\"");
+            _out.write(Integer.toString(cellStyle.getIndex() & 0xffff));
+            _out.write('"');
+        }
+
+        _out.write(" t=\"s\"><v>");
+        _out.write(Integer.toString(index));
+        _out.write("</v></c>");
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * SXSSFWorkbook의 패키지 출력을 {@link ParallelZipOutputStream}으로 연결하는 어댑터
+ * <p>SXSSFWorkbook은 엔트리 추가, 데이터 기록, 엔트리 종료, finish만 호출하므로 이 메서드들만 위임합니다.
+ * 상위 클래스의 압축기는 사용하지 않으며 finish 시 해제합니다.</p>
+ */
+final class ParallelZipArchiveOutputStream extends ZipArchiveOutputStream {
+
+    private final ParallelZipOutputStream zip;
+
+    ParallelZipArchiveOutputStream(OutputStream out, CompressionOptions options) {
+        super(out);
+        this.zip = new ParallelZipOutputStream(out, options);
+    }
+
+    @Override
+    public void putArchiveEntry(ZipArchiveEntry archiveEntry) throws IOException {
+        zip.putNextEntry(archiveEntry.getName());
+    }
+
+    @Override
+    public void write(byte[] b, int offset, int length) throws IOException {
+        zip.write(b, offset, length);
+    }
+
+    @Override
+    public void closeArchiveEntry() throws IOException {
+        zip.closeEntry();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        zip.flush();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        try {
+            zip.finish();
+        } finally {
+            finished = true;
+            def.end();
+        }
+    }
+
+    /**
+     * 진행 중인 압축 작업만 정리하고 대상 출력 스트림은 닫지 않음
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            zip.close();
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+/**
+ * 엔트리 데이터를 여러 스레드로 나누어 deflate하는 스트리밍 ZIP 기록기
+ * <p>엔트리 데이터를 {@link CompressionOptions#getChunkSizeBytes()} 단위로 잘라 작업 스레드에서 독립적으로 압축합니다.
+ * 마지막이 아닌 청크는 SYNC_FLUSH로 바이트 경계에서 끝나고 마지막 청크만 최종 블록을 기록하므로,
+ * 순서대로 이어 붙인 결과는 하나의 유효한 deflate 스트림입니다. 청크마다 직전 청크의 마지막 32KB를
+ * 사전으로 지정하여 청크 경계에서도 역참조가 가능합니다.</p>
+ * <p>CRC와 크기는 데이터 뒤의 data descriptor에 기록하므로 엔트리 전체를 버퍼링하지 않습니다.
+ * 메모리에는 parallelism의 2배까지의 청크만 유지됩니다. 4GB를 넘는 엔트리나 ZIP(Zip64)은 지원하지 않습니다.</p>
+ * <p>압축 작업은 {@link CompressionOptions#getExecutor()}에서, 지정하지 않으면 모든 스트림이 공유하는
+ * CPU 수만큼의 데몬 스레드 풀에서 실행됩니다. {@link #close()}는 진행 중인 압축 작업만 취소하며
+ * Executor와 대상 출력 스트림은 닫지 않습니다.</p>
+ */
+public final class ParallelZipOutputStream extends OutputStream {
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final int DEFLATE_BUFFER_SIZE = 16 * 1024;
+    private static final long ZIP32_LIMIT = 0xFFFFFFFFL;
+    private static final int MAX_ENTRIES = 0xFFFF;
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final short VERSION = 20;
+    private static final short FLAGS = (1 << 3) | (1 << 11);
+    private static final short METHOD_DEFLATED = 8;
+
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+
+    private final OutputStream out;
+    private final Executor executor;
+    private final int level;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+    private final short dosTime;
+    private final short dosDate;
+    private final List<Entry> entries = new ArrayList<>();
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+    private final CRC32 crc = new CRC32();
+
+    private long written;
+    private Entry current;
+    private byte[] chunk;
+    private int chunkLength;
+    private byte[] previousChunk;
+    private int previousChunkLength;
+    private boolean finished;
+
+    public ParallelZipOutputStream(OutputStream out, CompressionOptions options) {
+        this.out = out;
+        this.level = options.getLevel();
+        this.chunkSize = options.getChunkSizeBytes();
+        this.maxPendingChunks = options.getParallelism() * 2;
+        this.executor = options.getExecutor() != null ? options.getExecutor() : SharedDeflaterPool.EXECUTOR;
+
+        LocalDateTime now = LocalDateTime.now();
+        this.dosTime = (short) ((now.getHour() << 11) | (now.getMinute() << 5) | (now.getSecond() >> 1));
+        this.dosDate = (short) (((now.getYear() - 1980) << 9) | (now.getMonthValue() << 5) | now.getDayOfMonth());
+    }
+
+    /**
+     * 새 엔트리 시작 (열려 있는 엔트리는 먼저 종료)
+     */
+    public void putNextEntry(String name) throws IOException {
+        if (finished) {
+            throw new IOException("이미 종료된 ZIP 스트림입니다.");
+        }
+        if (current != null) {
+            closeEntry();
+        }
+        if (entries.size() >= MAX_ENTRIES) {
+            throw new ZipException("병렬 압축은 " + MAX_ENTRIES + "개를 넘는 엔트리를 지원하지 않습니다.");
+        }
+
+        current = new Entry(name.getBytes(StandardCharsets.UTF_8), written);
+        crc.reset();
+        chunk = new byte[chunkSize];
+        chunkLength = 0;
+        previousChunk = null;
+        previousChunkLength = 0;
+
+        ByteBuffer header = littleEndian(30 + current.name.length);
+        header.putInt(LOCAL_HEADER_SIGNATURE)
+                .putShort(VERSION)
+                .putShort(FLAGS)
+                .putShort(METHOD_DEFLATED)
+                .putShort(dosTime)
+                .putShort(dosDate)
+                .putInt(0)
+                .putInt(0)
+                .putInt(0)
+                .putShort((short) current.name.length)
+                .putShort((short) 0)
+                .put(current.name);
+        writeRaw(header.array());
+        current.dataOffset = written;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureEntry();
+        chunk[chunkLength++] = (byte) b;
+        if (chunkLength == chunkSize) {
+            submitChunk(false);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureEntry();
+        while (len > 0) {
+            int n = Math.min(len, chunkSize - chunkLength);
+            System.arraycopy(b, off, chunk, chunkLength, n);
+            chunkLength += n;
+            off += n;
+            len -= n;
+            if (chunkLength == chunkSize) {
+                submitChunk(false);
+            }
+        }
+    }
+
+    /**
+     * 현재 엔트리의 남은 청크를 압축하여 기록하고 data descriptor 기록
+     */
+    public void closeEntry() throws IOException {
+        if (current == null) {
+            return;
+        }
+        submitChunk(true);
+        while (!pending.isEmpty()) {
+            drainOne();
+        }
+
+        current.crc = crc.getValue();
+        current.compressedSize = written - current.dataOffset;
+        if (current.size > ZIP32_LIMIT || current.compressedSize > ZIP32_LIMIT || current.offset > ZIP32_LIMIT) {
+            throw new ZipException("병렬 압축은 4GB를 넘는 엔트리를 지원하지 않습니다: "
+                    + new String(current.name, StandardCharsets.UTF_8));
+        }
+
+        ByteBuffer descriptor = littleEndian(16);
+        descriptor.putInt(DATA_DESCRIPTOR_SIGNATURE)
+                .putInt((int) current.crc)
+                .putInt((int) current.compressedSize)
+                .putInt((int) current.size);
+        writeRaw(descriptor.array());
+
+        entries.add(current);
+        current = null;
+        chunk = null;
+        previousChunk = null;
+    }
+
+    /**
+     * 중앙 디렉터리를 기록 (대상 스트림은 닫지 않음)
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        try {
+            closeEntry();
+            long centralDirectoryOffset = written;
+            for (Entry entry : entries) {
+                writeCentralHeader(entry);
+            }
+            long centralDirectorySize = written - centralDirectoryOffset;
+            if (centralDirectoryOffset > ZIP32_LIMIT) {
+                throw new ZipException("병렬 압축은 4GB를 넘는 ZIP을 지원하지 않습니다.");
+            }
+
+            ByteBuffer end = littleEndian(22);
+            end.putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE)
+                    .putShort((short) 0)
+                    .putShort((short) 0)
+                    .putShort((short) entries.size())
+                    .putShort((short) entries.size())
+                    .putInt((int) centralDirectorySize)
+                    .putInt((int) centralDirectoryOffset)
+                    .putShort((short) 0);
+            writeRaw(end.array());
+            out.flush();
+        } finally {
+            finished = true;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * 진행 중인 압축 작업을 취소 (finish 이후에는 아무 것도 하지 않음)
+     */
+    @Override
+    public void close() {
+        if (!finished) {
+            finished = true;
+            for (Future<byte[]> future : pending) {
+                future.cancel(true);
+            }
+            pending.clear();
+        }
+    }
+
+    private void ensureEntry() throws IOException {
+        if (current == null) {
+            throw new IOException("putNextEntry 호출 전에는 데이터를 기록할 수 없습니다.");
+        }
+    }
+
+    private void submitChunk(boolean last) throws IOException {
+        final byte[] input = chunk;
+        final int length = chunkLength;
+        final byte[] dictionary = previousChunk;
+        final int dictionaryOffset = Math.max(0, previousChunkLength - DICTIONARY_SIZE);
+        final int dictionaryLength = previousChunkLength - dictionaryOffset;
+
+        crc.update(input, 0, length);
+        current.size += length;
+        pending.add(CompletableFuture.supplyAsync(
+                () -> deflate(input, length, dictionary, dictionaryOffset, dictionaryLength, last), executor));
+
+        previousChunk = input;
+        previousChunkLength = length;
+        chunk = last ? null : new byte[chunkSize];
+        chunkLength = 0;
+
+        while (pending.size() >= maxPendingChunks) {
+            drainOne();
+        }
+    }
+
+    private byte[] deflate(byte[] input, int length,
+                           byte[] dictionary, int dictionaryOffset, int dictionaryLength,
+                           boolean last) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (dictionary != null && dictionaryLength > 0) {
+                deflater.setDictionary(dictionary, dictionaryOffset, dictionaryLength);
+            }
+            deflater.setInput(input, 0, length);
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+            byte[] buffer = new byte[DEFLATE_BUFFER_SIZE];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    compressed.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    compressed.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void drainOne() throws IOException {
+        Future<byte[]> future = pending.poll();
+        try {
+            writeRaw(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("병렬 압축 대기 중 인터럽트되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IOException("병렬 압축에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private void writeCentralHeader(Entry entry) throws IOException {
+        ByteBuffer header = littleEndian(46 + entry.name.length);
+        header.putInt(CENTRAL_HEADER_SIGNATURE)
+                .putShort(VERSION)
+                .putShort(VERSION)
+                .putShort(FLAGS)
+                .putShort(METHOD_DEFLATED)
+                .putShort(dosTime)
+                .putShort(dosDate)
+                .putInt((int) entry.crc)
+                .putInt((int) entry.compressedSize)
+                .putInt((int) entry.size)
+                .putShort((short) entry.name.length)
+                .putShort((short) 0)
+                .putShort((short) 0)
+                .putShort((short) 0)
+                .putShort((short) 0)
+                .putInt(0)
+                .putInt((int) entry.offset)
+                .put(entry.name);
+        writeRaw(header.array());
+    }
+
+    private void writeRaw(byte[] bytes) throws IOException {
+        out.write(bytes);
+        written += bytes.length;
+    }
+
+    private static ByteBuffer littleEndian(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Executor를 지정하지 않은 스트림이 공유하는 압축 스레드 풀 (처음 사용할 때 생성)
+     */
+    private static final class SharedDeflaterPool {
+        static final Executor EXECUTOR = Executors.newFixedThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "excel-deflater-" + THREAD_SEQUENCE.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private static final class Entry {
+        private final byte[] name;
+        private final long offset;
+        private long dataOffset;
+        private long size;
+        private long compressedSize;
+        private long crc;
+
+        Entry(byte[] name, long offset) {
+            this.name = name;
+            this.offset = offset;
+        }
+    }
+}
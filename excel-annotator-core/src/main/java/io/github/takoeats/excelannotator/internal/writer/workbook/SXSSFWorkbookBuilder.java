@@ -2,18 +2,28 @@ package io.github.takoeats.excelannotator.internal.writer.workbook;
 
 import io.github.takoeats.excelannotator.exception.ErrorCode;
 import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.ExcelWriteOptions;
 import io.github.takoeats.excelannotator.internal.writer.SheetWriteContext;
 import io.github.takoeats.excelannotator.internal.writer.SheetWriter;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 public final class SXSSFWorkbookBuilder {
 
-    private static final int SHEET_BUFFER_LIMIT = 500;
+    /**
+     * 시트당 메모리에 유지하는 기본 행 윈도우
+     */
+    public static final int SHEET_BUFFER_LIMIT = 500;
 
     private final SheetWriter sheetWriter;
+    private final ExcelWriteOptions options;
 
     public SXSSFWorkbookBuilder(SheetWriter sheetWriter) {
+        this(sheetWriter, ExcelWriteOptions.DEFAULT);
+    }
+
+    public SXSSFWorkbookBuilder(SheetWriter sheetWriter, ExcelWriteOptions options) {
         this.sheetWriter = sheetWriter;
+        this.options = options;
     }
 
     public <T> SXSSFWorkbook createWorkbookAndWrite(SheetWriteContext<T> context) {
@@ -21,7 +31,7 @@ public final class SXSSFWorkbookBuilder {
                 ? Math.max(20, SHEET_BUFFER_LIMIT / context.getSheetCount())
                 : SHEET_BUFFER_LIMIT;
 
-        SXSSFWorkbook wb = new SXSSFWorkbook(bufferSize);
+        SXSSFWorkbook wb = new ConfiguredSXSSFWorkbook(bufferSize, options);
         try {
             sheetWriter.write(wb, context);
             return wb;
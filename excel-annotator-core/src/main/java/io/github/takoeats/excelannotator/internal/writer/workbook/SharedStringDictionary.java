@@ -0,0 +1,154 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import org.apache.poi.xssf.model.SharedStringsTable;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 워크북 단위 공유 문자열 사전
+ * <p>문자열 → 공유 문자열 테이블 인덱스를 메모리에 유지합니다. 전체 고유 문자열 수는 maxEntries로,
+ * 컬럼별 고유 문자열 수는 columnCardinalityThreshold로 제한되며 한도를 넘는 새 값은 인라인으로 기록됩니다.
+ * 한도 초과 이후에도 이미 등록된 값은 계속 인덱스로 기록됩니다.</p>
+ * <p>병렬 시트 작성 시 여러 시트의 플러시가 같은 사전을 사용하므로 조회와 등록은 사전 단위로 직렬화됩니다.</p>
+ */
+public final class SharedStringDictionary {
+
+    private static final int INLINE_MARKUP_BYTES = " t=\"inlineStr\"><is><t></t></is>".length();
+    private static final int SHARED_MARKUP_BYTES = " t=\"s\"><v></v>".length();
+    private static final int TABLE_ENTRY_MARKUP_BYTES = "<si><t></t></si>".length();
+
+    private final SharedStringsTable table;
+    private final int maxEntries;
+    private final int columnCardinalityThreshold;
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private int[] utf8Lengths = new int[64];
+
+    private long indexedCellCount;
+    private long inlineCellCount;
+    private int overflowedColumnCount;
+    private boolean dictionaryFull;
+    private long estimatedInlineBytes;
+    private long estimatedSharedBytes;
+
+    public SharedStringDictionary(SharedStringsTable table, SharedStringsOptions options) {
+        this.table = table;
+        this.maxEntries = options.getMaxEntries();
+        this.columnCardinalityThreshold = options.getColumnCardinalityThreshold();
+    }
+
+    public Column newColumn() {
+        return new Column();
+    }
+
+    /**
+     * 시트 컬럼별 사전 상태 배열 생성
+     *
+     * @param columnEnabled 컬럼별 사전 사용 여부 (allColumns이면 무시)
+     * @param allColumns    모든 컬럼 사전 사용 여부
+     * @return 사전을 사용하지 않는 컬럼은 null 항목
+     */
+    public Column[] newColumns(boolean[] columnEnabled, boolean allColumns) {
+        Column[] columns = new Column[columnEnabled.length];
+        for (int i = 0; i < columns.length; i++) {
+            if (allColumns || columnEnabled[i]) {
+                columns[i] = new Column();
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 값의 공유 문자열 인덱스 반환
+     *
+     * @return 인라인으로 기록해야 하면 -1
+     */
+    public synchronized int indexOf(Column column, String value) {
+        Integer index = indexes.get(value);
+        if (index == null || !column.contains(index)) {
+            if (!column.hasCapacity()) {
+                if (!column.overflowed) {
+                    column.overflowed = true;
+                    overflowedColumnCount++;
+                }
+                inlineCellCount++;
+                return -1;
+            }
+            if (index == null) {
+                if (indexes.size() >= maxEntries) {
+                    dictionaryFull = true;
+                    inlineCellCount++;
+                    return -1;
+                }
+                index = register(value);
+            }
+            column.add(index);
+        }
+
+        int i = index;
+        indexedCellCount++;
+        estimatedInlineBytes += INLINE_MARKUP_BYTES + utf8Lengths[i];
+        estimatedSharedBytes += SHARED_MARKUP_BYTES + digits(i);
+        return i;
+    }
+
+    private Integer register(String value) {
+        int index = table.addSharedStringItem(new XSSFRichTextString(value));
+        indexes.put(value, index);
+
+        if (index >= utf8Lengths.length) {
+            utf8Lengths = Arrays.copyOf(utf8Lengths, Math.max(index + 1, utf8Lengths.length * 2));
+        }
+        int length = value.getBytes(StandardCharsets.UTF_8).length;
+        utf8Lengths[index] = length;
+        estimatedSharedBytes += TABLE_ENTRY_MARKUP_BYTES + length;
+        return index;
+    }
+
+    private static int digits(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    public synchronized boolean isEmpty() {
+        return indexes.isEmpty();
+    }
+
+    public synchronized SharedStringsReport toReport() {
+        return new SharedStringsReport(indexes.size(), indexedCellCount, inlineCellCount,
+                overflowedColumnCount, dictionaryFull, estimatedInlineBytes, estimatedSharedBytes);
+    }
+
+    /**
+     * 시트 컬럼 하나의 사전 사용 상태
+     */
+    public final class Column {
+        private final BitSet seen = new BitSet();
+        private int distinctCount;
+        private boolean overflowed;
+
+        private Column() {
+        }
+
+        boolean contains(int index) {
+            return seen.get(index);
+        }
+
+        boolean hasCapacity() {
+            return distinctCount < columnCardinalityThreshold;
+        }
+
+        void add(int index) {
+            seen.set(index);
+            distinctCount++;
+        }
+    }
+}
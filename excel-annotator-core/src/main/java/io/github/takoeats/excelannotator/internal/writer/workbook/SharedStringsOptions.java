@@ -0,0 +1,99 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 공유 문자열(Shared Strings) 사전 옵션
+ * <p>사전에 등록된 문자열 셀은 인라인 문자열 대신 공유 문자열 테이블의 인덱스로 기록됩니다.
+ * 사전은 워크북 전체에서 공유되며 메모리에 유지되므로 크기가 제한됩니다.</p>
+ *
+ * <h3>사용 예시</h3>
+ * <pre>{@code
+ * ExcelExporter.excel(outputStream)
+ *     .sharedStrings(SharedStringsOptions.builder()
+ *         .allColumns(true)
+ *         .maxEntries(50_000)
+ *         .columnCardinalityThreshold(500)
+ *         .build())
+ *     .write(dataStream);
+ * }</pre>
+ */
+@Getter
+@ToString
+public final class SharedStringsOptions {
+
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+    public static final int DEFAULT_COLUMN_CARDINALITY_THRESHOLD = 1_000;
+
+    /**
+     * {@code @ExcelColumn(sharedString = true)} 컬럼만 사전을 사용하는 기본 옵션
+     */
+    public static final SharedStringsOptions ANNOTATED_COLUMNS = builder().build();
+
+    /**
+     * 모든 문자열 컬럼이 사전을 사용하는 옵션
+     */
+    public static final SharedStringsOptions ALL_COLUMNS = builder().allColumns(true).build();
+
+    private final boolean allColumns;
+    private final int maxEntries;
+    private final int columnCardinalityThreshold;
+
+    private SharedStringsOptions(Builder builder) {
+        this.allColumns = builder.allColumns;
+        this.maxEntries = builder.maxEntries;
+        this.columnCardinalityThreshold = builder.columnCardinalityThreshold;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private boolean allColumns = false;
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private int columnCardinalityThreshold = DEFAULT_COLUMN_CARDINALITY_THRESHOLD;
+
+        private Builder() {
+        }
+
+        /**
+         * true이면 어노테이션과 관계없이 모든 문자열 컬럼에 사전을 적용
+         */
+        public Builder allColumns(boolean allColumns) {
+            this.allColumns = allColumns;
+            return this;
+        }
+
+        /**
+         * 워크북 전체 사전의 최대 고유 문자열 수 (초과 시 새 값은 인라인으로 기록)
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * 컬럼별 최대 고유 문자열 수 (초과 시 해당 컬럼의 새 값은 인라인으로 기록)
+         */
+        public Builder columnCardinalityThreshold(int columnCardinalityThreshold) {
+            this.columnCardinalityThreshold = columnCardinalityThreshold;
+            return this;
+        }
+
+        public SharedStringsOptions build() {
+            if (maxEntries <= 0) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "maxEntries는 1 이상이어야 합니다: " + maxEntries);
+            }
+            if (columnCardinalityThreshold <= 0) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "columnCardinalityThreshold는 1 이상이어야 합니다: " + columnCardinalityThreshold);
+            }
+            return new SharedStringsOptions(this);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 공유 문자열 사전 사용 결과 스냅샷
+ * <p>바이트 수는 압축 전 시트 XML 기준 추정치입니다.</p>
+ */
+@Getter
+@ToString
+public final class SharedStringsReport {
+
+    public static final SharedStringsReport EMPTY = new SharedStringsReport(0, 0, 0, 0, false, 0, 0);
+
+    private final int uniqueStringCount;
+    private final long indexedCellCount;
+    private final long inlineCellCount;
+    private final int overflowedColumnCount;
+    private final boolean dictionaryFull;
+    /**
+     * 인덱스로 기록된 셀을 인라인 문자열로 기록했을 때의 추정 바이트 수
+     */
+    private final long estimatedInlineBytes;
+    /**
+     * 인덱스 참조와 공유 문자열 테이블 항목의 추정 바이트 수
+     */
+    private final long estimatedSharedBytes;
+
+    public SharedStringsReport(int uniqueStringCount, long indexedCellCount, long inlineCellCount,
+                               int overflowedColumnCount, boolean dictionaryFull,
+                               long estimatedInlineBytes, long estimatedSharedBytes) {
+        this.uniqueStringCount = uniqueStringCount;
+        this.indexedCellCount = indexedCellCount;
+        this.inlineCellCount = inlineCellCount;
+        this.overflowedColumnCount = overflowedColumnCount;
+        this.dictionaryFull = dictionaryFull;
+        this.estimatedInlineBytes = estimatedInlineBytes;
+        this.estimatedSharedBytes = estimatedSharedBytes;
+    }
+
+    public long getEstimatedSavedBytes() {
+        return estimatedInlineBytes - estimatedSharedBytes;
+    }
+
+    /**
+     * 사전 적용 셀의 추정 크기 감소율 (0.0 ~ 1.0, 감소가 없으면 0 이하)
+     */
+    public double getReductionRatio() {
+        return estimatedInlineBytes == 0 ? 0.0 : (double) getEstimatedSavedBytes() / estimatedInlineBytes;
+    }
+}
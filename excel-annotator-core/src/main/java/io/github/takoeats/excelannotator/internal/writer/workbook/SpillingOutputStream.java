@@ -0,0 +1,160 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * 메모리에 먼저 기록하고 한도를 넘으면 임시 파일로 전환하는 시트 버퍼
+ * <p>메모리 버퍼는 고정 크기 ByteBuffer 청크(heap 또는 direct)로 구성됩니다.
+ * 파일로 전환되면 기존 청크를 파일에 옮기고 해제합니다.</p>
+ * <p>Java 8 바이트코드 호환을 위해 flip()은 {@link Buffer} 타입으로 호출합니다.</p>
+ */
+final class SpillingOutputStream extends OutputStream {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+    private final TempStorage storage;
+    private final long threshold;
+    private final boolean offHeap;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private long memoryBytes;
+    private File file;
+    private OutputStream fileOut;
+
+    SpillingOutputStream(TempStorage storage) {
+        this.storage = storage;
+        this.threshold = storage.getOptions().getInMemoryThresholdBytes();
+        this.offHeap = storage.getOptions().isOffHeap();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (storage.isQuotaExceeded()) {
+            return;
+        }
+        if (fileOut == null && memoryBytes + len > threshold) {
+            spill();
+        }
+
+        if (fileOut != null) {
+            storage.reserve(len);
+            fileOut.write(b, off, len);
+            return;
+        }
+
+        writeToChunks(b, off, len);
+    }
+
+    private void writeToChunks(byte[] b, int off, int len) {
+        int remaining = len;
+        int offset = off;
+        while (remaining > 0) {
+            ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+            if (chunk == null || !chunk.hasRemaining()) {
+                chunk = offHeap ? ByteBuffer.allocateDirect(CHUNK_SIZE) : ByteBuffer.allocate(CHUNK_SIZE);
+                chunks.add(chunk);
+            }
+            int count = Math.min(remaining, chunk.remaining());
+            chunk.put(b, offset, count);
+            offset += count;
+            remaining -= count;
+        }
+        memoryBytes += len;
+    }
+
+    private void spill() throws IOException {
+        file = storage.createFile();
+        fileOut = new BufferedOutputStream(new FileOutputStream(file), FILE_BUFFER_SIZE);
+        storage.reserve(memoryBytes);
+
+        byte[] buffer = new byte[CHUNK_SIZE];
+        for (ByteBuffer chunk : chunks) {
+            ((Buffer) chunk).flip();
+            int count = chunk.remaining();
+            chunk.get(buffer, 0, count);
+            fileOut.write(buffer, 0, count);
+        }
+        chunks.clear();
+        memoryBytes = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileOut != null) {
+            fileOut.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fileOut != null) {
+            fileOut.close();
+        }
+    }
+
+    /**
+     * 기록한 바이트를 처음부터 읽는 스트림 (close 이후 호출)
+     */
+    InputStream openInputStream() throws IOException {
+        if (file != null) {
+            return new BufferedInputStream(new FileInputStream(file), FILE_BUFFER_SIZE);
+        }
+
+        List<InputStream> streams = new ArrayList<>(chunks.size());
+        for (ByteBuffer chunk : chunks) {
+            ByteBuffer readView = chunk.duplicate();
+            ((Buffer) readView).flip();
+            streams.add(new ByteBufferInputStream(readView));
+        }
+        Enumeration<InputStream> enumeration = Collections.enumeration(streams);
+        return new SequenceInputStream(enumeration);
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
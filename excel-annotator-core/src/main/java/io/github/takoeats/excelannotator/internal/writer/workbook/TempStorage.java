@@ -0,0 +1,95 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 내보내기 1회(워크북 1개)의 시트 임시 저장소
+ * <p>시트별 {@link SpillingOutputStream}이 임시 파일을 만들고 바이트를 기록할 때마다 사용량을 집계하며,
+ * 한도를 넘으면 {@link ErrorCode#TEMP_STORAGE_QUOTA_EXCEEDED}로 즉시 실패합니다.
+ * 병렬 시트 작성 시 여러 시트가 함께 사용하므로 집계는 저장소 단위로 직렬화됩니다.</p>
+ */
+final class TempStorage {
+
+    private static final String PREFIX = "poi-sxssf-sheet";
+
+    private final TempStorageOptions options;
+    private final List<File> files = new ArrayList<>();
+    private long fileBytes;
+    private int spilledSheetCount;
+    private boolean quotaExceeded;
+
+    TempStorage(TempStorageOptions options) {
+        this.options = options;
+    }
+
+    TempStorageOptions getOptions() {
+        return options;
+    }
+
+    SpillingOutputStream newSheetBuffer() {
+        return new SpillingOutputStream(this);
+    }
+
+    /**
+     * 시트 버퍼를 파일로 전환할 때 임시 파일 생성
+     */
+    synchronized File createFile() throws IOException {
+        String suffix = options.isCompress() ? ".xml.gz" : ".xml";
+        Path path = options.getDirectory() != null
+                ? Files.createTempFile(options.getDirectory(), PREFIX, suffix)
+                : Files.createTempFile(PREFIX, suffix);
+        File file = path.toFile();
+        files.add(file);
+        spilledSheetCount++;
+        return file;
+    }
+
+    /**
+     * 임시 파일에 기록할 바이트를 한도에 반영
+     */
+    synchronized void reserve(long bytes) {
+        fileBytes += bytes;
+        if (options.hasQuota() && fileBytes > options.getQuotaBytes()) {
+            quotaExceeded = true;
+            throw new ExcelExporterException(ErrorCode.TEMP_STORAGE_QUOTA_EXCEEDED,
+                    String.format("임시 파일 사용량: %,d bytes (한도: %,d bytes)", fileBytes, options.getQuotaBytes()));
+        }
+    }
+
+    /**
+     * 한도 초과로 내보내기가 실패한 뒤에는 정리(close) 과정의 남은 기록을 버린다
+     */
+    synchronized boolean isQuotaExceeded() {
+        return quotaExceeded;
+    }
+
+    synchronized long getFileBytes() {
+        return fileBytes;
+    }
+
+    synchronized int getSpilledSheetCount() {
+        return spilledSheetCount;
+    }
+
+    /**
+     * 생성한 임시 파일 삭제
+     *
+     * @return 모든 파일을 삭제했으면 true
+     */
+    synchronized boolean deleteFiles() {
+        boolean deleted = true;
+        for (File file : files) {
+            deleted = (!file.exists() || file.delete()) && deleted;
+        }
+        files.clear();
+        return deleted;
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * SXSSF 시트 임시 저장소 옵션
+ * <p>SXSSF는 행 윈도우를 벗어난 행을 시트별 임시 버퍼에 XML로 기록한 뒤 워크북 출력 시 다시 읽습니다.
+ * 기본값은 POI 기본 동작(java.io.tmpdir의 비압축 임시 파일)과 같습니다.</p>
+ *
+ * <ul>
+ *     <li>compress: 시트 XML 버퍼를 gzip으로 압축 (디스크·메모리 사용량 감소, CPU 사용 증가)</li>
+ *     <li>directory: 임시 파일 디렉터리 (null이면 java.io.tmpdir)</li>
+ *     <li>inMemoryThresholdBytes: 시트 버퍼가 이 크기를 넘을 때까지 메모리에 유지 (0이면 항상 파일)</li>
+ *     <li>offHeap: 메모리 버퍼를 direct ByteBuffer로 할당</li>
+ *     <li>quotaBytes: 내보내기 1회의 임시 파일 총 바이트 한도 (0이면 무제한, 초과 시 즉시 실패)</li>
+ * </ul>
+ *
+ * <h3>사용 예시</h3>
+ * <pre>{@code
+ * ExcelExporter.excel(outputStream)
+ *     .tempStorage(TempStorageOptions.builder()
+ *         .compress(true)
+ *         .directory(Paths.get("/data/excel-tmp"))
+ *         .inMemoryThresholdBytes(4 * 1024 * 1024)
+ *         .quotaBytes(512L * 1024 * 1024)
+ *         .build())
+ *     .write(dataStream);
+ * }</pre>
+ */
+@Getter
+@ToString
+public final class TempStorageOptions {
+
+    /**
+     * POI 기본 동작과 같은 옵션
+     */
+    public static final TempStorageOptions DEFAULT = builder().build();
+
+    private final boolean compress;
+    private final Path directory;
+    private final long inMemoryThresholdBytes;
+    private final boolean offHeap;
+    private final long quotaBytes;
+
+    private TempStorageOptions(Builder builder) {
+        this.compress = builder.compress;
+        this.directory = builder.directory;
+        this.inMemoryThresholdBytes = builder.inMemoryThresholdBytes;
+        this.offHeap = builder.offHeap;
+        this.quotaBytes = builder.quotaBytes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * POI 기본 임시 파일 기록기를 그대로 사용할 수 있는지 여부
+     */
+    public boolean isDefault() {
+        return !compress && directory == null && inMemoryThresholdBytes == 0 && quotaBytes == 0;
+    }
+
+    public boolean hasQuota() {
+        return quotaBytes > 0;
+    }
+
+    public static final class Builder {
+        private boolean compress = false;
+        private Path directory;
+        private long inMemoryThresholdBytes = 0;
+        private boolean offHeap = false;
+        private long quotaBytes = 0;
+
+        private Builder() {
+        }
+
+        /**
+         * true이면 시트 XML 버퍼를 gzip으로 압축하여 저장
+         */
+        public Builder compress(boolean compress) {
+            this.compress = compress;
+            return this;
+        }
+
+        /**
+         * 임시 파일 디렉터리 (존재하는 디렉터리여야 함)
+         */
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * 시트별 메모리 버퍼 한도 (초과 시 임시 파일로 전환)
+         */
+        public Builder inMemoryThresholdBytes(long inMemoryThresholdBytes) {
+            this.inMemoryThresholdBytes = inMemoryThresholdBytes;
+            return this;
+        }
+
+        /**
+         * true이면 메모리 버퍼를 direct ByteBuffer로 할당
+         */
+        public Builder offHeap(boolean offHeap) {
+            this.offHeap = offHeap;
+            return this;
+        }
+
+        /**
+         * 내보내기 1회의 임시 파일 총 바이트 한도
+         */
+        public Builder quotaBytes(long quotaBytes) {
+            this.quotaBytes = quotaBytes;
+            return this;
+        }
+
+        public TempStorageOptions build() {
+            if (directory != null && !Files.isDirectory(directory)) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "임시 파일 디렉터리가 존재하지 않습니다: " + directory);
+            }
+            if (inMemoryThresholdBytes < 0) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "inMemoryThresholdBytes는 0 이상이어야 합니다: " + inMemoryThresholdBytes);
+            }
+            if (quotaBytes < 0) {
+                throw new ExcelExporterException(ErrorCode.INVALID_WRITE_OPTION,
+                        "quotaBytes는 0 이상이어야 합니다: " + quotaBytes);
+            }
+            return new TempStorageOptions(this);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link TempStorageOptions}가 적용된 시트 XML 기록기
+ * <p>시트 XML을 POI 임시 파일 대신 {@link SpillingOutputStream}에 기록합니다.
+ * 압축 옵션이면 gzip으로 감싸서 저장하고, 워크북 출력 시 다시 풀어서 읽습니다.</p>
+ */
+final class TempStorageSheetDataWriter extends ConfiguredSheetDataWriter {
+
+    /**
+     * 부모 생성자가 요구하는 임시 파일 자리 표시자 (빈 경로라 dispose 시 삭제 대상이 없음)
+     */
+    private static final File NO_FILE = new File("");
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * 부모 생성자 안에서 {@link #createWriter(File)}가 대입하므로 초기화식을 두지 않는다
+     */
+    private BoundOutputStream sink;
+    private final SpillingOutputStream buffer;
+    private final boolean compress;
+
+    TempStorageSheetDataWriter(TempStorage storage) throws IOException {
+        super();
+        this.buffer = storage.newSheetBuffer();
+        this.compress = storage.getOptions().isCompress();
+        sink.bind(compress ? new GZIPOutputStream(buffer, GZIP_BUFFER_SIZE) : buffer);
+    }
+
+    @Override
+    public File createTempFile() {
+        return NO_FILE;
+    }
+
+    @Override
+    public Writer createWriter(File fd) {
+        sink = new BoundOutputStream();
+        return new BufferedWriter(new OutputStreamWriter(sink, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public InputStream getWorksheetXMLInputStream() throws IOException {
+        InputStream in = buffer.openInputStream();
+        return compress ? new GZIPInputStream(in, GZIP_BUFFER_SIZE) : in;
+    }
+
+    /**
+     * 생성 이후 실제 저장소가 연결되는 출력 스트림
+     */
+    private static final class BoundOutputStream extends FilterOutputStream {
+
+        BoundOutputStream() {
+            super(null);
+        }
+
+        void bind(OutputStream target) {
+            this.out = target;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.takoeats.excelannotator.style;
 
+import io.github.takoeats.excelannotator.style.internal.cache.StyleSignature;
 import io.github.takoeats.excelannotator.style.internal.wrapper.CellStyleWrapper;
 import io.github.takoeats.excelannotator.style.internal.wrapper.WorkbookWrapper;
 
@@ -20,12 +21,22 @@ public abstract class CustomExcelCellStyle {
 
     /**
      * Workbook을 전달받는 apply 메서드
+     * <p>워크북은 {@link #configure(ExcelCellStyleConfigurer)}의 설정으로 만든 {@link #getStyleSignature()}로
+     * 스타일을 공유하므로, 설정은 configure에서만 하도록 재정의를 막습니다.</p>
      */
-    public void apply(CellStyleWrapper cellStyle, WorkbookWrapper workbook) {
+    public final void apply(CellStyleWrapper cellStyle, WorkbookWrapper workbook) {
         ExcelCellStyleConfigurer configurer = getOrCreateConfigurer();
         configurer.configure(cellStyle, workbook);
     }
 
+    /**
+     * 렌더링 내용 기반 스타일 식별자 반환 (internal use only)
+     * <p>내용이 같은 스타일 클래스는 워크북에서 하나의 POI CellStyle을 공유합니다.</p>
+     */
+    public StyleSignature getStyleSignature() {
+        return getOrCreateConfigurer().toSignature();
+    }
+
     /**
      * Thread-safe configurer 인스턴스 반환 (CAS 기반)
      */
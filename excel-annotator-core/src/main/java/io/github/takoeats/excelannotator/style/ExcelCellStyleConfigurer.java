@@ -2,6 +2,7 @@ package io.github.takoeats.excelannotator.style;
 
 import io.github.takoeats.excelannotator.exception.ErrorCode;
 import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.style.internal.cache.StyleSignature;
 import io.github.takoeats.excelannotator.style.internal.util.RgbColorHelper;
 import io.github.takoeats.excelannotator.style.internal.wrapper.CellStyleWrapper;
 import io.github.takoeats.excelannotator.style.internal.wrapper.WorkbookWrapper;
@@ -231,29 +232,56 @@ public class ExcelCellStyleConfigurer {
      */
     private void applyFont(CellStyleWrapper cellStyle, WorkbookWrapper workbook) {
         if (hasFont || hasFontColorRGB) {
-            Font font = workbook.createFont();
-
-            if (fontName != null) font.setFontName(fontName);
-            if (fontSize != null) font.setFontHeightInPoints(fontSize.shortValue());
+            Font font = workbook.getOrCreateFont(toFontSignature(), this::initializeFont);
+            cellStyle.setFont(font);
+        }
+    }
 
-            if (fontStyle != null) {
-                font.setBold(fontStyle.isBold());
-                font.setItalic(fontStyle.isItalic());
-                font.setUnderline(fontStyle.isUnderline() ? Font.U_SINGLE : Font.U_NONE);
-            }
+    private void initializeFont(Font font) {
+        if (fontName != null) font.setFontName(fontName);
+        if (fontSize != null) font.setFontHeightInPoints(fontSize.shortValue());
 
-            if (hasFontColorRGB && font instanceof XSSFFont) {
-                XSSFFont xssfFont = (XSSFFont) font;
-                XSSFColor xssfColor = RgbColorHelper.createRgbColor(
-                        fontColorRed, fontColorGreen, fontColorBlue
-                );
-                xssfFont.setColor(xssfColor);
-            }
+        if (fontStyle != null) {
+            font.setBold(fontStyle.isBold());
+            font.setItalic(fontStyle.isItalic());
+            font.setUnderline(fontStyle.isUnderline() ? Font.U_SINGLE : Font.U_NONE);
+        }
 
-            cellStyle.setFont(font);
+        if (hasFontColorRGB && font instanceof XSSFFont) {
+            XSSFFont xssfFont = (XSSFFont) font;
+            XSSFColor xssfColor = RgbColorHelper.createRgbColor(
+                    fontColorRed, fontColorGreen, fontColorBlue
+            );
+            xssfFont.setColor(xssfColor);
         }
     }
 
+    /**
+     * 렌더링 내용 기반 스타일 식별자 반환 (internal use only)
+     * <p>배경 RGB, 폰트, 정렬, 테두리, 데이터 포맷이 같은 설정은 같은 식별자를 가집니다.</p>
+     */
+    public StyleSignature toSignature() {
+        return new StyleSignature(
+                hasBackgroundColorRGB
+                        ? StyleSignature.packRgb(backgroundColorRed, backgroundColorGreen, backgroundColorBlue)
+                        : -1,
+                hasFont || hasFontColorRGB ? toFontSignature() : null,
+                hasAlignment ? horizontalAlignment : null,
+                hasAlignment ? verticalAlignment : null,
+                hasBorder ? borderStyle : null,
+                hasDataFormat ? dataFormat : null
+        );
+    }
+
+    private StyleSignature.FontSignature toFontSignature() {
+        return new StyleSignature.FontSignature(
+                fontName,
+                fontSize,
+                fontStyle,
+                hasFontColorRGB ? StyleSignature.packRgb(fontColorRed, fontColorGreen, fontColorBlue) : -1
+        );
+    }
+
     /**
      * 정렬 설정 적용
      */
@@ -8,6 +8,7 @@ import io.github.takoeats.excelannotator.style.internal.wrapper.WorkbookWrapper;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Workbook;
 
 import java.lang.reflect.Constructor;
@@ -70,4 +71,18 @@ public final class StyleCache {
         customStyle.apply(CellStyleWrapper.wrap(poiStyle), WorkbookWrapper.wrap(workbook));
         return poiStyle;
     }
+
+    /**
+     * POI CellStyle 생성 (폰트는 내용 기준으로 공유)
+     *
+     * @param sharedFonts 워크북 단위 폰트 캐시
+     */
+    public static CellStyle createPOIStyle(Workbook workbook,
+                                           Class<? extends CustomExcelCellStyle> styleClass,
+                                           Map<Object, Font> sharedFonts) {
+        CellStyle poiStyle = workbook.createCellStyle();
+        CustomExcelCellStyle customStyle = getStyleInstance(styleClass);
+        customStyle.apply(CellStyleWrapper.wrap(poiStyle), WorkbookWrapper.wrap(workbook, sharedFonts));
+        return poiStyle;
+    }
 }
\ No newline at end of file
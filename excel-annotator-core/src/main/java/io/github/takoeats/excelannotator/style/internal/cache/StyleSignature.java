@@ -0,0 +1,88 @@
+package io.github.takoeats.excelannotator.style.internal.cache;
+
+import io.github.takoeats.excelannotator.style.BorderType;
+import io.github.takoeats.excelannotator.style.FontStyle;
+import io.github.takoeats.excelannotator.style.HorizontalAlign;
+import io.github.takoeats.excelannotator.style.VerticalAlign;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 셀 스타일의 렌더링 내용 기반 식별자
+ * <p>폰트, 배경 RGB, 정렬, 테두리, 데이터 포맷이 같으면 스타일 클래스가 달라도 같은 식별자를 가집니다.
+ * 워크북 단위 스타일 중복 제거의 키로 사용됩니다.</p>
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class StyleSignature {
+
+    /**
+     * 아무 설정도 없는 스타일 (워크북 기본 스타일)
+     */
+    public static final StyleSignature EMPTY = new StyleSignature(-1, null, null, null, null, null);
+
+    private final int backgroundRgb;
+    private final FontSignature font;
+    private final HorizontalAlign horizontalAlignment;
+    private final VerticalAlign verticalAlignment;
+    private final BorderType border;
+    private final String dataFormat;
+
+    public StyleSignature(int backgroundRgb,
+                          FontSignature font,
+                          HorizontalAlign horizontalAlignment,
+                          VerticalAlign verticalAlignment,
+                          BorderType border,
+                          String dataFormat) {
+        this.backgroundRgb = backgroundRgb;
+        this.font = font;
+        this.horizontalAlignment = horizontalAlignment;
+        this.verticalAlignment = verticalAlignment;
+        this.border = border;
+        this.dataFormat = dataFormat;
+    }
+
+    /**
+     * 데이터 포맷만 교체한 식별자 반환 (format이 null이면 현재 포맷 유지)
+     */
+    public StyleSignature withDataFormat(String format) {
+        if (format == null || format.equals(dataFormat)) {
+            return this;
+        }
+        return new StyleSignature(backgroundRgb, font, horizontalAlignment, verticalAlignment, border, format);
+    }
+
+    public boolean isEmpty() {
+        return equals(EMPTY);
+    }
+
+    /**
+     * RGB 값을 0xRRGGBB 정수로 변환
+     */
+    public static int packRgb(int red, int green, int blue) {
+        return (red << 16) | (green << 8) | blue;
+    }
+
+    /**
+     * 폰트 렌더링 내용 기반 식별자
+     */
+    @Getter
+    @ToString
+    @EqualsAndHashCode
+    public static final class FontSignature {
+
+        private final String name;
+        private final Integer size;
+        private final FontStyle style;
+        private final int colorRgb;
+
+        public FontSignature(String name, Integer size, FontStyle style, int colorRgb) {
+            this.name = name;
+            this.size = size;
+            this.style = style;
+            this.colorRgb = colorRgb;
+        }
+    }
+}
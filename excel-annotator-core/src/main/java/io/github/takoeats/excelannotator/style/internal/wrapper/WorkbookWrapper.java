@@ -4,6 +4,9 @@ import org.apache.poi.ss.usermodel.DataFormat;
 import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Workbook;
 
+import java.util.Map;
+import java.util.function.Consumer;
+
 /**
  * Apache POI Workbook Wrapper
  * <p>Shaded JAR에서 POI 타입을 public API에 노출하지 않기 위한 Wrapper</p>
@@ -12,16 +15,27 @@ import org.apache.poi.ss.usermodel.Workbook;
 public final class WorkbookWrapper {
 
     private final Workbook poiWorkbook;
+    private final Map<Object, Font> sharedFonts;
 
-    private WorkbookWrapper(Workbook poiWorkbook) {
+    private WorkbookWrapper(Workbook poiWorkbook, Map<Object, Font> sharedFonts) {
         this.poiWorkbook = poiWorkbook;
+        this.sharedFonts = sharedFonts;
     }
 
     /**
      * POI Workbook을 Wrapper로 감싸기
      */
     public static WorkbookWrapper wrap(Workbook workbook) {
-        return new WorkbookWrapper(workbook);
+        return new WorkbookWrapper(workbook, null);
+    }
+
+    /**
+     * 폰트를 내용 기준으로 공유하는 Wrapper 생성
+     *
+     * @param sharedFonts 워크북 단위 폰트 캐시 (폰트 식별자 → POI Font)
+     */
+    public static WorkbookWrapper wrap(Workbook workbook, Map<Object, Font> sharedFonts) {
+        return new WorkbookWrapper(workbook, sharedFonts);
     }
 
     /**
@@ -35,6 +49,25 @@ public final class WorkbookWrapper {
         return poiWorkbook.createFont();
     }
 
+    /**
+     * 같은 식별자의 폰트가 이미 있으면 재사용하고, 없으면 생성 후 초기화
+     */
+    public Font getOrCreateFont(Object fontKey, Consumer<Font> initializer) {
+        if (sharedFonts == null) {
+            Font font = createFont();
+            initializer.accept(font);
+            return font;
+        }
+
+        Font font = sharedFonts.get(fontKey);
+        if (font == null) {
+            font = createFont();
+            initializer.accept(font);
+            sharedFonts.put(fontKey, font);
+        }
+        return font;
+    }
+
     public DataFormat createDataFormat() {
         return poiWorkbook.createDataFormat();
     }
@@ -59,8 +59,8 @@ class CsvExporterTest {
 
         assertTrue(lines.length >= 3);
         assertEquals("\"Name\",\"Age\",\"Salary\"", lines[0]);
-        assertEquals("\"Charlie\",\"25\",\"50000.00\"", lines[1]);
-        assertEquals("\"David\",\"35\",\"75000.00\"", lines[2]);
+        assertEquals("\"Charlie\",\"25\",\"50,000.00\"", lines[1]);
+        assertEquals("\"David\",\"35\",\"75,000.00\"", lines[2]);
     }
 
     @Test
@@ -80,9 +80,9 @@ class CsvExporterTest {
         String[] lines = csv.split("\r\n");
 
         assertEquals("\"Name\",\"Age\",\"Salary\"", lines[0]);
-        assertEquals("\"Simple\",\"1\",\"100\"", lines[1]);
-        assertEquals("\"Contains,comma\",\"2\",\"200\"", lines[2]);
-        assertEquals("\"Contains\"\"quote\",\"3\",\"300\"", lines[3]);
+        assertEquals("\"Simple\",\"1\",\"100.00\"", lines[1]);
+        assertEquals("\"Contains,comma\",\"2\",\"200.00\"", lines[2]);
+        assertEquals("\"Contains\"\"quote\",\"3\",\"300.00\"", lines[3]);
         assertTrue(lines[4].startsWith("\"Contains"));
         assertTrue(lines[5].startsWith("\"Mixed"));
     }
@@ -143,7 +143,7 @@ class CsvExporterTest {
         String[] lines = csv.split("\r\n");
 
         assertEquals("\"Name\",\"Age\",\"Salary\"", lines[0]);
-        assertEquals("\"Alice\",\"\",\"100\"", lines[1]);
+        assertEquals("\"Alice\",\"\",\"100.00\"", lines[1]);
         assertEquals("\"\",\"30\",\"\"", lines[2]);
     }
 
@@ -201,8 +201,8 @@ class CsvExporterTest {
         String[] lines = csv.split("\r\n");
 
         assertEquals("\"Name\",\"Age\",\"Salary\"", lines[0]);
-        assertEquals("\" LeadingSpace\",\"1\",\"100\"", lines[1]);
-        assertEquals("\"NoSpace\",\"2\",\"200\"", lines[2]);
+        assertEquals("\" LeadingSpace\",\"1\",\"100.00\"", lines[1]);
+        assertEquals("\"NoSpace\",\"2\",\"200.00\"", lines[2]);
     }
 
     @Test
@@ -219,8 +219,8 @@ class CsvExporterTest {
         String[] lines = csv.split("\r\n");
 
         assertEquals("\"Name\",\"Age\",\"Salary\"", lines[0]);
-        assertEquals("\"TrailingSpace \",\"1\",\"100\"", lines[1]);
-        assertEquals("\"NoSpace\",\"2\",\"200\"", lines[2]);
+        assertEquals("\"TrailingSpace \",\"1\",\"100.00\"", lines[1]);
+        assertEquals("\"NoSpace\",\"2\",\"200.00\"", lines[2]);
     }
 
     @Test
@@ -236,7 +236,7 @@ class CsvExporterTest {
         String[] lines = csv.split("\r\n");
 
         assertEquals("\"Name\",\"Age\",\"Salary\"", lines[0]);
-        assertEquals("\" BothSpaces \",\"1\",\"100\"", lines[1]);
+        assertEquals("\" BothSpaces \",\"1\",\"100.00\"", lines[1]);
     }
 
     @Test
@@ -263,10 +263,10 @@ class CsvExporterTest {
         }
 
         assertEquals("\"Name\",\"Age\",\"Salary\"", lines[0]);
-        assertEquals("\"Standard\",\"1\",\"100\"", lines[1]);
-        assertEquals("\"With,Comma\",\"2\",\"200\"", lines[2]);
-        assertEquals("\"With\"\"Quote\",\"3\",\"300\"", lines[3]);
-        assertEquals("\" WithSpace \",\"4\",\"400\"", lines[4]);
+        assertEquals("\"Standard\",\"1\",\"100.00\"", lines[1]);
+        assertEquals("\"With,Comma\",\"2\",\"200.00\"", lines[2]);
+        assertEquals("\"With\"\"Quote\",\"3\",\"300.00\"", lines[3]);
+        assertEquals("\" WithSpace \",\"4\",\"400.00\"", lines[4]);
     }
 
     @Test
@@ -300,7 +300,7 @@ class CsvExporterTest {
 
         assertTrue(lines[1].contains("\"Test\"\"With\"\"Quotes\""),
                 "RFC 4180: Double quotes must be escaped as \"\"");
-        assertEquals("\"Test\"\"With\"\"Quotes\",\"1\",\"100\"", lines[1]);
+        assertEquals("\"Test\"\"With\"\"Quotes\",\"1\",\"100.00\"", lines[1]);
     }
 
     @Test
@@ -0,0 +1,113 @@
+package io.github.takoeats.excelannotator;
+
+import io.github.takoeats.excelannotator.internal.ExcelMetadataRegistry;
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.internal.writer.CsvWriteOptions;
+import io.github.takoeats.excelannotator.internal.writer.CsvWriter;
+import io.github.takoeats.excelannotator.internal.writer.csv.CsvQuoting;
+import io.github.takoeats.excelannotator.testdto.EmployeeDTO;
+import io.github.takoeats.excelannotator.util.TestDataFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+@Tag("performance")
+class CsvWriterBenchmarkTest {
+
+    private static final int ROWS = 200_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int MEASURE_ROUNDS = 5;
+
+    @Test
+    void rowEncoder_vs_streamJoining() throws Exception {
+        List<EmployeeDTO> employees = TestDataFactory.createEmployees(ROWS);
+        ExcelMetadata<EmployeeDTO> metadata = ExcelMetadataRegistry.getMetadata(EmployeeDTO.class);
+        CsvWriter always = new CsvWriter();
+        CsvWriter minimal = new CsvWriter(CsvWriteOptions.builder().quoting(CsvQuoting.MINIMAL).build(), null);
+
+        assertArrayEquals(writeJoining(employees, metadata), write(always, employees));
+
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            writeJoining(employees, metadata);
+            write(always, employees);
+            write(minimal, employees);
+        }
+
+        long joiningNanos = 0;
+        long alwaysNanos = 0;
+        long minimalNanos = 0;
+        int minimalBytes = 0;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            writeJoining(employees, metadata);
+            joiningNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            write(always, employees);
+            alwaysNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            minimalBytes = write(minimal, employees).length;
+            minimalNanos += System.nanoTime() - start;
+        }
+
+        System.out.println("Stream joining CSV: " + (joiningNanos / 1_000_000) + " ms");
+        System.out.println("Row encoder CSV (ALWAYS): " + (alwaysNanos / 1_000_000) + " ms");
+        System.out.println("Row encoder CSV (MINIMAL): " + (minimalNanos / 1_000_000) + " ms, "
+                + minimalBytes + " bytes");
+    }
+
+    private static byte[] write(CsvWriter writer, List<EmployeeDTO> employees) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024 * 1024);
+        writer.write(out, employees);
+        return out.toByteArray();
+    }
+
+    /**
+     * 행 인코더 도입 전 CsvWriter의 행 조립 방식 (급여 열의 {@code ₩#,##0} 형식은 DecimalFormat으로 따로 적용,
+     * 입사일의 {@code yyyy-MM-dd}는 LocalDate.toString()과 같음)
+     */
+    private static byte[] writeJoining(List<EmployeeDTO> employees, ExcelMetadata<EmployeeDTO> metadata)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024 * 1024);
+        out.write(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF});
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            writer.write(metadata.getHeaders().stream()
+                    .map(CsvWriterBenchmarkTest::escape)
+                    .collect(Collectors.joining(",")));
+            writer.write("\r\n");
+            List<Function<EmployeeDTO, Object>> extractors = metadata.getExtractors();
+            DecimalFormat currency = new DecimalFormat("₩#,##0", DecimalFormatSymbols.getInstance(Locale.ROOT));
+            currency.setRoundingMode(RoundingMode.HALF_UP);
+            for (EmployeeDTO employee : employees) {
+                writer.write(extractors.stream()
+                        .map(extractor -> extractor.apply(employee))
+                        .map(value -> value == null ? ""
+                                : value instanceof BigDecimal ? currency.format(value) : value.toString())
+                        .map(CsvWriterBenchmarkTest::escape)
+                        .collect(Collectors.joining(",")));
+                writer.write("\r\n");
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static String escape(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.takoeats.excelannotator;
+
+import io.github.takoeats.excelannotator.internal.metadata.ColumnInfo;
+import io.github.takoeats.excelannotator.internal.metadata.extractor.AccessorMode;
+import io.github.takoeats.excelannotator.internal.metadata.extractor.FieldValueExtractorFactory;
+import io.github.takoeats.excelannotator.masking.Masking;
+import io.github.takoeats.excelannotator.testdto.CustomerDTO;
+import io.github.takoeats.excelannotator.util.TestDataFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("performance")
+class FieldAccessorBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 10;
+
+    @Test
+    void lambdaMetafactory_vs_methodHandle_columnExtraction() throws Exception {
+        List<CustomerDTO> customers = TestDataFactory.createCustomers(ROWS);
+
+        List<Function<CustomerDTO, Object>> lambdaExtractors = createExtractors(AccessorMode.LAMBDA_METAFACTORY);
+        List<Function<CustomerDTO, Object>> handleExtractors = createExtractors(AccessorMode.METHOD_HANDLE);
+
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            extractAll(customers, lambdaExtractors);
+            extractAll(customers, handleExtractors);
+        }
+
+        long lambdaNanos = measure(customers, lambdaExtractors);
+        long handleNanos = measure(customers, handleExtractors);
+
+        assertEquals(extractAll(customers, handleExtractors), extractAll(customers, lambdaExtractors));
+
+        System.out.println("LambdaMetafactory extraction: " + (lambdaNanos / 1_000_000) + " ms");
+        System.out.println("MethodHandle extraction: " + (handleNanos / 1_000_000) + " ms");
+    }
+
+    private static List<Function<CustomerDTO, Object>> createExtractors(AccessorMode accessorMode) throws Exception {
+        List<Function<CustomerDTO, Object>> extractors = new ArrayList<>();
+        for (Field field : CustomerDTO.class.getDeclaredFields()) {
+            if (field.isSynthetic() || Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            ColumnInfo columnInfo = ColumnInfo.builder()
+                    .header(field.getName())
+                    .order(0)
+                    .width(100)
+                    .format("")
+                    .field(field)
+                    .masking(Masking.NONE)
+                    .build();
+            extractors.add(FieldValueExtractorFactory.createExtractor(columnInfo, accessorMode));
+        }
+        return extractors;
+    }
+
+    private static long measure(List<CustomerDTO> customers, List<Function<CustomerDTO, Object>> extractors) {
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            extractAll(customers, extractors);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static int extractAll(List<CustomerDTO> customers, List<Function<CustomerDTO, Object>> extractors) {
+        int hash = 0;
+        for (CustomerDTO customer : customers) {
+            for (Function<CustomerDTO, Object> extractor : extractors) {
+                Object value = extractor.apply(customer);
+                hash = 31 * hash + (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.takoeats.excelannotator.internal;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.internal.metadata.SheetInfo;
+import io.github.takoeats.excelannotator.testdto.CustomerDTO;
+import io.github.takoeats.excelannotator.testdto.MultiSheetColumnDTO;
+import io.github.takoeats.excelannotator.testdto.NoExcelColumnsDTO;
+import io.github.takoeats.excelannotator.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExcelMetadataRegistry 테스트")
+class ExcelMetadataRegistryTest {
+
+    @BeforeEach
+    void setUp() {
+        ExcelMetadataRegistry.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ExcelMetadataRegistry.clear();
+    }
+
+    @Test
+    @DisplayName("단일 시트, 멀티 시트, SheetInfo가 클래스별로 한 번만 생성된다")
+    void getters_sameClass_returnCachedInstances() {
+        ExcelMetadata<CustomerDTO> metadata = ExcelMetadataRegistry.getMetadata(CustomerDTO.class);
+        Map<String, ExcelMetadata<CustomerDTO>> multiSheet =
+                ExcelMetadataRegistry.getMultiSheetMetadata(CustomerDTO.class);
+        SheetInfo sheetInfo = ExcelMetadataRegistry.getSheetInfo(CustomerDTO.class);
+
+        assertSame(metadata, ExcelMetadataRegistry.getMetadata(CustomerDTO.class));
+        assertSame(multiSheet, ExcelMetadataRegistry.getMultiSheetMetadata(CustomerDTO.class));
+        assertSame(sheetInfo, ExcelMetadataRegistry.getSheetInfo(CustomerDTO.class));
+        assertEquals(1, ExcelMetadataRegistry.size());
+    }
+
+    @Test
+    @DisplayName("멀티 시트 메타데이터는 수정할 수 없다")
+    void getMultiSheetMetadata_returnsUnmodifiableMap() {
+        Map<String, ExcelMetadata<MultiSheetColumnDTO>> multiSheet =
+                ExcelMetadataRegistry.getMultiSheetMetadata(MultiSheetColumnDTO.class);
+
+        assertEquals(2, multiSheet.size());
+        assertThrows(UnsupportedOperationException.class, multiSheet::clear);
+    }
+
+    @Test
+    @DisplayName("히트/미스 횟수와 생성 시간이 집계된다")
+    void getStatistics_countsHitsAndMisses() {
+        ExcelMetadataRegistry.getMetadata(CustomerDTO.class);
+        ExcelMetadataRegistry.getMetadata(CustomerDTO.class);
+        ExcelMetadataRegistry.getMetadata(CustomerDTO.class);
+
+        MetadataRegistryStatistics statistics = ExcelMetadataRegistry.getStatistics();
+
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(3, statistics.getRequestCount());
+        assertEquals(2.0 / 3, statistics.getHitRate(), 0.0001);
+        assertTrue(statistics.getTotalBuildTimeNanos() > 0);
+        assertEquals(1, statistics.getRegisteredClassCount());
+    }
+
+    @Test
+    @DisplayName("warmUp 이후 출력은 메타데이터를 새로 생성하지 않는다")
+    void warmUp_thenExport_onlyHits() {
+        ExcelExporter.warmUp(CustomerDTO.class);
+        long missesAfterWarmUp = ExcelExporter.metadataStatistics().getMissCount();
+
+        ExcelExporter.excel(new ByteArrayOutputStream()).write(TestDataFactory.createCustomers(10));
+        ExcelExporter.csv(new ByteArrayOutputStream()).write(TestDataFactory.createCustomers(10));
+
+        MetadataRegistryStatistics statistics = ExcelExporter.metadataStatistics();
+        assertEquals(missesAfterWarmUp, statistics.getMissCount());
+        assertTrue(statistics.getHitCount() > 0);
+    }
+
+    @Test
+    @DisplayName("warmUp은 컬럼별 시트 분리 DTO의 멀티 시트 메타데이터를 생성한다")
+    void warmUp_multiSheetClass_buildsMultiSheetMetadata() {
+        ExcelMetadataRegistry.warmUp(MultiSheetColumnDTO.class, null);
+
+        assertEquals(1, ExcelMetadataRegistry.size());
+        assertEquals(2, ExcelMetadataRegistry.getStatistics().getMissCount());
+    }
+
+    @Test
+    @DisplayName("잘못된 DTO는 warmUp 시점에 예외가 발생하고 캐싱되지 않는다")
+    void warmUp_invalidClass_throwsAndDoesNotCache() {
+        assertThrows(ExcelExporterException.class, () -> ExcelExporter.warmUp(NoExcelColumnsDTO.class));
+        assertThrows(ExcelExporterException.class, () -> ExcelMetadataRegistry.getMetadata(NoExcelColumnsDTO.class));
+    }
+
+    @Test
+    @DisplayName("clear 호출 시 메타데이터와 통계가 초기화된다")
+    void clear_resetsEntriesAndStatistics() {
+        ExcelMetadata<CustomerDTO> before = ExcelMetadataRegistry.getMetadata(CustomerDTO.class);
+
+        ExcelMetadataRegistry.clear();
+
+        assertEquals(0, ExcelMetadataRegistry.size());
+        assertEquals(0, ExcelMetadataRegistry.getStatistics().getRequestCount());
+        assertNotSame(before, ExcelMetadataRegistry.getMetadata(CustomerDTO.class));
+    }
+}
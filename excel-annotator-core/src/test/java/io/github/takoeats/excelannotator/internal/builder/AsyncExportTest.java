@@ -0,0 +1,284 @@
+package io.github.takoeats.excelannotator.internal.builder;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.workbook.TempStorageOptions;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("writeAsync 테스트")
+class AsyncExportTest {
+
+    private static final int ROWS = 1_000_000;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("Excel Stream을 Executor에서 작성하고 파일명을 반환한다")
+    @Test
+    void excelStream_completesWithFileName() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        String fileName = ExcelExporter.excel(out)
+                .fileName("report")
+                .writeAsync(IntStream.range(0, 100).mapToObj(AsyncDTO::of), executor)
+                .get(30, TimeUnit.SECONDS);
+
+        assertTrue(fileName.startsWith("report"));
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(100, workbook.getSheetAt(0).getLastRowNum());
+        }
+    }
+
+    @DisplayName("취소하면 소스 읽기를 멈추고 Stream을 닫으며 임시 파일을 삭제한다")
+    @Test
+    void excelStream_cancel_stopsPullingAndCleansUp(@TempDir Path tempDir) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<AsyncDTO> source = IntStream.range(0, ROWS)
+                .peek(i -> {
+                    if (pulled.incrementAndGet() == 5_000) {
+                        started.countDown();
+                    }
+                })
+                .mapToObj(AsyncDTO::of)
+                .onClose(closed::countDown);
+
+        CompletableFuture<String> future = ExcelExporter.excel(new ByteArrayOutputStream())
+                .tempStorage(TempStorageOptions.builder().directory(tempDir).build())
+                .writeAsync(source, executor);
+        assertTrue(started.await(30, TimeUnit.SECONDS));
+
+        assertTrue(future.cancel(false));
+
+        assertTrue(closed.await(30, TimeUnit.SECONDS));
+        assertTrue(future.isCancelled());
+        assertThrows(CancellationException.class, future::join);
+        assertTrue(pulled.get() < ROWS);
+        awaitEmpty(tempDir);
+    }
+
+    @DisplayName("실행 전에 취소하면 소스를 읽지 않고 닫는다")
+    @Test
+    void cancelBeforeStart_closesSourceWithoutReading() {
+        List<Runnable> queued = new ArrayList<>();
+        AtomicInteger pulled = new AtomicInteger();
+        CountDownLatch closed = new CountDownLatch(1);
+        Stream<AsyncDTO> source = IntStream.range(0, 10)
+                .peek(i -> pulled.incrementAndGet())
+                .mapToObj(AsyncDTO::of)
+                .onClose(closed::countDown);
+
+        CompletableFuture<String> future = ExcelExporter.excel(new ByteArrayOutputStream())
+                .writeAsync(source, queued::add);
+        future.cancel(true);
+        queued.forEach(Runnable::run);
+
+        assertEquals(0, pulled.get());
+        assertEquals(0, closed.getCount());
+    }
+
+    @DisplayName("취소한 writeAsync의 신호는 같은 빌더의 다른 호출에 영향을 주지 않는다")
+    @Test
+    void cancelledAsync_doesNotLeakIntoLaterWrites() throws Exception {
+        List<Runnable> queued = new ArrayList<>();
+        ByteArrayOutputStream excelOut = new ByteArrayOutputStream();
+        ExcelBuilder excel = ExcelExporter.excel(excelOut);
+        excel.writeAsync(IntStream.range(0, 10).mapToObj(AsyncDTO::of), queued::add).cancel(false);
+        excel.write(IntStream.range(0, 10).mapToObj(AsyncDTO::of));
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(excelOut.toByteArray()))) {
+            assertEquals(10, workbook.getSheetAt(0).getLastRowNum());
+        }
+
+        ByteArrayOutputStream csvOut = new ByteArrayOutputStream();
+        CsvBuilder csv = ExcelExporter.csv(csvOut);
+        csv.writeAsync(IntStream.range(0, 10).mapToObj(AsyncDTO::of), queued::add).cancel(false);
+        csv.write(IntStream.range(0, 3).mapToObj(AsyncDTO::of));
+        assertTrue(new String(csvOut.toByteArray(), StandardCharsets.UTF_8).contains("\"row2\""));
+    }
+
+    @DisplayName("멀티 시트 작성을 취소하면 Stream 값을 모두 닫는다")
+    @Test
+    void excelMap_cancel_closesStreamValues() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(2);
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("first", IntStream.range(0, ROWS)
+                .peek(i -> {
+                    if (i == 5_000) {
+                        started.countDown();
+                    }
+                })
+                .mapToObj(AsyncDTO::of)
+                .onClose(closed::countDown));
+        data.put("second", IntStream.range(0, ROWS).mapToObj(AsyncOtherDTO::of).onClose(closed::countDown));
+
+        CompletableFuture<String> future = ExcelExporter.excel(new ByteArrayOutputStream())
+                .writeAsync(data, executor);
+        assertTrue(started.await(30, TimeUnit.SECONDS));
+        future.cancel(false);
+
+        assertTrue(closed.await(30, TimeUnit.SECONDS));
+    }
+
+    @DisplayName("CSV Stream을 작성하고 취소 시 읽기를 멈춘다")
+    @Test
+    void csv_completesAndCancels() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.csv(out)
+                .writeAsync(IntStream.range(0, 3).mapToObj(AsyncDTO::of), executor)
+                .get(30, TimeUnit.SECONDS);
+        assertTrue(new String(out.toByteArray(), StandardCharsets.UTF_8).contains("\"row2\""));
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        AtomicInteger pulled = new AtomicInteger();
+        CompletableFuture<String> future = ExcelExporter.csv(new ByteArrayOutputStream())
+                .writeAsync(IntStream.range(0, ROWS * 10)
+                        .peek(i -> {
+                            if (pulled.incrementAndGet() == 5_000) {
+                                started.countDown();
+                            }
+                        })
+                        .mapToObj(AsyncDTO::of)
+                        .onClose(closed::countDown), executor);
+        assertTrue(started.await(30, TimeUnit.SECONDS));
+        future.cancel(false);
+
+        assertTrue(closed.await(30, TimeUnit.SECONDS));
+        assertTrue(pulled.get() < ROWS * 10);
+    }
+
+    @DisplayName("작성 실패는 Future의 예외로 전달된다")
+    @Test
+    void failure_completesExceptionally() {
+        CompletableFuture<String> future = ExcelExporter.excel(new ByteArrayOutputStream())
+                .writeAsync(Stream.<AsyncDTO>empty(), executor);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(30, TimeUnit.SECONDS));
+        assertEquals(ErrorCode.EMPTY_DATA, ((ExcelExporterException) ex.getCause()).getErrorCode());
+    }
+
+    @DisplayName("Executor가 작업을 거부하면 EXPORT_REJECTED로 완료된다")
+    @Test
+    void rejectedExecution_completesWithRejected() {
+        executor.shutdown();
+
+        CompletableFuture<String> future = ExcelExporter.excel(new ByteArrayOutputStream())
+                .writeAsync(IntStream.range(0, 10).mapToObj(AsyncDTO::of), executor);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+        assertEquals(ErrorCode.EXPORT_REJECTED, ((ExcelExporterException) ex.getCause()).getErrorCode());
+    }
+
+    @DisplayName("HttpServletResponse 빌더는 응답에 쓰기 전에 writeAsync를 거부한다")
+    @Test
+    void responseBuilders_rejectWriteAsync() {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        List<AsyncDTO> rows = Collections.singletonList(AsyncDTO.of(1));
+        Map<String, Object> sheets = new LinkedHashMap<>();
+        sheets.put("a", rows);
+
+        assertRejected(() -> ExcelExporter.excel(response).writeAsync(rows, executor));
+        assertRejected(() -> ExcelExporter.excel(response).writeAsync(Stream.of(AsyncDTO.of(1)), executor));
+        assertRejected(() -> ExcelExporter.excel(response).writeAsync(sheets, executor));
+        assertRejected(() -> ExcelExporter.csv(response).writeAsync(rows, executor));
+        assertRejected(() -> ExcelExporter.csv(response).writeAsync(Stream.of(AsyncDTO.of(1)), executor));
+        assertRejected(() -> ExcelExporter.csv(response).writeAsync(sheets, executor));
+        verifyNoInteractions(response);
+    }
+
+    private static void assertRejected(Executable writeAsync) {
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class, writeAsync);
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, ex.getErrorCode());
+    }
+
+    private static void awaitEmpty(Path dir) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            try (Stream<Path> files = Files.list(dir)) {
+                if (!files.findAny().isPresent()) {
+                    return;
+                }
+            }
+            assertTrue(System.nanoTime() < deadline, "임시 파일이 삭제되지 않음");
+            Thread.sleep(10);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Async")
+    public static class AsyncDTO {
+        @ExcelColumn(header = "이름", order = 1)
+        private String name;
+
+        @ExcelColumn(header = "번호", order = 2)
+        private int number;
+
+        static AsyncDTO of(int i) {
+            return new AsyncDTO("row" + i, i);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("AsyncOther")
+    public static class AsyncOtherDTO {
+        @ExcelColumn(header = "값", order = 1)
+        private int value;
+
+        static AsyncOtherDTO of(int i) {
+            return new AsyncOtherDTO(i);
+        }
+    }
+}
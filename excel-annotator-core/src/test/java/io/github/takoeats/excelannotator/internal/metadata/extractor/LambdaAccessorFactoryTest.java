@@ -0,0 +1,182 @@
+package io.github.takoeats.excelannotator.internal.metadata.extractor;
+
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.metadata.ColumnInfo;
+import io.github.takoeats.excelannotator.masking.Masking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LambdaAccessorFactoryTest {
+
+    @Test
+    @DisplayName("public 클래스의 public Getter는 람다로 생성된다")
+    void createFunction_publicGetter_returnsLambda() throws NoSuchMethodException {
+        Function<PublicDTO, Object> function =
+                LambdaAccessorFactory.createFunction(PublicDTO.class.getMethod("getName"));
+
+        assertNotNull(function);
+        assertEquals("kim", function.apply(new PublicDTO()));
+    }
+
+    @Test
+    @DisplayName("private 클래스의 Getter는 람다를 생성하지 않는다")
+    void createFunction_privateClass_returnsNull() throws NoSuchMethodException {
+        assertNull(LambdaAccessorFactory.createFunction(HiddenDTO.class.getMethod("getName")));
+    }
+
+    @Test
+    @DisplayName("primitive Getter는 박싱된 값으로 반환된다")
+    void createFunction_primitiveGetter_returnsBoxedValue() throws NoSuchMethodException {
+        Function<PublicDTO, Object> function =
+                LambdaAccessorFactory.createFunction(PublicDTO.class.getMethod("getCount"));
+
+        assertEquals(42, function.apply(new PublicDTO()));
+    }
+
+    @Test
+    @DisplayName("숫자형 primitive Getter는 ToDoubleFunction / ToLongFunction으로 생성된다")
+    void createPrimitiveFunctions_numericGetter_returnsLambda() throws NoSuchMethodException {
+        ToDoubleFunction<PublicDTO> price =
+                LambdaAccessorFactory.createToDoubleFunction(PublicDTO.class.getMethod("getPrice"));
+        ToDoubleFunction<PublicDTO> countAsDouble =
+                LambdaAccessorFactory.createToDoubleFunction(PublicDTO.class.getMethod("getCount"));
+        ToLongFunction<PublicDTO> count =
+                LambdaAccessorFactory.createToLongFunction(PublicDTO.class.getMethod("getCount"));
+
+        PublicDTO dto = new PublicDTO();
+        assertEquals(1.5, price.applyAsDouble(dto));
+        assertEquals(42.0, countAsDouble.applyAsDouble(dto));
+        assertEquals(42L, count.applyAsLong(dto));
+    }
+
+    @Test
+    @DisplayName("숫자형이 아닌 Getter와 정수형이 아닌 Getter는 primitive 람다를 생성하지 않는다")
+    void createPrimitiveFunctions_nonNumericGetter_returnsNull() throws NoSuchMethodException {
+        assertNull(LambdaAccessorFactory.createToDoubleFunction(PublicDTO.class.getMethod("getName")));
+        assertNull(LambdaAccessorFactory.createToDoubleFunction(PublicDTO.class.getMethod("getBoxed")));
+        assertNull(LambdaAccessorFactory.createToLongFunction(PublicDTO.class.getMethod("getPrice")));
+        assertNull(LambdaAccessorFactory.createToLongFunction(PublicDTO.class.getMethod("getInitial")));
+    }
+
+    @Test
+    @DisplayName("두 접근 방식의 추출 결과가 동일하다")
+    void createExtractor_accessorModes_produceSameValues() throws NoSuchFieldException {
+        PublicDTO dto = new PublicDTO();
+
+        for (String fieldName : new String[]{"name", "count", "price", "boxed", "initial", "amount", "grade"}) {
+            ColumnInfo columnInfo = columnInfo(fieldName);
+            Function<PublicDTO, Object> lambda =
+                    FieldValueExtractorFactory.createExtractor(columnInfo, AccessorMode.LAMBDA_METAFACTORY);
+            Function<PublicDTO, Object> methodHandle =
+                    FieldValueExtractorFactory.createExtractor(columnInfo, AccessorMode.METHOD_HANDLE);
+
+            assertEquals(methodHandle.apply(dto), lambda.apply(dto), fieldName);
+            assertNull(lambda.apply(null));
+        }
+    }
+
+    @Test
+    @DisplayName("char와 enum 값은 문자열로 정규화된다")
+    void createExtractor_charAndEnum_normalizedToString() throws NoSuchFieldException {
+        PublicDTO dto = new PublicDTO();
+
+        assertEquals("K", FieldValueExtractorFactory.createExtractor(columnInfo("initial")).apply(dto));
+        assertEquals("GOLD", FieldValueExtractorFactory.createExtractor(columnInfo("grade")).apply(dto));
+    }
+
+    @Test
+    @DisplayName("람다 Getter에서 발생한 예외는 FIELD_ACCESS_FAILED로 변환된다")
+    void createExtractor_throwingGetter_wrapsException() throws NoSuchFieldException {
+        Function<PublicDTO, Object> extractor = FieldValueExtractorFactory.createExtractor(columnInfo("broken"));
+
+        ExcelExporterException exception = assertThrows(ExcelExporterException.class,
+                () -> extractor.apply(new PublicDTO()));
+        assertEquals(ErrorCode.FIELD_ACCESS_FAILED, exception.getErrorCode());
+        assertTrue(exception.getMessage().contains("필드 값 추출 실패"));
+    }
+
+    @Test
+    @DisplayName("createDoubleExtractor / createLongExtractor는 지원하지 않는 Getter에 대해 null을 반환한다")
+    void createPrimitiveExtractors_unsupportedGetter_returnsNull() throws NoSuchFieldException {
+        PublicDTO dto = new PublicDTO();
+
+        assertEquals(1.5, FieldValueExtractorFactory.<PublicDTO>createDoubleExtractor(columnInfo("price"))
+                .applyAsDouble(dto));
+        assertEquals(42L, FieldValueExtractorFactory.<PublicDTO>createLongExtractor(columnInfo("count"))
+                .applyAsLong(dto));
+        assertNull(FieldValueExtractorFactory.createDoubleExtractor(columnInfo("boxed")));
+        assertNull(FieldValueExtractorFactory.createLongExtractor(columnInfo("price")));
+    }
+
+    private static ColumnInfo columnInfo(String fieldName) throws NoSuchFieldException {
+        return ColumnInfo.builder()
+                .header(fieldName)
+                .order(0)
+                .width(100)
+                .format("")
+                .field(PublicDTO.class.getDeclaredField(fieldName))
+                .masking(Masking.NONE)
+                .build();
+    }
+
+    public enum Grade {
+        GOLD
+    }
+
+    public static class PublicDTO {
+        private String name = "kim";
+        private int count = 42;
+        private double price = 1.5;
+        private Integer boxed = 7;
+        private char initial = 'K';
+        private BigDecimal amount = new BigDecimal("10.50");
+        private Grade grade = Grade.GOLD;
+        private String broken;
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public Integer getBoxed() {
+            return boxed;
+        }
+
+        public char getInitial() {
+            return initial;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public Grade getGrade() {
+            return grade;
+        }
+
+        public String getBroken() {
+            throw new IllegalStateException("broken: " + broken);
+        }
+    }
+
+    private static class HiddenDTO {
+        public String getName() {
+            return "hidden";
+        }
+    }
+}
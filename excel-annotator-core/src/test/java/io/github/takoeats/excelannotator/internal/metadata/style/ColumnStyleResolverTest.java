@@ -279,6 +279,11 @@ class ColumnStyleResolverTest {
                 return Masking.NONE;
             }
 
+            @Override
+            public boolean sharedString() {
+                return false;
+            }
+
             @Override
             public String mergeHeader() {
                 return "";
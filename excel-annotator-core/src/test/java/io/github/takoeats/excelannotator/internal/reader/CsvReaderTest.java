@@ -0,0 +1,310 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.ExcelImporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.csv.CsvQuoting;
+import io.github.takoeats.excelannotator.teststyle.CurrencyStyle;
+import io.github.takoeats.excelannotator.teststyle.KoreanDateStyle;
+import io.github.takoeats.excelannotator.teststyle.PercentageStyle;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTrip_restoresFormattedValues() {
+        for (CsvQuoting quoting : CsvQuoting.values()) {
+            List<ImportDTO> rows = rows(200);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ExcelExporter.csv(out).quoting(quoting).write(rows);
+
+            List<ImportDTO> read = ExcelImporter.csv(new ByteArrayInputStream(out.toByteArray()))
+                    .readAll(ImportDTO.class);
+
+            assertEquals(rows, read, quoting.name());
+        }
+    }
+
+    @Test
+    void headerMatch_allowsReorderedAndExtraColumns() {
+        String csv = "비고,개수,코드\r\nignored,7,A-1\r\n\r\nx,\"1,234\",A-2\r\n";
+
+        List<SimpleDTO> read = ExcelImporter.csv(stream(csv)).readAll(SimpleDTO.class);
+
+        assertEquals(2, read.size());
+        assertEquals(new SimpleDTO("A-1", 7), read.get(0));
+        assertEquals(new SimpleDTO("A-2", 1_234), read.get(1));
+    }
+
+    @Test
+    void missingHeader_rejected() {
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class,
+                () -> ExcelImporter.csv(stream("주문번호,unknown\r\nA-1,x\r\n")).readAll(ImportDTO.class));
+
+        assertEquals(ErrorCode.HEADER_MISMATCH, ex.getErrorCode());
+        assertTrue(ex.getMessage().contains("수량"));
+    }
+
+    @Test
+    void orderMatch_bindsByPosition() {
+        List<SimpleDTO> read = ExcelImporter.csv(stream("anything,else\r\nA-1,3\r\nA-2,4\r\n"))
+                .columnMatch(ColumnMatch.ORDER)
+                .readAll(SimpleDTO.class);
+
+        assertEquals(2, read.size());
+        assertEquals(new SimpleDTO("A-2", 4), read.get(1));
+    }
+
+    @Test
+    void invalidValue_reportsRowAndHeader() {
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class,
+                () -> ExcelImporter.csv(stream("코드,개수\r\nA-1,3\r\nA-2,three\r\n")).readAll(SimpleDTO.class));
+
+        assertEquals(ErrorCode.ROW_READ_ERROR, ex.getErrorCode());
+        assertTrue(ex.getMessage().contains("3행 '개수'"), ex.getMessage());
+    }
+
+    @Test
+    void lenientNumber_stripsOnlySeparatorsAndSymbols() {
+        List<SimpleDTO> read = ExcelImporter.csv(stream("코드,개수\r\nA-1,₩1'234\r\nA-2,(1 000)\r\n"))
+                .readAll(SimpleDTO.class);
+
+        assertEquals(1_234, read.get(0).getCount());
+        assertEquals(-1_000, read.get(1).getCount());
+
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class,
+                () -> ExcelImporter.csv(stream("코드,개수\r\nA-1,12abc\r\n")).readAll(SimpleDTO.class));
+        assertEquals(ErrorCode.ROW_READ_ERROR, ex.getErrorCode());
+    }
+
+    @Test
+    void quotedEmptyRow_readAsNullRow() {
+        List<MemoDTO> rows = Arrays.asList(new MemoDTO("a"), new MemoDTO(null), new MemoDTO("b"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.csv(out).write(rows);
+
+        List<MemoDTO> read = ExcelImporter.csv(new ByteArrayInputStream(out.toByteArray())).readAll(MemoDTO.class);
+
+        assertEquals(rows, read);
+    }
+
+    @Test
+    void read_isLazyAndClosesInput() {
+        boolean[] closed = {false};
+        ByteArrayInputStream input = new ByteArrayInputStream(csvBytes(rows(1_000))) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+
+        try (Stream<ImportDTO> stream = ExcelImporter.csv(input).read(ImportDTO.class)) {
+            assertEquals("order-0", stream.findFirst().get().getOrderId());
+            assertTrue(input.available() > 0);
+        }
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    void parallelMapped_matchesSequentialRead() throws IOException {
+        List<ImportDTO> rows = rows(20_000);
+        Path file = writeFile(rows);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelReadOptions options = ParallelReadOptions.builder()
+                    .pool(pool)
+                    .chunkSize(ParallelReadOptions.MIN_CHUNK_SIZE)
+                    .maxInFlightChunks(3)
+                    .build();
+
+            List<ImportDTO> ordered = ExcelImporter.csv(file).parallel(options).readAll(ImportDTO.class);
+            assertEquals(rows, ordered);
+
+            List<ImportDTO> unordered = ExcelImporter.csv(file)
+                    .parallel(ParallelReadOptions.builder().pool(pool).chunkSize(ParallelReadOptions.MIN_CHUNK_SIZE)
+                            .ordered(false).build())
+                    .readAll(ImportDTO.class);
+            unordered.sort(Comparator.comparing(ImportDTO::getQuantity));
+            assertEquals(rows, unordered);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void chunkBoundaries_neverSplitQuotedLineBreaks() throws IOException {
+        Path file = writeFile(rows(20_000));
+        byte[] bytes = Files.readAllBytes(file);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] boundaries = CsvChunkSplitter.split(channel, 3, bytes.length, 64 * 1024, ForkJoinPool.commonPool());
+
+            assertTrue(boundaries.length > 10);
+            for (int i = 1; i < boundaries.length - 1; i++) {
+                int quotes = 0;
+                for (int b = 3; b < boundaries[i]; b++) {
+                    quotes += bytes[b] == '"' ? 1 : 0;
+                }
+                assertEquals(0, quotes % 2, "boundary " + boundaries[i]);
+                assertEquals('\n', bytes[(int) boundaries[i] - 1]);
+            }
+        }
+    }
+
+    @Test
+    void parallelFailure_propagatesWithOffset() throws IOException {
+        Path file = tempDir.resolve("broken.csv");
+        StringBuilder csv = new StringBuilder("코드,개수\r\n");
+        for (int i = 0; i < 50_000; i++) {
+            csv.append("A-").append(i).append(',').append(i == 40_000 ? "bad" : String.valueOf(i)).append("\r\n");
+        }
+        Files.write(file, csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class, () -> ExcelImporter.csv(file)
+                .parallel(ParallelReadOptions.builder().chunkSize(ParallelReadOptions.MIN_CHUNK_SIZE).build())
+                .readAll(SimpleDTO.class));
+
+        assertEquals(ErrorCode.ROW_READ_ERROR, ex.getErrorCode());
+        assertTrue(ex.getMessage().contains("파일 오프셋"), ex.getMessage());
+    }
+
+    @Test
+    void invalidOptions_rejected() {
+        assertEquals(ErrorCode.INVALID_READ_OPTION, assertThrows(ExcelExporterException.class,
+                () -> ExcelImporter.csv(stream("a\r\n")).parallel(ParallelReadOptions.DEFAULT)
+                        .read(SimpleDTO.class)).getErrorCode());
+        assertEquals(ErrorCode.INVALID_READ_OPTION, assertThrows(ExcelExporterException.class,
+                () -> ParallelReadOptions.builder().chunkSize(1024).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_READ_OPTION, assertThrows(ExcelExporterException.class,
+                () -> ParallelReadOptions.builder().pool(null).build()).getErrorCode());
+    }
+
+    private Path writeFile(List<ImportDTO> rows) throws IOException {
+        Path file = tempDir.resolve("orders.csv");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            ExcelExporter.csv(out).write(rows);
+        }
+        return file;
+    }
+
+    private static byte[] csvBytes(List<ImportDTO> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.csv(out).write(rows);
+        return out.toByteArray();
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<ImportDTO> rows(int count) {
+        String[] memos = {"plain", "a, b", "say \"hi\"", "line1\r\nline2"};
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ImportDTO(
+                        "order-" + i,
+                        i % 7 == 0 ? null : memos[i % memos.length],
+                        BigDecimal.valueOf(i * 12_345L, 2),
+                        i * 1_000L,
+                        LocalDate.of(2024, 1, 1).plusDays(i % 365),
+                        LocalDateTime.of(2024, 3, 5, 14, 7, 9).plusMinutes(i),
+                        i % 5 == 0 ? null : (i % 100) / 100.0,
+                        i,
+                        Status.values()[i % Status.values().length],
+                        i % 3 == 0 ? null : i % 2 == 0))
+                .collect(Collectors.toList());
+    }
+
+    public enum Status {
+        READY, SHIPPED, DONE
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("주문")
+    public static class ImportDTO {
+        @ExcelColumn(header = "주문번호", order = 1)
+        private String orderId;
+
+        @ExcelColumn(header = "메모", order = 2)
+        private String memo;
+
+        @ExcelColumn(header = "금액", order = 3, format = "#,##0.00")
+        private BigDecimal amount;
+
+        @ExcelColumn(header = "통화", order = 4, columnStyle = CurrencyStyle.class)
+        private long price;
+
+        @ExcelColumn(header = "일자", order = 5, columnStyle = KoreanDateStyle.class)
+        private LocalDate date;
+
+        @ExcelColumn(header = "등록", order = 6)
+        private LocalDateTime createdAt;
+
+        @ExcelColumn(header = "비율", order = 7, columnStyle = PercentageStyle.class)
+        private Double ratio;
+
+        @ExcelColumn(header = "수량", order = 8)
+        private int quantity;
+
+        @ExcelColumn(header = "상태", order = 9)
+        private Status status;
+
+        @ExcelColumn(header = "활성", order = 10)
+        private Boolean active;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("간단")
+    public static class SimpleDTO {
+        @ExcelColumn(header = "코드", order = 1)
+        private String code;
+
+        @ExcelColumn(header = "개수", order = 2)
+        private int count;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("메모")
+    public static class MemoDTO {
+        @ExcelColumn(header = "메모", order = 1)
+        private String memo;
+    }
+}
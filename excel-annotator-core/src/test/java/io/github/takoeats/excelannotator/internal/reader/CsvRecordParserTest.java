@@ -0,0 +1,153 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRecordParserTest {
+
+    @Test
+    void quotedFields_unescapeInPlace() throws IOException {
+        List<List<String>> records = parse("﻿\"a\",\"b,c\",\"say \"\"hi\"\"\"\r\nplain,,\"\"\r\n", 64);
+
+        assertEquals(Arrays.asList(
+                Arrays.asList("a", "b,c", "say \"hi\""),
+                Arrays.asList("plain", "", "")), records);
+    }
+
+    @Test
+    void lineBreaksInsideQuotes_stayInField() throws IOException {
+        List<List<String>> records = parse("\"line1\r\nline2\",x\n\"a\nb\",y\rlast,z", 64);
+
+        assertEquals(Arrays.asList(
+                Arrays.asList("line1\r\nline2", "x"),
+                Arrays.asList("a\nb", "y"),
+                Arrays.asList("last", "z")), records);
+    }
+
+    @Test
+    void recordLongerThanBuffer_growsBuffer() throws IOException {
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            longValue.append("chunk-").append(i).append(i % 10 == 0 ? "\"\"" : "");
+        }
+        String csv = "\"" + longValue + "\",tail\r\nnext,row\r\n";
+
+        List<List<String>> records = parse(csv, 64);
+
+        assertEquals(2, records.size());
+        assertEquals(longValue.toString().replace("\"\"", "\""), records.get(0).get(0));
+        assertEquals("tail", records.get(0).get(1));
+        assertEquals(Arrays.asList("next", "row"), records.get(1));
+    }
+
+    @Test
+    void crlfSplitAcrossReads_keepsRecordIntact() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        List<List<String>> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            csv.append("\"name").append(i).append("\",").append(i * 7).append("\r\n");
+            expected.add(Arrays.asList("name" + i, String.valueOf(i * 7)));
+        }
+        csv.append("\r\nlast\r");
+        expected.add(Arrays.asList(""));
+        expected.add(Arrays.asList("last"));
+
+        List<List<String>> records = drain(new CsvRecordParser(new CarriageReturnChunkedReader(csv.toString()), 64));
+
+        assertEquals(expected, records);
+    }
+
+    @Test
+    void trailingDelimiter_addsEmptyField_andBlankLineIsDetected() throws IOException {
+        CsvRecordParser parser = new CsvRecordParser(new StringReader("a,\r\n\r\nb"), 64);
+
+        assertTrue(parser.nextRecord());
+        assertEquals(2, parser.fieldCount());
+        assertEquals(0, parser.length(1));
+        assertTrue(parser.nextRecord());
+        assertTrue(parser.isBlank());
+        assertTrue(parser.nextRecord());
+        assertEquals("b", parser.field(0));
+        assertEquals(3, parser.recordNumber());
+        assertFalse(parser.nextRecord());
+    }
+
+    @Test
+    void quotedEmptyField_isNotBlank() throws IOException {
+        CsvRecordParser parser = new CsvRecordParser(new StringReader("\"\"\r\n\n"), 64);
+
+        assertTrue(parser.nextRecord());
+        assertFalse(parser.isBlank());
+        assertEquals(1, parser.fieldCount());
+        assertEquals(0, parser.length(0));
+        assertTrue(parser.nextRecord());
+        assertTrue(parser.isBlank());
+        assertFalse(parser.nextRecord());
+    }
+
+    @Test
+    void charArraySource_parsesWithoutReader() throws IOException {
+        char[] chars = "xx\"a\",1\r\nb,2\r\n".toCharArray();
+        CsvRecordParser parser = new CsvRecordParser(chars, 2, chars.length - 2);
+
+        List<List<String>> records = drain(parser);
+
+        assertEquals(Arrays.asList(Arrays.asList("a", "1"), Arrays.asList("b", "2")), records);
+    }
+
+    /**
+     * CR 바로 뒤에서 읽기를 끊는 Reader (소켓·업로드 스트림의 짧은 읽기 재현)
+     */
+    private static final class CarriageReturnChunkedReader extends Reader {
+        private final String text;
+        private int position;
+
+        CarriageReturnChunkedReader(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (position >= text.length()) {
+                return -1;
+            }
+            int count = 0;
+            while (count < len && position < text.length()) {
+                char c = text.charAt(position++);
+                cbuf[off + count++] = c;
+                if (c == '\r') {
+                    break;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static List<List<String>> parse(String csv, int bufferChars) throws IOException {
+        return drain(new CsvRecordParser(new StringReader(csv), bufferChars));
+    }
+
+    private static List<List<String>> drain(CsvRecordParser parser) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        while (parser.nextRecord()) {
+            List<String> fields = new ArrayList<>();
+            for (int i = 0; i < parser.fieldCount(); i++) {
+                fields.add(parser.field(i));
+            }
+            records.add(fields);
+        }
+        return records;
+    }
+}
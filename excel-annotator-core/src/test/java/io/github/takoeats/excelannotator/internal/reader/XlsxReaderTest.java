@@ -0,0 +1,309 @@
+package io.github.takoeats.excelannotator.internal.reader;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.ExcelImporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.WriteEngine;
+import io.github.takoeats.excelannotator.teststyle.CurrencyStyle;
+import io.github.takoeats.excelannotator.teststyle.DateTimeStyle;
+import io.github.takoeats.excelannotator.teststyle.KoreanDateStyle;
+import io.github.takoeats.excelannotator.teststyle.PercentageStyle;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XlsxReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void roundTrip_restoresTypedCells() {
+        for (WriteEngine engine : WriteEngine.values()) {
+            List<OrderDTO> rows = rows(500);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ExcelExporter.excel(out).engine(engine).write(rows);
+
+            List<OrderDTO> read = ExcelImporter.excel(new ByteArrayInputStream(out.toByteArray()))
+                    .readAll(OrderDTO.class);
+
+            assertEquals(rows, read, engine.name());
+        }
+    }
+
+    @Test
+    void sharedStringsAndSparseCells_areResolved() throws IOException {
+        Path file = tempDir.resolve("manual.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("manual");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+
+            Row header = sheet.createRow(0);
+            String[] headers = {"주문번호", "메모", "금액", "통화", "일자", "등록", "비율", "수량", "상태", "활성"};
+            for (int i = 0; i < headers.length; i++) {
+                header.createCell(i).setCellValue(headers[i]);
+            }
+            Row data = sheet.createRow(3);
+            data.createCell(0).setCellValue("A-1");
+            data.createCell(2).setCellFormula("1000+234.5");
+            data.createCell(3).setCellValue("₩5,000,000");
+            data.createCell(4).setCellValue(LocalDate.of(2024, 3, 5));
+            data.getCell(4).setCellStyle(dateStyle);
+            data.createCell(5).setCellValue("2024-03-05 14:07");
+            data.createCell(6).setCellValue(1.5E-3);
+            data.createCell(7).setCellValue(42);
+            data.createCell(8).setCellValue("DONE");
+            data.createCell(9).setCellValue(true);
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            try (OutputStream out = Files.newOutputStream(file)) {
+                workbook.write(out);
+            }
+        }
+
+        List<OrderDTO> read = ExcelImporter.excel(file).readAll(OrderDTO.class);
+
+        assertEquals(1, read.size());
+        OrderDTO row = read.get(0);
+        assertEquals("A-1", row.getOrderId());
+        assertNull(row.getMemo());
+        assertEquals(0, new BigDecimal("1234.5").compareTo(row.getAmount()));
+        assertEquals(5_000_000L, row.getPrice());
+        assertEquals(LocalDate.of(2024, 3, 5), row.getDate());
+        assertEquals(LocalDateTime.of(2024, 3, 5, 14, 7), row.getCreatedAt());
+        assertEquals(0.0015, row.getRatio());
+        assertEquals(42, row.getQuantity());
+        assertEquals(Status.DONE, row.getStatus());
+        assertEquals(Boolean.TRUE, row.getActive());
+    }
+
+    @Test
+    void date1904Workbook_readsSameDates() throws IOException {
+        Path file = tempDir.resolve("date1904.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            CTWorkbook ctWorkbook = workbook.getCTWorkbook();
+            (ctWorkbook.isSetWorkbookPr() ? ctWorkbook.getWorkbookPr() : ctWorkbook.addNewWorkbookPr()).setDate1904(true);
+            Sheet sheet = workbook.createSheet("주문");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+            CellStyle dateTimeStyle = workbook.createCellStyle();
+            dateTimeStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
+
+            Row header = sheet.createRow(0);
+            String[] headers = {"주문번호", "메모", "금액", "통화", "일자", "등록", "비율", "수량", "상태", "활성"};
+            for (int i = 0; i < headers.length; i++) {
+                header.createCell(i).setCellValue(headers[i]);
+            }
+            Row data = sheet.createRow(1);
+            data.createCell(0).setCellValue("A-1");
+            data.createCell(3).setCellValue(1);
+            data.createCell(4).setCellValue(LocalDate.of(2024, 3, 5));
+            data.getCell(4).setCellStyle(dateStyle);
+            data.createCell(5).setCellValue(LocalDateTime.of(2024, 3, 5, 14, 7));
+            data.getCell(5).setCellStyle(dateTimeStyle);
+            data.createCell(7).setCellValue(1);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                workbook.write(out);
+            }
+        }
+
+        OrderDTO row = ExcelImporter.excel(file).readAll(OrderDTO.class).get(0);
+
+        assertEquals(LocalDate.of(2024, 3, 5), row.getDate());
+        assertEquals(LocalDateTime.of(2024, 3, 5, 14, 7), row.getCreatedAt());
+    }
+
+    @Test
+    void mergedHeader_usesSecondHeaderRow() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<GroupedDTO> rows = IntStream.range(0, 20)
+                .mapToObj(i -> new GroupedDTO("name-" + i, "user" + i + "@example.com", i))
+                .collect(Collectors.toList());
+        ExcelExporter.excel(out).write(rows);
+
+        assertEquals(rows, ExcelImporter.excel(new ByteArrayInputStream(out.toByteArray())).readAll(GroupedDTO.class));
+    }
+
+    @Test
+    void sheetSelection_byDtoNameOrExplicitName() {
+        Map<String, Object> sheets = new LinkedHashMap<>();
+        sheets.put("grouped", IntStream.range(0, 3)
+                .mapToObj(i -> new GroupedDTO("g" + i, "g" + i + "@example.com", i)).collect(Collectors.toList()));
+        sheets.put("orders", rows(10));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.excel(out).write(sheets);
+        byte[] bytes = out.toByteArray();
+
+        assertEquals(rows(10), ExcelImporter.excel(new ByteArrayInputStream(bytes)).readAll(OrderDTO.class));
+        assertEquals(3, ExcelImporter.excel(new ByteArrayInputStream(bytes))
+                .sheet("그룹")
+                .readAll(GroupedDTO.class).size());
+
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class,
+                () -> ExcelImporter.excel(new ByteArrayInputStream(bytes)).sheet("없음").readAll(OrderDTO.class));
+        assertEquals(ErrorCode.INVALID_READ_OPTION, ex.getErrorCode());
+    }
+
+    @Test
+    void orderMatch_bindsByPosition() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.excel(out).write(rows(5));
+
+        List<OrderDTO> read = ExcelImporter.excel(new ByteArrayInputStream(out.toByteArray()))
+                .columnMatch(ColumnMatch.ORDER)
+                .readAll(OrderDTO.class);
+
+        assertEquals(rows(5), read);
+    }
+
+    @Test
+    void headerMismatchAndBadValue_reportSheetAndRow() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.excel(out).write(rows(3));
+        byte[] bytes = out.toByteArray();
+
+        ExcelExporterException mismatch = assertThrows(ExcelExporterException.class,
+                () -> ExcelImporter.excel(new ByteArrayInputStream(bytes)).readAll(GroupedDTO.class));
+        assertEquals(ErrorCode.HEADER_MISMATCH, mismatch.getErrorCode());
+
+        ExcelExporterException badValue = assertThrows(ExcelExporterException.class,
+                () -> ExcelImporter.excel(new ByteArrayInputStream(bytes)).readAll(MismatchedTypeDTO.class));
+        assertEquals(ErrorCode.ROW_READ_ERROR, badValue.getErrorCode());
+        assertTrue(badValue.getMessage().contains("시트 '주문' 2행 '주문번호'"), badValue.getMessage());
+    }
+
+    @Test
+    void notAnXlsx_rejected() {
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class,
+                () -> ExcelImporter.excel(new ByteArrayInputStream("a,b\r\n".getBytes())).readAll(OrderDTO.class));
+
+        assertEquals(ErrorCode.IO_ERROR, ex.getErrorCode());
+    }
+
+    @Test
+    void read_isLazy_andCloseStopsParser() throws IOException {
+        Path file = tempDir.resolve("large.xlsx");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            ExcelExporter.excel(out).write(rows(20_000).stream());
+        }
+
+        try (Stream<OrderDTO> stream = ExcelImporter.excel(file).read(OrderDTO.class)) {
+            Iterator<OrderDTO> iterator = stream.iterator();
+            assertEquals("order-0", iterator.next().getOrderId());
+            assertEquals("order-1", iterator.next().getOrderId());
+        }
+
+        assertFalse(Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().startsWith("excel-import-") && thread.isAlive()));
+        assertEquals(20_000, ExcelImporter.excel(file).read(OrderDTO.class).count());
+    }
+
+    private static List<OrderDTO> rows(int count) {
+        String[] memos = {"plain", "a, b", "say \"hi\"", "line1\nline2"};
+        return IntStream.range(0, count)
+                .mapToObj(i -> new OrderDTO(
+                        "order-" + i,
+                        i % 7 == 0 ? null : memos[i % memos.length],
+                        BigDecimal.valueOf(i * 12_345L + 1, 2),
+                        i * 1_000L,
+                        LocalDate.of(2024, 1, 1).plusDays(i % 365),
+                        LocalDateTime.of(2024, 3, 5, 14, 7).plusMinutes(i),
+                        i % 5 == 0 ? null : (i % 100) / 100.0,
+                        i,
+                        Status.values()[i % Status.values().length],
+                        i % 3 == 0 ? null : i % 2 == 0))
+                .collect(Collectors.toList());
+    }
+
+    public enum Status {
+        READY, SHIPPED, DONE
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("주문")
+    public static class OrderDTO {
+        @ExcelColumn(header = "주문번호", order = 1)
+        private String orderId;
+
+        @ExcelColumn(header = "메모", order = 2)
+        private String memo;
+
+        @ExcelColumn(header = "금액", order = 3, format = "#,##0.00")
+        private BigDecimal amount;
+
+        @ExcelColumn(header = "통화", order = 4, columnStyle = CurrencyStyle.class)
+        private long price;
+
+        @ExcelColumn(header = "일자", order = 5, columnStyle = KoreanDateStyle.class)
+        private LocalDate date;
+
+        @ExcelColumn(header = "등록", order = 6, columnStyle = DateTimeStyle.class)
+        private LocalDateTime createdAt;
+
+        @ExcelColumn(header = "비율", order = 7, columnStyle = PercentageStyle.class)
+        private Double ratio;
+
+        @ExcelColumn(header = "수량", order = 8)
+        private int quantity;
+
+        @ExcelColumn(header = "상태", order = 9)
+        private Status status;
+
+        @ExcelColumn(header = "활성", order = 10)
+        private Boolean active;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("그룹")
+    public static class GroupedDTO {
+        @ExcelColumn(header = "이름", order = 1, mergeHeader = "고객")
+        private String name;
+
+        @ExcelColumn(header = "이메일", order = 2, mergeHeader = "고객")
+        private String email;
+
+        @ExcelColumn(header = "점수", order = 3)
+        private int score;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @ExcelSheet("주문")
+    public static class MismatchedTypeDTO {
+        @ExcelColumn(header = "주문번호", order = 1)
+        private Long orderId;
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.annotation.ConditionalStyle;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataFactory;
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.masking.Masking;
+import io.github.takoeats.excelannotator.style.CustomExcelCellStyle;
+import io.github.takoeats.excelannotator.style.ExcelCellStyleConfigurer;
+import io.github.takoeats.excelannotator.style.ExcelColors;
+import io.github.takoeats.excelannotator.style.internal.rule.CellContext;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CellPlanTest {
+
+    private SXSSFWorkbook workbook;
+    private Sheet sheet;
+    private StyleCacheManager styleCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        workbook = new SXSSFWorkbook();
+        sheet = workbook.createSheet("Test");
+        styleCacheManager = new StyleCacheManager(workbook);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        workbook.close();
+    }
+
+    @Test
+    void compile_createsOnePlanPerColumn() {
+        ExcelMetadata<PlanDTO> metadata = ExcelMetadataFactory.extractExcelMetadata(PlanDTO.class);
+
+        CellPlan<PlanDTO>[] plans = CellPlan.compile(metadata, styleCacheManager);
+
+        assertEquals(metadata.getColumnCount(), plans.length);
+    }
+
+    @Test
+    void write_reusesResolvedStylesAcrossRows() {
+        CellPlan<PlanDTO>[] plans = CellPlan.compile(
+                ExcelMetadataFactory.extractExcelMetadata(PlanDTO.class), styleCacheManager);
+        int stylesAfterCompile = workbook.getNumCellStyles();
+
+        Row first = writeRow(1, plans, new PlanDTO("홍길동", 10, new BigDecimal("1.5")));
+        Row second = writeRow(2, plans, new PlanDTO("김철수", 20, new BigDecimal("2.5")));
+
+        assertEquals(stylesAfterCompile, workbook.getNumCellStyles());
+        for (int col = 0; col < plans.length; col++) {
+            assertSame(first.getCell(col).getCellStyle(), second.getCell(col).getCellStyle());
+        }
+    }
+
+    @Test
+    void write_appliesMaskingToStringValues() {
+        CellPlan<PlanDTO>[] plans = CellPlan.compile(
+                ExcelMetadataFactory.extractExcelMetadata(PlanDTO.class), styleCacheManager);
+
+        Row row = writeRow(1, plans, new PlanDTO("홍길동", 10, BigDecimal.ONE));
+
+        assertEquals(Masking.NAME.mask("홍길동"), row.getCell(0).getStringCellValue());
+        assertEquals(10, row.getCell(1).getNumericCellValue());
+    }
+
+    @Test
+    void write_selectsPrecompiledConditionalStyle() {
+        CellPlan<PlanDTO>[] plans = CellPlan.compile(
+                ExcelMetadataFactory.extractExcelMetadata(PlanDTO.class), styleCacheManager);
+
+        Row negative = writeRow(1, plans, new PlanDTO("a", -1, BigDecimal.ONE));
+        Row positive = writeRow(2, plans, new PlanDTO("b", 1, BigDecimal.ONE));
+        Row otherNegative = writeRow(3, plans, new PlanDTO("c", -5, BigDecimal.ONE));
+
+        assertNotSame(negative.getCell(1).getCellStyle(), positive.getCell(1).getCellStyle());
+        assertSame(negative.getCell(1).getCellStyle(), otherNegative.getCell(1).getCellStyle());
+    }
+
+    @Test
+    void compile_appliesAnnotationFormatToColumnStyle() {
+        CellPlan<PlanDTO>[] plans = CellPlan.compile(
+                ExcelMetadataFactory.extractExcelMetadata(PlanDTO.class), styleCacheManager);
+
+        Row row = writeRow(1, plans, new PlanDTO("a", 1, BigDecimal.TEN));
+
+        assertEquals("#,##0.00", row.getCell(2).getCellStyle().getDataFormatString());
+    }
+
+    @Test
+    void write_primitiveColumnWithoutConditionalStyle_writesDoubleDirectly() {
+        ExcelMetadata<PrimitiveDTO> metadata = ExcelMetadataFactory.extractExcelMetadata(PrimitiveDTO.class);
+        CellPlan<PrimitiveDTO>[] plans = CellPlan.compile(metadata, styleCacheManager);
+        Row row = sheet.createRow(1);
+
+        try (CellContext cellContext = CellContext.acquire()) {
+            for (int col = 0; col < plans.length; col++) {
+                plans[col].write(row.createCell(col), new PrimitiveDTO(3, 1234567890123L, 2.5), col, 0, cellContext);
+            }
+        }
+
+        assertNotNull(metadata.getDoubleExtractorAt(0));
+        assertEquals(3.0, row.getCell(0).getNumericCellValue());
+        assertEquals(1234567890123.0, row.getCell(1).getNumericCellValue());
+        assertEquals(2.5, row.getCell(2).getNumericCellValue());
+    }
+
+    private Row writeRow(int rowIndex, CellPlan<PlanDTO>[] plans, PlanDTO item) {
+        Row row = sheet.createRow(rowIndex);
+        try (CellContext cellContext = CellContext.acquire()) {
+            for (int col = 0; col < plans.length; col++) {
+                plans[col].write(row.createCell(col), item, col, rowIndex - 1, cellContext);
+            }
+        }
+        return row;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Plan")
+    public static class PlanDTO {
+
+        @ExcelColumn(header = "Name", order = 1, masking = Masking.NAME)
+        private String name;
+
+        @ExcelColumn(
+                header = "Amount",
+                order = 2,
+                conditionalStyles = @ConditionalStyle(when = "value < 0", style = NegativeStyle.class)
+        )
+        private Integer amount;
+
+        @ExcelColumn(header = "Price", order = 3, format = "#,##0.00")
+        private BigDecimal price;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Primitive")
+    public static class PrimitiveDTO {
+
+        @ExcelColumn(header = "Count", order = 1)
+        private int count;
+
+        @ExcelColumn(header = "Id", order = 2)
+        private long id;
+
+        @ExcelColumn(header = "Ratio", order = 3)
+        private double ratio;
+    }
+
+    public static class NegativeStyle extends CustomExcelCellStyle {
+
+        @Override
+        protected void configure(ExcelCellStyleConfigurer configurer) {
+            configurer.backgroundColor(ExcelColors.rose());
+        }
+    }
+}
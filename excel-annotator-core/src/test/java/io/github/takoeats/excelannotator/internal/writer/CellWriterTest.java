@@ -84,7 +84,7 @@ class CellWriterTest {
         Row row = sheet.createRow(1);
 
         try (CellContext cellContext = CellContext.acquire()) {
-            cellWriter.writeCells(row, data, 0, metadata, cellContext, styleCacheManager);
+            cellWriter.writeCells(row, data, 0, CellPlan.compile(metadata, styleCacheManager), cellContext);
         }
 
         DataFormatter fmt = new DataFormatter();
@@ -100,7 +100,7 @@ class CellWriterTest {
         Row row = sheet.createRow(1);
 
         try (CellContext cellContext = CellContext.acquire()) {
-            cellWriter.writeCells(row, data, 0, metadata, cellContext, styleCacheManager);
+            cellWriter.writeCells(row, data, 0, CellPlan.compile(metadata, styleCacheManager), cellContext);
         }
 
         assertNotNull(row.getCell(0));
@@ -116,7 +116,7 @@ class CellWriterTest {
         Row row = sheet.createRow(1);
 
         try (CellContext cellContext = CellContext.acquire()) {
-            cellWriter.writeCells(row, data, 0, metadata, cellContext, styleCacheManager);
+            cellWriter.writeCells(row, data, 0, CellPlan.compile(metadata, styleCacheManager), cellContext);
         }
 
         Cell cell = row.getCell(0);
@@ -132,7 +132,7 @@ class CellWriterTest {
         Row row = sheet.createRow(1);
 
         try (CellContext cellContext = CellContext.acquire()) {
-            cellWriter.writeCells(row, data, 0, metadata, cellContext, styleCacheManager);
+            cellWriter.writeCells(row, data, 0, CellPlan.compile(metadata, styleCacheManager), cellContext);
         }
 
         Cell cell = row.getCell(0);
@@ -148,7 +148,7 @@ class CellWriterTest {
         Row row = sheet.createRow(1);
 
         try (CellContext cellContext = CellContext.acquire()) {
-            cellWriter.writeCells(row, data, 0, metadata, cellContext, styleCacheManager);
+            cellWriter.writeCells(row, data, 0, CellPlan.compile(metadata, styleCacheManager), cellContext);
         }
 
         DataFormatter fmt = new DataFormatter();
@@ -168,8 +168,8 @@ class CellWriterTest {
         Row row2 = sheet.createRow(2);
 
         try (CellContext cellContext = CellContext.acquire()) {
-            cellWriter.writeCells(row1, data1, 0, metadata, cellContext, styleCacheManager);
-            cellWriter.writeCells(row2, data2, 1, metadata, cellContext, styleCacheManager);
+            cellWriter.writeCells(row1, data1, 0, CellPlan.compile(metadata, styleCacheManager), cellContext);
+            cellWriter.writeCells(row2, data2, 1, CellPlan.compile(metadata, styleCacheManager), cellContext);
         }
 
         DataFormatter fmt = new DataFormatter();
@@ -185,7 +185,7 @@ class CellWriterTest {
         Row row = sheet.createRow(1);
 
         try (CellContext cellContext = CellContext.acquire()) {
-            cellWriter.writeCells(row, data, 0, metadata, cellContext, styleCacheManager);
+            cellWriter.writeCells(row, data, 0, CellPlan.compile(metadata, styleCacheManager), cellContext);
         }
 
         DataFormatter fmt = new DataFormatter();
@@ -200,7 +200,7 @@ class CellWriterTest {
         Row row = sheet.createRow(1);
 
         try (CellContext cellContext = CellContext.acquire()) {
-            cellWriter.writeCells(row, data, 0, metadata, cellContext, styleCacheManager);
+            cellWriter.writeCells(row, data, 0, CellPlan.compile(metadata, styleCacheManager), cellContext);
         }
 
         assertNotNull(row.getCell(0));
@@ -215,7 +215,7 @@ class CellWriterTest {
         Row row = sheet.createRow(1);
 
         try (CellContext cellContext = CellContext.acquire()) {
-            cellWriter.writeCells(row, data, 0, metadata, cellContext, styleCacheManager);
+            cellWriter.writeCells(row, data, 0, CellPlan.compile(metadata, styleCacheManager), cellContext);
         }
 
         assertNotNull(row.getCell(0));
@@ -0,0 +1,127 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataFactory;
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnWidthTrackerTest {
+
+    private static final int ROWS = 3_000;
+
+    @Test
+    void widestValueAfterFlushedRows_stillDeterminesWidth() throws Exception {
+        List<TrackedDTO> data = rows(ROWS);
+        data.get(ROWS - 1).setName(repeat('x', 60));
+
+        Sheet sheet = readFirstSheet(export(data, WriteEngine.SXSSF));
+
+        assertEquals((60 + 2) * 256, sheet.getColumnWidth(0));
+    }
+
+    @Test
+    void formattedNumber_widthFollowsDisplayFormat() throws Exception {
+        List<TrackedDTO> data = rows(10);
+        data.get(3).setAmount(new BigDecimal("123456789.5"));
+
+        Sheet sheet = readFirstSheet(export(data, WriteEngine.SXSSF));
+
+        assertEquals(("123,456,790".length() + 2) * 256, sheet.getColumnWidth(1));
+    }
+
+    @Test
+    void headerWiderThanData_keepsHeaderWidth() throws Exception {
+        Sheet sheet = readFirstSheet(export(rows(5), WriteEngine.SXSSF));
+
+        assertEquals(("긴 헤더 이름의 날짜".length() + 8 + 2) * 256, sheet.getColumnWidth(2));
+    }
+
+    @Test
+    void directEngine_usesSameEstimates() throws Exception {
+        List<TrackedDTO> data = rows(50);
+        data.get(10).setName(repeat('가', 20));
+
+        Sheet sheet = readFirstSheet(export(data, WriteEngine.DIRECT));
+
+        assertEquals((40 + 2) * 256, sheet.getColumnWidth(0));
+    }
+
+    @Test
+    void sxssfSheet_isNotTrackedForAutoSizing() throws Exception {
+        ExcelMetadata<TrackedDTO> metadata = ExcelMetadataFactory.extractExcelMetadata(TrackedDTO.class);
+        SheetWriteRequest<TrackedDTO> request = SheetWriteRequest.<TrackedDTO>builder()
+                .dataIterator(rows(200).iterator())
+                .metadata(metadata)
+                .build();
+
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100)) {
+            new SheetWriter(new RowWriter())
+                    .write(workbook, SheetWriteContext.forRowBasedSheets(Collections.singletonList(request)));
+            SXSSFSheet sheet = workbook.getSheetAt(0);
+
+            assertTrue(sheet.getTrackedColumnsForAutoSizing().isEmpty());
+            assertTrue(sheet.getColumnWidth(0) > 256);
+        }
+    }
+
+    private static byte[] export(List<TrackedDTO> data, WriteEngine engine) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.excel(out).engine(engine).write(data);
+        return out.toByteArray();
+    }
+
+    private static Sheet readFirstSheet(byte[] bytes) throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            return workbook.getSheetAt(0);
+        }
+    }
+
+    private static List<TrackedDTO> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TrackedDTO("n" + (i % 10), BigDecimal.valueOf(i), "2024-01-01"))
+                .collect(Collectors.toList());
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Tracked")
+    public static class TrackedDTO {
+
+        @ExcelColumn(header = "이름", order = 1, width = -1)
+        private String name;
+
+        @ExcelColumn(header = "금액", order = 2, width = -1, format = "#,##0")
+        private BigDecimal amount;
+
+        @ExcelColumn(header = "긴 헤더 이름의 날짜", order = 3, width = -1)
+        private String date;
+    }
+}
@@ -0,0 +1,380 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvZipWriterTest {
+
+    @Test
+    void map_writesOneCsvEntryPerSheetName() throws IOException {
+        Map<String, Object> sheets = new LinkedHashMap<>();
+        sheets.put("orders", orders(500));
+        sheets.put("customers", customers(300).stream());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String fileName = ExcelExporter.csv(out).fileName("bundle.csv").write(sheets);
+
+        assertEquals("bundle.zip", fileName);
+        Map<String, byte[]> entries = unzip(out.toByteArray());
+        assertEquals(Collections.singletonList("주문.csv"), entries.keySet().stream().limit(1).collect(Collectors.toList()));
+        assertEquals(2, entries.size());
+        assertArrayEquals(plainCsv(orders(500)), entries.get("주문.csv"));
+        assertArrayEquals(plainCsv(customers(300)), entries.get("Customers.csv"));
+    }
+
+    @Test
+    void entries_areEncodedOnWorkerThreads() throws IOException {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        Map<String, Stream<?>> sheets = new LinkedHashMap<>();
+        sheets.put("orders", orders(1_000).stream().peek(o -> threads.add(Thread.currentThread().getName())));
+        sheets.put("customers", customers(1_000).stream().peek(c -> threads.add(Thread.currentThread().getName())));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CsvZipWriter(CsvWriteOptions.DEFAULT, null, 2, 1024, 2).write(out, sheets);
+
+        assertEquals(2, unzip(out.toByteArray()).size());
+        assertEquals(2, threads.stream().filter(name -> name.startsWith("csv-zip-encoder-")).count(),
+                threads.toString());
+    }
+
+    @Test
+    void parallelism_doesNotChangeOutput() throws IOException {
+        byte[] sequential = zip(1);
+        byte[] parallel = zip(4);
+
+        Map<String, byte[]> expected = unzip(sequential);
+        Map<String, byte[]> actual = unzip(parallel);
+        assertEquals(expected.keySet(), actual.keySet());
+        for (String name : expected.keySet()) {
+            assertArrayEquals(expected.get(name), actual.get(name), name);
+        }
+    }
+
+    @Test
+    void laterEntry_buffersOnlyBoundedAmount() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger produced = new AtomicInteger();
+        Map<String, Stream<?>> sheets = new LinkedHashMap<>();
+        sheets.put("orders", orders(10).stream().peek(o -> {
+            if (o.getAmount() > 0) {
+                await(release);
+            }
+        }));
+        sheets.put("customers", IntStream.range(0, 200_000)
+                .peek(i -> produced.incrementAndGet())
+                .mapToObj(i -> new CustomerDTO("customer-" + i, i)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Thread writer = new Thread(() -> new CsvZipWriter(CsvWriteOptions.DEFAULT, null, 2, 1024, 2).write(out, sheets));
+        writer.start();
+
+        Thread.sleep(300);
+        assertTrue(produced.get() > 0);
+        assertTrue(produced.get() < 200_000, "produced " + produced.get());
+
+        release.countDown();
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        assertFalse(writer.isAlive());
+        assertEquals(200_001, lineCount(unzip(out.toByteArray()).get("Customers.csv")));
+    }
+
+    @Test
+    void slowConsumers_doNotStallOtherExports() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> stalled = new ArrayList<>();
+        for (int i = 0; i < Math.max(2, Runtime.getRuntime().availableProcessors()); i++) {
+            Map<String, Object> sheets = new LinkedHashMap<>();
+            sheets.put("orders", orders(2_000));
+            sheets.put("customers", customers(2_000));
+            OutputStream blocked = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    await(release);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    await(release);
+                }
+            };
+            Thread export = new Thread(() -> new CsvZipWriter(CsvWriteOptions.DEFAULT, null, 2, 1024, 2)
+                    .write(blocked, sheets));
+            export.start();
+            stalled.add(export);
+        }
+
+        try {
+            Thread.sleep(300);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Map<String, Object> sheets = new LinkedHashMap<>();
+            sheets.put("orders", orders(10));
+            sheets.put("customers", customers(10));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> new CsvZipWriter(CsvWriteOptions.DEFAULT, null, 2, 1024, 2).write(out, sheets));
+            assertEquals(11, lineCount(unzip(out.toByteArray()).get("Customers.csv")));
+        } finally {
+            release.countDown();
+            for (Thread export : stalled) {
+                export.join(TimeUnit.SECONDS.toMillis(30));
+            }
+        }
+    }
+
+    @Test
+    void encoderFailure_propagatesToCaller() {
+        Map<String, Stream<?>> sheets = new LinkedHashMap<>();
+        sheets.put("orders", orders(100).stream());
+        sheets.put("customers", IntStream.range(0, 100_000).mapToObj(i -> {
+            if (i == 50_000) {
+                throw new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "fetch " + i);
+            }
+            return new CustomerDTO("customer-" + i, i);
+        }));
+
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class,
+                () -> new CsvZipWriter(CsvWriteOptions.DEFAULT, null, 2, 1024, 2)
+                        .write(new ByteArrayOutputStream(), sheets));
+
+        assertEquals(ErrorCode.ROW_WRITE_ERROR, ex.getErrorCode());
+    }
+
+    @Test
+    void invalidMaps_rejected() {
+        CsvZipWriter writer = new CsvZipWriter(CsvWriteOptions.DEFAULT, null);
+
+        assertEquals(ErrorCode.EMPTY_DATA, assertThrows(ExcelExporterException.class,
+                () -> writer.write(new ByteArrayOutputStream(), Collections.emptyMap())).getErrorCode());
+        assertEquals(ErrorCode.EMPTY_DATA, assertThrows(ExcelExporterException.class,
+                () -> writer.write(new ByteArrayOutputStream(),
+                        Collections.singletonMap("orders", Collections.emptyList()))).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> writer.write(new ByteArrayOutputStream(),
+                        Collections.singletonMap("orders", "not data"))).getErrorCode());
+    }
+
+    @Test
+    void sameSheetName_mergedIntoOneEntryLikeExcel() throws IOException {
+        Map<String, Object> sheets = new LinkedHashMap<>();
+        sheets.put("first", orders(1));
+        sheets.put("customers", customers(1));
+        sheets.put("second", orders(2));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CsvZipWriter(CsvWriteOptions.DEFAULT, null).write(out, sheets);
+
+        Map<String, byte[]> entries = unzip(out.toByteArray());
+        assertEquals(Arrays.asList("주문.csv", "Customers.csv"), new ArrayList<>(entries.keySet()));
+        String merged = new String(entries.get("주문.csv"), StandardCharsets.UTF_8);
+        assertTrue(merged.contains("\"주문번호\",\"금액\",\"주문번호\",\"금액\""), merged);
+        assertEquals(3, lineCount(entries.get("주문.csv")));
+    }
+
+    @Test
+    void entries_followSheetOrder() throws IOException {
+        Map<String, Object> sheets = new LinkedHashMap<>();
+        sheets.put("second", Collections.singletonList(new SecondSheetDTO("b")));
+        sheets.put("first", Collections.singletonList(new FirstSheetDTO("a")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CsvZipWriter(CsvWriteOptions.DEFAULT, null).write(out, sheets);
+
+        assertEquals(Arrays.asList("First.csv", "Second.csv"), new ArrayList<>(unzip(out.toByteArray()).keySet()));
+    }
+
+    @Test
+    void failure_leavesZipWithoutCentralDirectory() {
+        Map<String, Stream<?>> sheets = new LinkedHashMap<>();
+        sheets.put("orders", orders(100).stream());
+        sheets.put("customers", IntStream.range(0, 100_000).mapToObj(i -> {
+            if (i == 50_000) {
+                throw new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "fetch " + i);
+            }
+            return new CustomerDTO("customer-" + i, i);
+        }));
+        AtomicInteger closed = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        };
+
+        assertThrows(ExcelExporterException.class,
+                () -> new CsvZipWriter(CsvWriteOptions.DEFAULT, null, 2, 1024, 2).write(out, sheets));
+
+        assertEquals(1, closed.get());
+        byte[] bytes = out.toByteArray();
+        assertTrue(bytes.length > 0);
+        assertFalse(containsEndOfCentralDirectory(bytes), "실패한 ZIP에 중앙 디렉터리를 쓰면 안 됨");
+    }
+
+    @Test
+    void pendingEntries_notReadAfterFailure() {
+        AtomicInteger pulled = new AtomicInteger();
+        Map<String, Stream<?>> sheets = new LinkedHashMap<>();
+        sheets.put("orders", orders(2).stream().peek(o -> {
+            if (o.getAmount() > 0) {
+                throw new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "fetch");
+            }
+        }));
+        sheets.put("customers", customers(10).stream().peek(c -> pulled.incrementAndGet()));
+        List<Runnable> queued = new ArrayList<>();
+
+        assertThrows(ExcelExporterException.class,
+                () -> new CsvZipWriter(CsvWriteOptions.DEFAULT, null, runnable -> {
+                    if (queued.isEmpty()) {
+                        runnable.run();
+                    }
+                    queued.add(runnable);
+                }, 2, 1024, 2).write(new ByteArrayOutputStream(), sheets));
+        queued.forEach(Runnable::run);
+
+        assertEquals(1, pulled.get(), "두 번째 항목은 첫 행(시트 이름 판별)만 읽음");
+    }
+
+    private static byte[] zip(int parallelism) {
+        Map<String, Object> sheets = new LinkedHashMap<>();
+        sheets.put("orders", orders(3_000));
+        sheets.put("customers", customers(2_000));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CsvZipWriter(CsvWriteOptions.DEFAULT, null, parallelism, 4096, 3).write(out, sheets);
+        return out.toByteArray();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<OrderDTO> orders(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new OrderDTO("order-" + i, i * 100L))
+                .collect(Collectors.toList());
+    }
+
+    private static List<CustomerDTO> customers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new CustomerDTO("customer-" + i, i))
+                .collect(Collectors.toList());
+    }
+
+    private static byte[] plainCsv(List<?> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.csv(out).write(rows);
+        return out.toByteArray();
+    }
+
+    private static int lineCount(byte[] csv) {
+        int lines = 0;
+        for (byte b : csv) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private static boolean containsEndOfCentralDirectory(byte[] zip) {
+        for (int i = 0; i + 3 < zip.length; i++) {
+            if (zip[i] == 'P' && zip[i + 1] == 'K' && zip[i + 2] == 5 && zip[i + 3] == 6) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, byte[]> unzip(byte[] zip) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            byte[] chunk = new byte[8192];
+            while ((entry = in.getNextEntry()) != null) {
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                int read;
+                while ((read = in.read(chunk)) != -1) {
+                    content.write(chunk, 0, read);
+                }
+                entries.put(entry.getName(), content.toByteArray());
+            }
+        }
+        return entries;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("주문")
+    public static class OrderDTO {
+        @ExcelColumn(header = "주문번호", order = 1)
+        private String orderId;
+
+        @ExcelColumn(header = "금액", order = 2)
+        private long amount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet(value = "First", order = 1)
+    public static class FirstSheetDTO {
+        @ExcelColumn(header = "Name", order = 1)
+        private String name;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet(value = "Second", order = 2)
+    public static class SecondSheetDTO {
+        @ExcelColumn(header = "Name", order = 1)
+        private String name;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Customers")
+    public static class CustomerDTO {
+        @ExcelColumn(header = "Name", order = 1)
+        private String name;
+
+        @ExcelColumn(header = "Id", order = 2)
+        private int id;
+    }
+}
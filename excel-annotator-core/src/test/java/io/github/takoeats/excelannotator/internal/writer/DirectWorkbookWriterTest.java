@@ -0,0 +1,247 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.testdto.MultiSheetColumnDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackagingURIHelper;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.util.IOUtils;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectWorkbookWriterTest {
+
+    @Test
+    void directEngine_writesReadableWorkbook() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out).engine(WriteEngine.DIRECT).onReport(report::set).write(items(250));
+
+        assertEquals(WriteEngine.DIRECT, report.get().getEngine());
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("Items", sheet.getSheetName());
+            assertEquals("이름", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals(250, sheet.getLastRowNum());
+
+            for (int i = 0; i < 250; i++) {
+                assertEquals(" item <" + i + "> & ", sheet.getRow(i + 1).getCell(0).getStringCellValue());
+                assertEquals(i * 1.5, sheet.getRow(i + 1).getCell(1).getNumericCellValue(), 0.0001);
+                assertEquals(i % 2 == 0, sheet.getRow(i + 1).getCell(3).getBooleanCellValue());
+            }
+        }
+    }
+
+    @Test
+    void directEngine_preservesFormatsAndWidths() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out).engine(WriteEngine.DIRECT).write(items(3));
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            Cell amount = sheet.getRow(1).getCell(1);
+            Cell date = sheet.getRow(1).getCell(2);
+
+            assertEquals("#,##0.00", amount.getCellStyle().getDataFormatString());
+            assertEquals("yyyy-MM-dd", date.getCellStyle().getDataFormatString());
+            assertEquals(LocalDate.of(2024, 1, 1), date.getLocalDateTimeCellValue().toLocalDate());
+
+            assertEquals(100 * 32, sheet.getColumnWidth(1), "고정 너비");
+            assertTrue(sheet.getColumnWidth(0) > 0, "자동 너비는 샘플 행으로 계산");
+        }
+    }
+
+    @Test
+    void directEngine_matchesSxssfCellValues() throws Exception {
+        ByteArrayOutputStream direct = new ByteArrayOutputStream();
+        ByteArrayOutputStream sxssf = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(direct).engine(WriteEngine.DIRECT).write(items(50));
+        ExcelExporter.excel(sxssf).write(items(50));
+
+        try (XSSFWorkbook expected = new XSSFWorkbook(new ByteArrayInputStream(sxssf.toByteArray()));
+             XSSFWorkbook actual = new XSSFWorkbook(new ByteArrayInputStream(direct.toByteArray()))) {
+            Sheet expectedSheet = expected.getSheetAt(0);
+            Sheet actualSheet = actual.getSheetAt(0);
+            assertEquals(expectedSheet.getLastRowNum(), actualSheet.getLastRowNum());
+
+            for (int r = 0; r <= expectedSheet.getLastRowNum(); r++) {
+                for (int c = 0; c < 4; c++) {
+                    Cell expectedCell = expectedSheet.getRow(r).getCell(c);
+                    Cell actualCell = actualSheet.getRow(r).getCell(c);
+                    assertEquals(expectedCell.getCellType(), actualCell.getCellType());
+                    assertEquals(expectedCell.toString(), actualCell.toString());
+                    assertEquals(expectedCell.getCellStyle().getDataFormatString(),
+                            actualCell.getCellStyle().getDataFormatString());
+                }
+            }
+        }
+    }
+
+    @Test
+    void directEngine_writesMergedHeaders() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<MergedDTO> data = Arrays.asList(new MergedDTO("Alice", "a@example.com"),
+                new MergedDTO("Bob", "b@example.com"));
+
+        ExcelExporter.excel(out).engine(WriteEngine.DIRECT).write(data);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("Customer", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("Email", sheet.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("Bob", sheet.getRow(3).getCell(0).getStringCellValue());
+
+            List<CellRangeAddress> regions = sheet.getMergedRegions();
+            assertEquals(1, regions.size());
+            assertEquals("A1:B1", regions.get(0).formatAsString());
+        }
+    }
+
+    @Test
+    void directEngine_writesMultipleSheets() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Map<String, Object> sheets = new LinkedHashMap<>();
+        sheets.put("items", items(5));
+        sheets.put("merged", Stream.of(new MergedDTO("Alice", "a@example.com")));
+
+        ExcelExporter.excel(out).engine(WriteEngine.DIRECT).write(sheets);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(2, workbook.getNumberOfSheets());
+            assertEquals(6, workbook.getSheet("Items").getPhysicalNumberOfRows());
+            assertEquals("Alice", workbook.getSheet("Merged").getRow(2).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    void directEngine_usesSharedStringsDictionary() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out).engine(WriteEngine.DIRECT).sharedStrings().onReport(report::set).write(items(20));
+
+        assertTrue(readEntry(out.toByteArray(), "xl/worksheets/sheet1.xml").contains("t=\"s\""));
+        assertTrue(report.get().getSharedStrings().getIndexedCellCount() > 0);
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(CellType.STRING, sheet.getRow(20).getCell(0).getCellType());
+            assertEquals(" item <19> & ", sheet.getRow(20).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    void directEngine_columnBasedSplit_fallsBackToSxssf() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out).engine(WriteEngine.DIRECT).onReport(report::set)
+                .write(Arrays.asList(new MultiSheetColumnDTO("a1", "b1"), new MultiSheetColumnDTO("a2", "b2")));
+
+        assertEquals(WriteEngine.SXSSF, report.get().getEngine());
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(2, workbook.getNumberOfSheets());
+        }
+    }
+
+    private static List<ItemDTO> items(int count) {
+        List<ItemDTO> items = new ArrayList<>();
+        IntStream.range(0, count).forEach(i -> items.add(new ItemDTO(
+                " item <" + i + "> & ", i * 1.5, LocalDate.of(2024, 1, 1).plusDays(i), i % 2 == 0)));
+        return items;
+    }
+    @Test
+    void directEngine_writesNonFiniteNumbersAsErrorCells() throws Exception {
+        List<ItemDTO> rows = Arrays.asList(
+                new ItemDTO("nan", Double.NaN, null, null),
+                new ItemDTO("inf", Double.POSITIVE_INFINITY, null, null),
+                new ItemDTO("-inf", Double.NEGATIVE_INFINITY, null, null));
+        ByteArrayOutputStream direct = new ByteArrayOutputStream();
+        ByteArrayOutputStream sxssf = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(direct).engine(WriteEngine.DIRECT).write(rows);
+        ExcelExporter.excel(sxssf).write(rows);
+
+        String sheetXml = readEntry(direct.toByteArray(), "xl/worksheets/sheet1.xml");
+        assertFalse(sheetXml.contains("NaN</v>"));
+        assertFalse(sheetXml.contains("Infinity</v>"));
+        try (XSSFWorkbook expected = new XSSFWorkbook(new ByteArrayInputStream(sxssf.toByteArray()));
+             XSSFWorkbook actual = new XSSFWorkbook(new ByteArrayInputStream(direct.toByteArray()))) {
+            for (int r = 1; r <= rows.size(); r++) {
+                Cell expectedCell = expected.getSheetAt(0).getRow(r).getCell(1);
+                Cell actualCell = actual.getSheetAt(0).getRow(r).getCell(1);
+                assertEquals(CellType.ERROR, actualCell.getCellType());
+                assertEquals(expectedCell.getErrorCellValue(), actualCell.getErrorCellValue());
+            }
+        }
+    }
+
+
+    private static String readEntry(byte[] bytes, String name) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(new ByteArrayInputStream(bytes))) {
+            PackagePart part = pkg.getPart(PackagingURIHelper.createPartName("/" + name));
+            try (InputStream in = part.getInputStream()) {
+                return new String(IOUtils.toByteArray(in), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Items")
+    public static class ItemDTO {
+
+        @ExcelColumn(header = "이름", order = 1, width = -1)
+        private String name;
+
+        @ExcelColumn(header = "금액", order = 2, width = 100, format = "#,##0.00")
+        private Double amount;
+
+        @ExcelColumn(header = "일자", order = 3, format = "yyyy-MM-dd")
+        private LocalDate date;
+
+        @ExcelColumn(header = "활성", order = 4)
+        private Boolean active;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Merged")
+    public static class MergedDTO {
+
+        @ExcelColumn(header = "Name", order = 1, mergeHeader = "Customer")
+        private String name;
+
+        @ExcelColumn(header = "Email", order = 2, mergeHeader = "Customer")
+        private String email;
+    }
+}
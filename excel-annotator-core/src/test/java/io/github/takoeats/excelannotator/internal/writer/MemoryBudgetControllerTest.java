@@ -0,0 +1,162 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.testdto.MultiSheetColumnDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoryBudgetControllerTest {
+
+    private static final long BUDGET = 256 * 1024;
+
+    @Test
+    void heapBudget_sizesWindowFromSampledRows() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out).heapBudget(BUDGET).onReport(report::set).write(narrowRows(5_000));
+
+        assertEquals(1, report.get().getSizings().size());
+        ExportSizing sizing = report.get().getSizings().get(0);
+        assertEquals("Narrow", sizing.getSheetName());
+        assertEquals(BUDGET, sizing.getHeapBudgetBytes());
+        assertEquals(MemoryBudgetController.SIZING_SAMPLE_ROWS, sizing.getSampledRows());
+        assertEquals(BUDGET / sizing.getEstimatedBytesPerRow(), sizing.getRowAccessWindowSize());
+        assertEquals(sizing.getRowAccessWindowSize() / 4, sizing.getFlushIntervalRows());
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(5_000, sheet.getLastRowNum());
+            for (int i = 0; i < 5_000; i += 499) {
+                assertEquals("n-" + i, sheet.getRow(i + 1).getCell(0).getStringCellValue());
+                assertEquals(i, sheet.getRow(i + 1).getCell(1).getNumericCellValue());
+            }
+            assertTrue(sheet.getColumnWidth(0) > 256, "자동 너비 컬럼은 샘플 너비로 설정");
+        }
+    }
+
+    @Test
+    void widerRows_getSmallerWindow() {
+        AtomicReference<ExcelExportReport> narrow = new AtomicReference<>();
+        AtomicReference<ExcelExportReport> wide = new AtomicReference<>();
+
+        ExcelExporter.excel(new ByteArrayOutputStream()).heapBudget(BUDGET).onReport(narrow::set)
+                .write(narrowRows(200));
+        ExcelExporter.excel(new ByteArrayOutputStream()).heapBudget(BUDGET).onReport(wide::set)
+                .write(wideRows(200));
+
+        ExportSizing narrowSizing = narrow.get().getSizings().get(0);
+        ExportSizing wideSizing = wide.get().getSizings().get(0);
+        assertTrue(wideSizing.getEstimatedBytesPerRow() > narrowSizing.getEstimatedBytesPerRow());
+        assertTrue(wideSizing.getRowAccessWindowSize() < narrowSizing.getRowAccessWindowSize());
+    }
+
+    @Test
+    void columnBasedSplit_dividesBudgetAcrossSheets() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<MultiSheetColumnDTO> data = IntStream.range(0, 500)
+                .mapToObj(i -> new MultiSheetColumnDTO("a" + i, "b" + i))
+                .collect(Collectors.toList());
+
+        ExcelExporter.excel(out).heapBudget(BUDGET).onReport(report::set).write(data);
+
+        assertEquals(2, report.get().getSizings().size());
+        ExportSizing sizing = report.get().getSizings().get(0);
+        assertEquals(BUDGET / 2 / sizing.getEstimatedBytesPerRow(), sizing.getRowAccessWindowSize());
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals("b499", workbook.getSheet("SheetB").getRow(500).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    void withoutBudget_reportsNoSizing() {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+
+        ExcelExporter.excel(new ByteArrayOutputStream()).onReport(report::set).write(narrowRows(10));
+
+        assertTrue(report.get().getSizings().isEmpty());
+    }
+
+    @Test
+    void plan_clampsWindow() {
+        assertEquals(ExportSizing.MIN_ROW_ACCESS_WINDOW,
+                ExportSizing.plan("s", 1024, 4096, 1, 0).getRowAccessWindowSize());
+        assertEquals(ExportSizing.MAX_ROW_ACCESS_WINDOW,
+                ExportSizing.plan("s", Long.MAX_VALUE / 2, 100, 1, 0).getRowAccessWindowSize());
+    }
+
+    @Test
+    void negativeBudget_throwsInvalidWriteOption() {
+        ExcelExporterException exception = assertThrows(ExcelExporterException.class,
+                () -> ExcelExporter.excel(new ByteArrayOutputStream()).heapBudget(-1));
+
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, exception.getErrorCode());
+    }
+
+    private static List<NarrowDTO> narrowRows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new NarrowDTO("n-" + i, i))
+                .collect(Collectors.toList());
+    }
+
+    private static List<WideDTO> wideRows(int count) {
+        String text = String.join("", Collections.nCopies(20, "긴 설명 텍스트 "));
+        return IntStream.range(0, count)
+                .mapToObj(i -> new WideDTO("w-" + i, text, text, text, text))
+                .collect(Collectors.toList());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Narrow")
+    public static class NarrowDTO {
+
+        @ExcelColumn(header = "ID", order = 1, width = -1)
+        private String id;
+
+        @ExcelColumn(header = "값", order = 2)
+        private Integer value;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Wide")
+    public static class WideDTO {
+
+        @ExcelColumn(header = "ID", order = 1)
+        private String id;
+
+        @ExcelColumn(header = "A", order = 2)
+        private String a;
+
+        @ExcelColumn(header = "B", order = 3)
+        private String b;
+
+        @ExcelColumn(header = "C", order = 4)
+        private String c;
+
+        @ExcelColumn(header = "D", order = 5)
+        private String d;
+    }
+}
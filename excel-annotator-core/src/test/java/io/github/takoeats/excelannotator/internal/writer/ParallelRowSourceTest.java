@@ -0,0 +1,158 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ConditionalStyle;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.masking.Masking;
+import io.github.takoeats.excelannotator.teststyle.CriticalAlertStyle;
+import io.github.takoeats.excelannotator.teststyle.HighlightStyle;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelRowSourceTest {
+
+    private static final int ROWS = 3_000;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void sxssf_matchesSequentialOutput() throws Exception {
+        assertSameCells(export(WriteEngine.SXSSF, RowPreparationOptions.DISABLED),
+                export(WriteEngine.SXSSF, options()));
+    }
+
+    @Test
+    void direct_matchesSequentialOutput() throws Exception {
+        assertSameCells(export(WriteEngine.DIRECT, RowPreparationOptions.DISABLED),
+                export(WriteEngine.DIRECT, options()));
+    }
+
+    @Test
+    void preparationFailure_propagatesToWriter() {
+        Stream<PreparedDTO> data = IntStream.range(0, ROWS)
+                .mapToObj(i -> new PreparedDTO(i == 1_234 ? "boom" : "홍길동" + i, BigDecimal.ONE, i));
+
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class, () -> ExcelExporter
+                .excel(new ByteArrayOutputStream())
+                .rowPreparation(options())
+                .write(data));
+
+        assertEquals(ErrorCode.FIELD_ACCESS_FAILED, ex.getErrorCode());
+    }
+
+    @Test
+    void invalidOptions_rejected() {
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> RowPreparationOptions.builder().batchSize(0).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> RowPreparationOptions.builder().maxInFlightBatches(-1).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> RowPreparationOptions.builder().pool(null).build()).getErrorCode());
+        assertFalse(RowPreparationOptions.DISABLED.isEnabled());
+        assertEquals(ForkJoinPool.commonPool().getParallelism() + 1,
+                RowPreparationOptions.builder().build().getMaxInFlightBatches());
+    }
+
+    private RowPreparationOptions options() {
+        return RowPreparationOptions.builder()
+                .pool(pool)
+                .batchSize(100)
+                .maxInFlightBatches(4)
+                .build();
+    }
+
+    private static void assertSameCells(byte[] sequential, byte[] parallel) throws Exception {
+        try (XSSFWorkbook expected = read(sequential); XSSFWorkbook actual = read(parallel)) {
+            Sheet expectedSheet = expected.getSheetAt(0);
+            Sheet actualSheet = actual.getSheetAt(0);
+            assertEquals(ROWS, actualSheet.getLastRowNum());
+            for (int r = 1; r <= ROWS; r++) {
+                for (int c = 0; c < 3; c++) {
+                    Cell expectedCell = expectedSheet.getRow(r).getCell(c);
+                    Cell actualCell = actualSheet.getRow(r).getCell(c);
+                    assertEquals(expectedCell.toString(), actualCell.toString(), "row " + r + ", col " + c);
+                    assertEquals(expectedCell.getCellStyle().getIndex(), actualCell.getCellStyle().getIndex(),
+                            "row " + r + ", col " + c);
+                }
+            }
+            assertEquals(expectedSheet.getColumnWidth(0), actualSheet.getColumnWidth(0));
+        }
+    }
+
+    private static byte[] export(WriteEngine engine, RowPreparationOptions options) {
+        List<PreparedDTO> data = IntStream.range(0, ROWS)
+                .mapToObj(i -> new PreparedDTO(
+                        i % 7 == 0 ? null : "홍길동" + i,
+                        i % 5 == 0 ? null : BigDecimal.valueOf((i % 3 - 1) * 2_000_000L + i),
+                        i))
+                .collect(Collectors.toList());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.excel(out).engine(engine).rowPreparation(options).write(data);
+        return out.toByteArray();
+    }
+
+    private static XSSFWorkbook read(byte[] bytes) throws Exception {
+        return new XSSFWorkbook(new ByteArrayInputStream(bytes));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Prepared")
+    public static class PreparedDTO {
+        @ExcelColumn(header = "이름", order = 1, width = -1, masking = Masking.NAME)
+        private String name;
+
+        @ExcelColumn(
+                header = "금액",
+                order = 2,
+                format = "#,##0",
+                conditionalStyles = {
+                        @ConditionalStyle(when = "value < 0", style = CriticalAlertStyle.class, priority = 20),
+                        @ConditionalStyle(when = "value > 1000000", style = HighlightStyle.class, priority = 10)
+                }
+        )
+        private BigDecimal amount;
+
+        @ExcelColumn(header = "순번", order = 3)
+        private int seq;
+
+        public String getName() {
+            if ("boom".equals(name)) {
+                throw new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "추출 실패");
+            }
+            return name;
+        }
+    }
+}
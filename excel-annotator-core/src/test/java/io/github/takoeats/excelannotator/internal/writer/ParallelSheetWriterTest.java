@@ -0,0 +1,184 @@
+package io.github.takoeats.excelannotator.internal.writer;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.teststyle.HighlightStyle;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelSheetWriterTest {
+
+    private static final int ROWS = 2_000;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void parallelSheets_matchSequentialOutput() throws Exception {
+        byte[] sequential = export(sheetData(i -> null), null);
+        byte[] parallel = export(sheetData(i -> null), executor);
+
+        try (XSSFWorkbook expected = read(sequential); XSSFWorkbook actual = read(parallel)) {
+            assertEquals(3, actual.getNumberOfSheets());
+            assertEquals(expected.getNumCellStyles(), actual.getNumCellStyles());
+            for (int s = 0; s < 3; s++) {
+                Sheet expectedSheet = expected.getSheetAt(s);
+                Sheet actualSheet = actual.getSheetAt(s);
+                assertEquals(expectedSheet.getSheetName(), actualSheet.getSheetName());
+                assertEquals(ROWS, actualSheet.getLastRowNum());
+                for (int r = 0; r <= ROWS; r += 397) {
+                    assertEquals(expectedSheet.getRow(r).getCell(0).toString(),
+                            actualSheet.getRow(r).getCell(0).toString());
+                    assertEquals(expectedSheet.getRow(r).getCell(1).getCellStyle().getDataFormatString(),
+                            actualSheet.getRow(r).getCell(1).getCellStyle().getDataFormatString());
+                }
+                assertEquals(expectedSheet.getColumnWidth(0), actualSheet.getColumnWidth(0));
+            }
+        }
+    }
+
+    @Test
+    void sheetsAreWrittenConcurrently() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        byte[] bytes = export(sheetData(i -> {
+            if (i == 100) {
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException("시트가 동시에 작성되지 않음", e);
+                }
+            }
+            return null;
+        }), executor);
+
+        try (XSSFWorkbook workbook = read(bytes)) {
+            assertEquals("January", workbook.getSheetAt(0).getSheetName());
+            assertEquals("February", workbook.getSheetAt(1).getSheetName());
+            assertEquals("March", workbook.getSheetAt(2).getSheetName());
+        }
+    }
+
+    @Test
+    void failingSheet_propagatesFirstFailureAndStopsOthers() {
+        AtomicInteger written = new AtomicInteger();
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("jan", rows(i -> new JanuaryDTO("j" + i, BigDecimal.ONE), written, -1));
+        data.put("feb", rows(i -> new FebruaryDTO("f" + i, BigDecimal.ONE), written, 50));
+        data.put("mar", rows(i -> new MarchDTO("m" + i, BigDecimal.ONE), written, -1));
+
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class, () -> ExcelExporter
+                .excel(new ByteArrayOutputStream())
+                .parallelSheets(executor)
+                .write(data));
+
+        assertEquals(ErrorCode.ROW_WRITE_ERROR, ex.getErrorCode());
+        assertTrue(written.get() < 3 * 200_000);
+    }
+
+    private static Map<String, Object> sheetData(IntFunction<Void> hook) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("jan", IntStream.range(0, ROWS).mapToObj(i -> {
+            hook.apply(i);
+            return new JanuaryDTO("j" + i, BigDecimal.valueOf(i));
+        }));
+        data.put("feb", IntStream.range(0, ROWS).mapToObj(i -> {
+            hook.apply(i);
+            return new FebruaryDTO("f" + i, BigDecimal.valueOf(i * 2L));
+        }));
+        data.put("mar", IntStream.range(0, ROWS).mapToObj(i -> {
+            hook.apply(i);
+            return new MarchDTO("m" + i, BigDecimal.valueOf(i * 3L));
+        }));
+        return data;
+    }
+
+    private static Stream<Object> rows(IntFunction<Object> factory, AtomicInteger written, int failAt) {
+        return IntStream.range(0, 200_000).mapToObj(i -> {
+            if (i == failAt) {
+                throw new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "행 " + i);
+            }
+            written.incrementAndGet();
+            return factory.apply(i);
+        });
+    }
+
+    private static byte[] export(Map<String, Object> data, ExecutorService executor) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.excel(out).parallelSheets(executor).write(data);
+        return out.toByteArray();
+    }
+
+    private static XSSFWorkbook read(byte[] bytes) throws Exception {
+        return new XSSFWorkbook(new ByteArrayInputStream(bytes));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet(value = "January", order = 1)
+    public static class JanuaryDTO {
+        @ExcelColumn(header = "항목", order = 1, width = -1)
+        private String name;
+
+        @ExcelColumn(header = "금액", order = 2, format = "#,##0", columnStyle = HighlightStyle.class)
+        private BigDecimal amount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet(value = "February", order = 2)
+    public static class FebruaryDTO {
+        @ExcelColumn(header = "항목", order = 1, width = -1)
+        private String name;
+
+        @ExcelColumn(header = "금액", order = 2, format = "#,##0.00")
+        private BigDecimal amount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet(value = "March", order = 3)
+    public static class MarchDTO {
+        @ExcelColumn(header = "항목", order = 1, width = -1)
+        private String name;
+
+        @ExcelColumn(header = "금액", order = 2, format = "#,##0", columnStyle = HighlightStyle.class)
+        private BigDecimal amount;
+    }
+}
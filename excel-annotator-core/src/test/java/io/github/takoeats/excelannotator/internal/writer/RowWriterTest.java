@@ -85,7 +85,7 @@ class RowWriterTest {
         TestDTO data = new TestDTO("Alice", 30, new BigDecimal("5000.50"));
         Row row = sheet.createRow(1);
 
-        rowWriter.writeDataRow(row, data, 0, metadata, styleCacheManager);
+        rowWriter.writeDataRow(row, data, 0, CellPlan.compile(metadata, styleCacheManager));
 
         DataFormatter fmt = new DataFormatter();
         assertEquals("Alice", fmt.formatCellValue(row.getCell(0)));
@@ -99,7 +99,7 @@ class RowWriterTest {
         TestDTO data = new TestDTO(null, null, null);
         Row row = sheet.createRow(1);
 
-        rowWriter.writeDataRow(row, data, 0, metadata, styleCacheManager);
+        rowWriter.writeDataRow(row, data, 0, CellPlan.compile(metadata, styleCacheManager));
 
         assertNotNull(row.getCell(0));
         assertNotNull(row.getCell(1));
@@ -118,9 +118,10 @@ class RowWriterTest {
         Row row2 = sheet.createRow(2);
         Row row3 = sheet.createRow(3);
 
-        rowWriter.writeDataRow(row1, data1, 0, metadata, styleCacheManager);
-        rowWriter.writeDataRow(row2, data2, 1, metadata, styleCacheManager);
-        rowWriter.writeDataRow(row3, data3, 2, metadata, styleCacheManager);
+        CellPlan<TestDTO>[] cellPlans = CellPlan.compile(metadata, styleCacheManager);
+        rowWriter.writeDataRow(row1, data1, 0, cellPlans);
+        rowWriter.writeDataRow(row2, data2, 1, cellPlans);
+        rowWriter.writeDataRow(row3, data3, 2, cellPlans);
 
         DataFormatter fmt = new DataFormatter();
         assertEquals("Alice", fmt.formatCellValue(row1.getCell(0)));
@@ -134,7 +135,7 @@ class RowWriterTest {
         TestDTO data = new TestDTO("Test", 20, new BigDecimal("1000"));
         Row row = sheet.createRow(5);
 
-        rowWriter.writeDataRow(row, data, 4, metadata, styleCacheManager);
+        rowWriter.writeDataRow(row, data, 4, CellPlan.compile(metadata, styleCacheManager));
 
         assertNotNull(row.getCell(0));
         DataFormatter fmt = new DataFormatter();
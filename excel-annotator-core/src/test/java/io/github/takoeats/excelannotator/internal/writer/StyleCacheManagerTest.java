@@ -10,6 +10,14 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class StyleCacheManagerTest {
@@ -130,13 +138,75 @@ class StyleCacheManagerTest {
     }
 
     @Test
-    void getOrCreateStyle_multipleDefaultStyles_returnsDifferentInstances() {
+    void getOrCreateStyle_multipleDefaultStyles_sharesWorkbookDefault() {
+        int stylesBefore = workbook.getNumCellStyles();
+
         CellStyle style1 = manager.getOrCreateStyle(null, null);
         CellStyle style2 = manager.getOrCreateStyle(null, null);
 
         assertNotNull(style1);
-        assertNotNull(style2);
+        assertSame(style1, style2);
+        assertEquals(0, style1.getIndex());
+        assertEquals(stylesBefore, workbook.getNumCellStyles());
+    }
+
+    @Test
+    void getOrCreateStyle_identicalContentDifferentClasses_sharesStyleAndFont() {
+        int fontsBefore = workbook.getNumberOfFonts();
+
+        CellStyle style1 = manager.getOrCreateStyle(TestStyle.class, null);
+        CellStyle style2 = manager.getOrCreateStyle(SameAsTestStyle.class, null);
+
+        assertSame(style1, style2);
+        assertEquals(fontsBefore + 1, workbook.getNumberOfFonts());
+    }
+
+    @Test
+    void getOrCreateStyle_sameFontDifferentFill_sharesFont() {
+        CellStyle style1 = manager.getOrCreateStyle(TestStyle.class, null);
+        CellStyle style2 = manager.getOrCreateStyle(SameFontOtherFillStyle.class, null);
+
         assertNotSame(style1, style2);
+        assertEquals(style1.getFontIndex(), style2.getFontIndex());
+        assertEquals(1, manager.getStatistics().getSharedFontCount());
+    }
+
+    @Test
+    void getOrCreateStyle_styleFormatMatchingExplicitFormat_sharesStyle() {
+        CellStyle fromStyleClass = manager.getOrCreateStyle(PercentStyle.class, null);
+        CellStyle fromFormat = manager.getOrCreateStyle(null, "0.00%");
+
+        assertSame(fromStyleClass, fromFormat);
+    }
+
+    @Test
+    void getStatistics_countsCreatedAndReusedStyles() {
+        manager.getOrCreateStyle(TestStyle.class, null);
+        manager.getOrCreateStyle(TestStyle.class, null);
+        manager.getOrCreateStyle(SameAsTestStyle.class, null);
+        manager.getOrCreateStyle(AnotherTestStyle.class, "#,##0");
+
+        StyleCacheStatistics statistics = manager.getStatistics();
+
+        assertEquals(4, statistics.getRequestCount());
+        assertEquals(2, statistics.getCreatedStyleCount());
+        assertEquals(2, statistics.getReusedStyleCount());
+        assertEquals(0, statistics.getDegradedStyleCount());
+        assertEquals(2, statistics.getSharedFontCount());
+    }
+
+    @Test
+    void getOrCreateStyle_styleLimitReached_degradesWithoutCreatingStyles() {
+        StyleCacheManager limited = new StyleCacheManager(workbook, workbook.getNumCellStyles() + 1);
+
+        CellStyle base = limited.getOrCreateStyle(TestStyle.class, null);
+        CellStyle formatted = limited.getOrCreateStyle(TestStyle.class, "#,##0.00");
+        CellStyle other = limited.getOrCreateStyle(AnotherTestStyle.class, null);
+
+        assertSame(base, formatted);
+        assertEquals(0, other.getIndex());
+        assertEquals(2, limited.getStatistics().getDegradedStyleCount());
+        assertEquals(1, limited.getStatistics().getCreatedStyleCount());
     }
 
     @Test
@@ -186,6 +256,41 @@ class StyleCacheManagerTest {
         assertEquals(workbook.createDataFormat().getFormat("0.00%"), formatStyle.getDataFormat());
     }
 
+    @Test
+    void getOrCreateStyle_concurrentRequests_shareOneStylePerKey() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<CellStyle[]>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Callable<CellStyle[]> task = () -> {
+                    start.await();
+                    return new CellStyle[]{
+                            manager.getOrCreateStyle(TestStyle.class, null),
+                            manager.getOrCreateStyle(TestStyle.class, "#,##0"),
+                            manager.getOrCreateStyle(AnotherTestStyle.class, null),
+                            manager.getOrCreateStyle(null, "0.00%")
+                    };
+                };
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+
+            CellStyle[] first = results.get(0).get();
+            for (Future<CellStyle[]> result : results) {
+                CellStyle[] styles = result.get();
+                for (int i = 0; i < styles.length; i++) {
+                    assertSame(first[i], styles[i]);
+                }
+            }
+            assertEquals(4, manager.getStatistics().getCreatedStyleCount());
+            assertEquals(threads * 4L, manager.getStatistics().getRequestCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public static class TestStyle extends CustomExcelCellStyle {
 
         @Override
@@ -205,4 +310,32 @@ class StyleCacheManagerTest {
                     .font("Arial", 11, FontStyle.ITALIC);
         }
     }
+
+    public static class SameAsTestStyle extends CustomExcelCellStyle {
+
+        @Override
+        protected void configure(ExcelCellStyleConfigurer configurer) {
+            configurer
+                    .font("Arial", 11, FontStyle.BOLD)
+                    .backgroundColor(ExcelColors.lightBlue());
+        }
+    }
+
+    public static class SameFontOtherFillStyle extends CustomExcelCellStyle {
+
+        @Override
+        protected void configure(ExcelCellStyleConfigurer configurer) {
+            configurer
+                    .backgroundColor(ExcelColors.rose())
+                    .font("Arial", 11, FontStyle.BOLD);
+        }
+    }
+
+    public static class PercentStyle extends CustomExcelCellStyle {
+
+        @Override
+        protected void configure(ExcelCellStyleConfigurer configurer) {
+            configurer.dataFormat("0.00%");
+        }
+    }
 }
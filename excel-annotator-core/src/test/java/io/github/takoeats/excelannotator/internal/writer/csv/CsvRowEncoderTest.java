@@ -0,0 +1,113 @@
+package io.github.takoeats.excelannotator.internal.writer.csv;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRowEncoderTest {
+
+    @Test
+    void always_quotesEveryFieldIncludingNull() throws IOException {
+        assertEquals("\"a\",\"\",\"say \"\"hi\"\"\",\"42\",\"-7\",\"true\",\"1.50\"\r\n",
+                encode(CsvQuoting.ALWAYS, "a", null, "say \"hi\"", 42, -7L, true, new BigDecimal("1.50")));
+    }
+
+    @Test
+    void minimal_quotesOnlyWhenRequired() throws IOException {
+        assertEquals("plain,,\"a,b\",\"q\"\"\",\"line\r\nbreak\",\"cr\rlf\n\",12,2024-01-31\r\n",
+                encode(CsvQuoting.MINIMAL, "plain", null, "a,b", "q\"", "line\r\nbreak", "cr\rlf\n", 12,
+                        LocalDate.of(2024, 1, 31)));
+    }
+
+    @Test
+    void integralValues_matchToString() throws IOException {
+        Object[] values = {0, 9, 10, -1, -10, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE,
+                (short) -32768, (byte) 127, 1_000_000_000_000L};
+        StringBuilder expected = new StringBuilder();
+        for (Object value : values) {
+            expected.append(expected.length() == 0 ? "" : ",").append(value);
+        }
+
+        assertEquals(expected + "\r\n", encode(CsvQuoting.MINIMAL, values));
+    }
+
+    @Test
+    void smallBuffer_drainsLongValuesAndManyRows() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvRowEncoder encoder = new CsvRowEncoder(out, CsvQuoting.MINIMAL, 64);
+        char[] longValue = new char[500];
+        Arrays.fill(longValue, 'x');
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            encoder.value(new String(longValue));
+            encoder.value(i);
+            encoder.value("\"" + i);
+            encoder.endRow();
+            expected.append(longValue).append(',').append(i).append(",\"\"\"").append(i).append("\"\r\n");
+        }
+        encoder.flush();
+
+        assertEquals(expected.toString(), out.toString());
+    }
+
+    @Test
+    void export_minimalQuoting_writesRfc4180Csv() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.csv(out)
+                .quoting(CsvQuoting.MINIMAL)
+                .write(Collections.singletonList(new QuotedDTO("홍길동, 과장", 3, null)));
+
+        String csv = new String(out.toByteArray(), StandardCharsets.UTF_8).substring(1);
+        assertEquals("이름,수량,비고\r\n\"홍길동, 과장\",3,\r\n", csv);
+    }
+
+    @Test
+    void export_defaultQuoting_quotesEveryField() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.csv(out).write(Collections.singletonList(new QuotedDTO("홍길동", 3, null)));
+
+        String csv = new String(out.toByteArray(), StandardCharsets.UTF_8).substring(1);
+        assertEquals("\"이름\",\"수량\",\"비고\"\r\n\"홍길동\",\"3\",\"\"\r\n", csv);
+    }
+
+    private static String encode(CsvQuoting quoting, Object... values) throws IOException {
+        StringWriter out = new StringWriter();
+        CsvRowEncoder encoder = new CsvRowEncoder(out, quoting);
+        for (Object value : values) {
+            encoder.value(value);
+        }
+        encoder.endRow();
+        encoder.flush();
+        return out.toString();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Quoted")
+    public static class QuotedDTO {
+        @ExcelColumn(header = "이름", order = 1)
+        private String name;
+
+        @ExcelColumn(header = "수량", order = 2)
+        private int quantity;
+
+        @ExcelColumn(header = "비고", order = 3)
+        private String note;
+    }
+}
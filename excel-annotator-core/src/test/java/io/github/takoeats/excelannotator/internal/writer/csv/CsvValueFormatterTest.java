@@ -0,0 +1,161 @@
+package io.github.takoeats.excelannotator.internal.writer.csv;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.masking.Masking;
+import io.github.takoeats.excelannotator.teststyle.CurrencyStyle;
+import io.github.takoeats.excelannotator.teststyle.KoreanDateStyle;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvValueFormatterTest {
+
+    @Test
+    void numberFormats_matchExcelDisplay() {
+        assertEquals("1,234,567.89", format("#,##0.00", new BigDecimal("1234567.885")));
+        assertEquals("1,235", format("#,##0", 1234.5));
+        assertEquals("-1,235", format("#,##0", -1234.5));
+        assertEquals("12.35%", format("0.00%", 0.123456));
+        assertEquals("₩5,000,000", format("₩#,##0", 5_000_000L));
+        assertEquals("1,234 ", format("#,##0_ ", 1234));
+        assertEquals("(1,234)", format("#,##0;(#,##0)", -1234));
+        assertEquals("12 EA", format("0\" EA\"", 12));
+        assertEquals("$7.50", format("[$$-409]0.00", 7.5));
+        assertEquals("007", format("000", (short) 7));
+    }
+
+    @Test
+    void fixedPointFastPath_matchesDecimalFormat() {
+        String[] patterns = {"#,##0", "#,##0.00", "0.000", "₩#,##0", "0000"};
+        Random random = new Random(42);
+        for (String pattern : patterns) {
+            DecimalFormat reference = new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(Locale.ROOT));
+            reference.setRoundingMode(RoundingMode.HALF_UP);
+            for (int i = 0; i < 2_000; i++) {
+                long integral = random.nextLong() >> random.nextInt(63);
+                BigDecimal decimal = BigDecimal.valueOf(random.nextLong() >> random.nextInt(63), random.nextInt(6));
+                assertEquals(reference.format(integral), format(pattern, integral));
+                assertEquals(reference.format(decimal), format(pattern, decimal));
+            }
+            assertEquals(reference.format(Long.MIN_VALUE), format(pattern, Long.MIN_VALUE));
+            assertEquals(reference.format(new BigDecimal("-0.0001")), format(pattern, new BigDecimal("-0.0001")));
+        }
+    }
+
+    @Test
+    void dateFormats_translateMonthAndMinute() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 5, 14, 7, 9);
+
+        assertEquals("2024-03-05", format("yyyy-MM-dd", dateTime));
+        assertEquals("2024-03-05 14:07", format("yyyy-MM-dd HH:mm", dateTime));
+        assertEquals("24/3/5 2:07:09 PM", format("yy/m/d h:mm:ss AM/PM", dateTime));
+        assertEquals("07:09", format("mm:ss", dateTime));
+        assertEquals("2024년 03월 05일", format("yyyy\"년\" MM\"월\" dd\"일\"", LocalDate.of(2024, 3, 5)));
+        assertEquals("Tue, Mar 5", format("ddd, mmm d", dateTime));
+    }
+
+    @Test
+    void mismatchedValue_isNotFormatted() {
+        CsvValueFormatter number = CsvValueFormatter.of("#,##0");
+        CsvValueFormatter date = CsvValueFormatter.of("yyyy-mm-dd");
+        StringBuilder target = new StringBuilder();
+
+        assertFalse(number.formatTo("text", target));
+        assertFalse(date.formatTo(42, target));
+        assertEquals(0, target.length());
+    }
+
+    @Test
+    void generalTextAndUnsupportedFormats_haveNoFormatter() {
+        assertNull(CsvValueFormatter.of(null));
+        assertNull(CsvValueFormatter.of(""));
+        assertNull(CsvValueFormatter.of("General"));
+        assertNull(CsvValueFormatter.of("@"));
+        assertNull(CsvValueFormatter.of("\"text only\""));
+        assertSame(CsvValueFormatter.of("#,##0.00"), CsvValueFormatter.of("#,##0.00"));
+    }
+
+    @Test
+    void numberFormatter_isSafeAcrossThreads() throws Exception {
+        CsvValueFormatter formatter = CsvValueFormatter.of("#,##0.00");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int t = 0; t < futures.length; t++) {
+                long base = t * 1_000_000L;
+                futures[t] = executor.submit(() -> {
+                    StringBuilder target = new StringBuilder();
+                    for (long i = 0; i < 20_000; i++) {
+                        target.setLength(0);
+                        formatter.formatTo(base + i, target);
+                        assertEquals(String.format("%,d.00", base + i), target.toString());
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void export_appliesFormatStyleFormatAndMasking() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.csv(out)
+                .quoting(CsvQuoting.MINIMAL)
+                .write(Collections.singletonList(new FormattedDTO(
+                        "010-1234-5678", new BigDecimal("1234.5"), 5_000_000L, LocalDate.of(2024, 3, 5), 42)));
+
+        String csv = new String(out.toByteArray(), StandardCharsets.UTF_8).substring(1);
+        assertEquals("전화,금액,통화,일자,수량\r\n010-****-5678,\"1,234.50\",\"₩5,000,000\",2024년 03월 05일,42\r\n", csv);
+    }
+
+    private static String format(String excelFormat, Object value) {
+        StringBuilder target = new StringBuilder();
+        assertTrue(CsvValueFormatter.of(excelFormat).formatTo(value, target));
+        return target.toString();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Formatted")
+    public static class FormattedDTO {
+        @ExcelColumn(header = "전화", order = 1, masking = Masking.PHONE)
+        private String phone;
+
+        @ExcelColumn(header = "금액", order = 2, format = "#,##0.00")
+        private BigDecimal amount;
+
+        @ExcelColumn(header = "통화", order = 3, columnStyle = CurrencyStyle.class)
+        private long price;
+
+        @ExcelColumn(header = "일자", order = 4, columnStyle = KoreanDateStyle.class)
+        private LocalDate date;
+
+        @ExcelColumn(header = "수량", order = 5)
+        private int quantity;
+    }
+}
@@ -0,0 +1,232 @@
+package io.github.takoeats.excelannotator.internal.writer.csv;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.util.ResponseHeaderHandler;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class GzipCsvTest {
+
+    @Test
+    void outputStream_writesCsvGzFileWithSameContent() throws IOException {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        ExcelExporter.csv(plain).write(rows(1_000));
+        String fileName = ExcelExporter.csv(compressed)
+                .fileName("report.csv")
+                .gzip(GzipOptions.DEFAULT)
+                .write(rows(1_000));
+
+        assertEquals("report.csv.gz", fileName);
+        assertArrayEquals(plain.toByteArray(), gunzip(compressed.toByteArray()));
+        assertTrue(compressed.size() < plain.size());
+    }
+
+    @Test
+    void compressionLevels_roundTrip() throws IOException {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ExcelExporter.csv(plain).write(rows(2_000));
+
+        for (GzipOptions options : new GzipOptions[]{
+                GzipOptions.FASTEST, GzipOptions.builder().level(9).bufferSize(512).build()}) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            ExcelExporter.csv(compressed).gzip(options).write(rows(2_000));
+            assertArrayEquals(plain.toByteArray(), gunzip(compressed.toByteArray()), options.toString());
+        }
+    }
+
+    @Test
+    void compressedBytes_areStreamedBeforeSourceEnds() {
+        AtomicInteger produced = new AtomicInteger();
+        AtomicInteger producedAtFirstWrite = new AtomicInteger(-1);
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                producedAtFirstWrite.compareAndSet(-1, produced.get());
+            }
+        };
+
+        Stream<GzipRowDTO> source = IntStream.range(0, 200_000)
+                .peek(i -> produced.incrementAndGet())
+                .mapToObj(i -> new GzipRowDTO(UUID.randomUUID().toString(), i));
+        ExcelExporter.csv(out).gzip(GzipOptions.DEFAULT).write(source);
+
+        assertTrue(producedAtFirstWrite.get() >= 0);
+        assertTrue(producedAtFirstWrite.get() < 200_000, "first write after " + producedAtFirstWrite.get());
+    }
+
+    @Test
+    void response_acceptingGzip_setsContentEncoding() throws IOException {
+        HttpServletRequest request = request("gzip, deflate, br");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpServletResponse response = response(body);
+
+        String fileName = ExcelExporter.csv(request, response)
+                .fileName("orders")
+                .gzip(GzipOptions.DEFAULT)
+                .write(rows(100));
+
+        assertEquals("orders.csv", fileName);
+        verify(response).setHeader("Content-Encoding", "gzip");
+        verify(response).addHeader("Vary", "Accept-Encoding");
+        verify(response).setContentType("text/csv; charset=UTF-8");
+        assertArrayEquals(plainCsv(100), gunzip(body.toByteArray()));
+    }
+
+    @Test
+    void response_notAcceptingGzip_writesPlainCsv() throws IOException {
+        for (String acceptEncoding : new String[]{"gzip;q=0, deflate", "identity", null}) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            HttpServletResponse response = response(body);
+
+            String fileName = ExcelExporter.csv(request(acceptEncoding), response)
+                    .fileName("orders")
+                    .gzip(GzipOptions.DEFAULT)
+                    .write(rows(100));
+
+            assertEquals("orders.csv", fileName);
+            verify(response, never()).setHeader(eq("Content-Encoding"), anyString());
+            verify(response).addHeader("Vary", "Accept-Encoding");
+            assertArrayEquals(plainCsv(100), body.toByteArray(), String.valueOf(acceptEncoding));
+        }
+    }
+
+    @Test
+    void response_withoutRequest_servesCsvGzFile() throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpServletResponse response = response(body);
+
+        String fileName = ExcelExporter.csv(response)
+                .fileName("orders")
+                .gzip(GzipOptions.DEFAULT)
+                .write(rows(100));
+
+        assertEquals("orders.csv.gz", fileName);
+        verify(response).setContentType("application/gzip");
+        verify(response, never()).setHeader(eq("Content-Encoding"), anyString());
+        assertArrayEquals(plainCsv(100), gunzip(body.toByteArray()));
+    }
+
+    @Test
+    void acceptsGzip_followsQualityValues() {
+        assertTrue(ResponseHeaderHandler.acceptsGzip("gzip"));
+        assertTrue(ResponseHeaderHandler.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(ResponseHeaderHandler.acceptsGzip("x-gzip"));
+        assertTrue(ResponseHeaderHandler.acceptsGzip("*"));
+        assertFalse(ResponseHeaderHandler.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseHeaderHandler.acceptsGzip("*;q=1, gzip;q=0.0"));
+        assertFalse(ResponseHeaderHandler.acceptsGzip("*;q=0"));
+        assertFalse(ResponseHeaderHandler.acceptsGzip("br, deflate"));
+        assertFalse(ResponseHeaderHandler.acceptsGzip(""));
+    }
+
+    @Test
+    void invalidOptions_rejected() {
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> GzipOptions.builder().level(10).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> GzipOptions.builder().level(-2).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> GzipOptions.builder().bufferSize(16).build()).getErrorCode());
+    }
+
+    private static List<GzipRowDTO> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new GzipRowDTO("상품-" + (i % 37), i))
+                .collect(Collectors.toList());
+    }
+
+    private static byte[] plainCsv(int count) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.csv(out).write(rows(count));
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                out.write(chunk, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static HttpServletRequest request(String acceptEncoding) {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getHeader("Accept-Encoding")).thenReturn(acceptEncoding);
+        return request;
+    }
+
+    private static HttpServletResponse response(ByteArrayOutputStream body) throws IOException {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                body.write(b, off, len);
+            }
+        });
+        return response;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Gzip")
+    public static class GzipRowDTO {
+        @ExcelColumn(header = "상품", order = 1)
+        private String name;
+
+        @ExcelColumn(header = "번호", order = 2)
+        private int number;
+    }
+}
@@ -0,0 +1,265 @@
+package io.github.takoeats.excelannotator.internal.writer.prefetch;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefetchIteratorTest {
+
+    private static final PrefetchOptions SMALL = PrefetchOptions.builder().depth(2).batchSize(64).build();
+
+    @Test
+    void yieldsAllItemsInOrder() {
+        List<Integer> actual = new ArrayList<>();
+        try (PrefetchIterator<Integer> iterator = new PrefetchIterator<>(range(1_000).iterator(), SMALL, null)) {
+            iterator.forEachRemaining(actual::add);
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+        assertEquals(1_000, actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals(i, actual.get(i));
+        }
+    }
+
+    @Test
+    void fullBuffer_blocksProducer() throws Exception {
+        AtomicInteger produced = new AtomicInteger();
+        Iterator<Integer> source = IntStream.range(0, 100_000).peek(i -> produced.incrementAndGet()).iterator();
+
+        try (PrefetchIterator<Integer> iterator = new PrefetchIterator<>(source, SMALL, null)) {
+            Thread.sleep(200);
+            assertTrue(produced.get() <= 3 * 64, "produced " + produced.get());
+
+            iterator.next();
+            assertTrue(produced.get() < 100_000);
+        }
+    }
+
+    @Test
+    void producerFailure_rethrownOnWriterThreadAndSourceClosed() {
+        AtomicBoolean sourceClosed = new AtomicBoolean();
+        Iterator<Integer> source = range(1_000).peek(i -> {
+            if (i == 500) {
+                throw new IllegalStateException("cursor lost");
+            }
+        }).iterator();
+
+        try (PrefetchIterator<Integer> iterator =
+                     new PrefetchIterator<>(source, SMALL, () -> sourceClosed.set(true))) {
+            IllegalStateException ex = assertThrows(IllegalStateException.class, () -> {
+                while (iterator.hasNext()) {
+                    iterator.next();
+                }
+            });
+            assertEquals("cursor lost", ex.getMessage());
+            assertTrue(sourceClosed.get());
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    void closeBeforeEnd_cancelsProducerAndClosesSource() {
+        AtomicBoolean sourceClosed = new AtomicBoolean();
+        PrefetchIterator<Integer> iterator =
+                new PrefetchIterator<>(range(1_000_000).iterator(), SMALL, () -> sourceClosed.set(true));
+        iterator.next();
+
+        iterator.close();
+
+        assertTrue(sourceClosed.get());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void close_interruptsProducerBlockedInSource() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        AtomicBoolean producerInterrupted = new AtomicBoolean();
+        Iterator<Integer> blocked = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                fetching.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    producerInterrupted.set(true);
+                    Thread.currentThread().interrupt();
+                }
+                return 1;
+            }
+        };
+        AtomicBoolean sourceClosed = new AtomicBoolean();
+        PrefetchIterator<Integer> iterator = new PrefetchIterator<>(blocked, SMALL, () -> sourceClosed.set(true));
+        assertTrue(fetching.await(5, TimeUnit.SECONDS));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), iterator::close);
+
+        assertTrue(producerInterrupted.get());
+        assertTrue(sourceClosed.get());
+    }
+
+    @Test
+    void close_doesNotHangOnUninterruptibleSource() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Iterator<Integer> stuck = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                fetching.countDown();
+                while (release.getCount() > 0) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        // 인터럽트를 무시하는 소스
+                    }
+                }
+                return 1;
+            }
+        };
+        AtomicBoolean sourceClosed = new AtomicBoolean();
+        PrefetchIterator<Integer> iterator = new PrefetchIterator<>(stuck, SMALL, () -> sourceClosed.set(true));
+        assertTrue(fetching.await(5, TimeUnit.SECONDS));
+
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), iterator::close);
+            assertTrue(sourceClosed.get());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void fullyReadSource_isNotClosed() {
+        AtomicBoolean sourceClosed = new AtomicBoolean();
+        PrefetchIterator<Integer> iterator =
+                new PrefetchIterator<>(range(100).iterator(), SMALL, () -> sourceClosed.set(true));
+        iterator.forEachRemaining(i -> { });
+
+        iterator.close();
+
+        assertFalse(sourceClosed.get());
+    }
+
+    @Test
+    void interruptedWriter_cancelsExport() {
+        Iterator<Integer> blocked = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 1;
+            }
+        };
+        AtomicBoolean sourceClosed = new AtomicBoolean();
+        PrefetchIterator<Integer> iterator = new PrefetchIterator<>(blocked, SMALL, () -> sourceClosed.set(true));
+
+        Thread.currentThread().interrupt();
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class, iterator::hasNext);
+
+        assertTrue(Thread.interrupted());
+        assertEquals(ErrorCode.EXPORT_CANCELLED, ex.getErrorCode());
+        assertTrue(sourceClosed.get());
+    }
+
+    @Test
+    void export_withPrefetch_writesAllRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.excel(out)
+                .prefetch(SMALL)
+                .write(range(5_000).map(i -> new PrefetchedDTO("row" + i, i)));
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(5_000, sheet.getLastRowNum());
+            assertEquals("row4999", sheet.getRow(5_000).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    void export_sourceFailure_propagatesAndClosesStream() {
+        AtomicBoolean streamClosed = new AtomicBoolean();
+        Stream<PrefetchedDTO> failing = range(5_000)
+                .map(i -> {
+                    if (i == 3_000) {
+                        throw new ExcelExporterException(ErrorCode.ROW_WRITE_ERROR, "fetch " + i);
+                    }
+                    return new PrefetchedDTO("row" + i, i);
+                })
+                .onClose(() -> streamClosed.set(true));
+
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class,
+                () -> ExcelExporter.excel(new ByteArrayOutputStream()).prefetch(SMALL).write(failing));
+
+        assertEquals(ErrorCode.ROW_WRITE_ERROR, ex.getErrorCode());
+        assertTrue(streamClosed.get());
+    }
+
+    @Test
+    void invalidOptions_rejected() {
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> PrefetchOptions.builder().depth(-1).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> PrefetchOptions.builder().batchSize(0).build()).getErrorCode());
+        assertFalse(PrefetchOptions.DISABLED.isEnabled());
+        assertTrue(PrefetchOptions.DEFAULT.isEnabled());
+    }
+
+    private static Stream<Integer> range(int count) {
+        return IntStream.range(0, count).boxed();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Prefetched")
+    public static class PrefetchedDTO {
+        @ExcelColumn(header = "이름", order = 1)
+        private String name;
+
+        @ExcelColumn(header = "번호", order = 2)
+        private int number;
+    }
+}
@@ -0,0 +1,236 @@
+package io.github.takoeats.excelannotator.internal.writer.reactive;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PublisherIteratorTest {
+
+    @Test
+    void requestsBatchUpFrontAndReplenishesAsConsumed() {
+        RecordingSubscription subscription = new RecordingSubscription();
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(10);
+        iterator.onSubscribe(subscription);
+        assertEquals(10, subscription.requested);
+
+        for (int i = 0; i < 10; i++) {
+            iterator.onNext(i);
+        }
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, iterator.next());
+        }
+        assertEquals(10, subscription.requested);
+
+        iterator.next();
+        assertEquals(15, subscription.requested);
+    }
+
+    @Test
+    void unrequestedItems_failExport() {
+        RecordingSubscription subscription = new RecordingSubscription();
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(2);
+        iterator.onSubscribe(subscription);
+        iterator.onNext(1);
+        iterator.onNext(2);
+        iterator.onNext(3);
+
+        assertEquals(1, subscription.cancelCount);
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class, iterator::hasNext);
+        assertEquals(ErrorCode.ROW_WRITE_ERROR, ex.getErrorCode());
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        iterator.close();
+        assertEquals(1, subscription.cancelCount);
+    }
+
+    @Test
+    void nullItem_cancelsSubscriptionAndFailsExport() {
+        RecordingSubscription subscription = new RecordingSubscription();
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(4);
+        iterator.onSubscribe(subscription);
+        iterator.onNext(null);
+        iterator.onNext(1);
+
+        assertEquals(1, subscription.cancelCount);
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class, iterator::hasNext);
+        assertInstanceOf(NullPointerException.class, ex.getCause());
+    }
+
+    @Test
+    void onError_rethrownAsExporterExceptionAfterBufferedItems() {
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(4);
+        iterator.onSubscribe(new RecordingSubscription());
+        iterator.onNext(1);
+        iterator.onError(new IllegalArgumentException("db down"));
+
+        assertEquals(1, iterator.next());
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class, iterator::hasNext);
+        assertEquals(ErrorCode.ROW_WRITE_ERROR, ex.getErrorCode());
+        assertEquals("db down", ex.getCause().getMessage());
+    }
+
+    @Test
+    void onError_exporterExceptionPassesThrough() {
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(4);
+        iterator.onSubscribe(new RecordingSubscription());
+        ExcelExporterException original = new ExcelExporterException(ErrorCode.IO_ERROR, "source");
+        iterator.onError(original);
+
+        assertSame(original, assertThrows(ExcelExporterException.class, iterator::hasNext));
+    }
+
+    @Test
+    void close_cancelsActiveSubscriptionOnly() {
+        RecordingSubscription active = new RecordingSubscription();
+        PublisherIterator<Integer> open = new PublisherIterator<>(4);
+        open.onSubscribe(active);
+        open.close();
+        open.close();
+        assertEquals(1, active.cancelCount);
+        assertFalse(open.hasNext());
+
+        RecordingSubscription finished = new RecordingSubscription();
+        PublisherIterator<Integer> done = new PublisherIterator<>(4);
+        done.onSubscribe(finished);
+        done.onComplete();
+        done.close();
+        assertEquals(0, finished.cancelCount);
+    }
+
+    @Test
+    void waitsForAsynchronousDelivery() throws Exception {
+        PublisherIterator<Integer> iterator = new PublisherIterator<>(8);
+        iterator.onSubscribe(new RecordingSubscription());
+        CompletableFuture<List<Integer>> consumed = CompletableFuture.supplyAsync(() -> {
+            List<Integer> items = new ArrayList<>();
+            iterator.forEachRemaining(items::add);
+            return items;
+        });
+
+        Thread.sleep(50);
+        iterator.onNext(1);
+        iterator.onNext(2);
+        iterator.onComplete();
+
+        assertEquals(2, consumed.get(10, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void unsupportedPublisher_rejected() {
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class,
+                () -> ExcelExporter.excel(new ByteArrayOutputStream()).writePublisher("not a publisher"));
+
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, ex.getErrorCode());
+    }
+
+    @Test
+    void flowPublisher_writesAllRows() throws Exception {
+        Object publisher = newSubmissionPublisher();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompletableFuture<String> export = CompletableFuture.supplyAsync(
+                () -> ExcelExporter.excel(out).writePublisher(publisher, 64));
+        awaitSubscriber(publisher);
+
+        Method submit = publisher.getClass().getMethod("submit", Object.class);
+        for (int i = 0; i < 3_000; i++) {
+            submit.invoke(publisher, new PublishedDTO("row" + i, i));
+        }
+        publisher.getClass().getMethod("close").invoke(publisher);
+        export.get(60, TimeUnit.SECONDS);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(3_000, sheet.getLastRowNum());
+            assertEquals("row2999", sheet.getRow(3_000).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    void flowPublisherError_failsExport() throws Exception {
+        Object publisher = newSubmissionPublisher();
+        CompletableFuture<String> export = CompletableFuture.supplyAsync(
+                () -> ExcelExporter.excel(new ByteArrayOutputStream()).writePublisher(publisher, 16));
+        awaitSubscriber(publisher);
+
+        publisher.getClass().getMethod("submit", Object.class).invoke(publisher, new PublishedDTO("row", 1));
+        publisher.getClass().getMethod("closeExceptionally", Throwable.class)
+                .invoke(publisher, new IllegalStateException("cursor closed"));
+
+        ExcelExporterException ex = assertInstanceOf(ExcelExporterException.class,
+                assertThrows(Exception.class, () -> export.get(60, TimeUnit.SECONDS)).getCause());
+        assertEquals(ErrorCode.ROW_WRITE_ERROR, ex.getErrorCode());
+    }
+
+    /**
+     * Java 9+ SubmissionPublisher (Java 8 빌드와 호환되도록 리플렉션으로 생성)
+     */
+    private static Object newSubmissionPublisher() throws Exception {
+        Class<?> type;
+        try {
+            type = Class.forName("java.util.concurrent.SubmissionPublisher");
+        } catch (ClassNotFoundException e) {
+            assumeTrue(false, "Flow API가 없는 런타임");
+            throw e;
+        }
+        return type.getConstructor().newInstance();
+    }
+
+    /**
+     * SubmissionPublisher는 구독 전에 제출된 항목을 전달하지 않으므로 구독을 기다림
+     */
+    private static void awaitSubscriber(Object publisher) throws Exception {
+        Method subscribers = publisher.getClass().getMethod("getNumberOfSubscribers");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((int) subscribers.invoke(publisher) == 0) {
+            assertTrue(System.nanoTime() < deadline, "구독 대기 시간 초과");
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class RecordingSubscription implements PublisherIterator.Subscription {
+        long requested;
+        int cancelCount;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelCount++;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Published")
+    public static class PublishedDTO {
+        @ExcelColumn(header = "이름", order = 1)
+        private String name;
+
+        @ExcelColumn(header = "번호", order = 2)
+        private int number;
+    }
+}
@@ -0,0 +1,294 @@
+package io.github.takoeats.excelannotator.internal.writer.schedule;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.ExcelWriteOptions;
+import io.github.takoeats.excelannotator.internal.writer.WriteEngine;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportSchedulerTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    @Test
+    void concurrencyLimit_queuesUntilPermitReleased() throws Exception {
+        ExportScheduler scheduler = scheduler(1, 0, WAIT);
+        ExportScheduler.Permit first = scheduler.acquire(0, 0);
+
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> scheduler.acquire(0, 0).close());
+        awaitQueued(scheduler, 1);
+        assertFalse(second.isDone());
+
+        first.close();
+        second.get(10, TimeUnit.SECONDS);
+
+        ExportSchedulerStatistics stats = scheduler.getStatistics();
+        assertEquals(0, stats.getActiveExports());
+        assertEquals(0, stats.getQueuedExports());
+        assertEquals(2, stats.getAdmittedCount());
+        assertTrue(stats.getMaxWaitNanos() > 0);
+    }
+
+    @Test
+    void queueTimeout_rejectsExport() {
+        ExportScheduler scheduler = scheduler(1, 0, Duration.ofMillis(50));
+        try (ExportScheduler.Permit ignored = scheduler.acquire(0, 0)) {
+            ExcelExporterException ex = assertThrows(ExcelExporterException.class, () -> scheduler.acquire(0, 0));
+
+            assertEquals(ErrorCode.EXPORT_REJECTED, ex.getErrorCode());
+        }
+        assertEquals(1, scheduler.getStatistics().getRejectedCount());
+        assertEquals(0, scheduler.getStatistics().getQueuedExports());
+    }
+
+    @Test
+    void memoryBudget_admitsOnlyWhatFits() {
+        ExportScheduler scheduler = budgeted(100, 0);
+        try (ExportScheduler.Permit held = scheduler.acquire(60, 0)) {
+            assertThrows(ExcelExporterException.class, () -> scheduler.acquire(60, 0));
+            try (ExportScheduler.Permit small = scheduler.acquire(40, 0)) {
+                assertEquals(100, scheduler.getStatistics().getReservedMemoryBytes());
+            }
+        }
+        assertEquals(0, scheduler.getStatistics().getReservedMemoryBytes());
+    }
+
+    @Test
+    void tempDiskBudget_admitsOnlyWhatFits() {
+        ExportScheduler scheduler = budgeted(0, 1_000);
+        try (ExportScheduler.Permit held = scheduler.acquire(0, 800)) {
+            assertThrows(ExcelExporterException.class, () -> scheduler.acquire(0, 300));
+        }
+        scheduler.acquire(0, 300).close();
+    }
+
+    @Test
+    void oversizedRequest_runsAloneInsteadOfWaitingForever() {
+        ExportScheduler scheduler = budgeted(100, 0);
+        try (ExportScheduler.Permit huge = scheduler.acquire(500, 0)) {
+            assertEquals(100, scheduler.getStatistics().getReservedMemoryBytes());
+        }
+    }
+
+    @Test
+    void waitingExport_isNotOvertakenBySmallerOne() throws Exception {
+        ExportScheduler scheduler = ExportScheduler.builder()
+                .maxConcurrentExports(10)
+                .memoryBudgetBytes(100)
+                .queueTimeout(WAIT)
+                .build();
+        ExportScheduler.Permit held = scheduler.acquire(60, 0);
+        CompletableFuture<Void> large = CompletableFuture.runAsync(() -> scheduler.acquire(60, 0).close());
+        awaitQueued(scheduler, 1);
+
+        Thread small = new Thread(() -> scheduler.acquire(10, 0).close());
+        small.start();
+        awaitQueued(scheduler, 2);
+        Thread.sleep(100);
+        assertEquals(1, scheduler.getStatistics().getActiveExports());
+        assertEquals(2, scheduler.getStatistics().getQueuedExports());
+
+        held.close();
+        large.get(10, TimeUnit.SECONDS);
+        small.join(10_000);
+        assertEquals(3, scheduler.getStatistics().getAdmittedCount());
+    }
+
+    @Test
+    void fullQueue_rejectsImmediately() throws Exception {
+        ExportScheduler scheduler = scheduler(1, 1, WAIT);
+        ExportScheduler.Permit held = scheduler.acquire(0, 0);
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> scheduler.acquire(0, 0).close());
+        awaitQueued(scheduler, 1);
+
+        long start = System.nanoTime();
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class, () -> scheduler.acquire(0, 0));
+
+        assertEquals(ErrorCode.EXPORT_REJECTED, ex.getErrorCode());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        held.close();
+        waiting.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void interruptedWhileQueued_cancelsExport() throws Exception {
+        ExportScheduler scheduler = scheduler(1, 0, WAIT);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try (ExportScheduler.Permit ignored = scheduler.acquire(0, 0)) {
+            Thread waiter = new Thread(() -> {
+                try {
+                    scheduler.acquire(0, 0).close();
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            waiter.start();
+            awaitQueued(scheduler, 1);
+            waiter.interrupt();
+            waiter.join(10_000);
+        }
+
+        assertEquals(ErrorCode.EXPORT_CANCELLED, ((ExcelExporterException) failure.get()).getErrorCode());
+        assertEquals(0, scheduler.getStatistics().getQueuedExports());
+    }
+
+    @Test
+    void admit_estimatesDemandFromWriteOptions() {
+        ExportScheduler scheduler = ExportScheduler.builder()
+                .maxConcurrentExports(2)
+                .estimatedExportMemoryBytes(10)
+                .estimatedExportTempBytes(20)
+                .build();
+
+        try (ExportScheduler.Permit ignored = scheduler.admit(ExcelWriteOptions.DEFAULT);
+             ExportScheduler.Permit direct = scheduler.admit(ExcelWriteOptions.builder()
+                     .engine(WriteEngine.DIRECT)
+                     .heapBudgetBytes(1_000)
+                     .build())) {
+            ExportSchedulerStatistics stats = scheduler.getStatistics();
+            assertEquals(1_010, stats.getReservedMemoryBytes());
+            assertEquals(20, stats.getReservedTempBytes());
+        }
+    }
+
+    @Test
+    void builderExport_runsUnderPermit() {
+        ExportScheduler scheduler = scheduler(1, 0, WAIT);
+
+        ExcelExporter.excel(new ByteArrayOutputStream())
+                .scheduler(scheduler)
+                .write(Collections.singletonList(new ScheduledDTO("a")));
+
+        assertEquals(1, scheduler.getStatistics().getAdmittedCount());
+        assertEquals(0, scheduler.getStatistics().getActiveExports());
+    }
+
+    @Test
+    void executor_runsTasksOnDaemonThreads() throws Exception {
+        try (ExportScheduler scheduler = scheduler(2, 0, WAIT)) {
+            Thread worker = scheduler.getExecutor().submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+
+            assertTrue(worker.isDaemon());
+            assertSame(scheduler.getExecutor(), scheduler.getExecutor());
+        }
+    }
+
+    @Test
+    void platformExecutor_boundedByConcurrencyAndQueue() throws Exception {
+        ExportScheduler scheduler = ExportScheduler.builder()
+                .maxConcurrentExports(2)
+                .maxQueuedExports(2)
+                .queueTimeout(WAIT)
+                .virtualThreads(false)
+                .build();
+        CountDownLatch release = new CountDownLatch(1);
+        Set<Thread> workers = ConcurrentHashMap.newKeySet();
+        try {
+            ExecutorService executor = scheduler.getExecutor();
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                tasks.add(executor.submit(() -> {
+                    workers.add(Thread.currentThread());
+                    release.await();
+                    return null;
+                }));
+            }
+
+            assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> { }));
+            release.countDown();
+            for (Future<?> task : tasks) {
+                task.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(2, workers.size());
+        } finally {
+            release.countDown();
+            scheduler.close();
+        }
+    }
+
+    @Test
+    void writeAsync_withoutExecutor_runsOnSchedulerExecutor() throws Exception {
+        try (ExportScheduler scheduler = scheduler(2, 0, WAIT)) {
+            AtomicReference<Thread> exportThread = new AtomicReference<>();
+
+            ExcelExporter.excel(new ByteArrayOutputStream())
+                    .scheduler(scheduler)
+                    .onReport(report -> exportThread.set(Thread.currentThread()))
+                    .writeAsync(Collections.singletonList(new ScheduledDTO("a")), null)
+                    .get(10, TimeUnit.SECONDS);
+
+            assertNotSame(Thread.currentThread(), exportThread.get());
+            assertTrue(exportThread.get().isDaemon());
+            assertEquals(1, scheduler.getStatistics().getAdmittedCount());
+        }
+    }
+
+    @Test
+    void invalidOptions_rejected() {
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> ExportScheduler.builder().maxConcurrentExports(0).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> ExportScheduler.builder().memoryBudgetBytes(-1).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> ExportScheduler.builder().queueTimeout(Duration.ofSeconds(-1)).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> ExportScheduler.builder().maxQueuedExports(-1).build()).getErrorCode());
+    }
+
+    private static ExportScheduler scheduler(int maxConcurrent, int maxQueued, Duration timeout) {
+        return ExportScheduler.builder()
+                .maxConcurrentExports(maxConcurrent)
+                .maxQueuedExports(maxQueued)
+                .queueTimeout(timeout)
+                .build();
+    }
+
+    private static ExportScheduler budgeted(long memory, long temp) {
+        return ExportScheduler.builder()
+                .maxConcurrentExports(10)
+                .memoryBudgetBytes(memory)
+                .tempDiskBudgetBytes(temp)
+                .queueTimeout(Duration.ZERO)
+                .build();
+    }
+
+    private static void awaitQueued(ExportScheduler scheduler, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (scheduler.getStatistics().getQueuedExports() < expected) {
+            assertTrue(System.nanoTime() < deadline, "대기열 진입 시간 초과");
+            Thread.sleep(5);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Scheduled")
+    public static class ScheduledDTO {
+        @ExcelColumn(header = "이름", order = 1)
+        private String name;
+    }
+}
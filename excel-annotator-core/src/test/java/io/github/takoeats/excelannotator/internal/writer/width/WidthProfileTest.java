@@ -0,0 +1,202 @@
+package io.github.takoeats.excelannotator.internal.writer.width;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.WriteEngine;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WidthProfileTest {
+
+    private static final String KEY = ProfiledDTO.class.getName() + "#Profiled";
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void firstExport_recordsMeasuredWidths() throws Exception {
+        WidthProfileStore store = WidthProfileStore.inMemory();
+
+        export(rowsWithName(repeat('x', 30)), options(store, START), WriteEngine.SXSSF);
+
+        ColumnWidthProfile profile = store.load(KEY);
+        assertNotNull(profile);
+        assertFalse(profile.isStale());
+        assertEquals(1, profile.getRuns().size());
+        assertEquals((30 + 2) * 256, profile.getWidths()[0]);
+        assertEquals(0, profile.getWidths()[1]);
+    }
+
+    @Test
+    void freshProfile_appliesLearnedWidthToShortData() throws Exception {
+        WidthProfileStore store = WidthProfileStore.inMemory();
+        export(rowsWithName(repeat('x', 30)), options(store, START), WriteEngine.SXSSF);
+
+        Sheet sheet = readFirstSheet(export(rowsWithName("short"),
+                options(store, START.plus(Duration.ofHours(1))), WriteEngine.SXSSF));
+
+        assertEquals((30 + 2) * 256, sheet.getColumnWidth(0));
+        assertEquals(1, store.load(KEY).getRuns().size());
+    }
+
+    @Test
+    void freshProfile_directEngineSkipsSampling() throws Exception {
+        WidthProfileStore store = WidthProfileStore.inMemory();
+        export(rowsWithName(repeat('x', 30)), options(store, START), WriteEngine.DIRECT);
+
+        Sheet sheet = readFirstSheet(export(rowsWithName("short"),
+                options(store, START.plus(Duration.ofHours(1))), WriteEngine.DIRECT));
+
+        assertEquals((30 + 2) * 256, sheet.getColumnWidth(0));
+    }
+
+    @Test
+    void driftInSampleRows_widensColumnAndMarksStale() throws Exception {
+        WidthProfileStore store = WidthProfileStore.inMemory();
+        export(rowsWithName(repeat('x', 10)), options(store, START), WriteEngine.SXSSF);
+
+        Sheet sheet = readFirstSheet(export(rowsWithName(repeat('x', 40)),
+                options(store, START.plus(Duration.ofHours(1))), WriteEngine.SXSSF));
+
+        assertEquals((40 + 2) * 256, sheet.getColumnWidth(0));
+        ColumnWidthProfile profile = store.load(KEY);
+        assertTrue(profile.isStale());
+        assertEquals(2, profile.getRuns().size());
+    }
+
+    @Test
+    void expiredProfile_isMeasuredAgain() throws Exception {
+        WidthProfileStore store = WidthProfileStore.inMemory();
+        export(rowsWithName(repeat('x', 30)), options(store, START), WriteEngine.SXSSF);
+
+        Sheet sheet = readFirstSheet(export(rowsWithName("short"),
+                options(store, START.plus(Duration.ofDays(2))), WriteEngine.SXSSF));
+
+        assertEquals(("short".length() + 2) * 256, sheet.getColumnWidth(0));
+        ColumnWidthProfile profile = store.load(KEY);
+        assertEquals(2, profile.getRuns().size());
+        assertEquals(START.plus(Duration.ofDays(2)).toEpochMilli(), profile.getUpdatedAtMillis());
+    }
+
+    @Test
+    void historySize_keepsMostRecentRuns() {
+        ColumnWidthProfile profile = ColumnWidthProfile.first(KEY, "fp", new int[]{100}, 0L);
+        for (int i = 1; i <= 5; i++) {
+            profile = profile.withRun(new int[]{100 + i}, 3, i, false);
+        }
+
+        assertEquals(3, profile.getRuns().size());
+        assertEquals(105, profile.getWidths()[0]);
+        assertEquals(103, profile.getRuns().get(0)[0]);
+    }
+
+    @Test
+    void directoryStore_roundTripsProfile(@TempDir Path dir) {
+        WidthProfileStore store = WidthProfileStore.directory(dir);
+        ColumnWidthProfile saved = ColumnWidthProfile.first(KEY, "fp", new int[]{2048, 0, 1024}, 42L)
+                .withRun(new int[]{4096, 0, 512}, 8, 43L, true);
+
+        store.save(saved);
+        ColumnWidthProfile loaded = store.load(KEY);
+
+        assertEquals(KEY, loaded.getKey());
+        assertEquals("fp", loaded.getFingerprint());
+        assertEquals(43L, loaded.getUpdatedAtMillis());
+        assertTrue(loaded.isStale());
+        assertArrayEquals(new int[]{4096, 0, 1024}, loaded.getWidths());
+        assertNull(store.load("missing#Sheet"));
+    }
+
+    @Test
+    void directoryStore_sharesProfileAcrossExports(@TempDir Path dir) throws Exception {
+        export(rowsWithName(repeat('x', 30)), options(WidthProfileStore.directory(dir), START), WriteEngine.SXSSF);
+
+        Sheet sheet = readFirstSheet(export(rowsWithName("short"),
+                options(WidthProfileStore.directory(dir), START.plusSeconds(60)), WriteEngine.SXSSF));
+
+        assertEquals((30 + 2) * 256, sheet.getColumnWidth(0));
+    }
+
+    @Test
+    void directoryStore_missingDirectoryRejected(@TempDir Path dir) {
+        ExcelExporterException ex = assertThrows(ExcelExporterException.class,
+                () -> WidthProfileStore.directory(dir.resolve("none")));
+
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, ex.getErrorCode());
+    }
+
+    @Test
+    void invalidOptions_rejected() {
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> WidthProfileOptions.builder().refreshInterval(Duration.ZERO).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> WidthProfileOptions.builder().historySize(0).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> WidthProfileOptions.builder().driftTolerance(-0.1).build()).getErrorCode());
+        assertFalse(WidthProfileOptions.DISABLED.isEnabled());
+    }
+
+    private static WidthProfileOptions options(WidthProfileStore store, Instant now) {
+        return WidthProfileOptions.builder()
+                .store(store)
+                .clock(Clock.fixed(now, ZoneOffset.UTC))
+                .build();
+    }
+
+    private static byte[] export(List<ProfiledDTO> data, WidthProfileOptions options, WriteEngine engine) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.excel(out).engine(engine).widthProfiles(options).write(data);
+        return out.toByteArray();
+    }
+
+    private static Sheet readFirstSheet(byte[] bytes) throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            return workbook.getSheetAt(0);
+        }
+    }
+
+    private static List<ProfiledDTO> rowsWithName(String name) {
+        return IntStream.range(0, 20)
+                .mapToObj(i -> new ProfiledDTO(name, i))
+                .collect(Collectors.toList());
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Profiled")
+    public static class ProfiledDTO {
+
+        @ExcelColumn(header = "이름", order = 1, width = -1)
+        private String name;
+
+        @ExcelColumn(header = "순번", order = 2, width = 10)
+        private int seq;
+    }
+}
@@ -0,0 +1,190 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.WriteEngine;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressionTest {
+
+    private static final int ROWS = 5_000;
+
+    private static final CompressionOptions PARALLEL = CompressionOptions.builder()
+            .parallelism(4)
+            .chunkSizeBytes(32 * 1024)
+            .build();
+
+    @Test
+    void parallelZip_producesValidEntriesAcrossChunks() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            text.append("<row r=\"").append(i).append("\"><c><v>").append(i * 31).append("</v></c></row>");
+        }
+        byte[] large = text.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] small = "<small/>".getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ParallelZipOutputStream zip = new ParallelZipOutputStream(out, PARALLEL)) {
+            zip.putNextEntry("large.xml");
+            zip.write(large, 0, 1000);
+            zip.write(large, 1000, large.length - 1000);
+            zip.putNextEntry("empty.xml");
+            zip.putNextEntry("small.xml");
+            zip.write(small);
+            zip.finish();
+        }
+
+        assertTrue(out.size() < large.length / 4, "청크 사전 덕분에 압축률이 유지되어야 함");
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEntry(zip, "large.xml", large);
+            assertEntry(zip, "empty.xml", new byte[0]);
+            assertEntry(zip, "small.xml", small);
+            assertNull(zip.getNextEntry());
+        }
+    }
+
+    @Test
+    void parallel_sxssfEngine_readsBackSameRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out).compression(PARALLEL).write(rows(ROWS));
+
+        assertReadBack(out.toByteArray(), ROWS);
+    }
+
+    @Test
+    void parallel_directEngine_readsBackSameRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out).engine(WriteEngine.DIRECT).compression(PARALLEL).write(rows(ROWS));
+
+        assertReadBack(out.toByteArray(), ROWS);
+    }
+
+    @Test
+    void parallel_runsOnCallerExecutor_withoutOwnThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger tasks = new AtomicInteger();
+        try {
+            CompressionOptions options = CompressionOptions.builder()
+                    .parallelism(4)
+                    .chunkSizeBytes(32 * 1024)
+                    .executor(task -> {
+                        tasks.incrementAndGet();
+                        executor.execute(task);
+                    })
+                    .build();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            ExcelExporter.excel(out).engine(WriteEngine.DIRECT).compression(options).write(rows(ROWS));
+
+            assertReadBack(out.toByteArray(), ROWS);
+            assertTrue(tasks.get() > 1);
+            assertFalse(executor.isShutdown(), "호출자 Executor는 종료하지 않음");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void level_controlsOutputSize() throws Exception {
+        byte[] stored = export(CompressionOptions.STORED, WriteEngine.SXSSF);
+        byte[] fastest = export(CompressionOptions.FASTEST, WriteEngine.SXSSF);
+        byte[] best = export(CompressionOptions.builder().level(9).build(), WriteEngine.SXSSF);
+
+        assertTrue(stored.length > fastest.length);
+        assertTrue(fastest.length >= best.length);
+        assertReadBack(stored, ROWS);
+        assertReadBack(best, ROWS);
+    }
+
+    @Test
+    void level_appliesToDirectEngine() throws Exception {
+        byte[] stored = export(CompressionOptions.STORED, WriteEngine.DIRECT);
+        byte[] defaults = export(CompressionOptions.DEFAULT, WriteEngine.DIRECT);
+
+        assertTrue(stored.length > defaults.length);
+        assertReadBack(stored, ROWS);
+    }
+
+    @Test
+    void invalidOptions_throwInvalidWriteOption() {
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> CompressionOptions.builder().level(10).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> CompressionOptions.builder().parallelism(0).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> CompressionOptions.builder().chunkSizeBytes(1024).build()).getErrorCode());
+    }
+
+    private static byte[] export(CompressionOptions compression, WriteEngine engine) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExcelExporter.excel(out).engine(engine).compression(compression).write(rows(ROWS));
+        return out.toByteArray();
+    }
+
+    private static void assertEntry(ZipInputStream zip, String name, byte[] expected) throws Exception {
+        ZipEntry entry = zip.getNextEntry();
+        assertNotNull(entry);
+        assertEquals(name, entry.getName());
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = zip.read(buffer)) != -1) {
+            content.write(buffer, 0, n);
+        }
+        assertArrayEquals(expected, content.toByteArray());
+    }
+
+    private static void assertReadBack(byte[] bytes, int rows) throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            Sheet sheet = workbook.getSheet("Compressed");
+            assertEquals(rows, sheet.getLastRowNum());
+            for (int i = 0; i < rows; i += 997) {
+                assertEquals("item-" + i, sheet.getRow(i + 1).getCell(0).getStringCellValue());
+                assertEquals(i, sheet.getRow(i + 1).getCell(1).getNumericCellValue());
+            }
+        }
+    }
+
+    private static List<CompressedDTO> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new CompressedDTO("item-" + i, i))
+                .collect(Collectors.toList());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Compressed")
+    public static class CompressedDTO {
+
+        @ExcelColumn(header = "이름", order = 1)
+        private String name;
+
+        @ExcelColumn(header = "값", order = 2)
+        private Integer value;
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.ExcelExportReport;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackagingURIHelper;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.util.IOUtils;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfiguredSXSSFWorkbookTest {
+
+    private static final String[] STATUSES = {"대기", "진행", "완료"};
+
+    @Test
+    void annotatedColumn_writesSharedStringIndexes() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out).onReport(report::set).write(orders(300));
+
+        String sheetXml = readEntry(out.toByteArray(), "xl/worksheets/sheet1.xml");
+        assertTrue(sheetXml.contains("t=\"s\""));
+        assertTrue(sheetXml.contains("t=\"inlineStr\""), "sharedString이 아닌 컬럼은 인라인 유지");
+
+        SharedStringsReport sharedStrings = report.get().getSharedStrings();
+        assertEquals(4, sharedStrings.getUniqueStringCount(), "헤더 1개 + 상태 3개");
+        assertEquals(301, sharedStrings.getIndexedCellCount());
+        assertEquals(0, sharedStrings.getInlineCellCount());
+        assertTrue(sharedStrings.getEstimatedSavedBytes() > 0);
+        assertTrue(sharedStrings.getReductionRatio() > 0.0);
+
+        assertValuesReadBack(out.toByteArray(), 300);
+    }
+
+    @Test
+    void defaultExport_withoutAnnotatedColumns_keepsInlineStrings() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<PlainDTO> data = new ArrayList<>();
+        data.add(new PlainDTO("a"));
+        data.add(new PlainDTO("a"));
+
+        ExcelExporter.excel(out).onReport(report::set).write(data);
+
+        String sheetXml = readEntry(out.toByteArray(), "xl/worksheets/sheet1.xml");
+        assertFalse(sheetXml.contains("t=\"s\""));
+        assertEquals(0, report.get().getSharedStrings().getIndexedCellCount());
+    }
+
+    @Test
+    void allColumns_indexesEveryStringColumn() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out).sharedStrings().onReport(report::set).write(orders(30));
+
+        String sheetXml = readEntry(out.toByteArray(), "xl/worksheets/sheet1.xml");
+        assertFalse(sheetXml.contains("t=\"inlineStr\""));
+        assertEquals(3 + 3 + 30, report.get().getSharedStrings().getUniqueStringCount(),
+                "헤더 3개 + 상태 3개 + 주문번호 30개");
+
+        assertValuesReadBack(out.toByteArray(), 30);
+    }
+
+    @Test
+    void columnCardinalityThreshold_fallsBackToInlineForNewValues() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out)
+                .sharedStrings(SharedStringsOptions.builder().allColumns(true).columnCardinalityThreshold(5).build())
+                .onReport(report::set)
+                .write(orders(30));
+
+        SharedStringsReport sharedStrings = report.get().getSharedStrings();
+        assertEquals(1, sharedStrings.getOverflowedColumnCount(), "주문번호 컬럼만 임계값 초과");
+        assertEquals(26, sharedStrings.getInlineCellCount(), "헤더 + 주문번호 4개 이후 26개는 인라인");
+        assertValuesReadBack(out.toByteArray(), 30);
+    }
+
+    @Test
+    void maxEntries_boundsDictionarySize() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out)
+                .sharedStrings(SharedStringsOptions.builder().allColumns(true).maxEntries(10).build())
+                .onReport(report::set)
+                .write(orders(30));
+
+        SharedStringsReport sharedStrings = report.get().getSharedStrings();
+        assertEquals(10, sharedStrings.getUniqueStringCount());
+        assertTrue(sharedStrings.isDictionaryFull());
+        assertValuesReadBack(out.toByteArray(), 30);
+    }
+
+    @Test
+    void invalidOptions_throwInvalidWriteOption() {
+        ExcelExporterException exception = assertThrows(ExcelExporterException.class,
+                () -> SharedStringsOptions.builder().maxEntries(0).build());
+
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, exception.getErrorCode());
+    }
+
+    private static List<OrderDTO> orders(int count) {
+        List<OrderDTO> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orders.add(new OrderDTO("ORD-" + i, STATUSES[i % STATUSES.length], i));
+        }
+        return orders;
+    }
+
+    private static void assertValuesReadBack(byte[] bytes, int rows) throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("주문번호", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("상태", sheet.getRow(0).getCell(1).getStringCellValue());
+            for (int i = 0; i < rows; i++) {
+                assertEquals("ORD-" + i, sheet.getRow(i + 1).getCell(0).getStringCellValue());
+                assertEquals(STATUSES[i % STATUSES.length], sheet.getRow(i + 1).getCell(1).getStringCellValue());
+                assertEquals(i, sheet.getRow(i + 1).getCell(2).getNumericCellValue());
+            }
+        }
+    }
+
+    private static String readEntry(byte[] bytes, String name) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(new ByteArrayInputStream(bytes))) {
+            PackagePart part = pkg.getPart(PackagingURIHelper.createPartName("/" + name));
+            try (InputStream in = part.getInputStream()) {
+                return new String(IOUtils.toByteArray(in), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Orders")
+    public static class OrderDTO {
+
+        @ExcelColumn(header = "주문번호", order = 1)
+        private String orderNo;
+
+        @ExcelColumn(header = "상태", order = 2, sharedString = true)
+        private String status;
+
+        @ExcelColumn(header = "수량", order = 3)
+        private Integer quantity;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Plain")
+    public static class PlainDTO {
+
+        @ExcelColumn(header = "Name", order = 1)
+        private String name;
+    }
+}
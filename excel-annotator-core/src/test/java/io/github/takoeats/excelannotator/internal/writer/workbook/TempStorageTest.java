@@ -0,0 +1,174 @@
+package io.github.takoeats.excelannotator.internal.writer.workbook;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelColumn;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.exception.ErrorCode;
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.writer.ExcelExportReport;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TempStorageTest {
+
+    private static final int ROWS = 3_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void inMemoryTier_keepsSmallSheetsOffDisk() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out)
+                .tempStorage(TempStorageOptions.builder()
+                        .directory(tempDir)
+                        .inMemoryThresholdBytes(64L * 1024 * 1024)
+                        .build())
+                .onReport(report::set)
+                .write(rows(ROWS));
+
+        assertEquals(0, report.get().getSpilledSheetCount());
+        assertEquals(0, report.get().getTempFileBytes());
+        assertEquals(0, listFiles().length);
+        assertReadBack(out.toByteArray(), ROWS);
+    }
+
+    @Test
+    void offHeapTier_readsBackSameRows() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out)
+                .tempStorage(TempStorageOptions.builder()
+                        .inMemoryThresholdBytes(64L * 1024 * 1024)
+                        .offHeap(true)
+                        .build())
+                .write(rows(ROWS));
+
+        assertReadBack(out.toByteArray(), ROWS);
+    }
+
+    @Test
+    void threshold_spillsToDedicatedDirectory_andDeletesOnClose() throws Exception {
+        AtomicReference<ExcelExportReport> report = new AtomicReference<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(out)
+                .tempStorage(TempStorageOptions.builder()
+                        .directory(tempDir)
+                        .inMemoryThresholdBytes(16 * 1024)
+                        .build())
+                .onReport(report::set)
+                .write(rows(ROWS));
+
+        assertEquals(1, report.get().getSpilledSheetCount());
+        assertTrue(report.get().getTempFileBytes() > 16 * 1024);
+        assertEquals(0, listFiles().length, "내보내기 종료 후 임시 파일 삭제");
+        assertReadBack(out.toByteArray(), ROWS);
+    }
+
+    @Test
+    void compress_reducesTempFileBytes() throws Exception {
+        AtomicReference<ExcelExportReport> plain = new AtomicReference<>();
+        AtomicReference<ExcelExportReport> compressed = new AtomicReference<>();
+        ByteArrayOutputStream compressedOut = new ByteArrayOutputStream();
+
+        ExcelExporter.excel(new ByteArrayOutputStream())
+                .tempStorage(TempStorageOptions.builder().directory(tempDir).build())
+                .onReport(plain::set)
+                .write(rows(ROWS));
+        ExcelExporter.excel(compressedOut)
+                .tempStorage(TempStorageOptions.builder().directory(tempDir).compress(true).build())
+                .onReport(compressed::set)
+                .write(rows(ROWS));
+
+        assertTrue(compressed.get().getTempFileBytes() < plain.get().getTempFileBytes() / 2,
+                "gzip 임시 파일: " + compressed.get().getTempFileBytes()
+                        + ", 비압축: " + plain.get().getTempFileBytes());
+        assertReadBack(compressedOut.toByteArray(), ROWS);
+    }
+
+    @Test
+    void quota_failsFastWithDedicatedErrorCode() {
+        ExcelExporterException exception = assertThrows(ExcelExporterException.class,
+                () -> ExcelExporter.excel(new ByteArrayOutputStream())
+                        .tempStorage(TempStorageOptions.builder().directory(tempDir).quotaBytes(8 * 1024).build())
+                        .write(rows(ROWS).stream()));
+
+        assertEquals(ErrorCode.TEMP_STORAGE_QUOTA_EXCEEDED, exception.getErrorCode());
+        assertEquals(0, listFiles().length, "실패 시에도 임시 파일 삭제");
+    }
+
+    @Test
+    void defaultOptions_keepPoiTempFileWriter() {
+        assertTrue(TempStorageOptions.DEFAULT.isDefault());
+        assertFalse(TempStorageOptions.builder().compress(true).build().isDefault());
+    }
+
+    @Test
+    void invalidOptions_throwInvalidWriteOption() {
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> TempStorageOptions.builder().quotaBytes(-1).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> TempStorageOptions.builder().inMemoryThresholdBytes(-1).build()).getErrorCode());
+        assertEquals(ErrorCode.INVALID_WRITE_OPTION, assertThrows(ExcelExporterException.class,
+                () -> TempStorageOptions.builder().directory(Paths.get("/no/such/dir")).build()).getErrorCode());
+    }
+
+    private File[] listFiles() {
+        File[] files = tempDir.toFile().listFiles();
+        return files != null ? files : new File[0];
+    }
+
+    private static List<RowDTO> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new RowDTO("row-" + i, "설명 " + (i % 7), i))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertReadBack(byte[] bytes, int count) throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(count, sheet.getLastRowNum());
+            for (int i = 0; i < count; i += 97) {
+                assertEquals("row-" + i, sheet.getRow(i + 1).getCell(0).getStringCellValue());
+                assertEquals("설명 " + (i % 7), sheet.getRow(i + 1).getCell(1).getStringCellValue());
+                assertEquals(i, sheet.getRow(i + 1).getCell(2).getNumericCellValue());
+            }
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ExcelSheet("Rows")
+    public static class RowDTO {
+
+        @ExcelColumn(header = "ID", order = 1)
+        private String id;
+
+        @ExcelColumn(header = "설명", order = 2)
+        private String description;
+
+        @ExcelColumn(header = "값", order = 3)
+        private Integer value;
+    }
+}
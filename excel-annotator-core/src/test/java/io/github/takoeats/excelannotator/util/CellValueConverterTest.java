@@ -451,4 +451,54 @@ class CellValueConverterTest {
         assertEquals(CellType.STRING, cell.getCellType());
         assertEquals("CustomObject", cell.getStringCellValue());
     }
+
+    @Test
+    @DisplayName("strategyFor - final 선언 타입은 해당 타입 전략을 바로 적용")
+    void strategyFor_withFinalTypes_appliesMatchingStrategy() {
+        Cell numberCell = row.createCell(0);
+        CellValueConverter.strategyFor(int.class).apply(numberCell, 42);
+        Cell stringCell = row.createCell(1);
+        CellValueConverter.strategyFor(String.class).apply(stringCell, "text");
+        Cell dateCell = row.createCell(2);
+        CellValueConverter.strategyFor(java.time.LocalDate.class).apply(dateCell, java.time.LocalDate.of(2024, 1, 2));
+        Cell booleanCell = row.createCell(3);
+        CellValueConverter.strategyFor(boolean.class).apply(booleanCell, Boolean.TRUE);
+
+        assertEquals(42.0, numberCell.getNumericCellValue(), 0.001);
+        assertEquals("text", stringCell.getStringCellValue());
+        assertEquals(java.time.LocalDate.of(2024, 1, 2).atStartOfDay(), dateCell.getLocalDateTimeCellValue());
+        assertTrue(booleanCell.getBooleanCellValue());
+    }
+
+    @Test
+    @DisplayName("strategyFor - enum 선언 타입은 문자열로 정규화된 값을 기록")
+    void strategyFor_withEnumType_writesString() {
+        Cell cell = row.createCell(0);
+        CellValueConverter.strategyFor(CellType.class).apply(cell, "NUMERIC");
+
+        assertEquals(CellType.STRING, cell.getCellType());
+        assertEquals("NUMERIC", cell.getStringCellValue());
+    }
+
+    @Test
+    @DisplayName("strategyFor - 선언 타입과 다른 값은 전체 전략 탐색으로 기록")
+    void strategyFor_withMismatchedValue_fallsBackToDynamicDispatch() {
+        Cell cell = row.createCell(0);
+        CellValueConverter.strategyFor(String.class).apply(cell, 12.5);
+
+        assertEquals(CellType.NUMERIC, cell.getCellType());
+        assertEquals(12.5, cell.getNumericCellValue(), 0.001);
+    }
+
+    @Test
+    @DisplayName("strategyFor - Object 선언 타입은 값마다 전략을 탐색")
+    void strategyFor_withObjectType_dispatchesPerValue() {
+        Cell booleanCell = row.createCell(0);
+        CellValueConverter.strategyFor(Object.class).apply(booleanCell, Boolean.FALSE);
+        Cell stringCell = row.createCell(1);
+        CellValueConverter.strategyFor(null).apply(stringCell, "value");
+
+        assertEquals(CellType.BOOLEAN, booleanCell.getCellType());
+        assertEquals(CellType.STRING, stringCell.getCellType());
+    }
 }
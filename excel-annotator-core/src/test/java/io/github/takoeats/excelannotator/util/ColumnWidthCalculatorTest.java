@@ -8,6 +8,7 @@ import io.github.takoeats.excelannotator.internal.util.ColumnWidthCalculator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -118,30 +119,57 @@ class ColumnWidthCalculatorTest {
     }
 
     @Test
-    @DisplayName("applyAutoSizeToColumn - 단일 컬럼 자동 크기 조정")
-    void shouldAutoSizeSingleColumn() {
-        Row row1 = sheet.createRow(0);
-        row1.createCell(0).setCellValue("Short");
+    @DisplayName("estimateCellWidth - 숫자 표시 형식(천 단위, 소수 자리) 반영")
+    void shouldCalculateFormattedNumericWidth() {
+        Cell general = sheet.createRow(0).createCell(0);
+        general.setCellValue(1234567);
 
-        Row row2 = sheet.createRow(1);
-        row2.createCell(0).setCellValue("Very Long Text Here");
+        Cell formatted = sheet.createRow(1).createCell(0);
+        formatted.setCellValue(1234567);
+        formatted.setCellStyle(styleWithFormat("#,##0.00"));
 
-        ColumnWidthCalculator.applyAutoSizeToColumn(sheet, 0);
+        assertEquals((7 * 256) + (256 * 2), ColumnWidthCalculator.estimateCellWidth(general));
+        assertEquals(("1,234,567.00".length() * 256) + (256 * 2), ColumnWidthCalculator.estimateCellWidth(formatted));
+    }
+
+    @Test
+    @DisplayName("estimateCellWidth - 백분율과 리터럴 문자 반영")
+    void shouldCalculatePercentAndLiteralWidth() {
+        Cell percent = sheet.createRow(0).createCell(0);
+        percent.setCellValue(0.125);
+        percent.setCellStyle(styleWithFormat("0.0%"));
 
-        int columnWidth = sheet.getColumnWidth(0);
-        assertTrue(columnWidth > 256);
+        Cell won = sheet.createRow(1).createCell(0);
+        won.setCellValue(-5000);
+        won.setCellStyle(styleWithFormat("#,##0\"원\""));
+
+        assertEquals(("12.5%".length() * 256) + (256 * 2), ColumnWidthCalculator.estimateCellWidth(percent));
+        assertEquals(((("-5,000".length()) + 2) * 256) + (256 * 2), ColumnWidthCalculator.estimateCellWidth(won));
     }
 
     @Test
-    @DisplayName("applyAutoSizeToColumn - 자동 크기 조정 후 최소 너비 보장")
-    void shouldEnsureMinimumWidthAfterAutoSize() {
-        Row row = sheet.createRow(0);
-        row.createCell(0).setCellValue("A");
+    @DisplayName("estimateCellWidth - 날짜 형식은 형식 길이로 계산")
+    void shouldCalculateDateFormatWidth() {
+        Cell date = sheet.createRow(0).createCell(0);
+        date.setCellValue(45000.5);
+        date.setCellStyle(styleWithFormat("yyyy-mm-dd hh:mm:ss"));
+
+        assertEquals(("2023-03-15 12:00:00".length() * 256) + (256 * 2), ColumnWidthCalculator.estimateCellWidth(date));
+    }
+
+    @Test
+    @DisplayName("estimateCellWidth - 한자·가나·전각 문자도 2배 너비")
+    void shouldCalculateCjkCharacterWidth() {
+        Cell cell = sheet.createRow(0).createCell(0);
+        cell.setCellValue("漢字カナＡ");
 
-        ColumnWidthCalculator.applyAutoSizeToColumn(sheet, 0);
+        assertEquals((10 * 256) + (256 * 2), ColumnWidthCalculator.estimateCellWidth(cell));
+    }
 
-        int columnWidth = sheet.getColumnWidth(0);
-        assertTrue(columnWidth >= 256);
+    private CellStyle styleWithFormat(String format) {
+        CellStyle style = workbook.createCellStyle();
+        style.setDataFormat(workbook.createDataFormat().getFormat(format));
+        return style;
     }
 
     @Test
@@ -170,40 +198,15 @@ class ColumnWidthCalculatorTest {
     }
 
     @Test
-    @DisplayName("applySampledAutoSize - 10,000행 샘플링하여 너비 계산")
-    void shouldSampleFirst10000Rows() {
-        for (int i = 0; i < 15000; i++) {
-            Row row = sheet.createRow(i);
-            row.createCell(0).setCellValue("SampleData" + i);
-        }
-
-        ColumnWidthCalculator.applySampledAutoSize(sheet, 0);
+    @DisplayName("applyTrackedWidth - 최소 1자, 최대 255자로 제한")
+    void shouldClampTrackedWidth() {
+        ColumnWidthCalculator.applyTrackedWidth(sheet, 0, 0);
+        ColumnWidthCalculator.applyTrackedWidth(sheet, 1, 300 * 256);
+        ColumnWidthCalculator.applyTrackedWidth(sheet, 2, 12 * 256);
 
-        assertTrue(sheet.getColumnWidth(0) > 0);
-    }
-
-    @Test
-    @DisplayName("applySampledAutoSize - 최소 너비 보장")
-    void shouldEnsureMinimumWidth() {
-        Row row = sheet.createRow(0);
-        row.createCell(0).setCellValue("");
-
-        ColumnWidthCalculator.applySampledAutoSize(sheet, 0);
-
-        assertTrue(sheet.getColumnWidth(0) >= 256);
-    }
-
-    @Test
-    @DisplayName("applySampledAutoSize - 한글 데이터 샘플링")
-    void shouldSampleKoreanData() {
-        for (int i = 0; i < 15000; i++) {
-            Row row = sheet.createRow(i);
-            row.createCell(0).setCellValue("고객명" + i);
-        }
-
-        ColumnWidthCalculator.applySampledAutoSize(sheet, 0);
-
-        assertTrue(sheet.getColumnWidth(0) > 256);
+        assertEquals(256, sheet.getColumnWidth(0));
+        assertEquals(255 * 256, sheet.getColumnWidth(1));
+        assertEquals(12 * 256, sheet.getColumnWidth(2));
     }
 
     @Test
@@ -211,124 +214,4 @@ class ColumnWidthCalculatorTest {
     void shouldReturnCalibrationFactor() {
         assertEquals(32, ColumnWidthCalculator.getCalibrationFactor());
     }
-
-    @ExcelSheet("Integration")
-    @Getter
-    @AllArgsConstructor
-    public static class IntegrationDTO {
-
-        @ExcelColumn(header = "영문이름", order = 1)
-        private String englishName;
-
-        @ExcelColumn(header = "한글이름", order = 2)
-        private String koreanName;
-
-        @ExcelColumn(header = "고정너비", order = 3, width = 200)
-        private String fixedWidth;
-    }
-
-    @Test
-    @DisplayName("고정너비 + autoWidth 혼합 적용")
-    void shouldApplyMixedWidths() {
-        ExcelMetadata<IntegrationDTO> metadata =
-                ExcelMetadataFactory.extractExcelMetadata(IntegrationDTO.class);
-
-        Row row1 = sheet.createRow(0);
-        row1.createCell(0).setCellValue("John");
-        row1.createCell(1).setCellValue("홍길동");
-        row1.createCell(2).setCellValue("Fixed");
-
-        Row row2 = sheet.createRow(1);
-        row2.createCell(0).setCellValue("Jane Doe");
-        row2.createCell(1).setCellValue("김철수입니다");
-        row2.createCell(2).setCellValue("Test");
-
-        ColumnWidthCalculator.applyFixedColumnWidths(sheet, metadata);
-        ColumnWidthCalculator.applyAutoWidthColumns(sheet, metadata);
-
-        assertEquals(200 * 32, sheet.getColumnWidth(2));
-        assertTrue(sheet.getColumnWidth(0) > 0);
-        assertTrue(sheet.getColumnWidth(1) > 0);
-    }
-
-    @ExcelSheet("SmallDataset")
-    @Getter
-    @AllArgsConstructor
-    public static class SmallDatasetDTO {
-
-        @ExcelColumn(header = "Column1", order = 1)
-        private String column1;
-
-        @ExcelColumn(header = "Column2", order = 2)
-        private String column2;
-    }
-
-    @Test
-    @DisplayName("applyAutoWidthColumns - 10,000행 이하일 때 전체 스캔 방식 사용")
-    void applyAutoWidthColumns_withSmallDataset_shouldUseFullScan() {
-        ExcelMetadata<SmallDatasetDTO> metadata =
-                ExcelMetadataFactory.extractExcelMetadata(SmallDatasetDTO.class);
-
-        for (int i = 0; i < 5000; i++) {
-            Row row = sheet.createRow(i);
-            row.createCell(0).setCellValue("Data" + i);
-            row.createCell(1).setCellValue("Value" + i);
-        }
-
-        ColumnWidthCalculator.applyAutoWidthColumns(sheet, metadata);
-
-        assertTrue(sheet.getColumnWidth(0) > 0);
-        assertTrue(sheet.getColumnWidth(1) > 0);
-    }
-
-    @Test
-    @DisplayName("applyAutoWidthColumns - 10,000행 초과일 때 샘플링 방식 사용")
-    void applyAutoWidthColumns_withLargeDataset_shouldUseSampling() {
-        ExcelMetadata<SmallDatasetDTO> metadata =
-                ExcelMetadataFactory.extractExcelMetadata(SmallDatasetDTO.class);
-
-        for (int i = 0; i < 15000; i++) {
-            Row row = sheet.createRow(i);
-            row.createCell(0).setCellValue("Data" + i);
-            row.createCell(1).setCellValue("Value" + i);
-        }
-
-        ColumnWidthCalculator.applyAutoWidthColumns(sheet, metadata);
-
-        assertTrue(sheet.getColumnWidth(0) > 0);
-        assertTrue(sheet.getColumnWidth(1) > 0);
-    }
-
-    @ExcelSheet("MixedWidth")
-    @Getter
-    @AllArgsConstructor
-    public static class MixedWidthDTO {
-
-        @ExcelColumn(header = "AutoWidth", order = 1)
-        private String autoWidth;
-
-        @ExcelColumn(header = "FixedWidth", order = 2, width = 150)
-        private String fixedWidth;
-    }
-
-    @Test
-    @DisplayName("applyAutoWidthColumns - 고정 너비 컬럼은 건드리지 않고 autoWidth만 적용")
-    void applyAutoWidthColumns_shouldOnlyApplyToAutoWidthColumns() {
-        ExcelMetadata<MixedWidthDTO> metadata =
-                ExcelMetadataFactory.extractExcelMetadata(MixedWidthDTO.class);
-
-        for (int i = 0; i < 100; i++) {
-            Row row = sheet.createRow(i);
-            row.createCell(0).setCellValue("AutoData" + i);
-            row.createCell(1).setCellValue("FixedData" + i);
-        }
-
-        ColumnWidthCalculator.applyFixedColumnWidths(sheet, metadata);
-        int fixedWidthBefore = sheet.getColumnWidth(1);
-
-        ColumnWidthCalculator.applyAutoWidthColumns(sheet, metadata);
-
-        assertTrue(sheet.getColumnWidth(0) > 0);
-        assertEquals(fixedWidthBefore, sheet.getColumnWidth(1));
-    }
 }
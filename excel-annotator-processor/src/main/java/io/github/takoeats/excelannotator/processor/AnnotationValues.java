@@ -0,0 +1,92 @@
+package io.github.takoeats.excelannotator.processor;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AnnotationMirror 속성값 조회 도우미
+ * <p>Class 타입 속성은 컴파일 중에는 Class 객체로 읽을 수 없으므로 TypeMirror로 다룹니다.</p>
+ */
+final class AnnotationValues {
+
+    private final Map<? extends ExecutableElement, ? extends AnnotationValue> values;
+
+    private AnnotationValues(Map<? extends ExecutableElement, ? extends AnnotationValue> values) {
+        this.values = values;
+    }
+
+    static AnnotationValues withDefaults(Elements elements, AnnotationMirror mirror) {
+        return new AnnotationValues(elements.getElementValuesWithDefaults(mirror));
+    }
+
+    static AnnotationValues explicit(AnnotationMirror mirror) {
+        return new AnnotationValues(mirror.getElementValues());
+    }
+
+    static AnnotationMirror find(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    boolean has(String name) {
+        return get(name) != null;
+    }
+
+    String getString(String name) {
+        return (String) get(name).getValue();
+    }
+
+    int getInt(String name) {
+        return (Integer) get(name).getValue();
+    }
+
+    boolean getBoolean(String name) {
+        return (Boolean) get(name).getValue();
+    }
+
+    TypeMirror getType(String name) {
+        return (TypeMirror) get(name).getValue();
+    }
+
+    String getEnumConstant(String name) {
+        return ((VariableElement) get(name).getValue()).getSimpleName().toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    List<AnnotationMirror> getAnnotations(String name) {
+        AnnotationValue value = get(name);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        List<? extends AnnotationValue> items = (List<? extends AnnotationValue>) value.getValue();
+        List<AnnotationMirror> mirrors = new ArrayList<>();
+        for (AnnotationValue item : items) {
+            mirrors.add((AnnotationMirror) item.getValue());
+        }
+        return mirrors;
+    }
+
+    private AnnotationValue get(String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.takoeats.excelannotator.processor;
+
+import io.github.takoeats.excelannotator.style.internal.rule.node.ExpressionNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 생성 코드에 기록할 필드 하나의 컬럼 정보
+ * <p>타입과 스타일 클래스는 생성 코드에 그대로 쓰이는 클래스 리터럴 문자열로 보관합니다.</p>
+ */
+final class ColumnModel {
+
+    String fieldName;
+    String getterName;
+    String fieldType;
+    String valueType;
+    boolean doubleAccessor;
+    boolean longAccessor;
+
+    boolean annotated;
+    String header;
+    int order;
+    int width;
+    String format;
+    String sheetName;
+    String headerStyle;
+    String columnStyle;
+    String mergeHeaderStyle;
+    String masking;
+    String mergeHeader;
+    boolean sharedString;
+    final List<ConditionalStyleModel> conditionalStyles = new ArrayList<>();
+
+    static final class ConditionalStyleModel {
+        final ExpressionNode expressionTree;
+        final String styleClass;
+        final int priority;
+
+        ConditionalStyleModel(ExpressionNode expressionTree, String styleClass, int priority) {
+            this.expressionTree = expressionTree;
+            this.styleClass = styleClass;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.takoeats.excelannotator.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code @ExcelSheet} DTO 하나에 대한 생성 대상 정보
+ */
+final class DtoModel {
+
+    String packageName;
+    String dtoType;
+    String generatedSimpleName;
+
+    String sheetName;
+    boolean hasHeader;
+    int sheetOrder;
+    String defaultHeaderStyle;
+    String defaultColumnStyle;
+    boolean autoColumn;
+
+    final List<ColumnModel> columns = new ArrayList<>();
+
+    String generatedQualifiedName() {
+        return packageName.isEmpty() ? generatedSimpleName : packageName + "." + generatedSimpleName;
+    }
+}
@@ -0,0 +1,283 @@
+package io.github.takoeats.excelannotator.processor;
+
+import io.github.takoeats.excelannotator.exception.ExcelExporterException;
+import io.github.takoeats.excelannotator.internal.metadata.generated.GeneratedExcelMetadata;
+import io.github.takoeats.excelannotator.style.internal.rule.ExpressionParser;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * {@code @ExcelSheet} DTO마다 {@link GeneratedExcelMetadata} 구현체를 생성하는 어노테이션 프로세서
+ * <p>생성된 클래스는 Getter를 직접 호출하는 접근자와 미리 파싱된 조건부 스타일 트리를 포함하며,
+ * 런타임은 이를 발견하면 리플렉션 분석과 조건식 파싱을 생략합니다.</p>
+ * <p>다음 경우에는 생성하지 않으며, 런타임이 기존 리플렉션 방식으로 처리합니다.</p>
+ * <ul>
+ *     <li>private 클래스 또는 private 클래스 내부의 중첩 클래스</li>
+ *     <li>타입 파라미터를 가진 클래스</li>
+ *     <li>컬럼 필드의 public Getter({@code getXxx()})를 찾을 수 없는 경우</li>
+ * </ul>
+ * <p>잘못된 조건부 스타일 표현식은 컴파일 오류로 보고됩니다.</p>
+ */
+@SupportedAnnotationTypes(ExcelMetadataProcessor.EXCEL_SHEET)
+public final class ExcelMetadataProcessor extends AbstractProcessor {
+
+    static final String EXCEL_SHEET = "io.github.takoeats.excelannotator.annotation.ExcelSheet";
+    static final String EXCEL_COLUMN = "io.github.takoeats.excelannotator.annotation.ExcelColumn";
+
+    private static final String LOMBOK_GETTER = "lombok.Getter";
+    private static final String LOMBOK_DATA = "lombok.Data";
+    private static final String LOMBOK_VALUE = "lombok.Value";
+
+    private static final Set<TypeKind> DOUBLE_KINDS = EnumSet.of(
+            TypeKind.DOUBLE, TypeKind.FLOAT, TypeKind.LONG, TypeKind.INT, TypeKind.SHORT, TypeKind.BYTE);
+    private static final Set<TypeKind> LONG_KINDS = EnumSet.of(
+            TypeKind.LONG, TypeKind.INT, TypeKind.SHORT, TypeKind.BYTE);
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    processType((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void processType(TypeElement type) {
+        String unsupportedReason = findUnsupportedReason(type);
+        if (unsupportedReason != null) {
+            note(type, unsupportedReason);
+            return;
+        }
+
+        DtoModel model = new DtoModel();
+        model.packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        model.dtoType = type.getQualifiedName().toString();
+        model.generatedSimpleName = flattenedName(type) + GeneratedExcelMetadata.CLASS_NAME_SUFFIX;
+        readSheet(type, model);
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getSimpleName().toString().startsWith("$")) {
+                continue;
+            }
+            AnnotationMirror excelColumn = AnnotationValues.find(field, EXCEL_COLUMN);
+            if (excelColumn == null && !model.autoColumn) {
+                continue;
+            }
+
+            AnnotationValues columnValues = excelColumn != null
+                    ? AnnotationValues.withDefaults(processingEnv.getElementUtils(), excelColumn)
+                    : null;
+            if (columnValues != null && columnValues.getBoolean("exclude")) {
+                continue;
+            }
+
+            ColumnModel column = new ColumnModel();
+            if (!resolveGetter(type, field, column)) {
+                note(field, "Getter를 찾을 수 없어 런타임 리플렉션을 사용합니다: " + column.getterName);
+                return;
+            }
+            if (columnValues != null && !readColumn(field, columnValues, column)) {
+                return;
+            }
+            model.columns.add(column);
+        }
+
+        write(type, model);
+    }
+
+    private String findUnsupportedReason(TypeElement type) {
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            TypeElement currentType = (TypeElement) current;
+            if (currentType.getModifiers().contains(Modifier.PRIVATE)) {
+                return "private 클래스는 메타데이터를 생성하지 않습니다.";
+            }
+            if (!currentType.getTypeParameters().isEmpty()) {
+                return "타입 파라미터를 가진 클래스는 메타데이터를 생성하지 않습니다.";
+            }
+            if (currentType.getNestingKind() == NestingKind.LOCAL || currentType.getNestingKind() == NestingKind.ANONYMOUS) {
+                return "로컬 클래스는 메타데이터를 생성하지 않습니다.";
+            }
+        }
+        return null;
+    }
+
+    private void readSheet(TypeElement type, DtoModel model) {
+        AnnotationMirror excelSheet = AnnotationValues.find(type, EXCEL_SHEET);
+        AnnotationValues values = AnnotationValues.withDefaults(processingEnv.getElementUtils(), excelSheet);
+        model.sheetName = values.getString("value");
+        model.hasHeader = values.getBoolean("hasHeader");
+        model.sheetOrder = values.getInt("order");
+        model.defaultHeaderStyle = classLiteral(values.getType("defaultHeaderStyle"));
+        model.defaultColumnStyle = classLiteral(values.getType("defaultColumnStyle"));
+        model.autoColumn = values.getBoolean("autoColumn");
+    }
+
+    private boolean readColumn(VariableElement field, AnnotationValues values, ColumnModel column) {
+        column.annotated = true;
+        column.header = values.getString("header");
+        column.order = values.getInt("order");
+        column.width = values.getInt("width");
+        column.format = values.getString("format");
+        column.sheetName = values.getString("sheetName");
+        column.headerStyle = classLiteral(values.getType("headerStyle"));
+        column.columnStyle = classLiteral(values.getType("columnStyle"));
+        column.mergeHeaderStyle = classLiteral(values.getType("mergeHeaderStyle"));
+        column.masking = values.getEnumConstant("masking");
+        column.mergeHeader = values.getString("mergeHeader");
+        column.sharedString = values.getBoolean("sharedString");
+
+        for (AnnotationMirror conditionalStyle : values.getAnnotations("conditionalStyles")) {
+            AnnotationValues styleValues =
+                    AnnotationValues.withDefaults(processingEnv.getElementUtils(), conditionalStyle);
+            String when = styleValues.getString("when");
+            try {
+                column.conditionalStyles.add(new ColumnModel.ConditionalStyleModel(
+                        ExpressionParser.parseToTree(when),
+                        classLiteral(styleValues.getType("style")),
+                        styleValues.getInt("priority")));
+            } catch (ExcelExporterException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "잘못된 조건부 스타일 표현식 '" + when + "': " + e.getMessage(), field, conditionalStyle);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 런타임과 동일하게 {@code get + 필드명} public Getter를 찾습니다.
+     * <p>Lombok Getter는 이 프로세서가 실행되는 시점에 아직 생성되지 않았을 수 있으므로 어노테이션으로 판단합니다.</p>
+     */
+    private boolean resolveGetter(TypeElement type, VariableElement field, ColumnModel column) {
+        String fieldName = field.getSimpleName().toString();
+        column.fieldName = fieldName;
+        column.getterName = "get" + fieldName.substring(0, 1).toUpperCase(Locale.ROOT) + fieldName.substring(1);
+        column.fieldType = classLiteral(field.asType());
+
+        TypeMirror returnType = null;
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getSimpleName().contentEquals(column.getterName) && method.getParameters().isEmpty()) {
+                if (!method.getModifiers().contains(Modifier.PUBLIC)
+                        || method.getModifiers().contains(Modifier.STATIC)
+                        || method.getReturnType().getKind() == TypeKind.VOID) {
+                    return false;
+                }
+                returnType = method.getReturnType();
+                break;
+            }
+        }
+
+        if (returnType == null && hasLombokGetter(type, field)) {
+            returnType = field.asType();
+        }
+        if (returnType == null) {
+            return false;
+        }
+
+        column.valueType = classLiteral(returnType);
+        column.doubleAccessor = DOUBLE_KINDS.contains(returnType.getKind());
+        column.longAccessor = LONG_KINDS.contains(returnType.getKind());
+        return true;
+    }
+
+    private boolean hasLombokGetter(TypeElement type, VariableElement field) {
+        if (field.getModifiers().contains(Modifier.STATIC) || field.asType().getKind() == TypeKind.BOOLEAN) {
+            return false;
+        }
+
+        AnnotationMirror fieldGetter = AnnotationValues.find(field, LOMBOK_GETTER);
+        if (fieldGetter != null) {
+            return isPublicLombokGetter(fieldGetter);
+        }
+
+        AnnotationMirror typeGetter = AnnotationValues.find(type, LOMBOK_GETTER);
+        if (typeGetter != null) {
+            return isPublicLombokGetter(typeGetter);
+        }
+
+        return AnnotationValues.find(type, LOMBOK_DATA) != null || AnnotationValues.find(type, LOMBOK_VALUE) != null;
+    }
+
+    private boolean isPublicLombokGetter(AnnotationMirror getter) {
+        AnnotationValues values = AnnotationValues.explicit(getter);
+        return !values.has("value") || "PUBLIC".equals(values.getEnumConstant("value"));
+    }
+
+    private void write(TypeElement type, DtoModel model) {
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(model.generatedQualifiedName(), type);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(MetadataSourceWriter.write(model));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "메타데이터 클래스 생성 실패: " + e.getMessage(), type);
+        }
+    }
+
+    private String classLiteral(TypeMirror type) {
+        return typeName(processingEnv.getTypeUtils().erasure(type)) + ".class";
+    }
+
+    /**
+     * 타입 어노테이션(TYPE_USE)이 섞이지 않은 정규 이름
+     */
+    private String typeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return typeName(((ArrayType) type).getComponentType()) + "[]";
+        }
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        if (element instanceof TypeElement) {
+            return ((TypeElement) element).getQualifiedName().toString();
+        }
+        return type.toString();
+    }
+
+    private static String flattenedName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement();
+             enclosing instanceof TypeElement;
+             enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+
+    private void note(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+    }
+}
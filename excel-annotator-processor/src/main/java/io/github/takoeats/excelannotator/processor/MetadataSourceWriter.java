@@ -0,0 +1,223 @@
+package io.github.takoeats.excelannotator.processor;
+
+import io.github.takoeats.excelannotator.style.internal.rule.ExpressionParser;
+import io.github.takoeats.excelannotator.style.internal.rule.node.BinaryOpNode;
+import io.github.takoeats.excelannotator.style.internal.rule.node.ExpressionNode;
+import io.github.takoeats.excelannotator.style.internal.rule.node.LeafNode;
+import io.github.takoeats.excelannotator.style.internal.rule.node.UnaryOpNode;
+
+/**
+ * {@link DtoModel}을 Java 8 소스 코드로 변환
+ * <p>사용자 클래스와 이름이 충돌하지 않도록 모든 타입을 정규 이름으로 기록합니다.</p>
+ */
+final class MetadataSourceWriter {
+
+    private static final String GENERATED_PACKAGE = "io.github.takoeats.excelannotator.internal.metadata.generated";
+    private static final String RULE_PACKAGE = "io.github.takoeats.excelannotator.style.internal.rule";
+    private static final String NODE_PACKAGE = RULE_PACKAGE + ".node";
+
+    private final StringBuilder out = new StringBuilder();
+
+    private MetadataSourceWriter() {
+    }
+
+    static String write(DtoModel model) {
+        MetadataSourceWriter writer = new MetadataSourceWriter();
+        writer.writeClass(model);
+        return writer.out.toString();
+    }
+
+    private void writeClass(DtoModel model) {
+        String dto = model.dtoType;
+        String columnType = GENERATED_PACKAGE + ".GeneratedColumn<" + dto + ">";
+
+        if (!model.packageName.isEmpty()) {
+            line(0, "package " + model.packageName + ";");
+            line(0, "");
+        }
+        line(0, "/**");
+        line(0, " * Generated by excel-annotator-processor for {@link " + dto + "}. Do not edit.");
+        line(0, " */");
+        line(0, "public final class " + model.generatedSimpleName
+                + " implements " + GENERATED_PACKAGE + ".GeneratedExcelMetadata<" + dto + "> {");
+        line(0, "");
+
+        line(1, "@Override");
+        line(1, "public java.lang.Class<" + dto + "> getType() {");
+        line(2, "return " + dto + ".class;");
+        line(1, "}");
+        line(0, "");
+
+        line(1, "@Override");
+        line(1, "public io.github.takoeats.excelannotator.internal.metadata.SheetInfo getSheetInfo() {");
+        line(2, "return io.github.takoeats.excelannotator.internal.metadata.SheetInfo.builder()");
+        line(4, ".name(" + stringLiteral(model.sheetName) + ")");
+        line(4, ".hasHeader(" + model.hasHeader + ")");
+        line(4, ".order(" + intLiteral(model.sheetOrder) + ")");
+        line(4, ".defaultHeaderStyle(" + model.defaultHeaderStyle + ")");
+        line(4, ".defaultColumnStyle(" + model.defaultColumnStyle + ")");
+        line(4, ".autoColumn(" + model.autoColumn + ")");
+        line(4, ".build();");
+        line(1, "}");
+        line(0, "");
+
+        line(1, "@Override");
+        line(1, "public java.util.List<" + columnType + "> getColumns() {");
+        line(2, "java.util.List<" + columnType + "> columns = new java.util.ArrayList<>("
+                + model.columns.size() + ");");
+        for (ColumnModel column : model.columns) {
+            writeColumn(dto, column);
+        }
+        line(2, "return columns;");
+        line(1, "}");
+        line(0, "}");
+    }
+
+    private void writeColumn(String dto, ColumnModel column) {
+        String getterCall = "dto -> dto." + column.getterName + "()";
+
+        line(2, "columns.add(" + GENERATED_PACKAGE + ".GeneratedColumn.<" + dto + ">builder()");
+        line(4, ".fieldName(" + stringLiteral(column.fieldName) + ")");
+        line(4, ".fieldType(" + column.fieldType + ")");
+        line(4, ".valueType(" + column.valueType + ")");
+        line(4, ".accessor(" + getterCall + ")");
+        if (column.doubleAccessor) {
+            line(4, ".doubleAccessor(" + getterCall + ")");
+        }
+        if (column.longAccessor) {
+            line(4, ".longAccessor(" + getterCall + ")");
+        }
+
+        if (column.annotated) {
+            line(4, ".annotated(true)");
+            line(4, ".header(" + stringLiteral(column.header) + ")");
+            line(4, ".order(" + intLiteral(column.order) + ")");
+            line(4, ".width(" + intLiteral(column.width) + ")");
+            line(4, ".format(" + stringLiteral(column.format) + ")");
+            line(4, ".sheetName(" + stringLiteral(column.sheetName) + ")");
+            line(4, ".headerStyle(" + column.headerStyle + ")");
+            line(4, ".columnStyle(" + column.columnStyle + ")");
+            line(4, ".mergeHeaderStyle(" + column.mergeHeaderStyle + ")");
+            line(4, ".masking(io.github.takoeats.excelannotator.masking.Masking." + column.masking + ")");
+            line(4, ".mergeHeader(" + stringLiteral(column.mergeHeader) + ")");
+            if (column.sharedString) {
+                line(4, ".sharedString(true)");
+            }
+            if (!column.conditionalStyles.isEmpty()) {
+                writeConditionalStyles(column);
+            }
+        }
+        line(4, ".build());");
+    }
+
+    private void writeConditionalStyles(ColumnModel column) {
+        line(4, ".conditionalStyleRules(java.util.Arrays.asList(");
+        for (int i = 0; i < column.conditionalStyles.size(); i++) {
+            ColumnModel.ConditionalStyleModel style = column.conditionalStyles.get(i);
+            line(6, RULE_PACKAGE + ".StyleRule.builder()");
+            line(8, ".condition(new " + RULE_PACKAGE + ".ExpressionCondition(" + node(style.expressionTree) + "))");
+            line(8, ".styleClass(" + style.styleClass + ")");
+            line(8, ".priority(" + intLiteral(style.priority) + ")");
+            line(8, ".build()" + (i < column.conditionalStyles.size() - 1 ? "," : ""));
+        }
+        line(4, "))");
+    }
+
+    private static String node(ExpressionNode node) {
+        if (node instanceof BinaryOpNode) {
+            BinaryOpNode binary = (BinaryOpNode) node;
+            return "new " + NODE_PACKAGE + ".BinaryOpNode(" + operator(binary.getOperator()) + ", "
+                    + node(binary.getLeft()) + ", " + node(binary.getRight()) + ")";
+        }
+        if (node instanceof UnaryOpNode) {
+            UnaryOpNode unary = (UnaryOpNode) node;
+            return "new " + NODE_PACKAGE + ".UnaryOpNode(" + operator(unary.getOperator()) + ", "
+                    + node(unary.getOperand()) + ")";
+        }
+        if (node instanceof LeafNode) {
+            return "new " + NODE_PACKAGE + ".LeafNode(" + parsedExpression(((LeafNode) node).getExpression()) + ")";
+        }
+        throw new IllegalStateException("Unsupported expression node: " + node.getClass().getName());
+    }
+
+    private static String operator(ExpressionNode.LogicalOperator operator) {
+        return NODE_PACKAGE + ".ExpressionNode.LogicalOperator." + operator.name();
+    }
+
+    private static String parsedExpression(ExpressionParser.ParsedExpression expression) {
+        StringBuilder code = new StringBuilder(RULE_PACKAGE).append(".ExpressionParser.ParsedExpression.builder()")
+                .append(".type(").append(RULE_PACKAGE).append(".ExpressionParser.ExpressionType.")
+                .append(expression.getType().name()).append(")");
+        if (expression.getNumberValue() != 0.0) {
+            code.append(".numberValue(").append(doubleLiteral(expression.getNumberValue())).append(")");
+        }
+        if (expression.getNumberValue2() != 0.0) {
+            code.append(".numberValue2(").append(doubleLiteral(expression.getNumberValue2())).append(")");
+        }
+        if (expression.getStringValue() != null) {
+            code.append(".stringValue(").append(stringLiteral(expression.getStringValue())).append(")");
+        }
+        return code.append(".build()").toString();
+    }
+
+    private static String intLiteral(int value) {
+        if (value == Integer.MIN_VALUE) {
+            return "java.lang.Integer.MIN_VALUE";
+        }
+        if (value == Integer.MAX_VALUE) {
+            return "java.lang.Integer.MAX_VALUE";
+        }
+        return Integer.toString(value);
+    }
+
+    private static String doubleLiteral(double value) {
+        if (Double.isNaN(value)) {
+            return "java.lang.Double.NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "java.lang.Double.POSITIVE_INFINITY" : "java.lang.Double.NEGATIVE_INFINITY";
+        }
+        return Double.toString(value) + "d";
+    }
+
+    /**
+     * 소스 인코딩에 의존하지 않도록 ASCII 이외의 문자는 유니코드 이스케이프로 기록
+     */
+    static String stringLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (ch < 0x20 || ch > 0x7E) {
+                        literal.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        literal.append(ch);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void line(int indent, String text) {
+        for (int i = 0; i < indent; i++) {
+            out.append("    ");
+        }
+        out.append(text).append('\n');
+    }
+}
@@ -0,0 +1,286 @@
+package io.github.takoeats.excelannotator.processor;
+
+import io.github.takoeats.excelannotator.ExcelExporter;
+import io.github.takoeats.excelannotator.annotation.ExcelSheet;
+import io.github.takoeats.excelannotator.internal.ExcelMetadataRegistry;
+import io.github.takoeats.excelannotator.internal.metadata.ColumnInfo;
+import io.github.takoeats.excelannotator.internal.metadata.ExcelMetadata;
+import io.github.takoeats.excelannotator.internal.metadata.extractor.FieldValueExtractorFactory;
+import io.github.takoeats.excelannotator.internal.metadata.generated.GeneratedMetadataLocator;
+import io.github.takoeats.excelannotator.style.internal.rule.CellContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExcelMetadataProcessor 테스트")
+class ExcelMetadataProcessorTest {
+
+    private static final String ORDER_DTO = "package sample;\n"
+            + "import io.github.takoeats.excelannotator.annotation.*;\n"
+            + "import io.github.takoeats.excelannotator.masking.Masking;\n"
+            + "import io.github.takoeats.excelannotator.style.defaultstyle.DefaultNumberStyle;\n"
+            + "@ExcelSheet(value = \"주문\", order = 2)\n"
+            + "public class OrderDTO {\n"
+            + "    public enum Status { READY, DONE }\n"
+            + "    @ExcelColumn(header = \"주문자\", order = 1, masking = Masking.NAME)\n"
+            + "    private String name;\n"
+            + "    @ExcelColumn(header = \"수량\", order = 2, width = 80)\n"
+            + "    private int quantity;\n"
+            + "    @ExcelColumn(header = \"금액\", order = 3, format = \"#,##0.00\", conditionalStyles = {\n"
+            + "        @ConditionalStyle(when = \"value > 100 && !(value == 200)\", style = DefaultNumberStyle.class, priority = 5),\n"
+            + "        @ConditionalStyle(when = \"value is_negative\", priority = 9)\n"
+            + "    })\n"
+            + "    private double price;\n"
+            + "    @ExcelColumn(header = \"상태\", order = 4)\n"
+            + "    private Status status;\n"
+            + "    @ExcelColumn(header = \"비고\", exclude = true)\n"
+            + "    private String memo;\n"
+            + "    public OrderDTO(String name, int quantity, double price, Status status) {\n"
+            + "        this.name = name; this.quantity = quantity; this.price = price; this.status = status;\n"
+            + "    }\n"
+            + "    public String getName() { return name; }\n"
+            + "    public int getQuantity() { return quantity; }\n"
+            + "    public double getPrice() { return price; }\n"
+            + "    public Status getStatus() { return status; }\n"
+            + "    public String getMemo() { return memo; }\n"
+            + "}\n";
+
+    private static final String HOLDER = "package sample;\n"
+            + "import io.github.takoeats.excelannotator.annotation.*;\n"
+            + "public class Holder {\n"
+            + "    @ExcelSheet(value = \"auto\", autoColumn = true)\n"
+            + "    public static class AutoDTO {\n"
+            + "        private String code = \"A-1\";\n"
+            + "        @ExcelColumn(exclude = true)\n"
+            + "        private String hidden = \"x\";\n"
+            + "        private char grade = 'S';\n"
+            + "        public String getCode() { return code; }\n"
+            + "        public String getHidden() { return hidden; }\n"
+            + "        public char getGrade() { return grade; }\n"
+            + "    }\n"
+            + "    @ExcelSheet(\"hidden\")\n"
+            + "    private static class PrivateDTO {\n"
+            + "        @ExcelColumn(header = \"값\")\n"
+            + "        private String value;\n"
+            + "        public String getValue() { return value; }\n"
+            + "    }\n"
+            + "    @ExcelSheet(\"noGetter\")\n"
+            + "    public static class NoGetterDTO {\n"
+            + "        @ExcelColumn(header = \"값\")\n"
+            + "        private String value;\n"
+            + "    }\n"
+            + "}\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("DTO마다 _ExcelMetadata 클래스를 생성하고 private 또는 Getter 없는 DTO는 건너뛴다")
+    void process_generatesMetadataForSupportedDtos() throws Exception {
+        Path output = compile("generated", true, ORDER_DTO, HOLDER);
+
+        assertTrue(Files.exists(output.resolve("sample/OrderDTO_ExcelMetadata.class")));
+        assertTrue(Files.exists(output.resolve("sample/Holder_AutoDTO_ExcelMetadata.class")));
+        assertFalse(Files.exists(output.resolve("sample/Holder_PrivateDTO_ExcelMetadata.class")));
+        assertFalse(Files.exists(output.resolve("sample/Holder_NoGetterDTO_ExcelMetadata.class")));
+    }
+
+    @Test
+    @DisplayName("생성된 메타데이터는 리플렉션 분석 결과와 동일하다")
+    void generatedMetadata_matchesReflection() throws Exception {
+        try (URLClassLoader generatedLoader = load(compile("generated", true, ORDER_DTO));
+             URLClassLoader reflectionLoader = load(compile("reflection", false, ORDER_DTO))) {
+            Class<?> generatedType = generatedLoader.loadClass("sample.OrderDTO");
+            Class<?> reflectionType = reflectionLoader.loadClass("sample.OrderDTO");
+
+            assertNotNull(GeneratedMetadataLocator.find(generatedType));
+            assertNull(GeneratedMetadataLocator.find(reflectionType));
+
+            ExcelMetadata<?> generated = ExcelMetadataRegistry.getMetadata(generatedType);
+            ExcelMetadata<?> reflection = ExcelMetadataRegistry.getMetadata(reflectionType);
+
+            assertEquals(reflection.getHeaders(), generated.getHeaders());
+            assertEquals(reflection.getColumnWidths(), generated.getColumnWidths());
+            assertEquals(reflection.getSheetInfo().getName(), generated.getSheetInfo().getName());
+            assertEquals(reflection.getSheetInfo().getOrder(), generated.getSheetInfo().getOrder());
+            for (int i = 0; i < reflection.getColumnCount(); i++) {
+                ColumnInfo expected = reflection.getColumnInfos().get(i);
+                ColumnInfo actual = generated.getColumnInfos().get(i);
+                assertTrue(actual.hasAccessor());
+                assertEquals(expected.getFieldName(), actual.getFieldName());
+                assertEquals(expected.getFormat(), actual.getFormat());
+                assertEquals(expected.getMasking(), actual.getMasking());
+                assertSame(expected.getColumnStyle(), actual.getColumnStyle());
+                assertSame(expected.getHeaderStyle(), actual.getHeaderStyle());
+                assertEquals(expected.getConditionalStyleRules().size(), actual.getConditionalStyleRules().size());
+            }
+
+            Object[] values = {"홍길동", 3, 150.0, "DONE"};
+            Object generatedDto = newOrder(generatedType, values);
+            Object reflectionDto = newOrder(reflectionType, values);
+            for (int i = 0; i < reflection.getColumnCount(); i++) {
+                assertEquals(extract(reflection, i, reflectionDto), extract(generated, i, generatedDto));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("미리 파싱된 조건부 스타일은 우선순위 순으로 평가된다")
+    void generatedConditionalStyles_evaluateLikeParsedExpressions() throws Exception {
+        try (URLClassLoader loader = load(compile("generated", true, ORDER_DTO))) {
+            ExcelMetadata<?> metadata = ExcelMetadataRegistry.getMetadata(loader.loadClass("sample.OrderDTO"));
+            ColumnInfo price = metadata.getColumnInfos().get(2);
+
+            assertEquals(9, price.getConditionalStyleRules().get(0).getPriority());
+            assertTrue(price.getConditionalStyleRules().get(1).evaluate(context(150.0)));
+            assertFalse(price.getConditionalStyleRules().get(1).evaluate(context(200.0)));
+            assertTrue(price.getConditionalStyleRules().get(0).evaluate(context(-1.0)));
+            assertNotNull(FieldValueExtractorFactory.createDoubleExtractor(price));
+            assertNull(FieldValueExtractorFactory.createLongExtractor(price));
+        }
+    }
+
+    @Test
+    @DisplayName("생성된 메타데이터 사용 시 CSV 출력이 리플렉션과 동일하다")
+    void csvOutput_matchesReflection() throws Exception {
+        try (URLClassLoader generatedLoader = load(compile("generated", true, ORDER_DTO, HOLDER));
+             URLClassLoader reflectionLoader = load(compile("reflection", false, ORDER_DTO, HOLDER))) {
+            Object[] values = {"김철수", 1, -2.5, "READY"};
+
+            assertArrayEquals(
+                    csv(Collections.singletonList(newOrder(reflectionLoader.loadClass("sample.OrderDTO"), values))),
+                    csv(Collections.singletonList(newOrder(generatedLoader.loadClass("sample.OrderDTO"), values))));
+            assertArrayEquals(
+                    csv(Collections.singletonList(reflectionLoader.loadClass("sample.Holder$AutoDTO").newInstance())),
+                    csv(Collections.singletonList(generatedLoader.loadClass("sample.Holder$AutoDTO").newInstance())));
+        }
+    }
+
+    @Test
+    @DisplayName("double 범위를 넘는 조건 값은 무한대 상수로 생성된다")
+    void process_overflowingNumber_generatesInfinityConstant() throws Exception {
+        StringBuilder huge = new StringBuilder("1");
+        for (int i = 0; i < 400; i++) {
+            huge.append('0');
+        }
+        String overflowing = ORDER_DTO.replace("value > 100 && !(value == 200)",
+                "value < " + huge + " && value > -" + huge);
+
+        try (URLClassLoader loader = load(compile("overflow", true, overflowing))) {
+            ExcelMetadata<?> metadata = ExcelMetadataRegistry.getMetadata(loader.loadClass("sample.OrderDTO"));
+            ColumnInfo price = metadata.getColumnInfos().get(2);
+
+            assertTrue(price.getConditionalStyleRules().get(1).evaluate(context(1e300)));
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 조건부 스타일 표현식은 컴파일 오류로 보고된다")
+    void process_invalidExpression_reportsError() throws Exception {
+        String invalid = ORDER_DTO.replace("value is_negative", "value is_strange");
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertFalse(runCompiler("invalid", true, diagnostics, invalid));
+        assertTrue(diagnostics.getDiagnostics().stream()
+                .anyMatch(d -> d.getKind() == Diagnostic.Kind.ERROR
+                        && d.getMessage(null).contains("value is_strange")));
+    }
+
+    private Path compile(String name, boolean withProcessor, String... sources) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertTrue(runCompiler(name, withProcessor, diagnostics, sources), diagnostics.getDiagnostics().toString());
+        return tempDir.resolve(name);
+    }
+
+    private boolean runCompiler(String name, boolean withProcessor,
+                                DiagnosticCollector<JavaFileObject> diagnostics,
+                                String... sources) throws IOException {
+        Path sourceDir = tempDir.resolve(name + "-src");
+        Path outputDir = tempDir.resolve(name);
+        Files.createDirectories(outputDir);
+
+        List<File> sourceFiles = new ArrayList<>();
+        for (String source : sources) {
+            String simpleName = source.substring(source.indexOf("public class ") + 13, source.indexOf(" {"));
+            Path file = sourceDir.resolve("sample").resolve(simpleName + ".java");
+            Files.createDirectories(file.getParent());
+            Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+            sourceFiles.add(file.toFile());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager =
+                     compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = new ArrayList<>(Arrays.asList(
+                    "-encoding", "UTF-8",
+                    "-classpath", codeSource(ExcelSheet.class),
+                    "-d", outputDir.toString(),
+                    "-s", outputDir.toString()));
+            if (!withProcessor) {
+                options.add("-proc:none");
+            }
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(sourceFiles));
+            if (withProcessor) {
+                task.setProcessors(Collections.singletonList(new ExcelMetadataProcessor()));
+            }
+            return task.call();
+        }
+    }
+
+    private static String codeSource(Class<?> type) {
+        try {
+            return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private URLClassLoader load(Path classes) throws IOException {
+        return new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object newOrder(Class<?> type, Object[] values) throws Exception {
+        Class<? extends Enum> statusType = (Class<? extends Enum>) type.getClassLoader().loadClass("sample.OrderDTO$Status");
+        return type.getConstructor(String.class, int.class, double.class, statusType)
+                .newInstance(values[0], values[1], values[2], Enum.valueOf(statusType, (String) values[3]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object extract(ExcelMetadata<?> metadata, int index, Object dto) {
+        return ((ExcelMetadata<Object>) metadata).getExtractors().get(index).apply(dto);
+    }
+
+    private static CellContext context(Object value) {
+        return CellContext.acquire().update(value, null, 2, 0, "price");
+    }
+
+    private static byte[] csv(List<?> data) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ExcelExporter.csv(output).write(data);
+        return output.toByteArray();
+    }
+}